@@ -0,0 +1,105 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.service.ArchiveReader;
+import noakweather.service.CycleFileLoader;
+import noakweather.utils.Configs;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the read of a raw METAR archive of 100000 reports, mapped in
+ * chunks of 1 MB and parsed on a pool of 1 to 8 threads:
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbench=ArchiveReaderBenchmark
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArchiveReaderBenchmark {
+
+    private static final int REPORTS = 100000;
+    private static final String[] METARS = {
+        "2021/12/28 01:53 KCLT 280152Z 23012G22KT 10SM FEW030 BKN250 M01/M08 A2983 RMK AO2 SLP104 T10111078",
+        "2021/12/28 15:00 KSEA 281500Z 17008KT 4SM -RA BR BKN009 OVC020 09/08 A2985 RMK AO2 T00890078",
+        "2021/12/28 16:00 EGLL 281600Z 24015KT 9999 FEW020 SCT035 11/07 Q1012 NOSIG"
+    };
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private Path file;
+    private ForkJoinPool pool;
+    private ArchiveReader<Metar> reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        Configurator.setRootLevel(Level.OFF);
+        file = Files.createTempFile("archive", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            for (int i = 0; i < REPORTS; i++) {
+                writer.write(METARS[i % METARS.length]);
+                writer.newLine();
+            }
+        }
+        pool = new ForkJoinPool(threads);
+        reader = new ArchiveReader<>(CycleFileLoader.metars(Configs.forLocale(Locale.ENGLISH)),
+                pool, 1 << 20);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long read() throws UtilsException {
+        LongAdder observed = new LongAdder();
+        reader.read(file, metar -> observed.add(metar.getTemperature() == null ? 0 : 1));
+        return observed.sum();
+    }
+}
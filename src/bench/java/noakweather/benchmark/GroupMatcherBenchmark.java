@@ -0,0 +1,76 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import noakweather.utils.Configs;
+import noakweather.utils.ParserMode;
+import noakweather.utils.RegExprHandlers;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the visibility, runway visual range and present weather
+ * groups, matched by the regular expressions (REGEX) and by the fast lexer
+ * scanners (FAST), through the METAR main plan:
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbench=GroupMatcherBenchmark
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupMatcherBenchmark {
+
+    @Param({"REGEX", "FAST"})
+    private ParserMode mode;
+
+    @Param({"R28L/2600FT R09/1000V1600FT R06/M0600N ",
+        "-SHRA BR VCTS +TSRAGR FZFG ",
+        "1 1/2SM "})
+    private String groups;
+
+    @Setup
+    public void setUp() {
+        Configurator.setRootLevel(Level.OFF);
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public void matchGroups(Blackhole bh) throws UtilsException {
+        RegExprHandlers.METAR_MAIN_PLAN.parse(groups, mode,
+                (index, match) -> bh.consume(match.group()));
+    }
+}
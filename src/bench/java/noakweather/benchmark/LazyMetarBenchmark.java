@@ -0,0 +1,95 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.benchmark;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.MetarField;
+import noakweather.utils.Configs;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of a METAR parse followed by reading the station, time, wind and
+ * pressure, with an eager and a lazy report, and of a projection parse of
+ * the same fields:
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbench=LazyMetarBenchmark
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyMetarBenchmark {
+
+    private static final String METAR
+            = "2021/12/28 01:53 KCLT 280152Z 23012G22KT 10SM -RA FEW030 BKN250 "
+            + "M01/M08 A2983 RMK AO2 PK WND 24028/0115 SLP104 P0002 T10111078";
+
+    private static final Set<MetarField> FIELDS
+            = EnumSet.of(MetarField.WIND, MetarField.ALTIMETER);
+
+    @Param({"false", "true"})
+    private boolean lazy;
+
+    @Setup
+    public void setUp() {
+        Configurator.setRootLevel(Level.OFF);
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public void parseAndRead(Blackhole bh) throws UtilsException {
+        Metar metar = new Metar();
+        metar.setLazy(lazy);
+        metar.parse(METAR);
+        bh.consume(metar.getStationID());
+        bh.consume(metar.getDate());
+        bh.consume(metar.getWind());
+        bh.consume(metar.getPressure());
+    }
+
+    @Benchmark
+    public void parseProjection(Blackhole bh) throws UtilsException {
+        Metar metar = new Metar();
+        metar.parse(METAR, FIELDS);
+        bh.consume(metar.getStationID());
+        bh.consume(metar.getDate());
+        bh.consume(metar.getWind());
+        bh.consume(metar.getPressure());
+    }
+}
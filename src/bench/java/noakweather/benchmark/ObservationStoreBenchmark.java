@@ -0,0 +1,89 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import noakweather.noaa_api.wthtype.MetarRecord;
+import noakweather.store.ObservationStore;
+import noakweather.utils.StationIds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of a range filter on the temperature of a million observations,
+ * counted on the columns of the store and on a list of records:
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbench=ObservationStoreBenchmark
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObservationStoreBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private ObservationStore store;
+    private List<MetarRecord> records;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20221229L);
+        store = new ObservationStore();
+        records = new ArrayList<>(ROWS);
+        ObservationStore.Appender appender = store.appender();
+        for (int row = 0; row < ROWS; row++) {
+            MetarRecord record = new MetarRecord(StationIds.encode("KATL"), row,
+                    (short) (random.nextInt(600) - 300), (short) 0, (short) 180,
+                    (short) random.nextInt(40), MetarRecord.MISSING, 16093, (short) 3000,
+                    0, new int[0], 0);
+            appender.append(record);
+            records.add(record);
+        }
+    }
+
+    @Benchmark
+    public int countStore() {
+        return store.count(ObservationStore.Column.TEMPERATURE, -50, 50);
+    }
+
+    @Benchmark
+    public int countRecords() {
+        int count = 0;
+        for (MetarRecord record : records) {
+            if (record.getTemperature() >= -50 && record.getTemperature() <= 50) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
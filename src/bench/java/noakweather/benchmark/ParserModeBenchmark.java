@@ -0,0 +1,75 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.utils.Configs;
+import noakweather.utils.ParserMode;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of a METAR parse with the regular expressions only (REGEX) and
+ * with the fast lexer in front of them (FAST):
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbench=ParserModeBenchmark
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserModeBenchmark {
+
+    private static final String METAR
+            = "2021/12/28 01:53 KCLT 280152Z 23012G22KT 10SM FEW030 BKN250 "
+            + "M01/M08 A2983 RMK AO2 SLP104 T10111078";
+
+    @Param({"REGEX", "FAST"})
+    private ParserMode mode;
+
+    @Setup
+    public void setUp() {
+        Configurator.setRootLevel(Level.OFF);
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public Metar parseMetar() throws UtilsException {
+        Metar metar = new Metar();
+        metar.setParserMode(mode);
+        metar.parse(METAR);
+        return metar;
+    }
+}
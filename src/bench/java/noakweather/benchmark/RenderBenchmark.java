@@ -0,0 +1,82 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.utils.Configs;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of a METAR parse that only reads the decoded groups and of the
+ * same parse followed by the natural language of its runway visual ranges,
+ * weather and sky conditions:
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbench=RenderBenchmark
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    private static final String METAR
+            = "2021/12/28 15:00 KSEA 281500Z 17008KT 4SM R16L/2600V4000FT -RA BR "
+            + "FEW005 BKN009 OVC020 09/08 A2985 RMK AO2 T00890078";
+
+    @Setup
+    public void setUp() {
+        Configurator.setRootLevel(Level.OFF);
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public void parseOnly(Blackhole bh) throws UtilsException {
+        Metar metar = new Metar();
+        metar.parse(METAR);
+        bh.consume(metar.getRunwayVisualRangeList());
+        bh.consume(metar.getWeatherConditionList());
+        bh.consume(metar.getSkyConditionList());
+    }
+
+    @Benchmark
+    public void parseAndRender(Blackhole bh) throws UtilsException {
+        Metar metar = new Metar();
+        metar.parse(METAR);
+        bh.consume(metar.getRunwayVisualRanges());
+        bh.consume(metar.getWeatherConditions());
+        bh.consume(metar.getSkyConditions());
+    }
+}
@@ -0,0 +1,942 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the build step that compiles RegExprConst patterns into
+ * deterministic automata. It runs in the generate-sources phase, with the
+ * source file launcher of the JDK, so it only uses the JDK:
+ *
+ * java MatcherGenerator.java RegExprConst.java outputDir NAME_PATTERN...
+ *
+ * Each pattern is parsed, compiled into a program of a backtracking free
+ * (Pike) virtual machine, and the machine is determinized: a state is the
+ * list of the machine threads in priority order, and a transition tells for
+ * each thread of the next state the thread it comes from and the named group
+ * offsets it sets. This keeps the leftmost, priority first answer of
+ * java.util.regex, named groups included. The tables are written to
+ * noakweather/utils/GeneratedMatchers.java and read by DfaMatcher.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class MatcherGenerator {
+
+    // Symbols of the alphabet: the ASCII characters and one for all the
+    // others, none of the supported classes tells them apart
+    private static final int SYMBOLS = 129;
+    private static final int OTHER = 128;
+    private static final int MAX_STATES = 4096;
+    // RegExprMatch keeps at most 8 scanned groups
+    private static final int MAX_GROUPS = 8;
+
+    private static final Pattern DECLARATION = Pattern.compile(
+            "public static final Pattern (\\w+) = Pattern\\.compile\\(\\s*"
+            + "((?:\"(?:[^\"\\\\]|\\\\.)*\"\\s*\\+?\\s*)+)\\);");
+    private static final Pattern LITERAL = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+    private MatcherGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException(
+                    "usage: MatcherGenerator RegExprConst.java outputDir NAME_PATTERN...");
+        }
+        Map<String, String> patterns = readPatterns(Paths.get(args[0]));
+        StringBuilder out = new StringBuilder();
+        out.append(header());
+        for (int i = 2; i < args.length; i++) {
+            String name = args[i];
+            String regex = patterns.get(name);
+            if (regex == null) {
+                throw new IllegalArgumentException("No pattern " + name + " in " + args[0]);
+            }
+            Automaton automaton = new Automaton(new Parser(regex).parse());
+            out.append(automaton.emit(name, regex));
+        }
+        out.append("}\n");
+
+        Path file = Paths.get(args[1], "noakweather", "utils", "GeneratedMatchers.java");
+        Files.createDirectories(file.getParent());
+        byte[] bytes = out.toString().getBytes(StandardCharsets.UTF_8);
+        // Keep the file (and its time stamp) when nothing changed
+        if (!Files.exists(file) || !Arrays.equals(Files.readAllBytes(file), bytes)) {
+            Files.write(file, bytes);
+        }
+    }
+
+    /**
+     * Read the pattern declarations of RegExprConst by name
+     */
+    static Map<String, String> readPatterns(Path source) throws IOException {
+        String text = new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+        Map<String, String> patterns = new LinkedHashMap<>();
+        Matcher declaration = DECLARATION.matcher(text);
+        while (declaration.find()) {
+            StringBuilder regex = new StringBuilder();
+            Matcher literal = LITERAL.matcher(declaration.group(2));
+            while (literal.find()) {
+                regex.append(unescape(literal.group(1)));
+            }
+            patterns.put(declaration.group(1), regex.toString());
+        }
+        return patterns;
+    }
+
+    /**
+     * Unescape the content of a Java string literal
+     */
+    static String unescape(String literal) {
+        StringBuilder sb = new StringBuilder(literal.length());
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char e = literal.charAt(++i);
+            switch (e) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(literal.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default:
+                    sb.append(e);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String header() {
+        return "/*\n"
+                + " * noakweather(TM) is a Java library for parsing weather data\n"
+                + " * Copyright (C) 2022 quark95cos\n"
+                + " *\n"
+                + " * Licensed under the Apache License, Version 2.0 (the \"License\");\n"
+                + " * you may not use this file except in compliance with the License.\n"
+                + " * You may obtain a copy of the License at\n"
+                + " *\n"
+                + " *     http://www.apache.org/licenses/LICENSE-2.0\n"
+                + " *\n"
+                + " * Unless required by applicable law or agreed to in writing, software\n"
+                + " * distributed under the License is distributed on an \"AS IS\" BASIS,\n"
+                + " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n"
+                + " * See the License for the specific language governing permissions and\n"
+                + " * limitations under the License.\n"
+                + " */\n"
+                + "package noakweather.utils;\n"
+                + "\n"
+                + "/**\n"
+                + " * Class representing the matchers generated from the RegExprConst patterns\n"
+                + " * by MatcherGenerator at build time. Do not edit.\n"
+                + " *\n"
+                + " * Author: quark95cos Since: Copyright(c) 2022\n"
+                + " */\n"
+                + "final class GeneratedMatchers {\n"
+                + "\n"
+                + "    private GeneratedMatchers() {\n"
+                + "    }\n";
+    }
+
+    /**
+     * Node of the parsed regular expression
+     */
+    private abstract static class Node {
+
+        abstract boolean isNullable();
+    }
+
+    private static final class CharSet extends Node {
+
+        final boolean[] symbols = new boolean[SYMBOLS];
+
+        @Override
+        boolean isNullable() {
+            return false;
+        }
+    }
+
+    private static final class Sequence extends Node {
+
+        final List<Node> nodes = new ArrayList<>();
+
+        @Override
+        boolean isNullable() {
+            for (Node node : nodes) {
+                if (!node.isNullable()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Alternation extends Node {
+
+        final List<Node> nodes = new ArrayList<>();
+
+        @Override
+        boolean isNullable() {
+            for (Node node : nodes) {
+                if (node.isNullable()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Group extends Node {
+
+        final int number;
+        final String name;
+        Node node;
+
+        Group(int number, String name) {
+            this.number = number;
+            this.name = name;
+        }
+
+        @Override
+        boolean isNullable() {
+            return node.isNullable();
+        }
+    }
+
+    private static final class Repeat extends Node {
+
+        final Node node;
+        final int min;
+        // -1 when unbounded
+        final int max;
+        final boolean greedy;
+
+        Repeat(Node node, int min, int max, boolean greedy) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+        }
+
+        @Override
+        boolean isNullable() {
+            return min == 0 || node.isNullable();
+        }
+    }
+
+    private static final class Begin extends Node {
+
+        @Override
+        boolean isNullable() {
+            return true;
+        }
+    }
+
+    /**
+     * Parser of the subset of the java.util.regex syntax that RegExprConst
+     * uses. Anything else is refused, so a pattern is never compiled with a
+     * meaning it does not have.
+     */
+    private static final class Parser {
+
+        private final String regex;
+        private int pos;
+        private int groups;
+        final List<String> names = new ArrayList<>();
+        final List<Integer> numbers = new ArrayList<>();
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        Parser parse() {
+            root = alternation();
+            if (pos != regex.length()) {
+                throw error("unexpected )");
+            }
+            return this;
+        }
+
+        Node root;
+
+        private Node alternation() {
+            Alternation alternation = new Alternation();
+            alternation.nodes.add(sequence());
+            while (more() && peek() == '|') {
+                pos++;
+                alternation.nodes.add(sequence());
+            }
+            return alternation.nodes.size() == 1 ? alternation.nodes.get(0) : alternation;
+        }
+
+        private Node sequence() {
+            Sequence sequence = new Sequence();
+            while (more() && peek() != '|' && peek() != ')') {
+                Node atom = atom();
+                sequence.nodes.add(quantified(atom));
+            }
+            return sequence;
+        }
+
+        private Node quantified(Node atom) {
+            while (more()) {
+                int min;
+                int max;
+                char c = peek();
+                if (c == '?') {
+                    min = 0;
+                    max = 1;
+                    pos++;
+                } else if (c == '*') {
+                    min = 0;
+                    max = -1;
+                    pos++;
+                } else if (c == '+') {
+                    min = 1;
+                    max = -1;
+                    pos++;
+                } else if (c == '{') {
+                    pos++;
+                    min = number();
+                    max = min;
+                    if (peek() == ',') {
+                        pos++;
+                        max = peek() == '}' ? -1 : number();
+                    }
+                    expect('}');
+                } else {
+                    return atom;
+                }
+                boolean greedy = true;
+                if (more() && peek() == '?') {
+                    greedy = false;
+                    pos++;
+                } else if (more() && peek() == '+') {
+                    throw error("possessive quantifier");
+                }
+                if (atom instanceof Begin) {
+                    throw error("quantified ^");
+                }
+                if (max < 0 && atom.isNullable()) {
+                    // The empty iterations of java.util.regex are not kept
+                    throw error("unbounded repeat of a group that can be empty");
+                }
+                atom = new Repeat(atom, min, max, greedy);
+            }
+            return atom;
+        }
+
+        private Node atom() {
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case '(':
+                    return group();
+                case '[':
+                    return characterClass();
+                case '\\':
+                    return escape(false);
+                case '^':
+                    if (pos != 1) {
+                        throw error("^ not at the start");
+                    }
+                    return new Begin();
+                case '.':
+                case '$':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw error("unsupported " + c);
+                default:
+                    return literal(c);
+            }
+        }
+
+        private Node group() {
+            Group group;
+            if (regex.startsWith("?<", pos) && pos + 2 < regex.length()
+                    && regex.charAt(pos + 2) != '=' && regex.charAt(pos + 2) != '!') {
+                int close = regex.indexOf('>', pos);
+                String name = regex.substring(pos + 2, close);
+                pos = close + 1;
+                group = new Group(++groups, name);
+                names.add(name);
+                numbers.add(group.number);
+            } else if (regex.startsWith("?:", pos)) {
+                pos += 2;
+                group = new Group(0, null);
+            } else if (peek() == '?') {
+                throw error("unsupported group");
+            } else {
+                group = new Group(++groups, null);
+            }
+            group.node = alternation();
+            expect(')');
+            return group;
+        }
+
+        private Node characterClass() {
+            CharSet set = new CharSet();
+            boolean negated = false;
+            if (peek() == '^') {
+                negated = true;
+                pos++;
+            }
+            boolean first = true;
+            while (first || peek() != ']') {
+                first = false;
+                char c = regex.charAt(pos++);
+                if (c == '[' || c == '&') {
+                    throw error("unsupported class " + c);
+                }
+                if (c == '\\') {
+                    CharSet escaped = (CharSet) escape(true);
+                    or(set, escaped);
+                    continue;
+                }
+                if (peek() == '-' && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    char to = regex.charAt(pos++);
+                    if (to == '\\' || to < c || to >= OTHER) {
+                        throw error("unsupported range");
+                    }
+                    for (char x = c; x <= to; x++) {
+                        set.symbols[x] = true;
+                    }
+                } else {
+                    add(set, c);
+                }
+            }
+            pos++;
+            if (negated) {
+                for (int i = 0; i < SYMBOLS; i++) {
+                    set.symbols[i] = !set.symbols[i];
+                }
+            }
+            return set;
+        }
+
+        private Node escape(boolean inClass) {
+            char c = regex.charAt(pos++);
+            CharSet set = new CharSet();
+            switch (c) {
+                case 'd':
+                    range(set, '0', '9');
+                    return set;
+                case 'D':
+                    range(set, '0', '9');
+                    return not(set);
+                case 's':
+                    spaces(set);
+                    return set;
+                case 'S':
+                    spaces(set);
+                    return not(set);
+                case 'w':
+                    word(set);
+                    return set;
+                case 'W':
+                    word(set);
+                    return not(set);
+                case 't':
+                    return literal('\t');
+                case 'n':
+                    return literal('\n');
+                case 'r':
+                    return literal('\r');
+                case 'f':
+                    return literal('\f');
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw error("unsupported escape \\" + c);
+                    }
+                    return literal(c);
+            }
+        }
+
+        private CharSet literal(char c) {
+            CharSet set = new CharSet();
+            add(set, c);
+            return set;
+        }
+
+        private void add(CharSet set, char c) {
+            if (c >= OTHER) {
+                throw error("non ASCII character");
+            }
+            set.symbols[c] = true;
+        }
+
+        private int number() {
+            int start = pos;
+            while (more() && Character.isDigit(peek())) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("number expected");
+            }
+            return Integer.parseInt(regex.substring(start, pos));
+        }
+
+        private void expect(char c) {
+            if (!more() || regex.charAt(pos) != c) {
+                throw error(c + " expected");
+            }
+            pos++;
+        }
+
+        private boolean more() {
+            return pos < regex.length();
+        }
+
+        private char peek() {
+            if (!more()) {
+                throw error("unexpected end");
+            }
+            return regex.charAt(pos);
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at " + pos + " in " + regex);
+        }
+
+        private static void range(CharSet set, char from, char to) {
+            for (char c = from; c <= to; c++) {
+                set.symbols[c] = true;
+            }
+        }
+
+        // \s of java.util.regex without UNICODE_CHARACTER_CLASS
+        private static void spaces(CharSet set) {
+            for (char c : new char[]{' ', '\t', '\n', 0x0B, '\f', '\r'}) {
+                set.symbols[c] = true;
+            }
+        }
+
+        private static void word(CharSet set) {
+            range(set, 'a', 'z');
+            range(set, 'A', 'Z');
+            range(set, '0', '9');
+            set.symbols['_'] = true;
+        }
+
+        private static CharSet not(CharSet set) {
+            for (int i = 0; i < SYMBOLS; i++) {
+                set.symbols[i] = !set.symbols[i];
+            }
+            return set;
+        }
+
+        private static void or(CharSet set, CharSet other) {
+            for (int i = 0; i < SYMBOLS; i++) {
+                set.symbols[i] |= other.symbols[i];
+            }
+        }
+    }
+
+    /**
+     * Program of the virtual machine, then its deterministic automaton
+     */
+    private static final class Automaton {
+
+        private static final int CHAR = 0;
+        private static final int SPLIT = 1;
+        private static final int JUMP = 2;
+        private static final int SAVE = 3;
+        private static final int BEGIN = 4;
+        private static final int MATCH = 5;
+
+        private final Parser parser;
+        private final List<int[]> program = new ArrayList<>();
+        private final List<CharSet> sets = new ArrayList<>();
+        private final Map<Integer, Integer> slots = new HashMap<>();
+
+        // Alphabet classes
+        private int[] classOf;
+        private int classCount;
+
+        // Deterministic states: the machine threads in priority order
+        private final List<int[]> states = new ArrayList<>();
+        private final Map<List<Integer>, Integer> stateIds = new HashMap<>();
+        private final List<int[]> actionLists = new ArrayList<>();
+        private final Map<List<Integer>, Integer> actionIds = new HashMap<>();
+
+        Automaton(Parser parser) {
+            this.parser = parser;
+            if (parser.names.size() > MAX_GROUPS) {
+                throw new IllegalArgumentException("more than " + MAX_GROUPS + " named groups");
+            }
+            for (int i = 0; i < parser.numbers.size(); i++) {
+                slots.put(parser.numbers.get(i), i);
+            }
+            compile(parser.root);
+            emit(MATCH, 0, 0);
+            buildClasses();
+        }
+
+        private int emit(int op, int a, int b) {
+            program.add(new int[]{op, a, b});
+            return program.size() - 1;
+        }
+
+        private void compile(Node node) {
+            if (node instanceof CharSet) {
+                sets.add((CharSet) node);
+                emit(CHAR, sets.size() - 1, 0);
+            } else if (node instanceof Begin) {
+                emit(BEGIN, 0, 0);
+            } else if (node instanceof Sequence) {
+                for (Node child : ((Sequence) node).nodes) {
+                    compile(child);
+                }
+            } else if (node instanceof Alternation) {
+                List<Node> nodes = ((Alternation) node).nodes;
+                List<Integer> jumps = new ArrayList<>();
+                for (int i = 0; i < nodes.size() - 1; i++) {
+                    int split = emit(SPLIT, 0, 0);
+                    program.get(split)[1] = program.size();
+                    compile(nodes.get(i));
+                    jumps.add(emit(JUMP, 0, 0));
+                    program.get(split)[2] = program.size();
+                }
+                compile(nodes.get(nodes.size() - 1));
+                for (int jump : jumps) {
+                    program.get(jump)[1] = program.size();
+                }
+            } else if (node instanceof Group) {
+                Group group = (Group) node;
+                Integer slot = group.name == null ? null : slots.get(group.number);
+                if (slot != null) {
+                    emit(SAVE, 2 * slot, 0);
+                }
+                compile(group.node);
+                if (slot != null) {
+                    emit(SAVE, 2 * slot + 1, 0);
+                }
+            } else {
+                Repeat repeat = (Repeat) node;
+                for (int i = 0; i < repeat.min; i++) {
+                    compile(repeat.node);
+                }
+                if (repeat.max < 0) {
+                    int loop = emit(SPLIT, 0, 0);
+                    compile(repeat.node);
+                    emit(JUMP, loop, 0);
+                    branch(loop, loop + 1, program.size(), repeat.greedy);
+                } else {
+                    List<Integer> splits = new ArrayList<>();
+                    for (int i = repeat.min; i < repeat.max; i++) {
+                        splits.add(emit(SPLIT, 0, 0));
+                        compile(repeat.node);
+                    }
+                    for (int split : splits) {
+                        branch(split, split + 1, program.size(), repeat.greedy);
+                    }
+                }
+            }
+        }
+
+        private void branch(int split, int body, int exit, boolean greedy) {
+            program.get(split)[1] = greedy ? body : exit;
+            program.get(split)[2] = greedy ? exit : body;
+        }
+
+        /**
+         * Split the alphabet into the classes of symbols no set tells apart
+         */
+        private void buildClasses() {
+            classOf = new int[SYMBOLS];
+            Map<String, Integer> signatures = new LinkedHashMap<>();
+            for (int symbol = 0; symbol < SYMBOLS; symbol++) {
+                StringBuilder signature = new StringBuilder(sets.size());
+                for (CharSet set : sets) {
+                    signature.append(set.symbols[symbol] ? '1' : '0');
+                }
+                Integer id = signatures.get(signature.toString());
+                if (id == null) {
+                    id = signatures.size();
+                    signatures.put(signature.toString(), id);
+                }
+                classOf[symbol] = id;
+            }
+            classCount = signatures.size();
+        }
+
+        /**
+         * Follow the empty moves from the instruction, adding the threads
+         * that wait on a character or match, first in priority first
+         *
+         * @param pc the instruction
+         * @param tags the group offsets set on the way, as a mask
+         * @param atBegin whether the offset is the start of the match
+         * @param visited the instructions already reached in this step
+         * @param threads the instructions of the threads
+         * @param masks the group offsets each thread sets
+         */
+        private void closure(int pc, int tags, boolean atBegin, boolean[] visited,
+                List<Integer> threads, List<Integer> masks) {
+            if (visited[pc]) {
+                return;
+            }
+            visited[pc] = true;
+            int[] instruction = program.get(pc);
+            switch (instruction[0]) {
+                case SPLIT:
+                    closure(instruction[1], tags, atBegin, visited, threads, masks);
+                    closure(instruction[2], tags, atBegin, visited, threads, masks);
+                    break;
+                case JUMP:
+                    closure(instruction[1], tags, atBegin, visited, threads, masks);
+                    break;
+                case SAVE:
+                    closure(pc + 1, tags | 1 << instruction[1], atBegin, visited, threads, masks);
+                    break;
+                case BEGIN:
+                    if (atBegin) {
+                        closure(pc + 1, tags, atBegin, visited, threads, masks);
+                    }
+                    break;
+                default:
+                    threads.add(pc);
+                    masks.add(tags);
+                    break;
+            }
+        }
+
+        /**
+         * Get the state of the threads, the threads after a match are cut
+         *
+         * @return the state, the actions of the threads in actions
+         */
+        private int state(List<Integer> threads, List<Integer> sources, List<Integer> masks,
+                List<Integer> actions) {
+            int count = threads.size();
+            for (int i = 0; i < threads.size(); i++) {
+                if (program.get(threads.get(i))[0] == MATCH) {
+                    count = i + 1;
+                    break;
+                }
+            }
+            List<Integer> key = new ArrayList<>(threads.subList(0, count));
+            // The thread count, then the source and group mask of each thread
+            actions.add(count);
+            for (int i = 0; i < count; i++) {
+                actions.add(sources.get(i));
+                actions.add(masks.get(i));
+            }
+            if (count == 0) {
+                return -1;
+            }
+            Integer id = stateIds.get(key);
+            if (id == null) {
+                id = states.size();
+                if (id >= MAX_STATES) {
+                    throw new IllegalArgumentException("more than " + MAX_STATES + " states");
+                }
+                stateIds.put(key, id);
+                int[] state = new int[count];
+                for (int i = 0; i < count; i++) {
+                    state[i] = key.get(i);
+                }
+                states.add(state);
+            }
+            return id;
+        }
+
+        private int actions(List<Integer> actions) {
+            Integer id = actionIds.get(actions);
+            if (id == null) {
+                id = actionLists.size();
+                actionIds.put(new ArrayList<>(actions), id);
+                int[] list = new int[actions.size()];
+                for (int i = 0; i < list.length; i++) {
+                    list[i] = actions.get(i);
+                }
+                actionLists.add(list);
+            }
+            return id;
+        }
+
+        String emit(String name, String regex) {
+            // The start state, its threads come from no thread
+            List<Integer> threads = new ArrayList<>();
+            List<Integer> masks = new ArrayList<>();
+            closure(0, 0, true, new boolean[program.size()], threads, masks);
+            List<Integer> sources = new ArrayList<>();
+            for (int i = 0; i < threads.size(); i++) {
+                sources.add(-1);
+            }
+            List<Integer> actions = new ArrayList<>();
+            int initial = state(threads, sources, masks, actions);
+            int initialActions = actions(actions);
+
+            List<int[]> transitions = new ArrayList<>();
+            ArrayDeque<Integer> pending = new ArrayDeque<>();
+            if (initial >= 0) {
+                pending.add(initial);
+            }
+            boolean[] done = new boolean[MAX_STATES];
+            int[] representative = new int[classCount];
+            for (int symbol = SYMBOLS - 1; symbol >= 0; symbol--) {
+                representative[classOf[symbol]] = symbol;
+            }
+            while (!pending.isEmpty()) {
+                int id = pending.poll();
+                if (done[id]) {
+                    continue;
+                }
+                done[id] = true;
+                int[] row = new int[2 * classCount];
+                int[] state = states.get(id);
+                for (int k = 0; k < classCount; k++) {
+                    int symbol = representative[k];
+                    threads.clear();
+                    masks.clear();
+                    sources.clear();
+                    boolean[] visited = new boolean[program.size()];
+                    for (int t = 0; t < state.length; t++) {
+                        int[] instruction = program.get(state[t]);
+                        if (instruction[0] == CHAR && sets.get(instruction[1]).symbols[symbol]) {
+                            int before = threads.size();
+                            closure(state[t] + 1, 0, false, visited, threads, masks);
+                            for (int i = before; i < threads.size(); i++) {
+                                sources.add(t);
+                            }
+                        }
+                    }
+                    actions.clear();
+                    int next = state(threads, sources, masks, actions);
+                    row[2 * k] = next;
+                    row[2 * k + 1] = next < 0 ? -1 : actions(actions);
+                    if (next >= 0 && !done[next]) {
+                        pending.add(next);
+                    }
+                }
+                while (transitions.size() <= id) {
+                    transitions.add(null);
+                }
+                transitions.set(id, row);
+            }
+            return source(name, regex, initial, initialActions, transitions);
+        }
+
+        private String source(String name, String regex, int initial, int initialActions,
+                List<int[]> transitions) {
+            String field = name.endsWith("_PATTERN")
+                    ? name.substring(0, name.length() - "_PATTERN".length()) : name;
+            int[] accept = new int[states.size()];
+            for (int i = 0; i < states.size(); i++) {
+                int[] state = states.get(i);
+                accept[i] = program.get(state[state.length - 1])[0] == MATCH ? state.length - 1 : -1;
+            }
+            int[] next = new int[states.size() * classCount];
+            int[] actionOf = new int[states.size() * classCount];
+            for (int i = 0; i < states.size(); i++) {
+                for (int k = 0; k < classCount; k++) {
+                    next[i * classCount + k] = transitions.get(i)[2 * k];
+                    actionOf[i * classCount + k] = transitions.get(i)[2 * k + 1];
+                }
+            }
+            // The action lists one after the other, each one found by its offset
+            int[] offsets = new int[actionLists.size()];
+            List<Integer> flat = new ArrayList<>();
+            for (int i = 0; i < actionLists.size(); i++) {
+                offsets[i] = flat.size();
+                for (int value : actionLists.get(i)) {
+                    flat.add(value);
+                }
+            }
+            for (int i = 0; i < actionOf.length; i++) {
+                actionOf[i] = actionOf[i] < 0 ? -1 : offsets[actionOf[i]];
+            }
+            int[] flatActions = new int[flat.size()];
+            for (int i = 0; i < flatActions.length; i++) {
+                flatActions[i] = flat.get(i);
+            }
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("\n    /**\n     * ").append(name).append(": ")
+                    .append(regex.replace("\\", "\\\\").replace("*/", "*\\/")).append('\n')
+                    .append("     * (").append(states.size()).append(" states, ")
+                    .append(classCount).append(" character classes)\n     */\n");
+            sb.append("    static final DfaMatcher ").append(field).append(" = new DfaMatcher(\n");
+            sb.append("            new String[]{");
+            for (int i = 0; i < parser.names.size(); i++) {
+                sb.append(i == 0 ? "" : ", ").append('"').append(parser.names.get(i)).append('"');
+            }
+            sb.append("},\n");
+            sb.append("            new int[]{").append(join(toArray(parser.numbers))).append("},\n");
+            sb.append("            new int[]{").append(join(Arrays.copyOf(classOf, SYMBOLS)))
+                    .append("},\n");
+            sb.append("            ").append(classCount).append(", ")
+                    .append(initial).append(", ")
+                    .append(initial < 0 ? -1 : offsets[initialActions]).append(",\n");
+            sb.append("            new int[]{").append(join(accept)).append("},\n");
+            sb.append("            new int[]{").append(join(next)).append("},\n");
+            sb.append("            new int[]{").append(join(actionOf)).append("},\n");
+            sb.append("            new int[]{").append(join(flatActions)).append("});\n");
+            return sb.toString();
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        }
+
+        private static String join(int[] values) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    sb.append(i % 24 == 0 ? ",\n                " : ", ");
+                }
+                sb.append(values[i]);
+            }
+            return sb.toString();
+        }
+    }
+}
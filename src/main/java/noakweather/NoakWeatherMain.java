@@ -20,7 +20,9 @@ import java.util.Locale;
 import noakweather.noaa_api.common.Weather;
 import noakweather.noaa_api.wthtype.Metar;
 import noakweather.noaa_api.wthtype.Taf;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
+import noakweather.utils.ParseTrace;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -34,9 +36,7 @@ import org.apache.logging.log4j.core.config.Configurator;
  */
 public class NoakWeatherMain {
 
-    static String station = "KCLT";
-    static Metar metar = null;
-    static Taf taf = null;
+    private static final String DEFAULT_STATION = "KCLT";
 
     private static final Logger LOGGER
             = LogManager.getLogger(NoakWeatherMain.class.getName());
@@ -49,14 +49,14 @@ public class NoakWeatherMain {
         //Configs configs = Configs.getInstance();
 
         if (args.length < 4) {
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_MSG_NOT_EN"));
-            LOGGER.fatal(Configs.getInstance().getString("LOG_DECODED_MSG_NOT_EN"));
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_MSG_MET_PARM"));
-            LOGGER.fatal(Configs.getInstance().getString("LOG_DECODED_MSG_MET_PARM"));
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_MSG_TAF_PARM") + "\n");
-            LOGGER.fatal(Configs.getInstance().getString("LOG_DECODED_MSG_TAF_PARM"));
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_MSG_EXIT") + "\n");
-            LOGGER.fatal(Configs.getInstance().getString("LOG_DECODED_MSG_EXIT"));
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_NOT_EN));
+            LOGGER.fatal(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_NOT_EN));
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_MET_PARM));
+            LOGGER.fatal(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_MET_PARM));
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_TAF_PARM) + "\n");
+            LOGGER.fatal(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_TAF_PARM));
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_EXIT) + "\n");
+            LOGGER.fatal(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_EXIT));
             System.exit(0);
         }
 
@@ -75,28 +75,35 @@ public class NoakWeatherMain {
         if (args[3].toUpperCase().matches("I")) {
             // Set the root LOGGER to Level.INFO
             Configurator.setRootLevel(Level.INFO);
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_INFO") + "\n");
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_INFO) + "\n");
         } else if (args[3].toUpperCase().matches("W")) {
             // Set the root LOGGER to Level.WARN
             Configurator.setRootLevel(Level.WARN);
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_WARN") + "\n");
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_WARN) + "\n");
         } else if (args[3].toUpperCase().matches("D")) {
             // Set the root LOGGER to Level.DEBUG
             Configurator.setRootLevel(Level.DEBUG);
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_DEBUG") + "\n");
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_DEBUG) + "\n");
         } else {
             // Set the root LOGGER to Level.INFO
             Configurator.setRootLevel(Level.INFO);
-            System.out.println(Configs.getInstance().getString("LOG_DECODED_UNKN") + "\n");
+            System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_UNKN) + "\n");
         }
 
+        // Optional trace of the reports with unparsed data
+        boolean isTrace = args.length > 4 && args[4].toUpperCase().matches("T");
+        ParseTrace.setEnabled(isTrace);
+
         //String whichVersion = System.getProperty("java.version");
         //System.out.println(whichVersion);
         //String whichJVMVersion = System.getProperty("java.vm.version");
         //System.out.println(whichJVMVersion);
         //metar = Weather.getMetar(station, "Y", MiscConstInterface.MISC_METAR_M);
+        String station = DEFAULT_STATION;
+        Metar metar = null;
+        Taf taf = null;
         try {
-            if (args[0].toUpperCase().matches(Configs.getInstance().getString("MISC_METAR_M"))) {
+            if (args[0].toUpperCase().matches(Configs.getInstance().getString(ConfigKey.MISC_METAR_M))) {
                 LOGGER.info("Processing Metar data");
                 if (args[1].length() == 4) {
                     station = args[1].toUpperCase();
@@ -104,9 +111,9 @@ public class NoakWeatherMain {
                     metar = Weather.getMetar(station, args[2].toUpperCase(), args[0].toUpperCase());
                 } else {
                     LOGGER.info("No station was specified. Will be default");
-                    metar = Weather.getMetar(station, "Y", Configs.getInstance().getString("MISC_METAR_M"));
+                    metar = Weather.getMetar(station, "Y", Configs.getInstance().getString(ConfigKey.MISC_METAR_M));
                 }
-            } else if (args[0].toUpperCase().matches(Configs.getInstance().getString("MISC_TAF_T"))) {
+            } else if (args[0].toUpperCase().matches(Configs.getInstance().getString(ConfigKey.MISC_TAF_T))) {
                 LOGGER.info("Processing Taf data");
                 if (args[1].length() == 4) {
                     station = args[1].toUpperCase();
@@ -114,18 +121,22 @@ public class NoakWeatherMain {
                     taf = Weather.getTaf(station, args[2].toUpperCase(), args[0].toUpperCase());
                 } else {
                     LOGGER.info("No station was specified. Will be default");
-                    taf = Weather.getTaf(station, "Y", Configs.getInstance().getString("MISC_TAF_T"));
+                    taf = Weather.getTaf(station, "Y", Configs.getInstance().getString(ConfigKey.MISC_TAF_T));
                 }
             } else {
-                System.out.println(Configs.getInstance().getString("LOG_DECODED_MSG_UNK_WTH_TYP"));
-                LOGGER.error(Configs.getInstance().getString("LOG_DECODED_MSG_UNK_WTH_TYP"));
-                System.out.println(Configs.getInstance().getString("LOG_DECODED_MSG_MET_PARM"));
-                LOGGER.error(Configs.getInstance().getString("LOG_DECODED_MSG_MET_PARM"));
-                System.out.println(Configs.getInstance().getString("LOG_DECODED_MSG_TAF_PARM"));
-                LOGGER.error(Configs.getInstance().getString("LOG_DECODED_MSG_TAF_PARM"));
+                System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_UNK_WTH_TYP));
+                LOGGER.error(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_UNK_WTH_TYP));
+                System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_MET_PARM));
+                LOGGER.error(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_MET_PARM));
+                System.out.println(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_TAF_PARM));
+                LOGGER.error(Configs.getInstance().getString(ConfigKey.LOG_DECODED_MSG_TAF_PARM));
             }
         } catch (UtilsException err) {
             System.out.println(err + ": Check log file for details of error");
         }
+
+        if (isTrace) {
+            ParseTrace.dump(System.out);
+        }
     }
 }
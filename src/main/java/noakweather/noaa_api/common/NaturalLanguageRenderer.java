@@ -0,0 +1,106 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.common;
+
+import java.util.List;
+import noakweather.utils.ConfigKey;
+import noakweather.utils.Configs;
+import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Class representing the rendering of decoded groups in natural language. A
+ * renderer reuses one StringBuilder for all the groups it renders, a report
+ * keeps its own. The renders are synchronized so a report shared by several
+ * threads, like a cached fetch, can be rendered from any of them.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class NaturalLanguageRenderer {
+
+    private final StringBuilder sb = new StringBuilder(64);
+
+    private final Configs configs;
+
+    private static final Logger LOGGER
+            = LogManager.getLogger(NaturalLanguageRenderer.class.getName());
+
+    /**
+     * Constructor with the configuration of the locale of the error messages
+     *
+     * @param configs
+     */
+    public NaturalLanguageRenderer(Configs configs) {
+        this.configs = configs;
+    }
+
+    /**
+     * Render a group
+     *
+     * @param item
+     * @return the group in natural language
+     * @throws noakweather.utils.UtilsException
+     */
+    public synchronized String render(Renderable item) throws UtilsException {
+        sb.setLength(0);
+        item.appendNaturalLanguage(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Render a numbered group, the number and a space before its text
+     *
+     * @param index
+     * @param item
+     * @return the number and the group in natural language
+     * @throws noakweather.utils.UtilsException
+     */
+    public synchronized String render(int index, Renderable item) throws UtilsException {
+        sb.setLength(0);
+        sb.append(index).append(' ');
+        item.appendNaturalLanguage(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Render the groups of a report, in order. A group that fails to render
+     * has the error message as its text
+     *
+     * @param <K> the type of the groups
+     * @param items the decoded groups
+     * @param firstIndex the number of the first group, 0 for no numbers
+     * @return the groups and their natural language
+     */
+    public synchronized <K extends Renderable> IndexedLinkedHashMap<K, String> renderAll(
+            List<K> items, int firstIndex) {
+        IndexedLinkedHashMap<K, String> rendered = new IndexedLinkedHashMap<>(items.size() * 2);
+        for (int i = 0; i < items.size(); i++) {
+            K item = items.get(i);
+            try {
+                rendered.put(item, firstIndex > 0 ? render(firstIndex + i, item) : render(item));
+            } catch (UtilsException e) {
+                String errMsg = "renderAll: "
+                        + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + e;
+                LOGGER.error(errMsg);
+                rendered.put(item, errMsg);
+            }
+        }
+        return rendered;
+    }
+}
@@ -24,12 +24,14 @@ import noakweather.noaa_api.weather.Pressure;
 import noakweather.noaa_api.weather.Temperature;
 import noakweather.noaa_api.weather.Visibility;
 import noakweather.noaa_api.weather.Wind;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.RegExprConst;
 import noakweather.utils.UtilsDate;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsMisc;
 import noakweather.utils.WthItemHandlers;
+import noakweather.utils.WthItemTable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.javatuples.Pair;
@@ -43,8 +45,10 @@ import org.javatuples.Pair;
 public class Remarks {
 
     private final StringBuffer decodedRemarksString;
-    private final IndexedLinkedHashMap<String, String> aviaRemarkWthItemsHandlers;
-    private final IndexedLinkedHashMap<String, Pair<String, String>> aviaRemarkWthAltItemsHandlers;
+    private final WthItemTable<String> aviaRemarkWthItemsHandlers;
+    private final WthItemTable<Pair<String, String>> aviaRemarkWthAltItemsHandlers;
+
+    private final Configs configs;
 
     private static final Logger LOGGER
             = LogManager.getLogger(Remarks.class.getName());
@@ -53,11 +57,21 @@ public class Remarks {
      * Constructor
      */
     public Remarks() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Remarks(Configs configs) {
+        this.configs = configs;
         this.decodedRemarksString = new StringBuffer("");
         this.aviaRemarkWthItemsHandlers
-                = WthItemHandlers.setRemarksWthItemsHandlers();
+                = WthItemHandlers.getRemarksWthItems(configs);
         this.aviaRemarkWthAltItemsHandlers
-                = WthItemHandlers.setRemarksWthAltItemsHandlers();
+                = WthItemHandlers.getRemarksWthAltItems(configs);
     }
 
     /**
@@ -67,18 +81,22 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setPressureRFRapidlyItems(Matcher token) throws UtilsException {
+        String presrisfal = token.group(RegExprConst.PRES_RF_RAPDLY_PRESRISFAL);
+
         try {
-            LOGGER.debug("presrisfal: #" + token.group("presrisfal") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("presrisfal: #" + presrisfal + "#");
+            }
 
-            decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                    .getValueAtIndex(aviaRemarkWthItemsHandlers
-                            .getIndexOf(token.group("presrisfal")))).append("\n");
+            decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(presrisfal)).append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setPressureRFRapidlyItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setPressureRFRapidlyItems: ", err);
@@ -92,38 +110,41 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setIcingItems(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.ICING_TYPE);
+        String typeic = token.group(RegExprConst.ICING_TYPEIC);
+        String typeip = token.group(RegExprConst.ICING_TYPEIP);
+        String extra = token.group(RegExprConst.ICING_EXTRA);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("typeic: #" + token.group("typeic") + "#");
-            LOGGER.debug("typeip: #" + token.group("typeip") + "#");
-            LOGGER.debug("extra: #" + token.group("extra") + "#");
-
-            if (token.group("type") != null) {
-                decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("type"))));
-            }
-            if (token.group("typeic") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("typeic"))));
-            }
-            if (token.group("typeip") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("typeip"))));
-            }
-            if (token.group("extra") != null) {
-                decodedRemarksString.append(" ").append(token.group("extra")
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("typeic: #" + typeic + "#");
+                LOGGER.debug("typeip: #" + typeip + "#");
+                LOGGER.debug("extra: #" + extra + "#");
+            }
+
+            if (type != null) {
+                decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(type));
+            }
+            if (typeic != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers.getValue(typeic));
+            }
+            if (typeip != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers.getValue(typeip));
+            }
+            if (extra != null) {
+                decodedRemarksString.append(" ").append(extra
                         .toLowerCase());
             }
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setIcingItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setIcingItems: ", err);
@@ -137,51 +158,57 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setTornadicActivity(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.TRN_FC_WSP_TYPE);
+        String betime = token.group(RegExprConst.TRN_FC_WSP_BETIME);
+        String time = token.group(RegExprConst.TRN_FC_WSP_TIME);
+        String dirfrom = token.group(RegExprConst.TRN_FC_WSP_DIRFROM);
+        String dirto = token.group(RegExprConst.TRN_FC_WSP_DIRTO);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("betime: #" + token.group("betime") + "#");
-            LOGGER.debug("time: #" + token.group("time") + "#");
-            LOGGER.debug("dirfrom: #" + token.group("dirfrom") + "#");
-            LOGGER.debug("dirto: #" + token.group("dirto") + "#");
-
-            decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                    .getValueAtIndex(aviaRemarkWthItemsHandlers
-                            .getIndexOf(token.group("type")))).append(" ");
-
-            if (!token.group("betime").isEmpty()) {
-                decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("betime")))).append(" ")
-                        .append(token.group("time")).append(" ")
-                        .append(Configs.getInstance().getString("MSRMNT_DECODED_MIN_AFT_HR"))
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("betime: #" + betime + "#");
+                LOGGER.debug("time: #" + time + "#");
+                LOGGER.debug("dirfrom: #" + dirfrom + "#");
+                LOGGER.debug("dirto: #" + dirto + "#");
+            }
+
+            decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(type)).append(" ");
+
+            if (!betime.isEmpty()) {
+                decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(betime)).append(" ")
+                        .append(time).append(" ")
+                        .append(configs.getString(ConfigKey.MSRMNT_DECODED_MIN_AFT_HR))
                         .append(" ");
             }
 
-            decodedRemarksString.append(Configs.getInstance()
-                    .getString("LOC_TIME_DECODED_LOCTED")).append(" ");
+            decodedRemarksString.append(configs
+                    .getString(ConfigKey.LOC_TIME_DECODED_LOCTED)).append(" ");
 
-            if (!token.group("dirfrom").isEmpty()) {
-                decodedRemarksString.append(token.group("dirfrom")).append(" ");
+            if (!dirfrom.isEmpty()) {
+                decodedRemarksString.append(dirfrom).append(" ");
             }
 
-            if (!token.group("dirto").isEmpty()) {
-                decodedRemarksString.append(Configs.getInstance().getString("LOC_TIME_DECODED_MOVNG"))
-                        .append(" ").append(token.group("dirto")).append(" ");
+            if (!dirto.isEmpty()) {
+                decodedRemarksString.append(configs.getString(ConfigKey.LOC_TIME_DECODED_MOVNG))
+                        .append(" ").append(dirto).append(" ");
             }
 
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (NumberFormatException err) {
             String errMsg = "setTornadicActivity: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setTornadicActivity: ", err);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setTornadicActivity: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setTornadicActivity: ", err);
@@ -195,19 +222,23 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setAutomatedStation(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.AUTO_TYPE);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+            }
 
-            decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                    .getValueAtIndex(aviaRemarkWthItemsHandlers
-                            .getIndexOf(token.group("type")
-                                    + Configs.getInstance().getString("MISC_VALUE_AS")))).append("\n");
+            decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(type
+                    + configs.getString(ConfigKey.MISC_VALUE_AS))).append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setAutomatedStation: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setAutomatedStation: ", err);
@@ -226,11 +257,13 @@ public class Remarks {
             decodedRemarksString.append(token.getNaturalLanguageBegEndString())
                     .append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setWeatherConditionBegEnd: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setWeatherConditionBegEnd: ", err);
@@ -245,24 +278,26 @@ public class Remarks {
      */
     public void setSeaLevelPressure(Pressure token) throws UtilsException {
         try {
-            decodedRemarksString.append(Configs.getInstance()
-                    .getString("EXTENDED_DECODED_SEA_LEVEL_PRESSURE")).append(" ");
+            decodedRemarksString.append(configs
+                    .getString(ConfigKey.EXTENDED_DECODED_SEA_LEVEL_PRESSURE)).append(" ");
             if (token.getSLPressure() == -1.0f) {
-                decodedRemarksString.append(Configs.getInstance()
-                        .getString("EXTENDED_DECODED_NO_SEA_LEVEL_PRESSURE"));
+                decodedRemarksString.append(configs
+                        .getString(ConfigKey.EXTENDED_DECODED_NO_SEA_LEVEL_PRESSURE));
             } else {
                 decodedRemarksString.append(token.getSLPressure())
-                        .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_HG"))
+                        .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_HG))
                         .append(", ").append(token.getSLPressureInHectoPascals())
-                        .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_HPA"));
+                        .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_HPA));
             }
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSeaLevelPressure: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setSeaLevelPressure: ", err);
@@ -277,14 +312,16 @@ public class Remarks {
      */
     public void setNextForecastItems(Date token) throws UtilsException {
         try {
-            decodedRemarksString.append(Configs.getInstance()
-                    .getString("EXTENDED_DECODED_NEXT_FORECAST_BY")).append(" ").append(token);
+            decodedRemarksString.append(configs
+                    .getString(ConfigKey.EXTENDED_DECODED_NEXT_FORECAST_BY)).append(" ").append(token);
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setNextForecastItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setNextForecastItems: ", err);
@@ -299,32 +336,34 @@ public class Remarks {
      */
     public void setPeakWindSpeed(Wind token) throws UtilsException {
         try {
-            decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND_DIR"))
+            decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND_DIR))
                     .append(" ").append(token.getPeakWindDirectionCompass()).append(" (")
                     .append(token.getPeakWindDirection())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_DEGREES")).append(")\n")
-                    .append(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND_SPEED"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_DEGREES)).append(")\n")
+                    .append(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND_SPEED))
                     .append(" ").append(token.getPeakWindSpeedInMPH())
-                    .append(" ").append(Configs.getInstance().getString("WIND_DECODED_MILES_PER_HOUR"))
+                    .append(" ").append(configs.getString(ConfigKey.WIND_DECODED_MILES_PER_HOUR))
                     .append(", ").append(token.getPeakWindSpeed())
-                    .append(" ").append(Configs.getInstance().getString("WIND_DECODED_KNOTS")).append("\n")
-                    .append(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND_SPEED"));
+                    .append(" ").append(configs.getString(ConfigKey.WIND_DECODED_KNOTS)).append("\n")
+                    .append(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND_SPEED));
             if (token.getPeakWindHour() != 0) {
-                SimpleDateFormat ftWS = new SimpleDateFormat(Configs.getInstance().getString("LOC_TIME_DECODED_HH_AMPM"));
+                SimpleDateFormat ftWS = new SimpleDateFormat(configs.getString(ConfigKey.LOC_TIME_DECODED_HH_AMPM));
                 decodedRemarksString.append(" ").append(token.getPeakWindMin())
-                        .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_MIN_AFT"))
+                        .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_MIN_AFT))
                         .append(" ").append(ftWS.format(token.getPeakWindHour()));
             } else {
                 decodedRemarksString.append(" ").append(token.getPeakWindMin())
-                        .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_MIN_AFT_HR"));
+                        .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_MIN_AFT_HR));
             }
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setPeakWindSpeed: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setPeakWindSpeed: ", err);
@@ -338,29 +377,37 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setWindShiftItems(Matcher token) throws UtilsException {
+        String hour = token.group(RegExprConst.WIND_SHIFT_HOUR);
+        String min = token.group(RegExprConst.WIND_SHIFT_MIN);
+        String front = token.group(RegExprConst.WIND_SHIFT_FRONT);
+
         try {
-            LOGGER.debug("hour: #" + token.group("hour") + "#");
-            LOGGER.debug("min: #" + token.group("min") + "#");
-            LOGGER.debug("front: #" + token.group("front") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("hour: #" + hour + "#");
+                LOGGER.debug("min: #" + min + "#");
+                LOGGER.debug("front: #" + front + "#");
+            }
 
             SimpleDateFormat ftWS
-                    = new SimpleDateFormat(Configs.getInstance().getString("LOC_TIME_DECODED_HH_MM_AMPM"));
-            decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_WIND_SHIFT_AT"))
+                    = new SimpleDateFormat(configs.getString(ConfigKey.LOC_TIME_DECODED_HH_MM_AMPM));
+            decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_WIND_SHIFT_AT))
                     .append(" ").append(ftWS.format(UtilsDate.setDate("0",
-                    token.group("hour"), token.group("min"), "0", "0")))
+                    hour, min, "0", "0")))
                     .append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (NumberFormatException | UtilsException err) {
             String errMsg = "setWindShiftItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setWindShiftItems: ", err);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setWindShiftItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setWindShiftItems: ", err);
@@ -377,21 +424,23 @@ public class Remarks {
     public void setTowerSurfVisItems(Visibility token) throws UtilsException {
         try {
             if (token.getVisibilityTowSur()
-                    .equals(Configs.getInstance().getString("EXTENDED_TOWER_VISIBILITY"))) {
-                decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_CTL_TWR_VIS"))
+                    .equals(configs.getString(ConfigKey.EXTENDED_TOWER_VISIBILITY))) {
+                decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_CTL_TWR_VIS))
                         .append(" ").append(token.getVisibilityTowSurMiles());
             } else {
-                decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_SFC_VIS"))
+                decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_SFC_VIS))
                         .append(" ").append(token.getVisibilityTowSurMiles());
             }
             decodedRemarksString.append(" ")
-                    .append(Configs.getInstance().getString("MSRMNT_DECODED_MILES")).append("\n");
+                    .append(configs.getString(ConfigKey.MSRMNT_DECODED_MILES)).append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setTowerSurfVisItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setTowerSurfVisItems: ", err);
@@ -407,33 +456,35 @@ public class Remarks {
     public void setVarPrevVisSecVisVisSecLocItems(Visibility token) throws UtilsException {
         try {
             if (token.isVisVarPrevailVariable()) {
-                decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_VIS_VRES_BETWN"))
+                decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_VIS_VRES_BETWN))
                         .append(" ").append(token.getVisVarPrevailOne())
-                        .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_MILES"))
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_AND"))
+                        .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_MILES))
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_AND))
                         .append(" ").append(token.getVisVarPrevailTwo())
-                        .append(Configs.getInstance().getString("MSRMNT_DECODED_MILES"));
+                        .append(configs.getString(ConfigKey.MSRMNT_DECODED_MILES));
             } else if (token.isVisVarPrevailRunway()) {
-                decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_VIS_OF"))
+                decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_VIS_OF))
                         .append(" ").append(token.getVisVarPrevailOne())
-                        .append(" ").append(Configs.getInstance().getString("EXTENDED_DECODE_MILES_AT_RNWY"))
+                        .append(" ").append(configs.getString(ConfigKey.RVR_DECODED_MILES_AT_RNWY))
                         .append(" ").append(token.getVisVarPrevailRunway());
             } else if (token.getVisVarPrevailDir() != null) {
-                decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODE_VIS_OF"))
+                decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_VIS_OF))
                         .append(" ").append(token.getVisVarPrevailOne())
-                        .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_MILES"))
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_IN"))
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_THE"))
+                        .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_MILES))
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_IN))
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_THE))
                         .append(" ").append(token.getVisVarPrevailDir())
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_OCTANT"));
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_OCTANT));
             }
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setVarPrevVisSecVisVisSecLocItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setVarPrevVisSecVisVisSecLocItems: ", err);
@@ -447,93 +498,81 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setLightningItems(Matcher token) throws UtilsException {
+        String freq = token.group(RegExprConst.LIGHTNING_FREQ);
+        String typeic = token.group(RegExprConst.LIGHTNING_TYPEIC);
+        String typecc = token.group(RegExprConst.LIGHTNING_TYPECC);
+        String typecg = token.group(RegExprConst.LIGHTNING_TYPECG);
+        String typeca = token.group(RegExprConst.LIGHTNING_TYPECA);
+        String typecw = token.group(RegExprConst.LIGHTNING_TYPECW);
+        String loc = token.group(RegExprConst.LIGHTNING_LOC);
+        String dir = token.group(RegExprConst.LIGHTNING_DIR);
+        String dir2 = token.group(RegExprConst.LIGHTNING_DIR2);
+
         try {
-            LOGGER.debug("freq: #" + token.group("freq") + "#");
-            LOGGER.debug("typeic: #" + token.group("typeic") + "#");
-            LOGGER.debug("typecc: #" + token.group("typecc") + "#");
-            LOGGER.debug("typecg: #" + token.group("typecg") + "#");
-            LOGGER.debug("typeca: #" + token.group("typeca") + "#");
-            LOGGER.debug("typecw: #" + token.group("typecw") + "#");
-            LOGGER.debug("loc: #" + token.group("loc") + "#");
-            LOGGER.debug("dir: #" + token.group("dir") + "#");
-            LOGGER.debug("dir2: #" + token.group("dir2") + "#");
-
-            decodedRemarksString.append(Configs.getInstance().getString("WEATHER_DECODED_LIGHTNING"))
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("freq: #" + freq + "#");
+                LOGGER.debug("typeic: #" + typeic + "#");
+                LOGGER.debug("typecc: #" + typecc + "#");
+                LOGGER.debug("typecg: #" + typecg + "#");
+                LOGGER.debug("typeca: #" + typeca + "#");
+                LOGGER.debug("typecw: #" + typecw + "#");
+                LOGGER.debug("loc: #" + loc + "#");
+                LOGGER.debug("dir: #" + dir + "#");
+                LOGGER.debug("dir2: #" + dir2 + "#");
+            }
+
+            decodedRemarksString.append(configs.getString(ConfigKey.WEATHER_DECODED_LIGHTNING))
                     .append(" ");
 
-            if (token.group("freq") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                .getIndexOf(token.group("freq"))).getValue0()).append(" ")
-                        .append(aviaRemarkWthAltItemsHandlers
-                                .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                        .getIndexOf(token.group("freq"))).getValue1());
-            }
-
-            if (token.group("typeic") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                .getIndexOf(token.group("typeic"))).getValue0()).append(" ")
-                        .append(aviaRemarkWthAltItemsHandlers
-                                .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                        .getIndexOf(token.group("typeic"))).getValue1());
-            }
-            if (token.group("typecc") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                .getIndexOf(token.group("typecc"))).getValue0()).append(" ")
-                        .append(aviaRemarkWthAltItemsHandlers
-                                .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                        .getIndexOf(token.group("typecc"))).getValue1());
-            }
-            if (token.group("typecg") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                .getIndexOf(token.group("typecg"))).getValue0()).append(" ")
-                        .append(aviaRemarkWthAltItemsHandlers
-                                .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                        .getIndexOf(token.group("typecg"))).getValue1());
-            }
-            if (token.group("typeca") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                .getIndexOf(token.group("typeca"))).getValue0()).append(" ")
-                        .append(aviaRemarkWthAltItemsHandlers
-                                .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                        .getIndexOf(token.group("typeca"))).getValue1());
-            }
-            if (token.group("typecw") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                .getIndexOf(token.group("typecw"))).getValue0()).append(" ")
-                        .append(aviaRemarkWthAltItemsHandlers
-                                .getValueAtIndex(aviaRemarkWthAltItemsHandlers
-                                        .getIndexOf(token.group("typecw"))).getValue1());
-            }
-
-            if (token.group("loc") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("loc"))));
-            }
-
-            if (token.group("dir") != null) {
+            if (freq != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers.getValue(freq).getValue0()).append(" ")
+                        .append(aviaRemarkWthAltItemsHandlers.getValue(freq).getValue1());
+            }
+
+            if (typeic != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers.getValue(typeic).getValue0()).append(" ")
+                        .append(aviaRemarkWthAltItemsHandlers.getValue(typeic).getValue1());
+            }
+            if (typecc != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers.getValue(typecc).getValue0()).append(" ")
+                        .append(aviaRemarkWthAltItemsHandlers.getValue(typecc).getValue1());
+            }
+            if (typecg != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers.getValue(typecg).getValue0()).append(" ")
+                        .append(aviaRemarkWthAltItemsHandlers.getValue(typecg).getValue1());
+            }
+            if (typeca != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers.getValue(typeca).getValue0()).append(" ")
+                        .append(aviaRemarkWthAltItemsHandlers.getValue(typeca).getValue1());
+            }
+            if (typecw != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthAltItemsHandlers.getValue(typecw).getValue0()).append(" ")
+                        .append(aviaRemarkWthAltItemsHandlers.getValue(typecw).getValue1());
+            }
+
+            if (loc != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers.getValue(loc));
+            }
+
+            if (dir != null) {
                 decodedRemarksString.append(" ")
-                        .append(Configs.getInstance().getString("LOC_TIME_DECODED_LOCTED"))
-                        .append(" ").append(token.group("dir"));
+                        .append(configs.getString(ConfigKey.LOC_TIME_DECODED_LOCTED))
+                        .append(" ").append(dir);
             }
-            if (token.group("dir2") != null) {
+            if (dir2 != null) {
                 decodedRemarksString.append(" ")
-                        .append(Configs.getInstance().getString("LOC_TIME_DECODED_TO"))
-                        .append(" ").append(token.group("dir2"));
+                        .append(configs.getString(ConfigKey.LOC_TIME_DECODED_TO))
+                        .append(" ").append(dir2);
             }
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setLightningItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setLightningItems: ", err);
@@ -547,52 +586,58 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setThunderCloudLocationItems(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.TS_CLD_LOC_TYPE);
+        String loc = token.group(RegExprConst.TS_CLD_LOC_LOC);
+        String dir = token.group(RegExprConst.TS_CLD_LOC_DIR);
+        String dir2 = token.group(RegExprConst.TS_CLD_LOC_DIR2);
+        String dirm = token.group(RegExprConst.TS_CLD_LOC_DIRM);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("loc: #" + token.group("loc") + "#");
-            LOGGER.debug("dir: #" + token.group("dir") + "#");
-            LOGGER.debug("dir2: #" + token.group("dir2") + "#");
-            LOGGER.debug("dirm: #" + token.group("dirm") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("loc: #" + loc + "#");
+                LOGGER.debug("dir: #" + dir + "#");
+                LOGGER.debug("dir2: #" + dir2 + "#");
+                LOGGER.debug("dirm: #" + dirm + "#");
+            }
 
-            decodedRemarksString.append(Configs.getInstance()
-                    .getString("WEATHER_DECODED_THUNDERSTORM_CLOUD_LOC")).append(" ");
+            decodedRemarksString.append(configs
+                    .getString(ConfigKey.WEATHER_DECODED_THUNDERSTORM_CLOUD_LOC)).append(" ");
 
-            if (token.group("type") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("type"))));
+            if (type != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers.getValue(type));
             }
 
-            if (token.group("loc") != null && !token.group("loc").equals("")) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("loc"))));
+            if (loc != null && !loc.equals("")) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers.getValue(loc));
             }
 
-            if (token.group("dir") != null) {
+            if (dir != null) {
                 decodedRemarksString
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_LOCTED"))
-                        .append(" ").append(token.group("dir"));
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_LOCTED))
+                        .append(" ").append(dir);
             }
-            if (token.group("dir2") != null) {
+            if (dir2 != null) {
                 decodedRemarksString
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_TO"))
-                        .append(" ").append(token.group("dir2"));
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_TO))
+                        .append(" ").append(dir2);
             }
-            if (token.group("dirm") != null) {
+            if (dirm != null) {
                 decodedRemarksString
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_MOVNG"))
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_TO"))
-                        .append(" ").append(Configs.getInstance().getString("LOC_TIME_DECODED_THE"))
-                        .append(" ").append(token.group("dirm"));
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_MOVNG))
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_TO))
+                        .append(" ").append(configs.getString(ConfigKey.LOC_TIME_DECODED_THE))
+                        .append(" ").append(dirm);
             }
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setThunderCloudLocationItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setThunderCloudLocationItems: ", err);
@@ -609,20 +654,22 @@ public class Remarks {
         try {
             if (token.getSixHourlyMaximumTemperatureInCelsius() != null) {
                 decodedRemarksString
-                        .append(Configs.getInstance().getString("EXTENDED_DECODED_6_HOUR_MAX_TEMP"))
+                        .append(configs.getString(ConfigKey.EXTENDED_DECODED_6_HOUR_MAX_TEMP))
                         .append(" ").append(token.getSixHourlyMaximumTemperatureInCelsius())
-                        .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_CELSIUS"))
+                        .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_CELSIUS))
                         .append(", ")
                         .append(token.getSixHourlyMaximumTemperatureInFahrenheit())
-                        .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_FAHRENHEIT"))
+                        .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_FAHRENHEIT))
                         .append("\n");
             }
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSixHourMaximumTemperature: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setSixHourMaximumTemperature: ", err);
@@ -639,20 +686,22 @@ public class Remarks {
         try {
             if (token.getSixHourlyMinimumTemperatureInCelsius() != null) {
                 decodedRemarksString
-                        .append(Configs.getInstance().getString("EXTENDED_DECODED_6_HOUR_MIN_TEMP"))
+                        .append(configs.getString(ConfigKey.EXTENDED_DECODED_6_HOUR_MIN_TEMP))
                         .append(" ").append(token.getSixHourlyMinimumTemperatureInCelsius())
-                        .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_CELSIUS"))
+                        .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_CELSIUS))
                         .append(", ")
                         .append(token.getSixHourlyMinimumTemperatureInFahrenheit())
-                        .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_FAHRENHEIT"))
+                        .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_FAHRENHEIT))
                         .append("\n");
             }
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSixHourMinimumTemperature: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setSixHourMinimumTemperature: ", err);
@@ -668,28 +717,30 @@ public class Remarks {
     public void setHourlyTemperatureDewPoint(Temperature token) throws UtilsException {
         try {
             decodedRemarksString
-                    .append(Configs.getInstance().getString("EXTENDED_DECODED_HOURLY_TEMP"))
+                    .append(configs.getString(ConfigKey.EXTENDED_DECODED_HOURLY_TEMP))
                     .append(" ").append(token.getHourlyTemperatureInCelsius())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_CELSIUS"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_CELSIUS))
                     .append(", ")
                     .append(token.getHourlyTemperatureInFahrenheit())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_FAHRENHEIT"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_FAHRENHEIT))
                     .append("\n");
 
             decodedRemarksString
-                    .append(Configs.getInstance().getString("EXTENDED_DECODED_HOURLY_DEWPT"))
+                    .append(configs.getString(ConfigKey.EXTENDED_DECODED_HOURLY_DEWPT))
                     .append(" ").append(token.getHourlyDewPointInCelsius())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_CELSIUS"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_CELSIUS))
                     .append(", ")
                     .append(token.getHourlyDewPointInFahrenheit())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_FAHRENHEIT"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_FAHRENHEIT))
                     .append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setHourlyTemperatureDewPoint: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setHourlyTemperatureDewPoint: ", err);
@@ -704,27 +755,29 @@ public class Remarks {
      */
     public void setTwentyFourHourMaxMinTemperature(Temperature token) throws UtilsException {
         try {
-            decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_24_HOUR_MAX_TEMP"))
+            decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_24_HOUR_MAX_TEMP))
                     .append(" ").append(token.getTwentyFourHourMaximumTemperatureInCelsius())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_CELSIUS"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_CELSIUS))
                     .append(", ")
                     .append(token.getTwentyFourHourMaximumTemperatureInFahrenheit())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_FAHRENHEIT"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_FAHRENHEIT))
                     .append("\n");
 
-            decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_24_HOUR_MIN_TEMP"))
+            decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_24_HOUR_MIN_TEMP))
                     .append(" ").append(token.getTwentyFourHourMinimumTemperatureInCelsius())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_CELSIUS"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_CELSIUS))
                     .append(", ")
                     .append(token.getTwentyFourHourMinimumTemperatureInFahrenheit())
-                    .append(" ").append(Configs.getInstance().getString("TEMP_DECODED_FAHRENHEIT"))
+                    .append(" ").append(configs.getString(ConfigKey.TEMP_DECODED_FAHRENHEIT))
                     .append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setTwentyFourHourMaxMinTemperature: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setTwentyFourHourMaxMinTemperature: ", err);
@@ -738,34 +791,41 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setHourlyPrecipitationItems(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.PRECIP_1HR_TYPE);
+        String precip = token.group(RegExprConst.PRECIP_1HR_PRECIP);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("precip: #" + token.group("precip") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("precip: #" + precip + "#");
+            }
 
             decodedRemarksString
-                    .append(Configs.getInstance().getString("EXTENDED_DECODED_HOURLY_PRECIPITATION"))
+                    .append(configs.getString(ConfigKey.EXTENDED_DECODED_HOURLY_PRECIPITATION))
                     .append(" ");
-            if (String.valueOf(Integer.parseInt(token.group("precip"))).equals(Configs.getInstance().getString("MISC_VALUE_0"))) {
-                decodedRemarksString.append(Configs.getInstance()
-                        .getString("EXTENDED_DECODED_LESS_HOURLY_PRECIPITATION_AMOUNT"));
+            if (String.valueOf(Integer.parseInt(precip)).equals(configs.getString(ConfigKey.MISC_VALUE_0))) {
+                decodedRemarksString.append(configs
+                        .getString(ConfigKey.EXTENDED_DECODED_LESS_HOURLY_PRECIPITATION_AMOUNT));
             } else {
-                decodedRemarksString.append(Integer.parseInt(token.group("precip")));
+                decodedRemarksString.append(Integer.parseInt(precip));
             }
-            decodedRemarksString.append(Configs.getInstance()
-                    .getString("EXTENDED_DECODED_HOURLY_PRECIPITATION_AMOUNT")).append("\n");
+            decodedRemarksString.append(configs
+                    .getString(ConfigKey.EXTENDED_DECODED_HOURLY_PRECIPITATION_AMOUNT)).append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (NumberFormatException err) {
             String errMsg = "setHourlyPrecipitationItems: "
-                    + Configs.getInstance().getString("LOC_TIME_DECODED_UNABLE_PARSE_VALUE")
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE)
                     + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setHourlyPrecipitationItems: ", err);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setHourlyPrecipitationItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setHourlyPrecipitationItems: ", err);
@@ -779,34 +839,39 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setSixTwentyFourHourPrecipitationItems(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.PRECIP_3HR_24HR_TYPE);
+        String precip = token.group(RegExprConst.PRECIP_3HR_24HR_PRECIP);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("precip: #" + token.group("precip") + "#");
-            decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                    .getValueAtIndex(aviaRemarkWthItemsHandlers
-                            .getIndexOf(token.group("type")
-                                    + Configs.getInstance().getString("MISC_VALUE_HP")))).append(" ");
-
-            if (UtilsMisc.containsOnlyNumbers(token.group("precip"))) {
-                decodedRemarksString.append(Double.parseDouble(token.group("precip")) / 100.0)
-                        .append(" ").append(Configs.getInstance()
-                        .getString("EXTENDED_DECODED_6_24_HOUR_PRECIPITATION_AMOUNT"));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("precip: #" + precip + "#");
+            }
+            decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(type
+                    + configs.getString(ConfigKey.MISC_VALUE_HP))).append(" ");
+
+            if (UtilsMisc.containsOnlyNumbers(precip)) {
+                decodedRemarksString.append(Double.parseDouble(precip) / 100.0)
+                        .append(" ").append(configs
+                        .getString(ConfigKey.EXTENDED_DECODED_6_24_HOUR_PRECIPITATION_AMOUNT));
             } else {
-                decodedRemarksString.append(Configs.getInstance()
-                        .getString("EXTENDED_DECODED_IND_6_24_HOUR_PRECIPITATION_AMOUNT"));
+                decodedRemarksString.append(configs
+                        .getString(ConfigKey.EXTENDED_DECODED_IND_6_24_HOUR_PRECIPITATION_AMOUNT));
             }
             decodedRemarksString.append("\n");
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (NumberFormatException err) {
             String errMsg = "setSixTwentyFourHourPrecipitationItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setSixTwentyFourHourPrecipitationItems: ", err);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSixTwentyFourHourPrecipitationItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setSixTwentyFourHourPrecipitationItems: ", err);
@@ -821,30 +886,30 @@ public class Remarks {
      */
     public void setThreeHourPressureTendencyItems(Pressure token) throws UtilsException {
         try {
-            decodedRemarksString.append(Configs.getInstance()
-                    .getString("EXTENDED_DECODED_PRESSURE_TENDENCY"))
+            decodedRemarksString.append(configs
+                    .getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY))
                     .append(" ");
 
-            decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                    .getValueAtIndex(aviaRemarkWthItemsHandlers
-                            .getIndexOf(String.valueOf(token.getTendencyCode())
-                                    + Configs.getInstance().getString("MISC_VALUE_PT"))))
+            decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(String.valueOf(token.getTendencyCode())
+                    + configs.getString(ConfigKey.MISC_VALUE_PT)))
                     .append(" ");
 
             decodedRemarksString.append("\n")
-                    .append(Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_CHANGE"))
+                    .append(configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_CHANGE))
                     .append(" ").append(token.getTendencyPressure())
-                    .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_HG"))
+                    .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_HG))
                     .append(", ")
                     .append(token.getTendencyPressureInHectoPascals())
-                    .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_HPA"))
+                    .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_HPA))
                     .append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setThreeHourPressureTendencyItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setThreeHourPressureTendencyItems: ", err);
@@ -858,20 +923,28 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setDensityAltitudeItems(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.DENSITY_ALTITUDE_TYPE);
+        String denalt = token.group(RegExprConst.DENSITY_ALTITUDE_DENALT);
+        String units = token.group(RegExprConst.DENSITY_ALTITUDE_UNITS);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("denalt: #" + token.group("denalt") + "#");
-            LOGGER.debug("units: #" + token.group("units") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("denalt: #" + denalt + "#");
+                LOGGER.debug("units: #" + units + "#");
+            }
 
-            decodedRemarksString.append(Configs.getInstance().getString("EXTENDED_DECODED_DENSITY_ALTITUDE"))
-                    .append(" ").append(Integer.parseInt(token.group("denalt")))
-                    .append(" ").append(token.group("units")).append("\n");
+            decodedRemarksString.append(configs.getString(ConfigKey.EXTENDED_DECODED_DENSITY_ALTITUDE))
+                    .append(" ").append(Integer.parseInt(denalt))
+                    .append(" ").append(units).append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setDensityAltitudeItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setDensityAltitudeItems: ", err);
@@ -885,61 +958,64 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setCloudOktaItems(Matcher token) throws UtilsException {
+        String cloud = token.group(RegExprConst.CLOUD_OKTA_CLOUD);
+        String okta = token.group(RegExprConst.CLOUD_OKTA_OKTA);
+        String verb = token.group(RegExprConst.CLOUD_OKTA_VERB);
+        String dirm = token.group(RegExprConst.CLOUD_OKTA_DIRM);
+
         String windDirection = null;
         try {
-            LOGGER.debug("cloud: #" + token.group("cloud") + "#");
-            LOGGER.debug("okta: #" + token.group("okta") + "#");
-            LOGGER.debug("verb: #" + token.group("verb") + "#");
-            LOGGER.debug("dirm: #" + token.group("dirm") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("cloud: #" + cloud + "#");
+                LOGGER.debug("okta: #" + okta + "#");
+                LOGGER.debug("verb: #" + verb + "#");
+                LOGGER.debug("dirm: #" + dirm + "#");
+            }
 
             decodedRemarksString
-                    .append(Configs.getInstance().getString("CLOUD_DECODED_CLOUD_AND_COVER"))
+                    .append(configs.getString(ConfigKey.CLOUD_DECODED_CLOUD_AND_COVER))
                     .append(" ");
 
-            if (token.group("okta").trim().equals(Configs.getInstance().getString("WEATHER_TRACE"))) {
+            if (okta.trim().equals(configs.getString(ConfigKey.WEATHER_TRACE))) {
                 decodedRemarksString
-                        .append(Configs.getInstance().getString("WEATHER_DECODED_TRACE"))
+                        .append(configs.getString(ConfigKey.WEATHER_DECODED_TRACE))
                         .append(" ");
-            } else if (token.group("okta").trim().equals(Configs.getInstance().getString("LOC_TIME_DISTANT_I"))) {
+            } else if (okta.trim().equals(configs.getString(ConfigKey.LOC_TIME_DISTANT_I))) {
                 decodedRemarksString
-                        .append(Configs.getInstance().getString("LOC_TIME_DECODED_DISTANT"))
+                        .append(configs.getString(ConfigKey.LOC_TIME_DECODED_DISTANT))
                         .append(" ");
             } else {
-                decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("okta")
-                                        + Configs.getInstance().getString("MISC_VALUE_CO"))))
+                decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(okta
+                        + configs.getString(ConfigKey.MISC_VALUE_CO)))
                         .append(" ");
             }
             //else {
-            //    windDirection = token.group("okta");
+            //    windDirection = okta;
             //}
 
-            decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                    .getValueAtIndex(aviaRemarkWthItemsHandlers
-                            .getIndexOf(token.group("cloud")))).append(" ");
+            decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(cloud)).append(" ");
 
             if (windDirection != null) {
                 decodedRemarksString.append(" ").append(windDirection);
             }
 
-            if (token.group("verb") != null) {
-                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("verb"))));
+            if (verb != null) {
+                decodedRemarksString.append(" ").append(aviaRemarkWthItemsHandlers.getValue(verb));
             }
 
-            if (token.group("dirm") != null) {
-                decodedRemarksString.append(" ").append(token.group("dirm"));
+            if (dirm != null) {
+                decodedRemarksString.append(" ").append(dirm);
             }
 
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setCloudOktaItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setCloudOktaItems: ", err);
@@ -953,17 +1029,23 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setLastObsItems(Matcher token) throws UtilsException {
+        String last = token.group(RegExprConst.LAST_OBS_LAST);
+
         try {
-            LOGGER.debug("last: #" + token.group("last") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("last: #" + last + "#");
+            }
 
-            decodedRemarksString.append(Configs.getInstance()
-                    .getString("EXTENDED_DECODED_LAST_OBSERVATION")).append("\n");
+            decodedRemarksString.append(configs
+                    .getString(ConfigKey.EXTENDED_DECODED_LAST_OBSERVATION)).append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setLastObsItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setLastObsItems: ", err);
@@ -979,19 +1061,21 @@ public class Remarks {
     public void setQFEQNHQNEPressure(Pressure token) throws UtilsException {
         try {
             decodedRemarksString
-                    .append(Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_Q"))
+                    .append(configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_Q))
                     .append(" ").append(token.getqPressureType())
                     .append("  ").append(token.getqPressureMM())
-                    .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_MM"))
+                    .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_MM))
                     .append(" ").append(token.getqPressureMB())
-                    .append(" ").append(Configs.getInstance().getString("MSRMNT_DECODED_MB"))
+                    .append(" ").append(configs.getString(ConfigKey.MSRMNT_DECODED_MB))
                     .append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setQFEQNHQNEPressure: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setQFEQNHQNEPressure: ", err);
@@ -1005,38 +1089,42 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setAutomatedMaintenanceItems(Matcher token) throws UtilsException {
+        String typeam = token.group(RegExprConst.AUTOMATED_MAINTENANCE_TYPEAM);
+        String loc = token.group(RegExprConst.AUTOMATED_MAINTENANCE_LOC);
+        String typemc = token.group(RegExprConst.AUTOMATED_MAINTENANCE_TYPEMC);
+
         try {
-            LOGGER.debug("typeam: #" + token.group("typeam") + "#");
-            LOGGER.debug("loc: #" + token.group("loc") + "#");
-            LOGGER.debug("typemc: #" + token.group("typemc") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("typeam: #" + typeam + "#");
+                LOGGER.debug("loc: #" + loc + "#");
+                LOGGER.debug("typemc: #" + typemc + "#");
+            }
 
             decodedRemarksString
-                    .append(Configs.getInstance()
-                            .getString("EXTENDED_DECODED_AUTOMATED_MAINTENANCE"))
+                    .append(configs
+                            .getString(ConfigKey.EXTENDED_DECODED_AUTOMATED_MAINTENANCE))
                     .append(" ");
             //PNO FZRANO RVRNO PWINO TSNO VISNO CHINO $
-            if (token.group("typeam") != null) {
-                decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("typeam"))));
+            if (typeam != null) {
+                decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(typeam));
             }
 
-            if (token.group("typemc") != null) { // && token.group("typemc").equals(Configs.getInstance()
-                decodedRemarksString.append(aviaRemarkWthItemsHandlers
-                        .getValueAtIndex(aviaRemarkWthItemsHandlers
-                                .getIndexOf(token.group("typemc"))));
+            if (typemc != null) { // && typemc.equals(configs
+                decodedRemarksString.append(aviaRemarkWthItemsHandlers.getValue(typemc));
             }
 
-            if (token.group("loc") != null) {
-                decodedRemarksString.append(" ").append(token.group("loc"));
+            if (loc != null) {
+                decodedRemarksString.append(" ").append(loc);
             }
             decodedRemarksString.append("\n");
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_REMARKS_STRING")
-                    + " " + decodedRemarksString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_REMARKS_STRING)
+                        + " " + decodedRemarksString);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setAutomatedMaintenanceItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setAutomatedMaintenanceItems: ", err);
@@ -1050,23 +1138,28 @@ public class Remarks {
      * @throws noakweather.utils.UtilsException
      */
     public void setSnowOnGround(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.SNOW_ON_GRND_TYPE);
+        String amt = token.group(RegExprConst.SNOW_ON_GRND_AMT);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("amt: #" + token.group("amt") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("amt: #" + amt + "#");
+            }
 
             decodedRemarksString
-                    .append(Configs.getInstance()
-                            .getString("EXTENDED_DECODED_SNOW_ON_GROUND"))
-                    .append(" ").append(token.group("amt"))
-                    .append(" ").append(Configs.getInstance()
-                    .getString("MSRMNT_DECODED_CM"))
-                    .append(", ").append(UtilsMisc.roundValue(Double.parseDouble(token.group("amt")) / 2.54, 2))
-                    .append(" ").append(Configs.getInstance()
-                    .getString("MSRMNT_DECODED_INCHES"))
+                    .append(configs
+                            .getString(ConfigKey.EXTENDED_DECODED_SNOW_ON_GROUND))
+                    .append(" ").append(amt)
+                    .append(" ").append(configs
+                    .getString(ConfigKey.MSRMNT_DECODED_CM))
+                    .append(", ").append(UtilsMisc.roundValue(Double.parseDouble(amt) / 2.54, 2))
+                    .append(" ").append(configs
+                    .getString(ConfigKey.MSRMNT_DECODED_INCHES))
                     .append("\n");
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSnowOnGround: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedRemarksString.append(errMsg).append("\n");
             LOGGER.error(errMsg);
             throw new UtilsException("setSnowOnGround: ", err);
@@ -0,0 +1,38 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.common;
+
+import noakweather.utils.UtilsException;
+
+/**
+ * Interface representing a decoded group that can be rendered in natural
+ * language. The group appends its text to the builder of a
+ * NaturalLanguageRenderer, so the text is only built when it is read.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+@FunctionalInterface
+public interface Renderable {
+
+    /**
+     * Append the natural language of the group
+     *
+     * @param sb the builder to append to
+     * @throws noakweather.utils.UtilsException
+     */
+    void appendNaturalLanguage(StringBuilder sb) throws UtilsException;
+}
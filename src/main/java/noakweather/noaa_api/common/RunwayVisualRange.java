@@ -17,10 +17,11 @@
 package noakweather.noaa_api.common;
 
 import java.util.MissingResourceException;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
 import noakweather.utils.UtilsException;
 import noakweather.utils.WthItemHandlers;
+import noakweather.utils.WthItemTable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -29,7 +30,7 @@ import org.apache.logging.log4j.Logger;
  *
  * Author: quark95cos Since: Copyright(c) 2022
  */
-public class RunwayVisualRange {
+public class RunwayVisualRange implements Renderable {
 
     private int runwayNumber;               // runway number
     private int lowestReportable;           // (ft)
@@ -40,12 +41,24 @@ public class RunwayVisualRange {
     private boolean isContaminationCondClrd;
     private String decodedReportableModifier = null;
     private static final String UNABLE_PARSE_VALUE = "Unable to parse value:";
-    private final IndexedLinkedHashMap<String, String> aviaRVRWthItemsHandlers;
+    private final WthItemTable<String> aviaRVRWthItemsHandlers;
+
+    private final Configs configs;
 
     private static final Logger LOGGER
             = LogManager.getLogger(RunwayVisualRange.class.getName());
 
     public RunwayVisualRange() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public RunwayVisualRange(Configs configs) {
+        this.configs = configs;
         this.runwayNumber = 0;
         this.lowestReportable = 0;
         this.highestReportable = 0;
@@ -54,7 +67,7 @@ public class RunwayVisualRange {
         this.reportableTrend = ' ';
         this.isContaminationCondClrd = false;
         this.decodedReportableModifier = null;
-        this.aviaRVRWthItemsHandlers = WthItemHandlers.setRVRWthItemsHandlers();
+        this.aviaRVRWthItemsHandlers = WthItemHandlers.getRVRWthItems(configs);
     }
 
     /**
@@ -66,8 +79,10 @@ public class RunwayVisualRange {
      */
     public void setRunwayNumber(int runwayNumber) throws UtilsException {
         try {
-            LOGGER.debug(Configs.getInstance().getString("RVR_DECODED_RUNWAY_NUMBER")
-                    + " " + runwayNumber);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.RVR_DECODED_RUNWAY_NUMBER)
+                        + " " + runwayNumber);
+            }
             this.runwayNumber = runwayNumber;
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setRunwayNumber: " + UNABLE_PARSE_VALUE + " " + err;
@@ -85,8 +100,10 @@ public class RunwayVisualRange {
      */
     public void setApproachDirection(char direction) throws UtilsException {
         try {
-            LOGGER.debug(Configs.getInstance().getString("RVR_DECODED_RUNWAY_APPROACH_DIRECTION")
-                    + " " + direction);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.RVR_DECODED_RUNWAY_APPROACH_DIRECTION)
+                        + " " + direction);
+            }
             this.approachDirection = direction;
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setApproachDirection: " + UNABLE_PARSE_VALUE + " " + err;
@@ -105,12 +122,12 @@ public class RunwayVisualRange {
     public void setReportableModifier(char modifier) throws UtilsException {
         try {
             this.reportableModifier = modifier;
-            LOGGER.debug(Configs.getInstance().getString("RVR_DECODED_RUNWAY_MP_RVR_MODIFIER")
-                    + " " + this.reportableModifier);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.RVR_DECODED_RUNWAY_MP_RVR_MODIFIER)
+                        + " " + this.reportableModifier);
+            }
 
-            decodedReportableModifier = aviaRVRWthItemsHandlers
-                    .getValueAtIndex(aviaRVRWthItemsHandlers
-                            .getIndexOf(String.valueOf(modifier)));
+            decodedReportableModifier = aviaRVRWthItemsHandlers.getValue(String.valueOf(modifier));
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setReportableModifier: " + UNABLE_PARSE_VALUE + " " + err;
             LOGGER.error(errMsg);
@@ -127,9 +144,11 @@ public class RunwayVisualRange {
     public void setContaminationCondClrd(boolean isContaminationCondClrd) throws UtilsException {
         try {
             this.isContaminationCondClrd = isContaminationCondClrd;
-            LOGGER.debug(Configs.getInstance()
-                    .getString("RVR_DECODED_RUNWAY_CONTMNTN_COND_CLRD_DIRECTION")
-                    + " " + this.isContaminationCondClrd);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs
+                        .getString(ConfigKey.RVR_DECODED_RUNWAY_CONTMNTN_COND_CLRD_DIRECTION)
+                        + " " + this.isContaminationCondClrd);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setContaminationCondClrd: " + UNABLE_PARSE_VALUE + " " + err;
             LOGGER.error(errMsg);
@@ -147,8 +166,10 @@ public class RunwayVisualRange {
     public void setReportableTrend(char trend) throws UtilsException {
         try {
             this.reportableTrend = trend;
-            LOGGER.debug(Configs.getInstance().getString("RVR_DECODED_RVR_MODIFIER")
-                    + " " + this.reportableTrend);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.RVR_DECODED_RVR_MODIFIER)
+                        + " " + this.reportableTrend);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setReportableTrend: " + UNABLE_PARSE_VALUE + " " + err;
             LOGGER.error(errMsg);
@@ -166,8 +187,10 @@ public class RunwayVisualRange {
     public void setLowestReportable(int lowestReportable) throws UtilsException {
         try {
             this.lowestReportable = lowestReportable;
-            LOGGER.debug(Configs.getInstance().getString("RVR_DECODED_RVR_LOWEST_REPORTABLE")
-                    + " " + lowestReportable);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.RVR_DECODED_RVR_LOWEST_REPORTABLE)
+                        + " " + lowestReportable);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setLowestReportable: " + UNABLE_PARSE_VALUE + " " + err;
             LOGGER.error(errMsg);
@@ -185,8 +208,10 @@ public class RunwayVisualRange {
     public void setHighestReportable(int highestReportable) throws UtilsException {
         try {
             this.highestReportable = highestReportable;
-            LOGGER.debug(Configs.getInstance().getString("RVR_DECODED_RVR_HIGHEST_REPORTABLE")
-                    + " " + highestReportable);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.RVR_DECODED_RVR_HIGHEST_REPORTABLE)
+                        + " " + highestReportable);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setHighestReportable: " + UNABLE_PARSE_VALUE + " " + err;
             LOGGER.error(errMsg);
@@ -267,45 +292,53 @@ public class RunwayVisualRange {
      * @throws noakweather.utils.UtilsException
      */
     public String getNaturalLanguageString() throws UtilsException {
-        String temp = Integer.toString(runwayNumber);
+        StringBuilder sb = new StringBuilder();
+        appendNaturalLanguage(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Append the natural language of this runway visual range
+     *
+     * @param sb the builder to append to
+     * @throws noakweather.utils.UtilsException
+     */
+    @Override
+    public void appendNaturalLanguage(StringBuilder sb) throws UtilsException {
+        sb.append(runwayNumber);
 
         try {
             if (!String.valueOf(approachDirection).trim().isEmpty()) {
-                temp += " " + aviaRVRWthItemsHandlers
-                        .getValueAtIndex(aviaRVRWthItemsHandlers
-                                .getIndexOf(String.valueOf(approachDirection)));
+                sb.append(' ').append(aviaRVRWthItemsHandlers.getValue(String.valueOf(approachDirection)));
             }
 
             if (decodedReportableModifier != null
                     && !decodedReportableModifier.isEmpty()) {
-                temp += " " + decodedReportableModifier;
+                sb.append(' ').append(decodedReportableModifier);
             }
 
             if (highestReportable > 0) {
-                temp += " " + lowestReportable;
-                temp += Configs.getInstance().getString("LOC_TIME_DECODED_TO")
-                        + " " + highestReportable
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_FEET") + ".";
+                sb.append(' ').append(lowestReportable)
+                        .append(configs.getString(ConfigKey.LOC_TIME_DECODED_TO))
+                        .append(' ').append(highestReportable)
+                        .append(' ').append(configs.getString(ConfigKey.MSRMNT_DECODED_FEET)).append('.');
             } else {
-                temp += " " + lowestReportable + " "
-                        + Configs.getInstance().getString("MSRMNT_DECODED_FEET") + ".";
+                sb.append(' ').append(lowestReportable).append(' ')
+                        .append(configs.getString(ConfigKey.MSRMNT_DECODED_FEET)).append('.');
             }
 
             if (isContaminationCondClrd) {
-                temp += " " + Configs.getInstance()
-                        .getString("RVR_DECODED_RUNWAY_CTMNRN_COND_CSD_TO_EXIST");
+                sb.append(' ').append(configs
+                        .getString(ConfigKey.RVR_DECODED_RUNWAY_CTMNRN_COND_CSD_TO_EXIST));
             }
 
             if (!String.valueOf(reportableTrend).trim().isEmpty()) {
-                temp += " " + aviaRVRWthItemsHandlers
-                        .getValueAtIndex(aviaRVRWthItemsHandlers
-                                .getIndexOf(String.valueOf(reportableTrend)));
+                sb.append(' ').append(aviaRVRWthItemsHandlers.getValue(String.valueOf(reportableTrend)));
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "getNaturalLanguageString: " + UNABLE_PARSE_VALUE + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("getNaturalLanguageString: ", err);
         }
-        return temp;
     }
 }
@@ -18,10 +18,13 @@ package noakweather.noaa_api.common;
 
 import java.util.MissingResourceException;
 import java.util.regex.Matcher;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprMatch;
 import noakweather.utils.UtilsException;
 import noakweather.utils.WthItemHandlers;
+import noakweather.utils.WthItemTable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,12 +33,16 @@ import org.apache.logging.log4j.Logger;
  *
  * Author: quark95cos Since: Copyright(c) 2022
  */
-public class SkyCondition {
+public class SkyCondition implements Renderable {
 
     private int height;
+    private String contraction;
+    private String modifier;
     private String decodedContraction;
     private String decodedModifier;
-    private final IndexedLinkedHashMap<String, String> aviaSkyCondWthItemsHandlers;
+    private final WthItemTable<String> aviaSkyCondWthItemsHandlers;
+
+    private final Configs configs;
 
     private static final Logger LOGGER
             = LogManager.getLogger(SkyCondition.class.getName());
@@ -44,11 +51,23 @@ public class SkyCondition {
      * Constructor
      */
     public SkyCondition() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public SkyCondition(Configs configs) {
+        this.configs = configs;
         this.height = 0;
+        this.contraction = null;
+        this.modifier = null;
         this.decodedContraction = null;
         this.decodedModifier = null;
         this.aviaSkyCondWthItemsHandlers
-                = WthItemHandlers.setSkyCondWthItemsHandlers();
+                = WthItemHandlers.getSkyCondWthItems(configs);
     }
 
     /**
@@ -58,31 +77,53 @@ public class SkyCondition {
      * @throws noakweather.utils.UtilsException
      */
     public void setSkyConditionItems(Matcher token) throws UtilsException {
+        setSkyConditionItems(RegExprMatch.of(token));
+    }
+
+    /**
+     * Set the sky condition information
+     *
+     * @param token
+     * @throws noakweather.utils.UtilsException
+     */
+    public void setSkyConditionItems(RegExprMatch token) throws UtilsException {
+        String cover = token.group(RegExprConst.SKY_CONDITION_COVER);
+        String height = token.group(RegExprConst.SKY_CONDITION_HEIGHT);
+        String cloud = token.group(RegExprConst.SKY_CONDITION_CLOUD);
+
         try {
-            LOGGER.debug("cover: #" + token.group("cover") + "#");
-            LOGGER.debug("height: #" + token.group("height") + "#");
-            LOGGER.debug("cloud: #" + token.group("cloud") + "#");
-
-            setContraction(token.group("cover"));
-            LOGGER.debug(Configs.getInstance().getString("SKY_COND_DECODED_CONTRACTION")
-                    + " " + token.group("cover"));
-            LOGGER.debug(aviaSkyCondWthItemsHandlers
-                    .getValueAtIndex(aviaSkyCondWthItemsHandlers
-                            .getIndexOf(token.group("cover"))) + " " + token.group("cover"));
-            if (token.group("height") != null && !token.group("height").equals("")) {
-                setHeight(Integer.parseInt(token.group("height")));
-                LOGGER.debug(Configs.getInstance().getString("SKY_COND_DECODED_HEIGHT")
-                        + " " + token.group("height"));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("cover: #" + cover + "#");
+                LOGGER.debug("height: #" + height + "#");
+                LOGGER.debug("cloud: #" + cloud + "#");
+            }
+
+            contraction = cover;
+            setContraction(cover);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.SKY_COND_DECODED_CONTRACTION)
+                        + " " + cover);
+                LOGGER.debug(aviaSkyCondWthItemsHandlers.getValue(cover) + " " + cover);
+            }
+            if (height != null && !height.equals("")) {
+                setHeight(Integer.parseInt(height));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.SKY_COND_DECODED_HEIGHT)
+                            + " " + height);
+                }
             }
-            if (token.group("cloud") != null && !token.group("cloud").equals("")) {
+            if (cloud != null && !cloud.equals("")) {
                 // we have a modifier
-                setModifier(token.group("cloud"));
-                LOGGER.debug(Configs.getInstance().getString("SKY_COND_DECODED_MODIFIER")
-                        + " " + token.group("cloud"));
+                modifier = cloud;
+                setModifier(cloud);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.SKY_COND_DECODED_MODIFIER)
+                            + " " + cloud);
+                }
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSkyConditionItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedContraction = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setSkyConditionItems: ", err);
@@ -98,12 +139,10 @@ public class SkyCondition {
      */
     private void setContraction(String contraction) throws UtilsException {
         try {
-            decodedContraction = aviaSkyCondWthItemsHandlers
-                    .getValueAtIndex(aviaSkyCondWthItemsHandlers
-                            .getIndexOf(contraction));
+            decodedContraction = aviaSkyCondWthItemsHandlers.getValue(contraction);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setContraction: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedContraction = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setContraction: ", err);
@@ -119,12 +158,10 @@ public class SkyCondition {
      */
     private void setModifier(String modifier) throws UtilsException {
         try {
-            decodedModifier = aviaSkyCondWthItemsHandlers
-                    .getValueAtIndex(aviaSkyCondWthItemsHandlers
-                            .getIndexOf(modifier));
+            decodedModifier = aviaSkyCondWthItemsHandlers.getValue(modifier);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setModifier: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedContraction = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setModifier: ", err);
@@ -151,6 +188,24 @@ public class SkyCondition {
         return height; // in hundreds of feet
     }
 
+    /**
+     * Get the sky contraction as reported (FEW, SCT, etc.)
+     *
+     * @return contraction
+     */
+    public String getContraction() {
+        return contraction;
+    }
+
+    /**
+     * Get the sky modifier as reported (CB, TCU, etc.)
+     *
+     * @return modifier
+     */
+    public String getModifier() {
+        return modifier;
+    }
+
     /**
      * Get the decoded sky contraction (FEW, SCT, etc.) information
      *
@@ -196,37 +251,47 @@ public class SkyCondition {
      * @throws noakweather.utils.UtilsException
      */
     public String getNaturalLanguageString() throws UtilsException {
-        try {
-            String temp = "";
+        StringBuilder sb = new StringBuilder();
+        appendNaturalLanguage(sb);
+        return sb.toString();
+    }
 
-            if (decodedContraction.equals(Configs.getInstance().getString("SKY_COND_DECODED_CLEAR"))
+    /**
+     * Append the natural language of this sky condition
+     *
+     * @param sb the builder to append to
+     * @throws noakweather.utils.UtilsException
+     */
+    @Override
+    public void appendNaturalLanguage(StringBuilder sb) throws UtilsException {
+        try {
+            if (decodedContraction.equals(configs.getString(ConfigKey.SKY_COND_DECODED_CLEAR))
                     || decodedContraction.equals(Configs
-                            .getInstance().getString("SKY_COND_DECODED_NO_CLOUDS_DETECTED"))
+                            .getInstance().getString(ConfigKey.SKY_COND_DECODED_NO_CLOUDS_DETECTED))
                     || decodedContraction.equals(Configs
-                            .getInstance().getString("SKY_COND_DECODED_NO_SIGNIFICANT_CLOUDS"))) {
-                return decodedContraction;
+                            .getInstance().getString(ConfigKey.SKY_COND_DECODED_NO_SIGNIFICANT_CLOUDS))) {
+                sb.append(decodedContraction);
+                return;
             } else {
-                temp += decodedContraction;
+                sb.append(decodedContraction);
             }
 
             if (decodedContraction
-                    .equals(Configs.getInstance().getString("SKY_COND_DECODED_VERTICAL_VISIBILITY"))) {
-                temp += " " + Configs.getInstance().getString("LOC_TIME_DECODED_OF");
+                    .equals(configs.getString(ConfigKey.SKY_COND_DECODED_VERTICAL_VISIBILITY))) {
+                sb.append(' ').append(configs.getString(ConfigKey.LOC_TIME_DECODED_OF));
             } else {
-                temp += " " + Configs.getInstance().getString("LOC_TIME_DECODED_AT");
+                sb.append(' ').append(configs.getString(ConfigKey.LOC_TIME_DECODED_AT));
             }
 
-            temp += " " + getHeight() + " "
-                    + Configs.getInstance().getString("MSRMNT_DECODED_FEET");
+            sb.append(' ').append(getHeight()).append(' ')
+                    .append(configs.getString(ConfigKey.MSRMNT_DECODED_FEET));
 
             if (decodedModifier != null && !decodedModifier.isEmpty()) {
-                temp += " (" + decodedModifier + ")";
+                sb.append(" (").append(decodedModifier).append(')');
             }
-
-            return temp;
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "getNaturalLanguageString: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedContraction = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("getNaturalLanguageString: ", err);
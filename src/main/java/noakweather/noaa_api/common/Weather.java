@@ -21,6 +21,7 @@ package noakweather.noaa_api.common;
 import noakweather.noaa_api.wthtype.Metar;
 import noakweather.noaa_api.wthtype.Taf;
 import noakweather.service.WeatherCondHttpClient;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.LogManager;
@@ -51,24 +52,24 @@ public class Weather {
 
         Taf taf = new Taf();
 
-        LOGGER.info(Configs.getInstance().getString("MISC_STATION")
+        LOGGER.info(Configs.getInstance().getString(ConfigKey.MISC_STATION)
                 + " " + station);
         tafData = WeatherCondHttpClient.fetchMetarOrTaf(station, dataType);
-        System.out.println(Configs.getInstance().getString("MISC_RAW_TAFDATA")
+        System.out.println(Configs.getInstance().getString(ConfigKey.MISC_RAW_TAFDATA)
                 + " #" + tafData + "#");
-        LOGGER.info(Configs.getInstance().getString("MISC_RAW_TAFDATA")
+        LOGGER.info(Configs.getInstance().getString(ConfigKey.MISC_RAW_TAFDATA)
                 + " #" + tafData + "#");
         if (tafData != null && tafData.length() > 0) {
             taf.parse(tafData);
             if (parsePrint.equals("Y")) {
                 System.out.println("\n\n\n"
-                        + Configs.getInstance().getString("MISC_RAW_TAFDATA")
+                        + Configs.getInstance().getString(ConfigKey.MISC_RAW_TAFDATA)
                         + " #" + tafData + "#");
                 taf.print();
             }
         }
         else {
-            System.out.println(Configs.getInstance().getString("MISC_TAF_NONE")
+            System.out.println(Configs.getInstance().getString(ConfigKey.MISC_TAF_NONE)
             + " " + station);
         }
 
@@ -90,24 +91,24 @@ public class Weather {
 
         Metar metar = new Metar();
 
-        LOGGER.info(Configs.getInstance().getString("MISC_STATION")
+        LOGGER.info(Configs.getInstance().getString(ConfigKey.MISC_STATION)
                 + " " + station);
         metarData = WeatherCondHttpClient.fetchMetarOrTaf(station, dataType);
-        System.out.println(Configs.getInstance().getString("MISC_RAW_METARDATA")
+        System.out.println(Configs.getInstance().getString(ConfigKey.MISC_RAW_METARDATA)
                 + " #" + metarData + "#");
-        LOGGER.info(Configs.getInstance().getString("MISC_RAW_METARDATA")
+        LOGGER.info(Configs.getInstance().getString(ConfigKey.MISC_RAW_METARDATA)
                 + " #" + metarData + "#");
         if (metarData != null && metarData.length() > 0) {
             metar.parse(metarData);
             if (parsePrint.equals("Y")) {
                 System.out.println("\n\n\n"
-                        + Configs.getInstance().getString("MISC_RAW_METARDATA")
+                        + Configs.getInstance().getString(ConfigKey.MISC_RAW_METARDATA)
                         + " #" + metarData + "#");
                 metar.print();
             }
         }
         else {
-            System.out.println(Configs.getInstance().getString("MISC_METAR_NONE")
+            System.out.println(Configs.getInstance().getString(ConfigKey.MISC_METAR_NONE)
             + " " + station);
         }
 
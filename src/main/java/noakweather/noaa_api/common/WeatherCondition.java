@@ -18,10 +18,13 @@ package noakweather.noaa_api.common;
 
 import java.util.MissingResourceException;
 import java.util.regex.Matcher;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprMatch;
 import noakweather.utils.UtilsException;
 import noakweather.utils.WthItemHandlers;
+import noakweather.utils.WthItemTable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,7 +33,7 @@ import org.apache.logging.log4j.Logger;
  *
  * Author: quark95cos Since: Copyright(c) 2022
  */
-public class WeatherCondition {
+public class WeatherCondition implements Renderable {
 
     private int precpBeginTime;
     private int precpEndTime;
@@ -42,8 +45,11 @@ public class WeatherCondition {
     private String decodedPrecipitation;
     private String decodedObstruction;
     private String decodedNoSignificantWeather;
+    private String code;
 
-    private final IndexedLinkedHashMap<String, String> aviaWeathCondWthItemsHandlers;
+    private final WthItemTable<String> aviaWeathCondWthItemsHandlers;
+
+    private final Configs configs;
 
     private static final Logger LOGGER
             = LogManager.getLogger(WeatherCondition.class.getName());
@@ -52,6 +58,16 @@ public class WeatherCondition {
      * Constructor
      */
     public WeatherCondition() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public WeatherCondition(Configs configs) {
+        this.configs = configs;
         this.precpBeginTime = 0;
         this.precpEndTime = 0;
         this.isPrecpBeginTime = false;
@@ -62,8 +78,19 @@ public class WeatherCondition {
         this.decodedPrecipitation = null;
         this.decodedObstruction = null;
         this.decodedNoSignificantWeather = null;
+        this.code = null;
         this.aviaWeathCondWthItemsHandlers
-                = WthItemHandlers.setWeathCondWthItemsHandlers();
+                = WthItemHandlers.getWeathCondWthItems(configs);
+    }
+
+    /**
+     * Named groups of a weather condition, matched by a regular expression
+     * or scanned by the fast lexer
+     */
+    @FunctionalInterface
+    private interface WeatherGroups {
+
+        String group(int group);
     }
 
     /**
@@ -73,90 +100,147 @@ public class WeatherCondition {
      * @throws noakweather.utils.UtilsException
      */
     public void setWeatherConditionItems(Matcher token) throws UtilsException {
+        setWeatherConditionItems(token::group);
+    }
+
+    /**
+     * Set the weather condition information
+     *
+     * @param token
+     * @throws noakweather.utils.UtilsException
+     */
+    public void setWeatherConditionItems(RegExprMatch token) throws UtilsException {
+        setWeatherConditionItems(token::group);
+    }
+
+    /**
+     * Set the weather condition information
+     *
+     * @param token
+     * @throws noakweather.utils.UtilsException
+     */
+    private void setWeatherConditionItems(WeatherGroups token) throws UtilsException {
+        String intensity = token.group(RegExprConst.PRESENT_WEATHER_INT);
+        String desc = token.group(RegExprConst.PRESENT_WEATHER_DESC);
+        String prec = token.group(RegExprConst.PRESENT_WEATHER_PREC);
+        String obsc = token.group(RegExprConst.PRESENT_WEATHER_OBSC);
+        String other = token.group(RegExprConst.PRESENT_WEATHER_OTHER);
+        String intensity2 = token.group(RegExprConst.PRESENT_WEATHER_INT2);
+
         try {
-            LOGGER.debug("int: #" + token.group("int") + "#");
-            LOGGER.debug("desc: #" + token.group("desc") + "#");
-            LOGGER.debug("prec: #" + token.group("prec") + "#");
-            LOGGER.debug("obsc: #" + token.group("obsc") + "#");
-            LOGGER.debug("other: #" + token.group("other") + "#");
-            LOGGER.debug("int2: #" + token.group("int2") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("int: #" + intensity + "#");
+                LOGGER.debug("desc: #" + desc + "#");
+                LOGGER.debug("prec: #" + prec + "#");
+                LOGGER.debug("obsc: #" + obsc + "#");
+                LOGGER.debug("other: #" + other + "#");
+                LOGGER.debug("int2: #" + intensity2 + "#");
+            }
+
+            StringBuilder reported = new StringBuilder();
+            for (String group : new String[]{intensity, desc, prec, obsc, other, intensity2}) {
+                if (group != null) {
+                    reported.append(group);
+                }
+            }
+            code = reported.toString();
 
             // Default decodedIntensity to Moderate
-            decodedIntensity = Configs.getInstance().getString("WEATHER_DECODED_MODERATE");
+            decodedIntensity = configs.getString(ConfigKey.WEATHER_DECODED_MODERATE);
 
-            if (token.group("other") != null && token.group("other")
-                    .equals(Configs.getInstance().getString("WEATHER_NO_SIGNIFICANT_WEATHER"))) {
+            if (other != null && other
+                    .equals(configs.getString(ConfigKey.WEATHER_NO_SIGNIFICANT_WEATHER))) {
                 setNoSignificantWeather();
-                LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                        + " " + Configs.getInstance().getString("WEATHER_DECODED_NO_SIGNIFICANT_WEATHER")
-                        + ": " + token.group("other"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                            + " " + configs.getString(ConfigKey.WEATHER_DECODED_NO_SIGNIFICANT_WEATHER)
+                            + ": " + other);
+                }
                 return;
             }
 
-            if (token.group("int") != null && !token.group("int").equals("")) {
-                if (token.group("int").equals(Configs.getInstance().getString("WEATHER_HEAVY"))
-                        || token.group("int").equals(Configs.getInstance().getString("WEATHER_LIGHT"))) {
-                    setIntensity(token.group("int"));
-                    LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                            + " " + Configs.getInstance().getString("WEATHER_DECODED_INTENSITY")
-                            + ": " + token.group("int"));
-                } else if (token.group("int").equals(Configs.getInstance().getString("LOC_TIME_VC"))) {
+            if (intensity != null && !intensity.equals("")) {
+                if (intensity.equals(configs.getString(ConfigKey.WEATHER_HEAVY))
+                        || intensity.equals(configs.getString(ConfigKey.WEATHER_LIGHT))) {
+                    setIntensity(intensity);
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                                + " " + configs.getString(ConfigKey.WEATHER_DECODED_INTENSITY)
+                                + ": " + intensity);
+                    }
+                } else if (intensity.equals(configs.getString(ConfigKey.LOC_TIME_VC))) {
                     setInVicinity();
-                    LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                            + " " + Configs.getInstance().getString("LOC_TIME_DECODED_VC")
-                            + ": " + token.group("int"));
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                                + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_VC)
+                                + ": " + intensity);
+                    }
                 } else {
-                    LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                            + " " + Configs.getInstance().getString("WEATHER_DECODED_INTENSITY")
-                            + ": " + Configs.getInstance().getString("WEATHER_DECODED_MODERATE"));
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                                + " " + configs.getString(ConfigKey.WEATHER_DECODED_INTENSITY)
+                                + ": " + configs.getString(ConfigKey.WEATHER_DECODED_MODERATE));
+                    }
                 }
             }
 
             // If we have a descriptor
-            if (token.group("desc") != null) {
-                setDescriptor(token.group("desc"));
-                LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                        + " " + Configs.getInstance().getString("WEATHER_DECODED_DESCRIPTOR")
-                        + ": " + token.group("desc"));
+            if (desc != null) {
+                setDescriptor(desc);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                            + " " + configs.getString(ConfigKey.WEATHER_DECODED_DESCRIPTOR)
+                            + ": " + desc);
+                }
             } else {
-                LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                        + " " + Configs.getInstance().getString("WEATHER_DECODED_DESCRIPTOR")
-                        + ": " + Configs.getInstance().getString("WEATHER_DECODED_NO_DESCRIPTOR"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                            + " " + configs.getString(ConfigKey.WEATHER_DECODED_DESCRIPTOR)
+                            + ": " + configs.getString(ConfigKey.WEATHER_DECODED_NO_DESCRIPTOR));
+                }
             }
 
             // If we have precipitation (we should always except for when
             // precipitation is in vicinity!)
-            if (token.group("prec") != null && !token.group("prec").equals("")) {
+            if (prec != null && !prec.equals("")) {
                 int index = 0;
                 String precStr;
-                while (index != token.group("prec").length()) {
-                    precStr = token.group("prec").substring(index, index + 2);
+                while (index != prec.length()) {
+                    precStr = prec.substring(index, index + 2);
 
                     setPrecipitation(precStr);
-                    LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                            + " " + Configs.getInstance().getString("WEATHER_DECODED_PRECIPITATION")
-                            + ": " + precStr);
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                                + " " + configs.getString(ConfigKey.WEATHER_DECODED_PRECIPITATION)
+                                + ": " + precStr);
+                    }
                     index = index + 2;
                 }
             } else {
-                LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                        + " " + Configs.getInstance().getString("WEATHER_DECODED_NO_PRECIPITATION"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                            + " " + configs.getString(ConfigKey.WEATHER_DECODED_NO_PRECIPITATION));
+                }
             }
 
             // If we have obstruction (we should always except for when
             // obstruction is in vicinity!)
-            if (token.group("obsc") != null && !token.group("obsc").equals("")) {
-                setObstruction(token.group("obsc"));
-                LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                        + " " + Configs.getInstance().getString("WEATHER_DECODED_OBSTRUCTION")
-                        + ": " + token.group("obsc"));
+            if (obsc != null && !obsc.equals("")) {
+                setObstruction(obsc);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                            + " " + configs.getString(ConfigKey.WEATHER_DECODED_OBSTRUCTION)
+                            + ": " + obsc);
+                }
             } else {
-                LOGGER.debug(Configs.getInstance().getString("WEATHER_DECODED_GROUP")
-                        + " " + Configs.getInstance().getString("WEATHER_DECODED_NO_OBSTRUCTION"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WEATHER_DECODED_GROUP)
+                            + " " + configs.getString(ConfigKey.WEATHER_DECODED_NO_OBSTRUCTION));
+                }
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setWeatherConditionItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setWeatherConditionItems: ", err);
         }
@@ -168,24 +252,31 @@ public class WeatherCondition {
      * @throws noakweather.utils.UtilsException
      */
     public void setWeatherConditionBegEnd(Matcher token) throws UtilsException {
+        String begin = token.group(RegExprConst.BEGIN_END_WEATHER_BEGIN);
+        String begint = token.group(RegExprConst.BEGIN_END_WEATHER_BEGINT);
+        String end = token.group(RegExprConst.BEGIN_END_WEATHER_END);
+        String endt = token.group(RegExprConst.BEGIN_END_WEATHER_ENDT);
+
         try {
-            LOGGER.debug("begin: #" + token.group("begin") + "#");
-            LOGGER.debug("begint: #" + token.group("begint") + "#");
-            LOGGER.debug("end: #" + token.group("end") + "#");
-            LOGGER.debug("endt: #" + token.group("endt") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("begin: #" + begin + "#");
+                LOGGER.debug("begint: #" + begint + "#");
+                LOGGER.debug("end: #" + end + "#");
+                LOGGER.debug("endt: #" + endt + "#");
+            }
 
-            if (token.group("begint") != null && !token.group("begint").equals("")) {
+            if (begint != null && !begint.equals("")) {
                 isPrecpBeginTime = true;
-                precpBeginTime = Integer.parseInt(token.group("begint"));
+                precpBeginTime = Integer.parseInt(begint);
             }
 
-            if (token.group("endt") != null && !token.group("endt").equals("")) {
+            if (endt != null && !endt.equals("")) {
                 isPrecpEndTime = true;
-                precpEndTime = Integer.parseInt(token.group("endt"));
+                precpEndTime = Integer.parseInt(endt);
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setWeatherConditionBegEnd: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setWeatherConditionBegEnd: ", err);
         }
@@ -201,13 +292,11 @@ public class WeatherCondition {
     private void setIntensity(String intensity) throws UtilsException {
         try {
             if (intensity != null && !intensity.equals("")) {
-                decodedIntensity = aviaWeathCondWthItemsHandlers
-                        .getValueAtIndex(aviaWeathCondWthItemsHandlers
-                                .getIndexOf(intensity));
+                decodedIntensity = aviaWeathCondWthItemsHandlers.getValue(intensity);
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setIntensity: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedIntensity = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setIntensity: ", err);
@@ -221,10 +310,10 @@ public class WeatherCondition {
      */
     private void setInVicinity() throws UtilsException {
         try {
-            decodedInVicinity = Configs.getInstance().getString("WEATHER_DECODED_VC");
+            decodedInVicinity = configs.getString(ConfigKey.WEATHER_DECODED_VC);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setInVicinity: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedInVicinity = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setInVicinity: ", err);
@@ -239,11 +328,11 @@ public class WeatherCondition {
      */
     public void setNoSignificantWeather() throws UtilsException {
         try {
-            decodedNoSignificantWeather = Configs.getInstance()
-                    .getString("WEATHER_DECODED_NO_SIGNIFICANT_WEATHER");
+            decodedNoSignificantWeather = configs
+                    .getString(ConfigKey.WEATHER_DECODED_NO_SIGNIFICANT_WEATHER);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setNoSignificantWeather: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedNoSignificantWeather = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setNoSignificantWeather: ", err);
@@ -260,12 +349,10 @@ public class WeatherCondition {
      */
     public void setDescriptor(String descriptor) throws UtilsException {
         try {
-            decodedDescriptor = aviaWeathCondWthItemsHandlers
-                    .getValueAtIndex(aviaWeathCondWthItemsHandlers
-                            .getIndexOf(descriptor));
+            decodedDescriptor = aviaWeathCondWthItemsHandlers.getValue(descriptor);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setDescriptor: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedDescriptor = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setDescriptor: ", err);
@@ -281,12 +368,10 @@ public class WeatherCondition {
      */
     public void setPrecipitation(String precipitation) throws UtilsException {
         try {
-            decodedPrecipitation = aviaWeathCondWthItemsHandlers
-                    .getValueAtIndex(aviaWeathCondWthItemsHandlers
-                            .getIndexOf(precipitation));
+            decodedPrecipitation = aviaWeathCondWthItemsHandlers.getValue(precipitation);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setPrecipitation: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedPrecipitation = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setPrecipitation: ", err);
@@ -302,12 +387,10 @@ public class WeatherCondition {
      */
     public void setObstruction(String obstruction) throws UtilsException {
         try {
-            decodedObstruction = aviaWeathCondWthItemsHandlers
-                    .getValueAtIndex(aviaWeathCondWthItemsHandlers
-                            .getIndexOf(obstruction));
+            decodedObstruction = aviaWeathCondWthItemsHandlers.getValue(obstruction);
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setObstruction: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             decodedObstruction = errMsg;
             LOGGER.error(errMsg);
             throw new UtilsException("setObstruction: ", err);
@@ -323,6 +406,15 @@ public class WeatherCondition {
         return decodedDescriptor;
     }
 
+    /**
+     * Get the weather condition as reported (e.g. '-SN')
+     *
+     * @return code
+     */
+    public String getCode() {
+        return code;
+    }
+
     /**
      * Get decoded intensity
      *
@@ -396,36 +488,45 @@ public class WeatherCondition {
      * @throws noakweather.utils.UtilsException
      */
     public String getNaturalLanguageString() throws UtilsException {
-        try {
-            String temp = "";
+        StringBuilder sb = new StringBuilder();
+        appendNaturalLanguage(sb);
+        return sb.toString();
+    }
 
+    /**
+     * Append the natural language of this weather condition
+     *
+     * @param sb the builder to append to
+     * @throws noakweather.utils.UtilsException
+     */
+    @Override
+    public void appendNaturalLanguage(StringBuilder sb) throws UtilsException {
+        try {
             if (decodedNoSignificantWeather != null
                     && !decodedNoSignificantWeather.isEmpty()) {
-                temp += decodedNoSignificantWeather;
-                return temp;
+                sb.append(decodedNoSignificantWeather);
+                return;
             }
 
-            temp += decodedIntensity;
+            sb.append(decodedIntensity);
             if (decodedDescriptor != null && !decodedDescriptor.isEmpty()) {
-                temp += " " + decodedDescriptor;
+                sb.append(' ').append(decodedDescriptor);
             }
 
             if (decodedPrecipitation != null && !decodedPrecipitation.isEmpty()) {
-                temp += " " + decodedPrecipitation;
+                sb.append(' ').append(decodedPrecipitation);
             }
 
             if (decodedObstruction != null && !decodedObstruction.isEmpty()) {
-                temp += " " + decodedObstruction;
+                sb.append(' ').append(decodedObstruction);
             }
 
             if (decodedInVicinity != null && !decodedInVicinity.isEmpty()) {
-                temp += " " + decodedInVicinity;
+                sb.append(' ').append(decodedInVicinity);
             }
-
-            return temp;
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "getNaturalLanguageString: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("getNaturalLanguageString: ", err);
         }
@@ -455,7 +556,7 @@ public class WeatherCondition {
             return temp;
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "getNaturalLanguageBegEndString: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("getNaturalLanguageBegEndString: ", err);
         }
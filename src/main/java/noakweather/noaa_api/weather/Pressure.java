@@ -18,7 +18,10 @@ package noakweather.noaa_api.weather;
 
 import java.util.MissingResourceException;
 import java.util.regex.Matcher;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprMatch;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsMisc;
 import org.apache.logging.log4j.LogManager;
@@ -32,18 +35,20 @@ import org.apache.logging.log4j.Logger;
 public class Pressure {
 
     private static final int ONE_HUND = 100;
-    private static final Double POINT_TWO_NINE = .02953;
-    private static final Double MINUS_ONE = -1.0;
-    private static final Double THIRTY_THREE_EIGHT = 33.8639;
+    private static final double POINT_TWO_NINE = .02953;
+    private static final double MINUS_ONE = -1.0;
+    private static final double THIRTY_THREE_EIGHT = 33.8639;
     private static final String SLASH_VALUE = "/";
     private int tendencyCode;
     private int qPressureMM;
     private int qPressureMB;
-    private Double pressure;
-    private Double seaLevelPressure;
-    private Double tendencyPressure;
+    private double pressure;
+    private double seaLevelPressure;
+    private double tendencyPressure;
     private String qPressureType;
 
+    private final Configs configs;
+
     private static final Logger LOGGER
             = LogManager.getLogger(Pressure.class.getName());
 
@@ -51,11 +56,21 @@ public class Pressure {
      * Constructor
      */
     public Pressure() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Pressure(Configs configs) {
+        this.configs = configs;
         this.tendencyCode = -1;
         this.qPressureMM = -1;
         this.qPressureMB = -1;
-        this.pressure = null;
-        this.seaLevelPressure = null;
+        this.pressure = Double.NaN;
+        this.seaLevelPressure = Double.NaN;
         this.tendencyPressure = -999.0;
         this.qPressureType = null;
     }
@@ -67,20 +82,38 @@ public class Pressure {
      * @throws noakweather.utils.UtilsException
      */
     public void setPressureItems(Matcher token) throws UtilsException {
+        setPressureItems(RegExprMatch.of(token));
+    }
+
+    /**
+     * Set the pressure information
+     *
+     * @param token
+     * @throws noakweather.utils.UtilsException
+     */
+    public void setPressureItems(RegExprMatch token) throws UtilsException {
+        String unit = token.group(RegExprConst.ALTIMETER_UNIT);
+        String press = token.group(RegExprConst.ALTIMETER_PRESS);
+        String unit2 = token.group(RegExprConst.ALTIMETER_UNIT2);
+
         try {
-            LOGGER.debug("unit: #" + token.group("unit") + "#");
-            LOGGER.debug("press: #" + token.group("press") + "#");
-            LOGGER.debug("unit2: #" + token.group("unit2") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("unit: #" + unit + "#");
+                LOGGER.debug("press: #" + press + "#");
+                LOGGER.debug("unit2: #" + unit2 + "#");
+            }
 
             // There may be cases of alphanumeric values in the pressure. If so,
             // just return
-            if (!UtilsMisc.containsOnlyNumbers(token.group("press"))) {
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_CONTNS_ALPHA_VALUES"));
+            if (!UtilsMisc.containsOnlyNumbers(press)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_CNTNS_ALPHA_VALUES));
+                }
                 return;
             }
 
             // Get the initial pressure
-            this.pressure = Double.parseDouble(token.group("press"));
+            this.pressure = Double.parseDouble(press);
 
             // Get pressure, which is reported in hundreths
             //
@@ -89,42 +122,52 @@ public class Pressure {
             //     A - altimeter in inches of mercury
             //     P P P P - tens, units, tenths and hundreths inches mercury
             //      h h h h (no decimal point coded)
-            if (token.group("unit") != null
-                    && (token.group("unit").equals(Configs.getInstance().getString("WEATHER_ALTIMETER_A"))
-                    || token.group("unit").equals(Configs.getInstance().getString("WEATHER_ALTIMETER_AA")))) {
+            if (unit != null
+                    && (unit.equals(configs.getString(ConfigKey.WEATHER_ALTIMETER_A))
+                    || unit.equals(configs.getString(ConfigKey.WEATHER_ALTIMETER_AA)))) {
                 // Correct for no decimal point
                 this.pressure = pressure / ONE_HUND;
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                        + " " + this.pressure
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HG"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                            + " " + this.pressure
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HG));
+                }
             } // Alternative pressure (HPa/mB) (HectoPascal/Millbar)
             // QPPPP - QNH
             // Format: "QPPPP" -> Q - indicator for QNH, PPPP - Pressure value.
             // Measured in hecto Pascal (HPa), 1 Hpa = 1 mB(millibar)
             // Also QNH ending in INS - in inches of mercury (QNHPPPPINS)
-            else if (token.group("unit") != null && token.group("unit")
-                    .equals(Configs.getInstance().getString("WEATHER_ALTIMETER_Q"))) {
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                        + " " + this.pressure
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HPA"));
+            else if (unit != null && unit
+                    .equals(configs.getString(ConfigKey.WEATHER_ALTIMETER_Q))) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                            + " " + this.pressure
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HPA));
+                }
                 // Convert to Hg
                 this.pressure *= POINT_TWO_NINE;
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                        + " " + this.pressure
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HG"));
-            } else if (token.group("unit") != null && token.group("unit")
-                    .equals(Configs.getInstance().getString("WEATHER_ALTIMETER_QNH"))) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                            + " " + this.pressure
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HG));
+                }
+            } else if (unit != null && unit
+                    .equals(configs.getString(ConfigKey.WEATHER_ALTIMETER_QNH))) {
                 // Correct for no decimal point
                 this.pressure = pressure / ONE_HUND;
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                        + " " + this.pressure
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HG"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                            + " " + this.pressure
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HG));
+                }
             } else {
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_UNKNOWN"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_UNKNOWN));
+                }
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setPressureItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setPressureItems: ", err);
         }
@@ -137,43 +180,55 @@ public class Pressure {
      * @throws noakweather.utils.UtilsException
      */
     public void setSLPressureItems(Matcher token) throws UtilsException {
+        String press = token.group(RegExprConst.SEALVL_PRESS_PRESS);
+
         try {
-            LOGGER.debug("press: #" + token.group("press") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("press: #" + press + "#");
+            }
 
             // Get pressure, which is reported in hundreths
-            if (token.group("press").equals(Configs.getInstance()
-                    .getString("EXTENDED_NO_SEA_LEVEL_PRESSURE"))) {
+            if (press.equals(configs
+                    .getString(ConfigKey.EXTENDED_NO_SEA_LEVEL_PRESSURE))) {
                 this.seaLevelPressure = MINUS_ONE;
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                        + " " + this.seaLevelPressure
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HPA"));
-            } else { //if (token.group("press").equals(ExtendedConstInterface.EXTENDED_SEA_LEVEL_PRESSURE)) {
-                LOGGER.debug("token: " + token.group("press").substring(0, 1));
-                if (token.group("press").substring(0, 1)
-                        .equals(Configs.getInstance().getString("MISC_VALUE_9"))) {
-                    this.seaLevelPressure = Double.parseDouble(Configs.getInstance()
-                            .getString("MISC_VALUE_9")
-                            + token.group("press").substring(0, 2) + "."
-                            + token.group("press").substring(2, 3));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                            + " " + this.seaLevelPressure
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HPA));
+                }
+            } else { //if (press.equals(ExtendedConstInterface.EXTENDED_SEA_LEVEL_PRESSURE)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("token: " + press.substring(0, 1));
+                }
+                if (press.substring(0, 1)
+                        .equals(configs.getString(ConfigKey.MISC_VALUE_9))) {
+                    this.seaLevelPressure = Double.parseDouble(configs
+                            .getString(ConfigKey.MISC_VALUE_9)
+                            + press.substring(0, 2) + "."
+                            + press.substring(2, 3));
                 } else {
-                    this.seaLevelPressure = Double.parseDouble(Configs.getInstance()
-                            .getString("MISC_VALUE_10")
-                            + token.group("press").substring(0, 2) + "."
-                            + token.group("press").substring(2, 3));
+                    this.seaLevelPressure = Double.parseDouble(configs
+                            .getString(ConfigKey.MISC_VALUE_10)
+                            + press.substring(0, 2) + "."
+                            + press.substring(2, 3));
+                }
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                            + " " + this.seaLevelPressure
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HPA));
                 }
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                        + " " + this.seaLevelPressure
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HPA"));
 
                 // Convert to Hg
                 this.seaLevelPressure *= POINT_TWO_NINE;
-                LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                        + " " + this.seaLevelPressure
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HG"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                            + " " + this.seaLevelPressure
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HG));
+                }
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSLPressureItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setSLPressureItems: ", err);
         }
@@ -186,35 +241,47 @@ public class Pressure {
      * @throws noakweather.utils.UtilsException
      */
     public void setTendencyPressureItems(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.PRESS_3HR_TYPE);
+        String tend = token.group(RegExprConst.PRESS_3HR_TEND);
+        String press = token.group(RegExprConst.PRESS_3HR_PRESS);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("tend: #" + token.group("tend") + "#");
-            LOGGER.debug("press: #" + token.group("press") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("tend: #" + tend + "#");
+                LOGGER.debug("press: #" + press + "#");
+            }
 
             // Get pressure tendency code
-            this.tendencyCode = Integer.parseInt(token.group("tend"));
-            LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_TENDENCY_CODE")
-                    + " " + this.tendencyCode);
+            this.tendencyCode = Integer.parseInt(tend);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_TENDENCY_CODE)
+                        + " " + this.tendencyCode);
+            }
 
             // Get pressure, which is reported in hundreths
-            if (!token.group("press").contains(SLASH_VALUE)) {
-                this.tendencyPressure = Double.parseDouble(token.group("press").substring(0, 2)
-                        + "." + token.group("press").substring(2, 3));
+            if (!press.contains(SLASH_VALUE)) {
+                this.tendencyPressure = Double.parseDouble(press.substring(0, 2)
+                        + "." + press.substring(2, 3));
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                        + " " + this.tendencyPressure
+                        + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HPA));
             }
-            LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                    + " " + this.tendencyPressure
-                    + " " + Configs.getInstance().getString("MSRMNT_DECODED_HPA"));
 
             // Convert to Hg
-            if (!token.group("press").contains(SLASH_VALUE)) {
+            if (!press.contains(SLASH_VALUE)) {
                 this.tendencyPressure *= POINT_TWO_NINE;
             }
-            LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE")
-                    + " " + this.tendencyPressure
-                    + " " + Configs.getInstance().getString("MSRMNT_DECODED_HG"));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE)
+                        + " " + this.tendencyPressure
+                        + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HG));
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setTendencyPressureItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setTendencyPressureItems: ", err);
         }
@@ -227,38 +294,48 @@ public class Pressure {
      * @throws noakweather.utils.UtilsException
      */
     public void setQFEQNHQNEPressureItems(Matcher token) throws UtilsException {
+        String pressq = token.group(RegExprConst.PRESS_Q_PRESSQ);
+        String pressmm = token.group(RegExprConst.PRESS_Q_PRESSMM);
+        String pressmb = token.group(RegExprConst.PRESS_Q_PRESSMB);
+
         try {
-            LOGGER.debug("pressq: #" + token.group("pressq") + "#");
-            LOGGER.debug("pressmm: #" + token.group("pressmm") + "#");
-            LOGGER.debug("pressmb: #" + token.group("pressmb") + "#");
-
-            if (token.group("pressq").equals(Configs.getInstance().getString("PRESS_QFE"))) {
-                this.qPressureType = Configs.getInstance().getString("PRESS_DECODED_FIELD_ELEVATION");
-            } else if (token.group("pressq").equals(Configs.getInstance().getString("PRESS_QNH"))) {
-                this.qPressureType = Configs.getInstance().getString("PRESS_DECODED_NORMAL_HEIGHT");
-            } else if (token.group("pressq").equals(Configs.getInstance().getString("PRESS_QNE"))) {
-                this.qPressureType = Configs.getInstance().getString("PRESS_DECODED_NORMAL_ELEVATION");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("pressq: #" + pressq + "#");
+                LOGGER.debug("pressmm: #" + pressmm + "#");
+                LOGGER.debug("pressmb: #" + pressmb + "#");
+            }
+
+            if (pressq.equals(configs.getString(ConfigKey.PRESS_QFE))) {
+                this.qPressureType = configs.getString(ConfigKey.PRESS_DECODED_FIELD_ELEVATION);
+            } else if (pressq.equals(configs.getString(ConfigKey.PRESS_QNH))) {
+                this.qPressureType = configs.getString(ConfigKey.PRESS_DECODED_NORMAL_HEIGHT);
+            } else if (pressq.equals(configs.getString(ConfigKey.PRESS_QNE))) {
+                this.qPressureType = configs.getString(ConfigKey.PRESS_DECODED_NORMAL_ELEVATION);
             } else {
 
             }
 
-            LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE_Q_TYPE")
-                    + " " + this.qPressureType);
-
-            this.qPressureMM = Integer.parseInt(token.group("pressmm"));
-            this.qPressureMB = Integer.parseInt(token.group("pressmb"));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE_Q_TYPE)
+                        + " " + this.qPressureType);
+            }
 
-            LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE_Q")
-                    + " " + Configs.getInstance().getString("LOC_TIME_DECODED_IN")
-                    + " " + Configs.getInstance().getString("MSRMNT_DECODED_MM")
-                    + ": " + this.qPressureMM);
-            LOGGER.debug(Configs.getInstance().getString("PRESS_DECODED_PRESSURE_Q")
-                    + " " + Configs.getInstance().getString("LOC_TIME_DECODED_IN")
-                    + " " + Configs.getInstance().getString("MSRMNT_DECODED_MB")
-                    + ": " + this.qPressureMB);
+            this.qPressureMM = Integer.parseInt(pressmm);
+            this.qPressureMB = Integer.parseInt(pressmb);
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE_Q)
+                        + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_IN)
+                        + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MM)
+                        + ": " + this.qPressureMM);
+                LOGGER.debug(configs.getString(ConfigKey.PRESS_DECODED_PRESSURE_Q)
+                        + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_IN)
+                        + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MB)
+                        + ": " + this.qPressureMB);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setQFEQNHQNEPressureItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setQFEQNHQNEPressureItems: ", err);
         }
@@ -289,13 +366,7 @@ public class Pressure {
      */
     public void setPressure(Double value) {
         // Round so we're consistent
-        if (value != null) {
-            double val = value;
-            val = UtilsMisc.roundValue(val, 2);
-            this.pressure = val;
-        } else {
-            this.pressure = value;
-        }
+        this.pressure = UtilsMisc.roundValue(UtilsMisc.unboxValue(value), 2);
     }
 
     /**
@@ -304,6 +375,15 @@ public class Pressure {
      * @return pressure in inches Hg
      */
     public Double getPressure() {
+        return UtilsMisc.boxValue(getPressureAsDouble());
+    }
+
+    /**
+     * Get the pressure as a primitive, NaN when it is not known
+     *
+     * @return pressure in inches Hg
+     */
+    public double getPressureAsDouble() {
         return UtilsMisc.roundValue(pressure, 2);
     }
 
@@ -313,10 +393,15 @@ public class Pressure {
      * @return pressure in hPa
      */
     public Double getPressureInHectoPascals() {
-        if (pressure == null) {
-            return null;
-        }
+        return UtilsMisc.boxValue(getPressureInHectoPascalsAsDouble());
+    }
 
+    /**
+     * Get the pressure in pascals as a primitive, NaN when it is not known
+     *
+     * @return pressure in hPa
+     */
+    public double getPressureInHectoPascalsAsDouble() {
         // Convert to hPa
         double val = pressure * THIRTY_THREE_EIGHT;
 
@@ -330,6 +415,15 @@ public class Pressure {
      * @return pressure in inches Hg
      */
     public Double getSLPressure() {
+        return UtilsMisc.boxValue(getSLPressureAsDouble());
+    }
+
+    /**
+     * Get the sea level pressure as a primitive, NaN when it is not known
+     *
+     * @return pressure in inches Hg
+     */
+    public double getSLPressureAsDouble() {
         return UtilsMisc.roundValue(seaLevelPressure, 5);
     }
 
@@ -339,10 +433,15 @@ public class Pressure {
      * @return pressure in hPa
      */
     public Double getSLPressureInHectoPascals() {
-        if (seaLevelPressure == null) {
-            return null;
-        }
+        return UtilsMisc.boxValue(getSLPressureInHectoPascalsAsDouble());
+    }
 
+    /**
+     * Get the sea level pressure in pascals as a primitive, NaN when it is not known
+     *
+     * @return pressure in hPa
+     */
+    public double getSLPressureInHectoPascalsAsDouble() {
         // Convert to hPa
         double val = seaLevelPressure * THIRTY_THREE_EIGHT;
 
@@ -356,6 +455,15 @@ public class Pressure {
      * @return pressure in inches Hg
      */
     public Double getTendencyPressure() {
+        return UtilsMisc.boxValue(getTendencyPressureAsDouble());
+    }
+
+    /**
+     * Get the pressure tendency as a primitive, NaN when it is not known
+     *
+     * @return pressure in inches Hg
+     */
+    public double getTendencyPressureAsDouble() {
         return UtilsMisc.roundValue(tendencyPressure, 5);
     }
 
@@ -365,10 +473,15 @@ public class Pressure {
      * @return pressure in hPa
      */
     public Double getTendencyPressureInHectoPascals() {
-        if (tendencyPressure == null) {
-            return null;
-        }
+        return UtilsMisc.boxValue(getTendencyPressureInHectoPascalsAsDouble());
+    }
 
+    /**
+     * Get the pressure tendency in pascals as a primitive, NaN when it is not known
+     *
+     * @return pressure in hPa
+     */
+    public double getTendencyPressureInHectoPascalsAsDouble() {
         // Convert to hPa
         double val = tendencyPressure * THIRTY_THREE_EIGHT;
 
@@ -382,6 +495,15 @@ public class Pressure {
      * @return seaLevelPressure in hPa
      */
     public Double getSeaLevelPressure() {
+        return UtilsMisc.boxValue(getSeaLevelPressureAsDouble());
+    }
+
+    /**
+     * Get the sea level pressure as a primitive, NaN when it is not known
+     *
+     * @return seaLevelPressure in hPa
+     */
+    public double getSeaLevelPressureAsDouble() {
         return UtilsMisc.roundValue(seaLevelPressure, 5);
     }
 
@@ -18,7 +18,10 @@ package noakweather.noaa_api.weather;
 
 import java.util.MissingResourceException;
 import java.util.regex.Matcher;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprMatch;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsMisc;
 import org.apache.logging.log4j.LogManager;
@@ -39,17 +42,19 @@ public class Temperature {
     private static final int PLUS_NINE = 9;
     private static final int PLUS_TEN = 10;
     private static final int PLUS_THIRTY_TWO = 32;
-    private static final Double ZERO_FLOAT = 0.0;
-    private Double temperature;
-    private Double dewPoint;
-    private Double hourlyTemperature;
-    private Double hourlyDewPoint;
-    private Double SixHourMaximumTemperature;
-    private Double SixHourMinimumTemperature;
-    private Double TwentyFourHourMaximumTemperature;
-    private Double TwentyFourHourMinimumTemperature;
-    private Double MaximumTemperature;
-    private Double MinimumTemperature;
+    private static final double ZERO_FLOAT = 0.0;
+    private double temperature;
+    private double dewPoint;
+    private double hourlyTemperature;
+    private double hourlyDewPoint;
+    private double SixHourMaximumTemperature;
+    private double SixHourMinimumTemperature;
+    private double TwentyFourHourMaximumTemperature;
+    private double TwentyFourHourMinimumTemperature;
+    private double MaximumTemperature;
+    private double MinimumTemperature;
+
+    private final Configs configs;
 
     private static final Logger LOGGER
             = LogManager.getLogger(Temperature.class.getName());
@@ -58,16 +63,26 @@ public class Temperature {
      * Constructor
      */
     public Temperature() {
-        this.temperature = null;
-        this.dewPoint = null;
-        this.hourlyTemperature = null;
-        this.hourlyDewPoint = null;
-        this.SixHourMaximumTemperature = null;
-        this.SixHourMinimumTemperature = null;
-        this.TwentyFourHourMaximumTemperature = null;
-        this.TwentyFourHourMinimumTemperature = null;
-        this.MaximumTemperature = null;
-        this.MinimumTemperature = null;
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Temperature(Configs configs) {
+        this.configs = configs;
+        this.temperature = Double.NaN;
+        this.dewPoint = Double.NaN;
+        this.hourlyTemperature = Double.NaN;
+        this.hourlyDewPoint = Double.NaN;
+        this.SixHourMaximumTemperature = Double.NaN;
+        this.SixHourMinimumTemperature = Double.NaN;
+        this.TwentyFourHourMaximumTemperature = Double.NaN;
+        this.TwentyFourHourMinimumTemperature = Double.NaN;
+        this.MaximumTemperature = Double.NaN;
+        this.MinimumTemperature = Double.NaN;
     }
 
     /**
@@ -77,46 +92,67 @@ public class Temperature {
      * @throws noakweather.utils.UtilsException
      */
     public void setTemperatureItems(Matcher token) throws UtilsException {
+        setTemperatureItems(RegExprMatch.of(token));
+    }
+
+    /**
+     * Set the temperature information
+     *
+     * @param token
+     * @throws noakweather.utils.UtilsException
+     */
+    public void setTemperatureItems(RegExprMatch token) throws UtilsException {
+        String signt = token.group(RegExprConst.TEMP_DEWPOINT_SIGNT);
+        String temp = token.group(RegExprConst.TEMP_DEWPOINT_TEMP);
+        String signd = token.group(RegExprConst.TEMP_DEWPOINT_SIGND);
+        String dewpt = token.group(RegExprConst.TEMP_DEWPOINT_DEWPT);
+
         try {
-            LOGGER.debug("signt: #" + token.group("signt") + "#");
-            LOGGER.debug("temp: #" + token.group("temp") + "#");
-            LOGGER.debug("signd: #" + token.group("signd") + "#");
-            LOGGER.debug("dewpt: #" + token.group("dewpt") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("signt: #" + signt + "#");
+                LOGGER.debug("temp: #" + temp + "#");
+                LOGGER.debug("signd: #" + signd + "#");
+                LOGGER.debug("dewpt: #" + dewpt + "#");
+            }
 
             // Temperature is missing from report
-            if (token.group("temp") == null) {
-                this.temperature = null;
+            if (temp == null) {
+                this.temperature = Double.NaN;
             } else {
-                this.temperature = Double.parseDouble(token.group("temp"));
+                this.temperature = Double.parseDouble(temp);
             }
 
             //this.temperature != 0.0) {
-            if (token.group("signt") != null && token.group("signt").equals("M")
+            if (signt != null && signt.equals("M")
                     && Double.compare(this.temperature, ZERO_FLOAT) != 0) {
                 this.temperature *= MINUS_ONE; // negate
             }
 
-            LOGGER.debug(Configs.getInstance().getString("TEMP_DECODED_TEMPERATURE")
-                    + " " + this.temperature);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.TEMP_DECODED_TEMPERATURE)
+                        + " " + this.temperature);
+            }
 
             // DewPoint is missing from report
-            if (token.group("dewpt") == null) {
-                this.dewPoint = null;
+            if (dewpt == null) {
+                this.dewPoint = Double.NaN;
             } else {
-                this.dewPoint = Double.parseDouble(token.group("dewpt"));
+                this.dewPoint = Double.parseDouble(dewpt);
             }
 
             //this.dewPoint != 0.0)
-            if (token.group("signd") != null && token.group("signd").equals("M")
+            if (signd != null && signd.equals("M")
                     && Double.compare(this.dewPoint, ZERO_FLOAT) != 0) {
                 this.dewPoint *= MINUS_ONE; // negate
             }
 
-            LOGGER.debug(Configs.getInstance().getString("TEMP_DECODED_DEWPT")
-                    + " " + this.dewPoint);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.TEMP_DECODED_DEWPT)
+                        + " " + this.dewPoint);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setTemperatureItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setTemperatureItems: ", err);
         }
@@ -129,33 +165,43 @@ public class Temperature {
      * @throws noakweather.utils.UtilsException
      */
     public void setHourlyTemperatureItems(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.TEMP_1HR_TYPE);
+        String tsign = token.group(RegExprConst.TEMP_1HR_TSIGN);
+        String temp = token.group(RegExprConst.TEMP_1HR_TEMP);
+        String dsign = token.group(RegExprConst.TEMP_1HR_DSIGN);
+        String dewpt = token.group(RegExprConst.TEMP_1HR_DEWPT);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("tsign: #" + token.group("tsign") + "#");
-            LOGGER.debug("temp: #" + token.group("temp") + "#");
-            LOGGER.debug("dsign: #" + token.group("dsign") + "#");
-            LOGGER.debug("dewpt: #" + token.group("dewpt") + "#");
-
-            if (Integer.parseInt(token.group("tsign")) == PLUS_ONE) {
-                hourlyTemperature = Double.parseDouble(token.group("temp")) / MINUS_TEN;
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("tsign: #" + tsign + "#");
+                LOGGER.debug("temp: #" + temp + "#");
+                LOGGER.debug("dsign: #" + dsign + "#");
+                LOGGER.debug("dewpt: #" + dewpt + "#");
+            }
+
+            if (Integer.parseInt(tsign) == PLUS_ONE) {
+                hourlyTemperature = Double.parseDouble(temp) / MINUS_TEN;
             } else {
-                hourlyTemperature = Double.parseDouble(token.group("temp")) / PLUS_TEN;
+                hourlyTemperature = Double.parseDouble(temp) / PLUS_TEN;
             }
-            if (token.group("dsign") != null && token.group("dewpt") != null) {
-                if (Integer.parseInt(token.group("dsign")) == PLUS_ONE) {
-                    hourlyDewPoint = Double.parseDouble(token.group("dewpt")) / MINUS_TEN;
+            if (dsign != null && dewpt != null) {
+                if (Integer.parseInt(dsign) == PLUS_ONE) {
+                    hourlyDewPoint = Double.parseDouble(dewpt) / MINUS_TEN;
                 } else {
-                    hourlyDewPoint = Double.parseDouble(token.group("dewpt")) / PLUS_TEN;
+                    hourlyDewPoint = Double.parseDouble(dewpt) / PLUS_TEN;
                 }
             }
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_HOURLY_TEMP")
-                    + " " + hourlyTemperature);
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_HOURLY_DEWPT")
-                    + " " + hourlyDewPoint);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_HOURLY_TEMP)
+                        + " " + hourlyTemperature);
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_HOURLY_DEWPT)
+                        + " " + hourlyDewPoint);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setHourlyTemperatureItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setHourlyTemperatureItems: ", err);
         }
@@ -168,35 +214,45 @@ public class Temperature {
      * @throws noakweather.utils.UtilsException
      */
     public void setSixHourMaxMinTemperature(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.TEMP_6HR_MAX_MIN_TYPE);
+        String sign = token.group(RegExprConst.TEMP_6HR_MAX_MIN_SIGN);
+        String temp = token.group(RegExprConst.TEMP_6HR_MAX_MIN_TEMP);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("sign: #" + token.group("sign") + "#");
-            LOGGER.debug("temp: #" + token.group("temp") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("sign: #" + sign + "#");
+                LOGGER.debug("temp: #" + temp + "#");
+            }
 
-            switch (Integer.parseInt(token.group("type"))) {
+            switch (Integer.parseInt(type)) {
                 case PLUS_ONE:
-                    if (Integer.parseInt(token.group("sign")) == PLUS_ONE) {
+                    if (Integer.parseInt(sign) == PLUS_ONE) {
                         SixHourMaximumTemperature
-                                = Double.parseDouble(token.group("temp")) / MINUS_TEN;
+                                = Double.parseDouble(temp) / MINUS_TEN;
                     } else {
                         SixHourMaximumTemperature
-                                = Double.parseDouble(token.group("temp")) / PLUS_TEN;
+                                = Double.parseDouble(temp) / PLUS_TEN;
+                    }
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs
+                                .getString(ConfigKey.EXTENDED_DECODED_6_HOUR_MAX_TEMP)
+                                + " " + SixHourMaximumTemperature);
                     }
-                    LOGGER.debug(Configs.getInstance()
-                            .getString("EXTENDED_DECODED_6_HOUR_MAX_TEMP")
-                            + " " + SixHourMaximumTemperature);
                     break;
                 case PLUS_TWO:
-                    if (Integer.parseInt(token.group("sign")) == PLUS_ONE) {
+                    if (Integer.parseInt(sign) == PLUS_ONE) {
                         SixHourMinimumTemperature
-                                = Double.parseDouble(token.group("temp")) / MINUS_TEN;
+                                = Double.parseDouble(temp) / MINUS_TEN;
                     } else {
                         SixHourMinimumTemperature
-                                = Double.parseDouble(token.group("temp")) / PLUS_TEN;
+                                = Double.parseDouble(temp) / PLUS_TEN;
+                    }
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs
+                                .getString(ConfigKey.EXTENDED_DECODED_6_HOUR_MIN_TEMP)
+                                + " " + SixHourMinimumTemperature);
                     }
-                    LOGGER.debug(Configs.getInstance()
-                            .getString("EXTENDED_DECODED_6_HOUR_MIN_TEMP")
-                            + " " + SixHourMinimumTemperature);
                     break;
                 //Should not happen
                 default:
@@ -204,7 +260,7 @@ public class Temperature {
             }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setSixHourMaxMinTemperature: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setSixHourMaxMinTemperature: ", err);
         }
@@ -217,35 +273,45 @@ public class Temperature {
      * @throws noakweather.utils.UtilsException
      */
     public void setTwentyFourHourMaxMinTemperature(Matcher token) throws UtilsException {
+        String type = token.group(RegExprConst.TEMP_24HR_TYPE);
+        String maxsign = token.group(RegExprConst.TEMP_24HR_MAXSIGN);
+        String maxtemp = token.group(RegExprConst.TEMP_24HR_MAXTEMP);
+        String minsign = token.group(RegExprConst.TEMP_24HR_MINSIGN);
+        String mintemp = token.group(RegExprConst.TEMP_24HR_MINTEMP);
+
         try {
-            LOGGER.debug("type: #" + token.group("type") + "#");
-            LOGGER.debug("maxsign: #" + token.group("maxsign") + "#");
-            LOGGER.debug("maxtemp: #" + token.group("maxtemp") + "#");
-            LOGGER.debug("minsign: #" + token.group("minsign") + "#");
-            LOGGER.debug("mintemp: #" + token.group("mintemp") + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("type: #" + type + "#");
+                LOGGER.debug("maxsign: #" + maxsign + "#");
+                LOGGER.debug("maxtemp: #" + maxtemp + "#");
+                LOGGER.debug("minsign: #" + minsign + "#");
+                LOGGER.debug("mintemp: #" + mintemp + "#");
+            }
 
-            if (Integer.parseInt(token.group("maxsign")) == PLUS_ONE) {
+            if (Integer.parseInt(maxsign) == PLUS_ONE) {
                 TwentyFourHourMaximumTemperature
-                        = Double.parseDouble(token.group("maxtemp")) / MINUS_TEN;
+                        = Double.parseDouble(maxtemp) / MINUS_TEN;
             } else {
                 TwentyFourHourMaximumTemperature
-                        = Double.parseDouble(token.group("maxtemp")) / PLUS_TEN;
+                        = Double.parseDouble(maxtemp) / PLUS_TEN;
             }
-            if (Integer.parseInt(token.group("minsign")) == PLUS_ONE) {
+            if (Integer.parseInt(minsign) == PLUS_ONE) {
                 TwentyFourHourMinimumTemperature
-                        = Double.parseDouble(token.group("mintemp")) / MINUS_TEN;
+                        = Double.parseDouble(mintemp) / MINUS_TEN;
             } else {
                 TwentyFourHourMinimumTemperature
-                        = Double.parseDouble(token.group("mintemp")) / PLUS_TEN;
+                        = Double.parseDouble(mintemp) / PLUS_TEN;
             }
 
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_24_HOUR_MAX_TEMP")
-                    + " " + TwentyFourHourMaximumTemperature);
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_24_HOUR_MIN_TEMP")
-                    + " " + TwentyFourHourMinimumTemperature);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_24_HOUR_MAX_TEMP)
+                        + " " + TwentyFourHourMaximumTemperature);
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_24_HOUR_MIN_TEMP)
+                        + " " + TwentyFourHourMinimumTemperature);
+            }
         } catch (IllegalArgumentException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setTwentyFourHourMaxMinTemperature: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setTwentyFourHourMaxMinTemperature: ", err);
         }
@@ -257,6 +323,15 @@ public class Temperature {
      * @return temperature
      */
     public Double getTemperature() {
+        return UtilsMisc.boxValue(getTemperatureAsDouble());
+    }
+
+    /**
+     * Get temperature as a primitive, NaN when it is not known
+     *
+     * @return temperature
+     */
+    public double getTemperatureAsDouble() {
         return temperature;
     }
 
@@ -266,7 +341,7 @@ public class Temperature {
      * @param temperature
      */
     public void setTemperature(Double temperature) {
-        this.temperature = temperature;
+        this.temperature = UtilsMisc.unboxValue(temperature);
     }
 
     /**
@@ -275,6 +350,15 @@ public class Temperature {
      * @return dewPoint
      */
     public Double getDewpoint() {
+        return UtilsMisc.boxValue(getDewpointAsDouble());
+    }
+
+    /**
+     * Get dew point as a primitive, NaN when it is not known
+     *
+     * @return dewPoint
+     */
+    public double getDewpointAsDouble() {
         return dewPoint;
     }
 
@@ -284,7 +368,7 @@ public class Temperature {
      * @param dewpoint
      */
     public void setDewpoint(Double dewpoint) {
-        this.dewPoint = dewpoint;
+        this.dewPoint = UtilsMisc.unboxValue(dewpoint);
     }
 
     /**
@@ -293,6 +377,15 @@ public class Temperature {
      * @return hourly temperature
      */
     public Double getHourlyTemperature() {
+        return UtilsMisc.boxValue(getHourlyTemperatureAsDouble());
+    }
+
+    /**
+     * Get hourly temperature as a primitive, NaN when it is not known
+     *
+     * @return hourly temperature
+     */
+    public double getHourlyTemperatureAsDouble() {
         return hourlyTemperature;
     }
 
@@ -302,7 +395,7 @@ public class Temperature {
      * @param hourlyTemperature
      */
     public void setHourlyTemperature(Double hourlyTemperature) {
-        this.hourlyTemperature = hourlyTemperature;
+        this.hourlyTemperature = UtilsMisc.unboxValue(hourlyTemperature);
     }
 
     /**
@@ -311,6 +404,15 @@ public class Temperature {
      * @return hourly dewPoint
      */
     public Double getHourlyDewPoint() {
+        return UtilsMisc.boxValue(getHourlyDewPointAsDouble());
+    }
+
+    /**
+     * Get hourly dew point as a primitive, NaN when it is not known
+     *
+     * @return hourly dewPoint
+     */
+    public double getHourlyDewPointAsDouble() {
         return hourlyDewPoint;
     }
 
@@ -320,7 +422,7 @@ public class Temperature {
      * @param hourlyDewPoint
      */
     public void setHourlyDewPoint(Double hourlyDewPoint) {
-        this.hourlyDewPoint = hourlyDewPoint;
+        this.hourlyDewPoint = UtilsMisc.unboxValue(hourlyDewPoint);
     }
 
     /**
@@ -329,6 +431,15 @@ public class Temperature {
      * @return six hourly maximum temperature
      */
     public Double getSixHourMaximumTemperature() {
+        return UtilsMisc.boxValue(getSixHourMaximumTemperatureAsDouble());
+    }
+
+    /**
+     * Get six hour maximum temperature as a primitive, NaN when it is not known
+     *
+     * @return six hourly maximum temperature
+     */
+    public double getSixHourMaximumTemperatureAsDouble() {
         return SixHourMaximumTemperature;
     }
 
@@ -338,7 +449,7 @@ public class Temperature {
      * @param SixHourMaximumTemperature temperature
      */
     public void setSixHourMaximumTemperature(Double SixHourMaximumTemperature) {
-        this.SixHourMaximumTemperature = SixHourMaximumTemperature;
+        this.SixHourMaximumTemperature = UtilsMisc.unboxValue(SixHourMaximumTemperature);
     }
 
     /**
@@ -347,6 +458,15 @@ public class Temperature {
      * @return twenty four hour maximum temperature
      */
     public Double getTwentyFourHourMaximumTemperature() {
+        return UtilsMisc.boxValue(getTwentyFourHourMaximumTemperatureAsDouble());
+    }
+
+    /**
+     * Get twenty four hour maximum temperature as a primitive, NaN when it is not known
+     *
+     * @return twenty four hour maximum temperature
+     */
+    public double getTwentyFourHourMaximumTemperatureAsDouble() {
         return TwentyFourHourMaximumTemperature;
     }
 
@@ -356,6 +476,15 @@ public class Temperature {
      * @return twenty four hour minimum temperature
      */
     public Double getTwentyFourHourMinimumTemperature() {
+        return UtilsMisc.boxValue(getTwentyFourHourMinimumTemperatureAsDouble());
+    }
+
+    /**
+     * Get twenty four hour minimum temperature as a primitive, NaN when it is not known
+     *
+     * @return twenty four hour minimum temperature
+     */
+    public double getTwentyFourHourMinimumTemperatureAsDouble() {
         return TwentyFourHourMinimumTemperature;
     }
 
@@ -365,6 +494,15 @@ public class Temperature {
      * @return maximum temperature
      */
     public Double getMaximumTemperature() {
+        return UtilsMisc.boxValue(getMaximumTemperatureAsDouble());
+    }
+
+    /**
+     * Get maximum temperature as a primitive, NaN when it is not known
+     *
+     * @return maximum temperature
+     */
+    public double getMaximumTemperatureAsDouble() {
         return MaximumTemperature;
     }
 
@@ -374,7 +512,7 @@ public class Temperature {
      * @param MaximumTemperature temperature
      */
     public void setMaximumTemperature(Double MaximumTemperature) {
-        this.MaximumTemperature = MaximumTemperature;
+        this.MaximumTemperature = UtilsMisc.unboxValue(MaximumTemperature);
     }
 
     /**
@@ -383,6 +521,15 @@ public class Temperature {
      * @return minimum temperature
      */
     public Double getMinimumTemperature() {
+        return UtilsMisc.boxValue(getMinimumTemperatureAsDouble());
+    }
+
+    /**
+     * Get minimum temperature as a primitive, NaN when it is not known
+     *
+     * @return minimum temperature
+     */
+    public double getMinimumTemperatureAsDouble() {
         return MinimumTemperature;
     }
 
@@ -392,7 +539,7 @@ public class Temperature {
      * @param MinimumTemperature temperature
      */
     public void setMinimumTemperature(Double MinimumTemperature) {
-        this.MinimumTemperature = MinimumTemperature;
+        this.MinimumTemperature = UtilsMisc.unboxValue(MinimumTemperature);
     }
 
     /**
@@ -401,6 +548,15 @@ public class Temperature {
      * @return temperature in celsius
      */
     public Double getTemperatureInCelsius() {
+        return UtilsMisc.boxValue(getTemperatureInCelsiusAsDouble());
+    }
+
+    /**
+     * Get temperature in celsius as a primitive, NaN when it is not known
+     *
+     * @return temperature in celsius
+     */
+    public double getTemperatureInCelsiusAsDouble() {
         return this.temperature;
     }
 
@@ -410,8 +566,17 @@ public class Temperature {
      * @return temperature in fahrenheit
      */
     public Double getTemperatureInFahrenheit() {
-        if (this.temperature == null) {
-            return null;
+        return UtilsMisc.boxValue(getTemperatureInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get temperature in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return temperature in fahrenheit
+     */
+    public double getTemperatureInFahrenheitAsDouble() {
+        if (Double.isNaN(this.temperature)) {
+            return Double.NaN;
         }
 
         // Round
@@ -426,6 +591,15 @@ public class Temperature {
      * @return temperature in celsius
      */
     public Double getHourlyTemperatureInCelsius() {
+        return UtilsMisc.boxValue(getHourlyTemperatureInCelsiusAsDouble());
+    }
+
+    /**
+     * Get hourly temperature in celsius as a primitive, NaN when it is not known
+     *
+     * @return temperature in celsius
+     */
+    public double getHourlyTemperatureInCelsiusAsDouble() {
         return this.hourlyTemperature;
     }
 
@@ -435,8 +609,17 @@ public class Temperature {
      * @return temperature in fahrenheit
      */
     public Double getHourlyTemperatureInFahrenheit() {
-        if (this.hourlyTemperature == null) {
-            return null;
+        return UtilsMisc.boxValue(getHourlyTemperatureInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get hourly temperature in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return temperature in fahrenheit
+     */
+    public double getHourlyTemperatureInFahrenheitAsDouble() {
+        if (Double.isNaN(this.hourlyTemperature)) {
+            return Double.NaN;
         }
 
         // Round
@@ -451,6 +634,15 @@ public class Temperature {
      * @return dew point in celsius
      */
     public Double getDewPointInCelsius() {
+        return UtilsMisc.boxValue(getDewPointInCelsiusAsDouble());
+    }
+
+    /**
+     * Get dew point in celsius as a primitive, NaN when it is not known
+     *
+     * @return dew point in celsius
+     */
+    public double getDewPointInCelsiusAsDouble() {
         return this.dewPoint;
     }
 
@@ -460,8 +652,17 @@ public class Temperature {
      * @return dew point in fahrenheit
      */
     public Double getDewPointInFahrenheit() {
-        if (this.dewPoint == null) {
-            return null;
+        return UtilsMisc.boxValue(getDewPointInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get dew point in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return dew point in fahrenheit
+     */
+    public double getDewPointInFahrenheitAsDouble() {
+        if (Double.isNaN(this.dewPoint)) {
+            return Double.NaN;
         }
 
         // Round
@@ -476,6 +677,15 @@ public class Temperature {
      * @return dew point in celsius
      */
     public Double getHourlyDewPointInCelsius() {
+        return UtilsMisc.boxValue(getHourlyDewPointInCelsiusAsDouble());
+    }
+
+    /**
+     * Get hourly dew point in celsius as a primitive, NaN when it is not known
+     *
+     * @return dew point in celsius
+     */
+    public double getHourlyDewPointInCelsiusAsDouble() {
         return this.hourlyDewPoint;
     }
 
@@ -485,8 +695,17 @@ public class Temperature {
      * @return dew point in fahrenheit
      */
     public Double getHourlyDewPointInFahrenheit() {
-        if (this.hourlyDewPoint == null) {
-            return null;
+        return UtilsMisc.boxValue(getHourlyDewPointInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get hourly dew point in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return dew point in fahrenheit
+     */
+    public double getHourlyDewPointInFahrenheitAsDouble() {
+        if (Double.isNaN(this.hourlyDewPoint)) {
+            return Double.NaN;
         }
 
         // Round
@@ -501,6 +720,15 @@ public class Temperature {
      * @return dew point in celsius
      */
     public Double getSixHourlyMaximumTemperatureInCelsius() {
+        return UtilsMisc.boxValue(getSixHourlyMaximumTemperatureInCelsiusAsDouble());
+    }
+
+    /**
+     * Get six hourly maximum temperature in celsius as a primitive, NaN when it is not known
+     *
+     * @return dew point in celsius
+     */
+    public double getSixHourlyMaximumTemperatureInCelsiusAsDouble() {
         return this.SixHourMaximumTemperature;
     }
 
@@ -510,8 +738,17 @@ public class Temperature {
      * @return dew point in fahrenheit
      */
     public Double getSixHourlyMaximumTemperatureInFahrenheit() {
-        if (this.SixHourMaximumTemperature == null) {
-            return null;
+        return UtilsMisc.boxValue(getSixHourlyMaximumTemperatureInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get six hourly maximum temperature in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return dew point in fahrenheit
+     */
+    public double getSixHourlyMaximumTemperatureInFahrenheitAsDouble() {
+        if (Double.isNaN(this.SixHourMaximumTemperature)) {
+            return Double.NaN;
         }
 
         // Round
@@ -526,6 +763,15 @@ public class Temperature {
      * @return dew point in celsius
      */
     public Double getSixHourlyMinimumTemperatureInCelsius() {
+        return UtilsMisc.boxValue(getSixHourlyMinimumTemperatureInCelsiusAsDouble());
+    }
+
+    /**
+     * Get six hourly minimum temperature in celsius as a primitive, NaN when it is not known
+     *
+     * @return dew point in celsius
+     */
+    public double getSixHourlyMinimumTemperatureInCelsiusAsDouble() {
         return this.SixHourMinimumTemperature;
     }
 
@@ -535,8 +781,17 @@ public class Temperature {
      * @return dew point in fahrenheit
      */
     public Double getSixHourlyMinimumTemperatureInFahrenheit() {
-        if (this.SixHourMinimumTemperature == null) {
-            return null;
+        return UtilsMisc.boxValue(getSixHourlyMinimumTemperatureInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get six hourly minimum temperature in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return dew point in fahrenheit
+     */
+    public double getSixHourlyMinimumTemperatureInFahrenheitAsDouble() {
+        if (Double.isNaN(this.SixHourMinimumTemperature)) {
+            return Double.NaN;
         }
 
         // Round
@@ -551,6 +806,15 @@ public class Temperature {
      * @return twenty four hour maximum temperature in celcius
      */
     public Double getTwentyFourHourMaximumTemperatureInCelsius() {
+        return UtilsMisc.boxValue(getTwentyFourHourMaximumTemperatureInCelsiusAsDouble());
+    }
+
+    /**
+     * Get twenty four hour maximum temperature in celsius as a primitive, NaN when it is not known
+     *
+     * @return twenty four hour maximum temperature in celcius
+     */
+    public double getTwentyFourHourMaximumTemperatureInCelsiusAsDouble() {
         return TwentyFourHourMaximumTemperature;
     }
 
@@ -560,8 +824,17 @@ public class Temperature {
      * @return twenty four hour maximum temperature in fahrenheit
      */
     public Double getTwentyFourHourMaximumTemperatureInFahrenheit() {
-        if (this.TwentyFourHourMaximumTemperature == null) {
-            return null;
+        return UtilsMisc.boxValue(getTwentyFourHourMaximumTemperatureInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get twenty four hour maximum temperature in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return twenty four hour maximum temperature in fahrenheit
+     */
+    public double getTwentyFourHourMaximumTemperatureInFahrenheitAsDouble() {
+        if (Double.isNaN(this.TwentyFourHourMaximumTemperature)) {
+            return Double.NaN;
         }
 
         // Round
@@ -576,6 +849,15 @@ public class Temperature {
      * @return twenty four hour minimum temperature in celcius
      */
     public Double getTwentyFourHourMinimumTemperatureInCelsius() {
+        return UtilsMisc.boxValue(getTwentyFourHourMinimumTemperatureInCelsiusAsDouble());
+    }
+
+    /**
+     * Get twenty four hour minimum temperature in celsius as a primitive, NaN when it is not known
+     *
+     * @return twenty four hour minimum temperature in celcius
+     */
+    public double getTwentyFourHourMinimumTemperatureInCelsiusAsDouble() {
         return TwentyFourHourMinimumTemperature;
     }
 
@@ -585,8 +867,17 @@ public class Temperature {
      * @return twenty four hour minimum temperature in fahrenheit
      */
     public Double getTwentyFourHourMinimumTemperatureInFahrenheit() {
-        if (this.TwentyFourHourMinimumTemperature == null) {
-            return null;
+        return UtilsMisc.boxValue(getTwentyFourHourMinimumTemperatureInFahrenheitAsDouble());
+    }
+
+    /**
+     * Get twenty four hour minimum temperature in fahrenheit as a primitive, NaN when it is not known
+     *
+     * @return twenty four hour minimum temperature in fahrenheit
+     */
+    public double getTwentyFourHourMinimumTemperatureInFahrenheitAsDouble() {
+        if (Double.isNaN(this.TwentyFourHourMinimumTemperature)) {
+            return Double.NaN;
         }
 
         // Round
@@ -601,6 +892,15 @@ public class Temperature {
      * @return Six Hour Minimum Temperature in fahrenheit
      */
     public Double getSixHourMinimumTemperature() {
+        return UtilsMisc.boxValue(getSixHourMinimumTemperatureAsDouble());
+    }
+
+    /**
+     * Get six hour minimum temperature as a primitive, NaN when it is not known
+     *
+     * @return Six Hour Minimum Temperature in fahrenheit
+     */
+    public double getSixHourMinimumTemperatureAsDouble() {
         return SixHourMinimumTemperature;
     }
 
@@ -610,6 +910,6 @@ public class Temperature {
      * @param SixHourMinimumTemperature
      */
     public void setSixHourMinimumTemperature(Double SixHourMinimumTemperature) {
-        this.SixHourMinimumTemperature = SixHourMinimumTemperature;
+        this.SixHourMinimumTemperature = UtilsMisc.unboxValue(SixHourMinimumTemperature);
     }
 }
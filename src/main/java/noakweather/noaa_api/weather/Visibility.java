@@ -18,7 +18,10 @@ package noakweather.noaa_api.weather;
 
 import java.util.MissingResourceException;
 import java.util.regex.Matcher;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprMatch;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsMisc;
 import org.apache.logging.log4j.LogManager;
@@ -31,7 +34,7 @@ import org.apache.logging.log4j.Logger;
  */
 public class Visibility {
 
-    private Integer visVarPrevailRunway;
+    private int visVarPrevailRunway;
     private boolean isCavok;
     private boolean isNDV;
     private boolean isVisibilityNotKnown;
@@ -40,21 +43,34 @@ public class Visibility {
     private boolean visibilityLessThan;
     private boolean visibilityGreaterThan;
     private boolean visibilitySplitFraction;
-    private Double visVarPrevailOne;
-    private Double visVarPrevailTwo;
-    private Double visibilityMiles;
-    private Double visibilityKilometers;
-    private Double visibilityMeters;
-    private Double visibilityTowSurMiles;
-    private Double visibilityTowSurKilometers;
+    private boolean visibilityStatuteMiles;
+    private double visVarPrevailOne;
+    private double visVarPrevailTwo;
+    private double visibilityMiles;
+    private double visibilityKilometers;
+    private double visibilityMeters;
+    private double visibilityTowSurMiles;
+    private double visibilityTowSurKilometers;
     private String visibilityNDV;
     private String visibilityTowSur;
     private String visVarPrevailDir;
 
+    private final Configs configs;
+
     private static final Logger LOGGER
             = LogManager.getLogger(Visibility.class.getName());
 
     public Visibility() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Visibility(Configs configs) {
+        this.configs = configs;
         this.visVarPrevailRunway = 0;
         this.isCavok = false;
         this.isNDV = false;
@@ -64,6 +80,7 @@ public class Visibility {
         this.visibilityLessThan = false;
         this.visibilityGreaterThan = false;
         this.visibilitySplitFraction = false;
+        this.visibilityStatuteMiles = false;
         this.visVarPrevailOne = 0.0;
         this.visVarPrevailTwo = 0.0;
         this.visibilityMiles = 0.0;
@@ -83,16 +100,36 @@ public class Visibility {
      * @throws noakweather.utils.UtilsException
      */
     public void setVisibilityItems(Matcher token) throws UtilsException {
-        LOGGER.debug("vis: #" + token.group("vis") + "#");
-        LOGGER.debug("dist: #" + token.group("dist") + "#");
-        LOGGER.debug("dir: #" + token.group("dir") + "#");
-        LOGGER.debug("distu: #" + token.group("distu") + "#");
-        LOGGER.debug("units: #" + token.group("units") + "#");
+        setVisibilityItems(RegExprMatch.of(token));
+    }
+
+    /**
+     * Set the visibility information
+     *
+     * @param token
+     * @throws noakweather.utils.UtilsException
+     */
+    public void setVisibilityItems(RegExprMatch token) throws UtilsException {
+        String vis = token.group(RegExprConst.VISIBILITY_VIS);
+        String dist = token.group(RegExprConst.VISIBILITY_DIST);
+        String dir = token.group(RegExprConst.VISIBILITY_DIR);
+        String distu = token.group(RegExprConst.VISIBILITY_DISTU);
+        String units = token.group(RegExprConst.VISIBILITY_UNITS);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("vis: #" + vis + "#");
+            LOGGER.debug("dist: #" + dist + "#");
+            LOGGER.debug("dir: #" + dir + "#");
+            LOGGER.debug("distu: #" + distu + "#");
+            LOGGER.debug("units: #" + units + "#");
+        }
 
         try {
-            LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY"));
-            if (token.group("vis").
-                    equals(Configs.getInstance().getString("WEATHER_CAVOK"))) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY));
+            }
+            if (vis.
+                    equals(configs.getString(ConfigKey.WEATHER_CAVOK))) {
                 // CAVOK
                 //
                 // Visibility greater than 10Km, no cloud below 5000 ft or
@@ -101,111 +138,138 @@ public class Visibility {
                 // (Cumulonimbus) or
                 // over development and no significant weather.
                 this.isCavok = true;
-                LOGGER.debug(Configs.getInstance().getString("WEATHER_CAVOK")
-                        + " " + Configs.getInstance().getString("LOC_TIME_DECODED_LOCTED"));
-            } else if (token.group("vis").equals(Configs.getInstance()
-                    .getString("WEATHER_NO_DIRECTIONAL_VARIATION"))) {
-                this.visibilityNDV = Configs.getInstance()
-                        .getString("WEATHER_DECODED_NO_DIRECTIONAL_VARIATION");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WEATHER_CAVOK)
+                            + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_LOCTED));
+                }
+            } else if (vis.equals(configs
+                    .getString(ConfigKey.WEATHER_NO_DIRECTIONAL_VARIATION))) {
+                this.visibilityNDV = configs
+                        .getString(ConfigKey.WEATHER_DECODED_NO_DIRECTIONAL_VARIATION);
                 this.isNDV = true;
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + ": " + this.visibilityNDV);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + ": " + this.visibilityNDV);
+                }
             } else if (UtilsMisc.removeNonNumeric(
-                    token.group("vis")).isEmpty()) {
+                    vis).isEmpty()) {
                 // Non numeric value but not CAVOK, NDV nor P6SM
                 this.isVisibilityNotKnown = true;
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_NON_NUMERIC"));
-            } else if (token.group("units") != null && !token.group("units").equals("")) {
-                Double visibility = null;
-
-                if (token.group("distu").startsWith("M")) {
-                    LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                            + " " + Configs.getInstance().getString("LOC_TIME_DECODED_LESS_THAN"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_NON_NUMERIC));
+                }
+            } else if (units != null && !units.equals("")) {
+                double visibility = Double.NaN;
+
+                if (distu.startsWith("M")) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                                + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_LESS_THAN));
+                    }
                     this.visibilityLessThan = true;
-                    visibility = getVisibilityFromSource(token.group("distu")
-                            .substring(1, token.group("distu").length()));
-                } else if (token.group("distu").startsWith("P")) {
-                    LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                            + " " + Configs.getInstance().getString("LOC_TIME_DECODED_GREATER_THAN"));
+                    visibility = getVisibilityFromSource(distu
+                            .substring(1, distu.length()));
+                } else if (distu.startsWith("P")) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                                + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_GREATER_THAN));
+                    }
                     this.visibilityGreaterThan = true;
-                    visibility = getVisibilityFromSource(token.group("distu")
-                            .substring(1, token.group("distu").length()));
+                    visibility = getVisibilityFromSource(distu
+                            .substring(1, distu.length()));
                 } else {
-                    visibility = getVisibilityFromSource(token.group("distu"));
+                    visibility = getVisibilityFromSource(distu);
                 }
 
-                if (token.group("units").equals(Configs.getInstance()
-                        .getString("WEATHER_STATUE_MILE"))) {
+                if (units.equals(configs
+                        .getString(ConfigKey.WEATHER_STATUE_MILE))) {
                     // Get visibility
                     // format: (M)VVVVVSM
                     //     (M) - used to indicate less than
                     //     VVVVV - miles (00001SM)
                     //     SM - statute miles
+                    this.visibilityStatuteMiles = true;
                     this.visibilityMiles = visibility;
                     this.visibilityKilometers = visibility * 1.609344;
-                    LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                            + " " + Configs.getInstance().getString("MSRMNT_DECODED_MILES")
-                            + ": " + this.visibilityMiles);
-                    LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                            + " " + Configs.getInstance().getString("MSRMNT_DECODED_KILOMETERS")
-                            + ": " + this.visibilityKilometers);
-                } else if (token.group("units").equals(Configs.getInstance()
-                        .getString("WEATHER_KILOMETER"))) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                                + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MILES)
+                                + ": " + this.visibilityMiles);
+                        LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                                + " " + configs.getString(ConfigKey.MSRMNT_DECODED_KILOMETERS)
+                                + ": " + this.visibilityKilometers);
+                    }
+                } else if (units.equals(configs
+                        .getString(ConfigKey.WEATHER_KILOMETER))) {
                     this.visibilityKilometers = visibility;
                     this.visibilityMiles = visibilityKilometers * 0.62137;
-                    LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                            + " " + Configs.getInstance().getString("MSRMNT_DECODED_MILES")
-                            + ": " + this.visibilityMiles);
-                    LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                            + " " + Configs.getInstance().getString("MSRMNT_DECODED_KILOMETERS")
-                            + ": " + this.visibilityKilometers);
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                                + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MILES)
+                                + ": " + this.visibilityMiles);
+                        LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                                + " " + configs.getString(ConfigKey.MSRMNT_DECODED_KILOMETERS)
+                                + ": " + this.visibilityKilometers);
+                    }
                 } else {
                     LOGGER.debug("Should not get here");
                 }
-            } else if (token.group("vis").equals("9999")) {
+            } else if (vis.equals("9999")) {
                 // Horizontal visibility in meters
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " 9999");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " 9999");
+                }
                 this.visibilityKilometers = 10.0;
                 this.visibilityMiles = visibilityKilometers * 0.62137;
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_MILES")
-                        + ": " + this.visibilityMiles);
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_KILOMETERS")
-                        + ": " + this.visibilityKilometers);
-            } else if (token.group("vis").equals("0000")) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MILES)
+                            + ": " + this.visibilityMiles);
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_KILOMETERS)
+                            + ": " + this.visibilityKilometers);
+                }
+            } else if (vis.equals("0000")) {
                 // Horizontal visibility in meters
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " 0000");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " 0000");
+                }
                 this.visibilityLessThan = true;
                 this.visibilityKilometers = 50.0 / 1000.0;
                 this.visibilityMiles = visibilityKilometers * 0.62137;
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_MILES")
-                        + ": " + this.visibilityMiles);
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_KILOMETERS")
-                        + ": " + this.visibilityKilometers);
-            } else if (UtilsMisc.containsOnlyNumbers(token.group("vis"))) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MILES)
+                            + ": " + this.visibilityMiles);
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_KILOMETERS)
+                            + ": " + this.visibilityKilometers);
+                }
+            } else if (UtilsMisc.containsOnlyNumbers(vis)) {
                 // Horizontal visibility in meters not 9999 nor 0000
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " " + token.group("vis"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " " + vis);
+                }
                 this.visibilityKilometers = Double.parseDouble(
-                        token.group("vis")) / 1000.0;
+                        vis) / 1000.0;
                 this.visibilityMiles = visibilityKilometers * 0.62137;
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_MILES")
-                        + ": " + this.visibilityMiles);
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_KILOMETERS")
-                        + ": " + this.visibilityKilometers);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MILES)
+                            + ": " + this.visibilityMiles);
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_KILOMETERS)
+                            + ": " + this.visibilityKilometers);
+                }
             } else {
                 LOGGER.debug("Should not get here");
             }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setVisibilityItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setVisibilityItems: ", err);
         }
@@ -218,23 +282,34 @@ public class Visibility {
      * @throws noakweather.utils.UtilsException
      */
     public void setTowerSurfVisItems(Matcher token) throws UtilsException {
-        LOGGER.debug("type: #" + token.group("type") + "#");
-        LOGGER.debug("dist: #" + token.group("dist") + "#");
+        String type = token.group(RegExprConst.TWR_SFC_VIS_TYPE);
+        String dist = token.group(RegExprConst.TWR_SFC_VIS_DIST);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("type: #" + type + "#");
+            LOGGER.debug("dist: #" + dist + "#");
+        }
 
         try {
-            this.visibilityTowSur = token.group("type");
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODE_CTL_TWR_VIS")
-                    + ": " + this.visibilityTowSur);
+            this.visibilityTowSur = type;
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_CTL_TWR_VIS)
+                        + ": " + this.visibilityTowSur);
+            }
 
-            this.visibilityTowSurMiles = getVisibilityFromSource(token.group("dist"));
-            LOGGER.debug(Configs.getInstance().getString("MSRMNT_DECODED_MILES")
-                    + ": " + this.visibilityTowSurMiles);
+            this.visibilityTowSurMiles = getVisibilityFromSource(dist);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.MSRMNT_DECODED_MILES)
+                        + ": " + this.visibilityTowSurMiles);
+            }
             this.visibilityTowSurKilometers = visibilityTowSurMiles * 1.609344;
-            LOGGER.debug(Configs.getInstance().getString("MSRMNT_DECODED_KILOMETERS")
-                    + ": " + this.visibilityTowSurKilometers);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.MSRMNT_DECODED_KILOMETERS)
+                        + ": " + this.visibilityTowSurKilometers);
+            }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setTowerSurfVisItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setTowerSurfVisItems: ", err);
         }
@@ -248,55 +323,73 @@ public class Visibility {
      */
     public void setVarPrevVisSecVisVisSecLocItems(Matcher token)
             throws UtilsException {
-        LOGGER.debug("vis: #" + token.group("vis") + "#");
-        LOGGER.debug("dir: #" + token.group("dir") + "#");
-        LOGGER.debug("dist1: #" + token.group("dist1") + "#");
-        LOGGER.debug("add: #" + token.group("add") + "#");
-        LOGGER.debug("dist2: #" + token.group("dist2") + "#");
+        String vis = token.group(RegExprConst.VPV_SV_VSL_VIS);
+        String dir = token.group(RegExprConst.VPV_SV_VSL_DIR);
+        String dist1 = token.group(RegExprConst.VPV_SV_VSL_DIST1);
+        String add = token.group(RegExprConst.VPV_SV_VSL_ADD);
+        String dist2 = token.group(RegExprConst.VPV_SV_VSL_DIST2);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("vis: #" + vis + "#");
+            LOGGER.debug("dir: #" + dir + "#");
+            LOGGER.debug("dist1: #" + dist1 + "#");
+            LOGGER.debug("add: #" + add + "#");
+            LOGGER.debug("dist2: #" + dist2 + "#");
+        }
 
         try {
             this.isVisVarPrevailVariable = false;
             this.isVisVarPrevailRunway = false;
             //getVisibilityFromSource(token.group("dist"))
-            if (token.group("add") != null) {
-                switch (token.group("add")) {
+            if (add != null) {
+                switch (add) {
                     case "V":
-                        visVarPrevailOne = getVisibilityFromSource(token.group("dist1"));
-                        visVarPrevailTwo = getVisibilityFromSource(token.group("dist2"));
+                        visVarPrevailOne = getVisibilityFromSource(dist1);
+                        visVarPrevailTwo = getVisibilityFromSource(dist2);
                         this.isVisVarPrevailVariable = true;
-                        LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VAR_PREVAIL_ONE")
-                                + ": " + this.visVarPrevailOne);
-                        LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VAR_PREVAIL_TWO")
-                                + ": " + this.visVarPrevailTwo);
-                        LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_IS_VISVAR_PREVAIL_VARIABLE")
-                                + ": " + this.isVisVarPrevailVariable);
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VAR_PREVAIL_ONE)
+                                    + ": " + this.visVarPrevailOne);
+                            LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VAR_PREVAIL_TWO)
+                                    + ": " + this.visVarPrevailTwo);
+                            LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_IS_VISVAR_PREVAIL_VARIABLE)
+                                    + ": " + this.isVisVarPrevailVariable);
+                        }
                         break;
                     case "RWY":
-                        visVarPrevailOne = getVisibilityFromSource(token.group("dist1"));
-                        visVarPrevailRunway = Integer.parseInt(token.group("dist2"));
+                        visVarPrevailOne = getVisibilityFromSource(dist1);
+                        visVarPrevailRunway = Integer.parseInt(dist2);
                         this.isVisVarPrevailRunway = true;
-                        LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VAR_PREVAIL_ONE")
-                                + ": " + this.visVarPrevailOne);
-                        LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISVAR_PREVAIL_RUNWAY")
-                                + ": " + this.visVarPrevailRunway);
-                        LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_IS_VISVAR_PREVAIL_RUNWAY")
-                                + ": " + this.isVisVarPrevailRunway);
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VAR_PREVAIL_ONE)
+                                    + ": " + this.visVarPrevailOne);
+                            LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISVAR_PREVAIL_RUNWAY)
+                                    + ": " + this.visVarPrevailRunway);
+                            LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_IS_VISVAR_PREVAIL_RUNWAY)
+                                    + ": " + this.isVisVarPrevailRunway);
+                        }
                         break;
                     default:
-                        LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_PREVAIL_UNKNOWN"));
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_PREVAIL_UNKNOWN));
+                        }
                         break;
                 }
             } else {
-                visVarPrevailDir = token.group("dir");
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISVAR_PREVAIL_DIR")
-                        + ": " + this.visVarPrevailDir);
-                visVarPrevailOne = getVisibilityFromSource(token.group("dist1"));
-                LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VAR_PREVAIL_ONE")
-                        + ": " + this.visVarPrevailOne);
+                visVarPrevailDir = dir;
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISVAR_PREVAIL_DIR)
+                            + ": " + this.visVarPrevailDir);
+                }
+                visVarPrevailOne = getVisibilityFromSource(dist1);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VAR_PREVAIL_ONE)
+                            + ": " + this.visVarPrevailOne);
+                }
             }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setVarPrevVisSecVisVisSecLocItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setVarPrevVisSecVisVisSecLocItems: ", err);
         }
@@ -308,10 +401,10 @@ public class Visibility {
      * @param token
      * @return visibility
      */
-    private Double getVisibilityFromSource(String token) throws UtilsException {
+    private double getVisibilityFromSource(String token) throws UtilsException {
         String whole = "";
         String fraction = "";
-        Double visibility = 0.0;
+        double visibility = 0.0;
 
         try {
             if (token.indexOf('/') == -1) {
@@ -328,9 +421,11 @@ public class Visibility {
                     whole = "0";
                     fraction = token.substring(0, token.length());
                 }
-                LOGGER.debug("whole: " + whole);
-                LOGGER.debug("fraction: " + fraction);
-                LOGGER.debug("visibilitySplit: " + visibilitySplitFraction);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("whole: " + whole);
+                    LOGGER.debug("fraction: " + fraction);
+                    LOGGER.debug("visibilitySplit: " + visibilitySplitFraction);
+                }
             }
 
             visibility = Double.parseDouble(whole);
@@ -342,11 +437,13 @@ public class Visibility {
                         / Double.parseDouble(visParts[1]);
             }
 
-            LOGGER.debug(Configs.getInstance().getString("VISIBILITY_DECODED_VISIBILITY")
-                    + ": " + visibility);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.VISIBILITY_DECODED_VISIBILITY)
+                        + ": " + visibility);
+            }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "getVisibilityFromSource: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("getVisibilityFromSource: ", err);
         }
@@ -414,14 +511,23 @@ public class Visibility {
      * @return visibility in miles
      */
     public Double getVisibility() {
-        if (visibilityMiles != null) {
+        return UtilsMisc.boxValue(getVisibilityAsDouble());
+    }
+
+    /**
+     * Get visibility as a primitive, NaN when it is not known
+     *
+     * @return visibility in miles
+     */
+    public double getVisibilityAsDouble() {
+        if (!Double.isNaN(visibilityMiles)) {
             return UtilsMisc.roundValue(visibilityMiles, 2);
-        } else if (visibilityKilometers != null) {
+        } else if (!Double.isNaN(visibilityKilometers)) {
             return UtilsMisc.roundValue(visibilityKilometers / 1.609344, 2);
-        } else if (visibilityMeters != null) {
+        } else if (!Double.isNaN(visibilityMeters)) {
             return UtilsMisc.roundValue(visibilityMeters / 1609.344, 2);
         }
-        return null;
+        return Double.NaN;
     }
 
     /**
@@ -430,6 +536,15 @@ public class Visibility {
      * @return visibility in miles
      */
     public Double getVisibilityMiles() {
+        return UtilsMisc.boxValue(getVisibilityMilesAsDouble());
+    }
+
+    /**
+     * Get visibilityMiles as a primitive, NaN when it is not known
+     *
+     * @return visibility in miles
+     */
+    public double getVisibilityMilesAsDouble() {
         return UtilsMisc.roundValue(visibilityMiles, 2);
     }
 
@@ -439,7 +554,7 @@ public class Visibility {
      * @param visibilityMiles
      */
     public void setVisibilityMiles(Double visibilityMiles) {
-        this.visibilityMiles = visibilityMiles;
+        this.visibilityMiles = UtilsMisc.unboxValue(visibilityMiles);
     }
 
     /**
@@ -448,6 +563,15 @@ public class Visibility {
      * @return visibility in kilometers
      */
     public Double getVisibilityKilometers() {
+        return UtilsMisc.boxValue(getVisibilityKilometersAsDouble());
+    }
+
+    /**
+     * Get visibility in kilometers as a primitive, NaN when it is not known
+     *
+     * @return visibility in kilometers
+     */
+    public double getVisibilityKilometersAsDouble() {
         return UtilsMisc.roundValue(visibilityKilometers, 2);
     }
 
@@ -457,7 +581,7 @@ public class Visibility {
      * @param visibilityKilometers
      */
     public void setVisibilityKilometers(Double visibilityKilometers) {
-        this.visibilityKilometers = visibilityKilometers;
+        this.visibilityKilometers = UtilsMisc.unboxValue(visibilityKilometers);
     }
 
     /**
@@ -466,6 +590,15 @@ public class Visibility {
      * @return visibility in meters
      */
     public Double getVisibilityMeters() {
+        return UtilsMisc.boxValue(getVisibilityMetersAsDouble());
+    }
+
+    /**
+     * Get visibility in meters as a primitive, NaN when it is not known
+     *
+     * @return visibility in meters
+     */
+    public double getVisibilityMetersAsDouble() {
         return UtilsMisc.roundValue(visibilityMeters, 2);
     }
 
@@ -475,7 +608,7 @@ public class Visibility {
      * @param visibilityMeters
      */
     public void setVisibilityMeters(Double visibilityMeters) {
-        this.visibilityMeters = visibilityMeters;
+        this.visibilityMeters = UtilsMisc.unboxValue(visibilityMeters);
     }
 
     /**
@@ -532,12 +665,30 @@ public class Visibility {
         this.visibilitySplitFraction = visibilitySplitFraction;
     }
 
+    /**
+     * Get visibilityStatuteMiles
+     *
+     * @return is the visibility reported in statute miles
+     */
+    public boolean isVisibilityStatuteMiles() {
+        return visibilityStatuteMiles;
+    }
+
     /**
      * Get visibilityTowSurMiles
      *
      * @return visibilityTowSurMiles
      */
     public Double getVisibilityTowSurMiles() {
+        return UtilsMisc.boxValue(getVisibilityTowSurMilesAsDouble());
+    }
+
+    /**
+     * Get visibilityTowSurMiles as a primitive, NaN when it is not known
+     *
+     * @return visibilityTowSurMiles
+     */
+    public double getVisibilityTowSurMilesAsDouble() {
         return visibilityTowSurMiles;
     }
 
@@ -547,6 +698,15 @@ public class Visibility {
      * @return visibilityTowSurKilometers
      */
     public Double getVisibilityTowSurKilometers() {
+        return UtilsMisc.boxValue(getVisibilityTowSurKilometersAsDouble());
+    }
+
+    /**
+     * Get visibilityTowSurKilometers as a primitive, NaN when it is not known
+     *
+     * @return visibilityTowSurKilometers
+     */
+    public double getVisibilityTowSurKilometersAsDouble() {
         return visibilityTowSurKilometers;
     }
 
@@ -568,6 +728,15 @@ public class Visibility {
         return visVarPrevailRunway;
     }
 
+    /**
+     * Get visVarPrevailRunway as a primitive
+     *
+     * @return visVarPrevailRunway
+     */
+    public int getVisVarPrevailRunwayAsInt() {
+        return visVarPrevailRunway;
+    }
+
     /**
      * Get isVisVarPrevailVariable
      *
@@ -592,6 +761,15 @@ public class Visibility {
      * @return visibilityTowSur
      */
     public Double getVisVarPrevailOne() {
+        return UtilsMisc.boxValue(getVisVarPrevailOneAsDouble());
+    }
+
+    /**
+     * Get visVarPrevailOne as a primitive, NaN when it is not known
+     *
+     * @return visibilityTowSur
+     */
+    public double getVisVarPrevailOneAsDouble() {
         return visVarPrevailOne;
     }
 
@@ -601,6 +779,15 @@ public class Visibility {
      * @return visibilityTowSur
      */
     public Double getVisVarPrevailTwo() {
+        return UtilsMisc.boxValue(getVisVarPrevailTwoAsDouble());
+    }
+
+    /**
+     * Get visVarPrevailTwo as a primitive, NaN when it is not known
+     *
+     * @return visibilityTowSur
+     */
+    public double getVisVarPrevailTwoAsDouble() {
         return visVarPrevailTwo;
     }
 
@@ -18,7 +18,10 @@ package noakweather.noaa_api.weather;
 
 import java.util.MissingResourceException;
 import java.util.regex.Matcher;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprMatch;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsMisc;
 import org.apache.logging.log4j.LogManager;
@@ -42,19 +45,31 @@ public class Wind {
     private boolean windDirectionCalm;
     private boolean windDirectionIsVariable;
     private boolean windDirectionIsVarGtrSix;
-    private Double windSpeed;
-    private Double windGusts;
-    private Double peakWindSpeed;
+    private double windSpeed;
+    private double windGusts;
+    private double peakWindSpeed;
     private String windNotDetermined;
     private String windDirectionCompass;
     private String windDirectionVarOneCompass;
     private String windDirectionVarTwoCompass;
     private String peakWindDirectionCompass;
 
+    private final Configs configs;
+
     private static final Logger LOGGER
             = LogManager.getLogger(Wind.class.getName());
 
     public Wind() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Wind(Configs configs) {
+        this.configs = configs;
         this.windDirection = 0;
         this.windDirectionMin = 0;
         this.windDirectionMax = 0;
@@ -82,58 +97,85 @@ public class Wind {
      * @param windType
      * @throws noakweather.utils.UtilsException
      */
-    public void setMainWindItems(Matcher token, char windType)
+    public void setMainWindItems(Matcher token, char windType) throws UtilsException {
+        setMainWindItems(RegExprMatch.of(token), windType);
+    }
+
+    /**
+     * Set the main wind information
+     *
+     * @param token
+     * @param windType
+     * @throws noakweather.utils.UtilsException
+     */
+    public void setMainWindItems(RegExprMatch token, char windType)
             throws UtilsException {
+        String dir = token.group(RegExprConst.WIND_DIR);
+        String speed = token.group(RegExprConst.WIND_SPEED);
+        String inden = token.group(RegExprConst.WIND_INDEN);
+        String gust = token.group(RegExprConst.WIND_GUST);
+        String units = token.group(RegExprConst.WIND_UNITS);
+        String varfrom = token.group(RegExprConst.WIND_VARFROM);
+        String varto = token.group(RegExprConst.WIND_VARTO);
+
         boolean windInKnots = false;
 
-        LOGGER.debug("dir: #" + token.group("dir") + "#");
-        LOGGER.debug("speed: #" + token.group("speed") + "#");
-        LOGGER.debug("inden: #" + token.group("inden") + "#");
-        LOGGER.debug("gust: #" + token.group("gust") + "#");
-        LOGGER.debug("units: #" + token.group("units") + "#");
-        LOGGER.debug("varfrom: #" + token.group("varfrom") + "#");
-        LOGGER.debug("varto: #" + token.group("varto") + "#");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("dir: #" + dir + "#");
+            LOGGER.debug("speed: #" + speed + "#");
+            LOGGER.debug("inden: #" + inden + "#");
+            LOGGER.debug("gust: #" + gust + "#");
+            LOGGER.debug("units: #" + units + "#");
+            LOGGER.debug("varfrom: #" + varfrom + "#");
+            LOGGER.debug("varto: #" + varto + "#");
+        }
 
-        // If token.group("varfrom") != null && token.group("varto") != null
+        // If varfrom != null && varto != null
         // then the wind is of form xxxVxxx. All other tokens are null
-        if (token.group("varfrom") != null && token.group("varto") != null) {
-            LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_VARIABLE_DIRECTION_GTR_6_KNOTS"));
+        if (varfrom != null && varto != null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_VARIABLE_DIRECTION_GTR_6_KNOTS));
+            }
             if (windType == 'M') {
                 this.windDirectionIsVarGtrSix = true;
-                this.windDirectionVarOne = Integer.parseInt(token.group("varfrom"));
-                this.windDirectionVarOneCompass = WindDir.getFormattedWindDir(this.windDirectionVarOne);
-                this.windDirectionVarTwo = Integer.parseInt(token.group("varto"));
-                this.windDirectionVarTwoCompass = WindDir.getFormattedWindDir(this.windDirectionVarTwo);
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_DIRECTION_VAR_GTR_SIX")
-                        + ": " + this.windDirectionIsVarGtrSix);
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_DIRECTION_VAR_ONE")
-                        + ": " + this.windDirectionVarOne);
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_DIRECTION_VAR_ONE_COMPASS")
-                        + ": " + this.windDirectionVarOneCompass);
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_DIRECTION_VAR_TWO")
-                        + ": " + this.windDirectionVarTwo);
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_DIRECTION_VAR_TWO_COMPASS")
-                        + ": " + this.windDirectionVarTwoCompass);
+                this.windDirectionVarOne = Integer.parseInt(varfrom);
+                this.windDirectionVarOneCompass = WindDir.getFormattedWindDir(configs, this.windDirectionVarOne);
+                this.windDirectionVarTwo = Integer.parseInt(varto);
+                this.windDirectionVarTwoCompass = WindDir.getFormattedWindDir(configs, this.windDirectionVarTwo);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_DIRECTION_VAR_GTR_SIX)
+                            + ": " + this.windDirectionIsVarGtrSix);
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_DIRECTION_VAR_ONE)
+                            + ": " + this.windDirectionVarOne);
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_DIRECTION_VAR_ONE_COMPASS)
+                            + ": " + this.windDirectionVarOneCompass);
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_DIRECTION_VAR_TWO)
+                            + ": " + this.windDirectionVarTwo);
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_DIRECTION_VAR_TWO_COMPASS)
+                            + ": " + this.windDirectionVarTwoCompass);
+                }
             }
         }
 
-        // Check if the token.group("dir") has alphanumeric values other than
+        // Check if the dir has alphanumeric values other than
         // WindDir.WIND_VARIABLE (VRB)
         try {
-            if (!token.group("dir").equals(Configs.getInstance().getString("WIND_VARIABLE"))) {
+            if (!dir.equals(configs.getString(ConfigKey.WIND_VARIABLE))) {
                 if (!UtilsMisc.containsOnlyNumbers(
-                        UtilsMisc.removeNonNumeric(token.group("dir")))) {
+                        UtilsMisc.removeNonNumeric(dir))) {
                     if (windType == 'M') {
-                        this.windNotDetermined = Configs.getInstance().getString("WIND_NOT_DETERMINED");
-                        LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_SPEED")
-                                + " " + Configs.getInstance().getString("WIND_DECODED_CONTAINS_ALPHA"));
+                        this.windNotDetermined = configs.getString(ConfigKey.WIND_NOT_DETERMINED);
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_SPEED)
+                                    + " " + configs.getString(ConfigKey.WIND_DECODED_CONTAINS_ALPHA));
+                        }
                     }
                     return;
                 }
             }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setMainWindItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setMainWindItems: ", err);
         }
@@ -141,52 +183,62 @@ public class Wind {
         // Note: There have been cases where wind started with VRB
         // and did not end with KT. This seems to only happen in the
         // US, so assuming knots.
-        if (token.group("units").equals(Configs.getInstance().getString("WIND_KNOTS_1"))
-                || token.group("units").equals(Configs.getInstance().getString("WIND_KNOTS_2"))
-                || (token.group("dir").equals(Configs.getInstance().getString("WIND_VARIABLE"))
-                && !token.group("units").equals(Configs.getInstance().getString("WIND_MILES_PER_SEC")))) {
+        if (units.equals(configs.getString(ConfigKey.WIND_KNOTS_1))
+                || units.equals(configs.getString(ConfigKey.WIND_KNOTS_2))
+                || (dir.equals(configs.getString(ConfigKey.WIND_VARIABLE))
+                && !units.equals(configs.getString(ConfigKey.WIND_MILES_PER_SEC)))) {
             if (windType == 'M') {
                 windInKnots = true;
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_SPEED")
-                        + " " + Configs.getInstance().getString("WIND_DECODED_KNOTS"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_SPEED)
+                            + " " + configs.getString(ConfigKey.WIND_DECODED_KNOTS));
+                }
             }
         } else {
-            LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_SPEED")
-                    + " " + Configs.getInstance().getString("WIND_DECODED_METERS_PER_SECOND"));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_SPEED)
+                        + " " + configs.getString(ConfigKey.WIND_DECODED_METERS_PER_SECOND));
+            }
         }
 
         try {
             if (windType == 'M') {
-                if (!token.group("dir").equals(Configs.getInstance().getString("WIND_VARIABLE"))) {
+                if (!dir.equals(configs.getString(ConfigKey.WIND_VARIABLE))) {
                     // We have gusts
-                    this.windDirection = Integer.parseInt(token.group("dir"));
-                    LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_SPEED")
-                            + " " + Configs.getInstance().getString("LOC_TIME_DECODED_DIRECTION")
-                            + ": " + this.windDirection);
+                    this.windDirection = Integer.parseInt(dir);
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_SPEED)
+                                + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_DIRECTION)
+                                + ": " + this.windDirection);
+                    }
                     if (this.windDirection == 0) {
                         this.windDirectionCalm = true;
-                        this.windDirectionCompass = Configs.getInstance()
-                                .getString("WIND_DECODED_DIR_CALM");
+                        this.windDirectionCompass = configs
+                                .getString(ConfigKey.WIND_DECODED_DIR_CALM);
                     } else {
-                        this.windDirectionCompass = WindDir.getFormattedWindDir(this.windDirection);
+                        this.windDirectionCompass = WindDir.getFormattedWindDir(configs, this.windDirection);
+                    }
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_SPEED)
+                                + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_DIRECTION)
+                                + " " + configs.getString(ConfigKey.WIND_DECODED_DIR_CALM)
+                                + ": " + this.windDirectionCalm);
+                        LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_SPEED)
+                                + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_DIRECTION)
+                                + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_COMPASS)
+                                + ": " + this.windDirectionCompass);
                     }
-                    LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_SPEED")
-                            + " " + Configs.getInstance().getString("LOC_TIME_DECODED_DIRECTION")
-                            + " " + Configs.getInstance().getString("WIND_DECODED_DIR_CALM")
-                            + ": " + this.windDirectionCalm);
-                    LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_SPEED")
-                            + " " + Configs.getInstance().getString("LOC_TIME_DECODED_DIRECTION")
-                            + " " + Configs.getInstance().getString("LOC_TIME_DECODED_COMPASS")
-                            + ": " + this.windDirectionCompass);
                 } else {
-                    LOGGER.debug(Configs.getInstance()
-                            .getString("WIND_DECODED_VARIABLE_DIRECTION_LSS_EQL_6_KNOTS"));
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(configs
+                                .getString(ConfigKey.WIND_DECODED_VARIABLE_DIRECTION_LSS_EQL_6_KNOTS));
+                    }
                     this.windDirectionIsVariable = true;
                 }
             }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setMainWindItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setMainWindItems: ", err);
         }
@@ -194,30 +246,38 @@ public class Wind {
         // Set wind speed
         if (windType == 'M') {
             if (windInKnots) {
-                this.windSpeed = Double.parseDouble(token.group("speed"));
+                this.windSpeed = Double.parseDouble(speed);
             } else {
-                setWindSpeedInMPS(Double.parseDouble(token.group("speed")));
+                setWindSpeedInMPS(Double.parseDouble(speed));
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_SPEED)
+                        + ": " + this.windSpeed);
             }
-            LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_SPEED")
-                    + ": " + this.windSpeed);
         }
 
         if (windType == 'M') {
-            if (token.group("gust") != null) {
+            if (gust != null) {
                 // We have wind gusts
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_GUST"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_GUST));
+                }
 
                 if (windInKnots) {
-                    this.windGusts = Double.parseDouble(token.group("gust"));
+                    this.windGusts = Double.parseDouble(gust);
                 } else {
-                    setWindGustsInMPS(Double.parseDouble(token.group("gust")));
+                    setWindGustsInMPS(Double.parseDouble(gust));
                 }
             } else {
                 // We do not have gusts
-                LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_NO_GUST"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_NO_GUST));
+                }
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.WIND_DECODED_WIND_GUST)
+                        + ": " + this.windGusts);
             }
-            LOGGER.debug(Configs.getInstance().getString("WIND_DECODED_WIND_GUST")
-                    + ": " + this.windGusts);
         }
     }
 
@@ -228,38 +288,51 @@ public class Wind {
      * @throws noakweather.utils.UtilsException
      */
     public void setPeakWindItems(Matcher token) throws UtilsException {
-        LOGGER.debug("dir: #" + token.group("dir") + "#");
-        LOGGER.debug("speed: #" + token.group("speed") + "#");
-        LOGGER.debug("hour: #" + token.group("hour") + "#");
-        LOGGER.debug("min: #" + token.group("min") + "#");
+        String dir = token.group(RegExprConst.PEAK_WIND_DIR);
+        String speed = token.group(RegExprConst.PEAK_WIND_SPEED);
+        String hour = token.group(RegExprConst.PEAK_WIND_HOUR);
+        String min = token.group(RegExprConst.PEAK_WIND_MIN);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("dir: #" + dir + "#");
+            LOGGER.debug("speed: #" + speed + "#");
+            LOGGER.debug("hour: #" + hour + "#");
+            LOGGER.debug("min: #" + min + "#");
+        }
 
         try {
-            this.peakWindDirection = Integer.parseInt(token.group("dir"));
-            this.peakWindDirectionCompass = WindDir.getFormattedWindDir(this.peakWindDirection);
-            this.peakWindSpeed = Double.parseDouble(token.group("speed"));
-
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND_DIR")
-                    + " " + this.peakWindDirection);
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND")
-                    + " " + Configs.getInstance().getString("LOC_TIME_DECODED_COMPASS")
-                    + ": " + this.peakWindDirectionCompass);
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND_SPEED")
-                    + " " + this.peakWindSpeed);
-
-            if (token.group("hour") != null) {
-                this.peakWindHour = Integer.parseInt(token.group("hour"));
-                LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND")
-                        + " " + Configs.getInstance().getString("MSRMNT_DECODED_HOUR")
-                        + ": " + this.peakWindHour);
+            this.peakWindDirection = Integer.parseInt(dir);
+            this.peakWindDirectionCompass = WindDir.getFormattedWindDir(configs, this.peakWindDirection);
+            this.peakWindSpeed = Double.parseDouble(speed);
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND_DIR)
+                        + " " + this.peakWindDirection);
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND)
+                        + " " + configs.getString(ConfigKey.LOC_TIME_DECODED_COMPASS)
+                        + ": " + this.peakWindDirectionCompass);
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND_SPEED)
+                        + " " + this.peakWindSpeed);
+            }
+
+            if (hour != null) {
+                this.peakWindHour = Integer.parseInt(hour);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND)
+                            + " " + configs.getString(ConfigKey.MSRMNT_DECODED_HOUR)
+                            + ": " + this.peakWindHour);
+                }
             }
 
-            this.peakWindMin = Integer.parseInt(token.group("min"));
-            LOGGER.debug(Configs.getInstance().getString("EXTENDED_DECODED_PEAK_WIND")
-                    + " " + Configs.getInstance().getString("MSRMNT_DECODED_MINUTES")
-                    + ": " + this.peakWindMin);
+            this.peakWindMin = Integer.parseInt(min);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(configs.getString(ConfigKey.EXTENDED_DECODED_PEAK_WIND)
+                        + " " + configs.getString(ConfigKey.MSRMNT_DECODED_MINUTES)
+                        + ": " + this.peakWindMin);
+            }
         } catch (NumberFormatException | IndexOutOfBoundsException | MissingResourceException err) {
             String errMsg = "setPeakWindItems: "
-                    + Configs.getInstance().getString("MISC_UNABLE_PARSE_VALUE") + " " + err;
+                    + configs.getString(ConfigKey.MISC_UNABLE_PARSE_VALUE) + " " + err;
             LOGGER.error(errMsg);
             throw new UtilsException("setPeakWindItems: ", err);
         }
@@ -460,6 +533,15 @@ public class Wind {
      * @return wind speed in knots
      */
     public Double getWindSpeedInKnots() {
+        return UtilsMisc.boxValue(getWindSpeedInKnotsAsDouble());
+    }
+
+    /**
+     * Get wind speed as a primitive, NaN when it is not known
+     *
+     * @return wind speed in knots
+     */
+    public double getWindSpeedInKnotsAsDouble() {
         return windSpeed;
     }
 
@@ -469,7 +551,7 @@ public class Wind {
      * @param windSpeed
      */
     public void setWindSpeed(Double windSpeed) {
-        this.windSpeed = windSpeed;
+        this.windSpeed = UtilsMisc.unboxValue(windSpeed);
     }
 
     /**
@@ -478,6 +560,15 @@ public class Wind {
      * @return wind speed in meters per second
      */
     public Double getWindSpeedInMPS() {
+        return UtilsMisc.boxValue(getWindSpeedInMPSAsDouble());
+    }
+
+    /**
+     * Get wind speed in MPS as a primitive, NaN when it is not known
+     *
+     * @return wind speed in meters per second
+     */
+    public double getWindSpeedInMPSAsDouble() {
         return this.windSpeed * 0.5148;
     }
 
@@ -487,7 +578,7 @@ public class Wind {
      * @param value wind speed in meters per second
      */
     protected void setWindSpeedInMPS(Double value) {
-        this.windSpeed = value / 0.5148;
+        this.windSpeed = UtilsMisc.unboxValue(value) / 0.5148;
     }
 
     /**
@@ -496,8 +587,17 @@ public class Wind {
      * @return wind speed in MPH
      */
     public Double getWindSpeedInMPH() {
-        if (this.windSpeed == null) {
-            return null;
+        return UtilsMisc.boxValue(getWindSpeedInMPHAsDouble());
+    }
+
+    /**
+     * Get wind speed in MPH as a primitive, NaN when it is not known
+     *
+     * @return wind speed in MPH
+     */
+    public double getWindSpeedInMPHAsDouble() {
+        if (Double.isNaN(this.windSpeed)) {
+            return Double.NaN;
         }
 
         double f = this.windSpeed * 1.1508;
@@ -513,6 +613,15 @@ public class Wind {
      * @return wind gusts in knots
      */
     public Double getWindGustsInKnots() {
+        return UtilsMisc.boxValue(getWindGustsInKnotsAsDouble());
+    }
+
+    /**
+     * Get wind gusts in knots as a primitive, NaN when it is not known
+     *
+     * @return wind gusts in knots
+     */
+    public double getWindGustsInKnotsAsDouble() {
         return windGusts;
     }
 
@@ -522,7 +631,7 @@ public class Wind {
      * @param windGusts
      */
     public void setWindGusts(Double windGusts) {
-        this.windGusts = windGusts;
+        this.windGusts = UtilsMisc.unboxValue(windGusts);
     }
 
     /**
@@ -531,6 +640,15 @@ public class Wind {
      * @return wind gust speed in meters per second
      */
     public Double getWindGustsInMPS() {
+        return UtilsMisc.boxValue(getWindGustsInMPSAsDouble());
+    }
+
+    /**
+     * Get wind gusts in MPS as a primitive, NaN when it is not known
+     *
+     * @return wind gust speed in meters per second
+     */
+    public double getWindGustsInMPSAsDouble() {
         return this.windGusts * 0.5148;
     }
 
@@ -540,7 +658,7 @@ public class Wind {
      * @param value wind gust speed in meters per second
      */
     protected void setWindGustsInMPS(Double value) {
-        this.windGusts = value / 0.5148;
+        this.windGusts = UtilsMisc.unboxValue(value) / 0.5148;
     }
 
     /**
@@ -549,8 +667,17 @@ public class Wind {
      * @return wind gust speed in MPH
      */
     public Double getWindGustsInMPH() {
-        if (this.windGusts == null) {
-            return null;
+        return UtilsMisc.boxValue(getWindGustsInMPHAsDouble());
+    }
+
+    /**
+     * Get wind gusts in MPH as a primitive, NaN when it is not known
+     *
+     * @return wind gust speed in MPH
+     */
+    public double getWindGustsInMPHAsDouble() {
+        if (Double.isNaN(this.windGusts)) {
+            return Double.NaN;
         }
 
         double f = this.windGusts * 1.1508;
@@ -620,6 +747,15 @@ public class Wind {
      * @return peak wind speed in knots
      */
     public Double getPeakWindSpeed() {
+        return UtilsMisc.boxValue(getPeakWindSpeedAsDouble());
+    }
+
+    /**
+     * Get peakWindSpeed as a primitive, NaN when it is not known
+     *
+     * @return peak wind speed in knots
+     */
+    public double getPeakWindSpeedAsDouble() {
         return peakWindSpeed;
     }
 
@@ -629,8 +765,17 @@ public class Wind {
      * @return peak wind speed in MPH
      */
     public Double getPeakWindSpeedInMPH() {
-        if (this.peakWindSpeed == null) {
-            return null;
+        return UtilsMisc.boxValue(getPeakWindSpeedInMPHAsDouble());
+    }
+
+    /**
+     * Get peak wind speed in MPH as a primitive, NaN when it is not known
+     *
+     * @return peak wind speed in MPH
+     */
+    public double getPeakWindSpeedInMPHAsDouble() {
+        if (Double.isNaN(this.peakWindSpeed)) {
+            return Double.NaN;
         }
 
         double f = this.peakWindSpeed * 1.1508;
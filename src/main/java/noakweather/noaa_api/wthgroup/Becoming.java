@@ -16,13 +16,12 @@
  */
 package noakweather.noaa_api.wthgroup;
 
-import java.util.regex.Pattern;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.RegExprTable;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
  * Class representing the becoming section of the report
@@ -35,6 +34,16 @@ public class Becoming extends Group {
             = LogManager.getLogger(Group.class.getName());
 
     public Becoming() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Becoming(Configs configs) {
+        super(configs);
         LOGGER.debug("in Becoming constructor");
     }
 
@@ -50,18 +59,20 @@ public class Becoming extends Group {
      * @throws noakweather.utils.UtilsException
      */
     public String setBecomingItems(String token, String monthString, String yearString,
-            IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> groupWeathHandlers) throws UtilsException {
+            RegExprTable<Group> groupWeathHandlers) throws UtilsException {
 
-        LOGGER.debug("token: #" + token + "#");
-        LOGGER.debug("monthString: #" + monthString + "#");
-        LOGGER.debug("yearString: #" + yearString + "#\n");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("token: #" + token + "#");
+            LOGGER.debug("monthString: #" + monthString + "#");
+            LOGGER.debug("yearString: #" + yearString + "#\n");
+        }
 
         setMonthString(monthString);
         setYearString(yearString);
 
         parseGroupHandlers(token, groupWeathHandlers);
 
-        return getNaturalLanguageString(Configs.getInstance()
-                .getString("EXTENDED_DECODED_BECMG"));
+        return getNaturalLanguageString(getConfigs()
+                .getString(ConfigKey.EXTENDED_DECODED_BECMG));
     }
 }
@@ -16,13 +16,12 @@
  */
 package noakweather.noaa_api.wthgroup;
 
-import java.util.regex.Pattern;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.RegExprTable;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
  * Class representing the from group section of the report
@@ -35,6 +34,16 @@ public class FromGroup extends Group {
             = LogManager.getLogger(FromGroup.class.getName());
 
     public FromGroup() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public FromGroup(Configs configs) {
+        super(configs);
         LOGGER.debug("in FromGroup constructor");
     }
 
@@ -51,12 +60,14 @@ public class FromGroup extends Group {
      * @throws noakweather.utils.UtilsException
      */
     public String setFromGroupItems(String daytime, String token, String monthString, String yearString,
-            IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> groupWeathHandlers) throws UtilsException {
+            RegExprTable<Group> groupWeathHandlers) throws UtilsException {
 
-        LOGGER.debug("Inside setFromGroupItems daytime processing: #" + daytime + "#");
-        LOGGER.debug("Inside setFromGroupItems token processing: #" + token + "#");
-        LOGGER.debug("Inside setFromGroupItems monthString: #" + monthString + "#");
-        LOGGER.debug("Inside setFromGroupItems yearString: #" + yearString + "#\n");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Inside setFromGroupItems daytime processing: #" + daytime + "#");
+            LOGGER.debug("Inside setFromGroupItems token processing: #" + token + "#");
+            LOGGER.debug("Inside setFromGroupItems monthString: #" + monthString + "#");
+            LOGGER.debug("Inside setFromGroupItems yearString: #" + yearString + "#\n");
+        }
 
         setMonthString(monthString);
         setYearString(yearString);
@@ -64,7 +75,7 @@ public class FromGroup extends Group {
 
         parseGroupHandlers(token, groupWeathHandlers);
 
-        return getNaturalLanguageString(Configs.getInstance()
-                .getString("EXTENDED_DECODED_FM"));
+        return getNaturalLanguageString(getConfigs()
+                .getString(ConfigKey.EXTENDED_DECODED_FM));
     }
 }
@@ -19,22 +19,29 @@ package noakweather.noaa_api.wthgroup;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import noakweather.noaa_api.common.NaturalLanguageRenderer;
 import noakweather.noaa_api.common.SkyCondition;
 import noakweather.noaa_api.common.WeatherCondition;
 import noakweather.noaa_api.weather.Pressure;
 import noakweather.noaa_api.weather.Temperature;
 import noakweather.noaa_api.weather.Visibility;
 import noakweather.noaa_api.weather.Wind;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.ParserMode;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprHandler;
+import noakweather.utils.RegExprHandlers;
+import noakweather.utils.RegExprMatch;
+import noakweather.utils.RegExprTable;
 import noakweather.utils.UtilsDate;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
  * Class representing the base class of the Prob and Tempo classes
@@ -54,18 +61,37 @@ public class Group {
     private Temperature temperatureGroup;
     private Pressure pressureGroup;
     private WeatherCondition weatherConditionGroup;
-    private IndexedLinkedHashMap<WeatherCondition, String> weatherConditionsGroup;
+    private ArrayList<WeatherCondition> weatherConditionsGroup;
     private SkyCondition skyConditionGroup;
-    private IndexedLinkedHashMap<SkyCondition, String> skyConditionsGroup;
+    private ArrayList<SkyCondition> skyConditionsGroup;
     private ArrayList<String> parseString = new ArrayList<>();
+    private NaturalLanguageRenderer renderer;
+
+    private final Configs configs;
 
     private static final Logger LOGGER
             = LogManager.getLogger(Group.class.getName());
 
+    /**
+     * The shared group (FM, BECMG, TEMPO, PROB) table
+     */
+    public static final RegExprTable<Group> GROUP_TABLE
+            = new RegExprTable<>(RegExprHandlers.GROUP_PLAN, buildGroupDecoders());
+
     /**
      * Constructor
      */
     public Group() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Group(Configs configs) {
+        this.configs = configs;
         LOGGER.debug("in Group constructor");
         this.skyCondIndex = 0;
         this.isValidFromToDate = false;
@@ -91,157 +117,187 @@ public class Group {
      * @param handlers
      * @throws noakweather.utils.UtilsException
      */
-    protected void parseGroupHandlers(String token, IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> handlers) throws UtilsException {
-        boolean isFound = false;
-        while (!token.isEmpty()) {
-            LOGGER.debug("\n");
-            LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_TOKEN_PROCESSING")
-                    + " #" + token + "#");
-            handlers.keySet();
-            for (Pattern i : handlers.keySet()) {
-                LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_PATTERN_I")
-                        + " #" + i + "#  #" + handlers.get(i) + "#");
-                Matcher matcher = i.matcher(token);
-                while (matcher.find()) {
-                    isFound = true;
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_MATCHER_GROUP_CNT")
-                            + " " + matcher.groupCount());
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_MATCHER_GROUP_0")
-                            + " #" + matcher.group(0) + "#");
-                    if (matcher.group(0).equals("")) {
-                        break;
-                    }
-                    for (int j = 1; j <= matcher.groupCount(); j++) {
-                        LOGGER.debug(Configs.getInstance()
-                                .getString("MATCH_DECODED_CAPTURE_GROUP_NUMBER")
-                                + " " + Configs.getInstance()
-                                        .getString("MATCH_DECODED_CAPTURE_GROUP_NUMBER")
-                                + " " + j + "   " + Configs.getInstance()
-                                        .getString("MATCH_DECODED_CAPTURED_TEXT")
-                                + " #" + matcher.group(j) + "#");
-                    }
-                    detGroupItems(handlers.get(i).getValue0(), matcher);
-                    token = matcher.replaceFirst("").trim();
-                    //This is necessary to make sure the last token is properly processed
-                    if (token.length() > 0) {
-                        token = token + " ";
-                    }
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_TOKEN_AFTER_LAST_MATCH")
-                            + " #" + token);
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_PATTERN")
-                            + " " + handlers.get(i).getValue1());
-                    if (handlers.get(i).getValue1().equals(false)) {
-                        break;
-                    }
-                    matcher = i.matcher(token);
-                }
-                if (isFound) {
-                    isFound = false;
-                    break;
-                }
-            }
+    protected void parseGroupHandlers(String token, RegExprTable<Group> handlers) throws UtilsException {
+        handlers.parse(this, token, ParserMode.REGEX);
+    }
+
+    /**
+     * Build the group decode callbacks by handler name
+     *
+     * @return decoders
+     */
+    private static Map<String, RegExprHandler<Group>> buildGroupDecoders() {
+        Map<String, RegExprHandler<Group>> decoders = new HashMap<>();
+        decoders.put("valtmper", Group::decodeValidPeriod);
+        decoders.put("wind", Group::decodeWind);
+        decoders.put("visibility", Group::decodeVisibility);
+        decoders.put("runway", Group::decodeRunway);
+        decoders.put("presentweather", Group::decodePresentWeather);
+        decoders.put("skycondition", Group::decodeSkyCondition);
+        decoders.put("tempdewpoint", Group::decodeTempDewPoint);
+        decoders.put("altimeter", Group::decodeAltimeter);
+        decoders.put("nosigchng", Group::decodeNoSignificantChange);
+        decoders.put("unparsed", Group::decodeUnparsed);
+        return decoders;
+    }
+
+    /**
+     * Decode the valid to and from time period
+     *
+     * @param value
+     */
+    private void decodeValidPeriod(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_VALID_TO_FROM_TP));
         }
+        setValidToFromDateInfo(value);
     }
 
     /**
-     * Determine the group (BECMG, TEMPO , PROB and FM)
+     * Decode the wind
      *
-     * @param type
      * @param value
      */
-    private void detGroupItems(String type, Matcher value) throws UtilsException {
-        switch (type) {
-            case "valtmper":
-                // We have a valid to and from time period
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_VALID_TO_FROM_TP"));
-                setValidToFromDateInfo(value);
-                break;
-            case "wind":
-                // We have a wind
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_WIND"));
-                if (windGroup == null) {
-                    windGroup = new Wind();
-                }
-                windGroup.setMainWindItems(value, 'M');
-                break;
-            case "visibility":
-                // We have visibility
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_VISIBILITY"));
-                if (visibilityGroup == null) {
-                    visibilityGroup = new Visibility();
-                }
-                visibilityGroup.setVisibilityItems(value);
-                break;
-            case "runway":
-                // We have Runaway group
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_RVR"));
-                //if (runwayVisualRanges == null) {
-                //    runwayVisualRanges = new ConcurrentHashMap<>();
-                //}
-                //parseRunVisualRange(value);
-                break;
-            case "presentweather":
-                // We have Present Weather
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_WEATHER_GROUPS"));
-                if (weatherConditionsGroup == null) {
-                    weatherConditionsGroup = new IndexedLinkedHashMap<>();
-                }
-                weatherConditionGroup = new WeatherCondition();
-                weatherConditionGroup.setWeatherConditionItems(value);
-                weatherConditionsGroup.put(weatherConditionGroup,
-                        weatherConditionGroup.getNaturalLanguageString());
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_WEATHER_CONDITIONS")
-                        + " " + weatherConditionGroup.getNaturalLanguageString());
-                break;
-            case "skycondition":
-                // We have a sky condition
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_SKY_CONDITIONS"));
-                if (skyConditionsGroup == null) {
-                    skyConditionsGroup = new IndexedLinkedHashMap<>();
-                }
-                skyConditionGroup = new SkyCondition();
-                skyConditionGroup.setSkyConditionItems(value);
-                skyCondIndex++;
-                skyConditionsGroup.put(skyConditionGroup,
-                        String.valueOf(skyCondIndex) + " "
-                        + skyConditionGroup.getNaturalLanguageString());
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_SKY_CONDITIONS")
-                        + " " + skyConditionGroup.getNaturalLanguageString());
-                break;
-            case "tempdewpoint":
-                // We have Temperature / Dew Point
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_TEMPERATURE_DEWPOINT"));
-                if (temperatureGroup == null) {
-                    temperatureGroup = new Temperature();
-                }
-                temperatureGroup.setTemperatureItems(value);
-                break;
-            case "altimeter":
-                // We have pressure
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_PRESSURE"));
-                if (pressureGroup == null) {
-                    pressureGroup = new Pressure();
-                }
-                pressureGroup.setPressureItems(value);
-                break;
-            case "nosigchng":
-                // We have no significant change
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_NO_SIGNIFICANT_CHANGE"));
-                //setIsNoSignificantChange(true);
-                break;
-            case "unparsed":
-                // We have Unparsed Data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_UNPARSED_DATA"));
-                if (parseString == null) {
-                    parseString = new ArrayList<>();
-                }
-                setParseString(value);
-                break;
-            default:
-                break;
+    private void decodeWind(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_WIND));
+        }
+        if (windGroup == null) {
+            windGroup = new Wind(configs);
+        }
+        windGroup.setMainWindItems(value, 'M');
+    }
+
+    /**
+     * Decode the visibility
+     *
+     * @param value
+     */
+    private void decodeVisibility(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_VISIBILITY));
+        }
+        if (visibilityGroup == null) {
+            visibilityGroup = new Visibility(configs);
+        }
+        visibilityGroup.setVisibilityItems(value);
+    }
+
+    /**
+     * Decode the runway visual range
+     *
+     * @param value
+     */
+    private void decodeRunway(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_RVR));
+        }
+        //if (runwayVisualRanges == null) {
+        //    runwayVisualRanges = new ConcurrentHashMap<>();
+        //}
+        //parseRunVisualRange(value);
+    }
+
+    /**
+     * Decode the present weather
+     *
+     * @param value
+     */
+    private void decodePresentWeather(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_WEATHER_GROUPS));
+        }
+        if (weatherConditionsGroup == null) {
+            weatherConditionsGroup = new ArrayList<>();
+        }
+        weatherConditionGroup = new WeatherCondition(configs);
+        weatherConditionGroup.setWeatherConditionItems(value);
+        weatherConditionsGroup.add(weatherConditionGroup);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_WEATHER_CONDITIONS)
+                    + " " + weatherConditionGroup.getNaturalLanguageString());
         }
     }
 
+    /**
+     * Decode the sky condition
+     *
+     * @param value
+     */
+    private void decodeSkyCondition(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_SKY_CONDITIONS));
+        }
+        if (skyConditionsGroup == null) {
+            skyConditionsGroup = new ArrayList<>();
+        }
+        skyConditionGroup = new SkyCondition(configs);
+        skyConditionGroup.setSkyConditionItems(value);
+        skyCondIndex++;
+        skyConditionsGroup.add(skyConditionGroup);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_SKY_CONDITIONS)
+                    + " " + skyConditionGroup.getNaturalLanguageString());
+        }
+    }
+
+    /**
+     * Decode the temperature and dew point
+     *
+     * @param value
+     */
+    private void decodeTempDewPoint(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_TEMPERATURE_DEWPOINT));
+        }
+        if (temperatureGroup == null) {
+            temperatureGroup = new Temperature(configs);
+        }
+        temperatureGroup.setTemperatureItems(value);
+    }
+
+    /**
+     * Decode the pressure
+     *
+     * @param value
+     */
+    private void decodeAltimeter(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_PRESSURE));
+        }
+        if (pressureGroup == null) {
+            pressureGroup = new Pressure(configs);
+        }
+        pressureGroup.setPressureItems(value);
+    }
+
+    /**
+     * Decode the no significant change
+     *
+     * @param value
+     */
+    private void decodeNoSignificantChange(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_NO_SIGNIFICANT_CHANGE));
+        }
+        //setIsNoSignificantChange(true);
+    }
+
+    /**
+     * Decode the unparsed data
+     *
+     * @param value
+     */
+    private void decodeUnparsed(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_UNPARSED_DATA));
+        }
+        if (parseString == null) {
+            parseString = new ArrayList<>();
+        }
+        setParseString(value.getMatcher());
+    }
+
     /**
      * Set the valid from date information
      *
@@ -253,11 +309,13 @@ public class Group {
                 Group.this.setValidFromDate(UtilsDate.setDate(token.substring(0, 2),
                         token.substring(2, 4), token.substring(4, 6),
                         monthString, yearString));
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_VALID_FROM_DATE")
-                        + " " + getValidFromDate() + "\n");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_VALID_FROM_DATE)
+                            + " " + getValidFromDate() + "\n");
+                }
             } catch (NumberFormatException | UtilsException e) {
-                String errMsg = Configs.getInstance()
-                        .getString("LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE") + " " + e;
+                String errMsg = configs
+                        .getString(ConfigKey.LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE) + " " + e;
                 LOGGER.error(errMsg);
             }
         }
@@ -268,23 +326,27 @@ public class Group {
      *
      * @param token
      */
-    protected void setValidToFromDateInfo(Matcher token) {
-        if (token.group("bvaltime") != null && token.group("evaltime") != null) {
+    protected void setValidToFromDateInfo(RegExprMatch token) {
+        String bvaltime = token.group(RegExprConst.VALTMPER_BVALTIME);
+        String evaltime = token.group(RegExprConst.VALTMPER_EVALTIME);
+        if (bvaltime != null && evaltime != null) {
             // 1918/2018 means it is valid from the 19th 1800Z to the 20th 1800Z
             try {
-                setValidFromDate(UtilsDate.setDate(token.group("bvaltime").substring(0, 2),
-                        token.group("bvaltime").substring(2, 4), "00",
+                setValidFromDate(UtilsDate.setDate(bvaltime.substring(0, 2),
+                        bvaltime.substring(2, 4), "00",
                         monthString, yearString));
-                setValidToDate(UtilsDate.setDate(token.group("evaltime").substring(0, 2),
-                        token.group("evaltime").substring(2, 4), "00",
+                setValidToDate(UtilsDate.setDate(evaltime.substring(0, 2),
+                        evaltime.substring(2, 4), "00",
                         monthString, yearString));
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_VALID_FROM_DATE")
-                        + " " + getValidFromDate());
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_VALID_TO_DATE")
-                        + " " + getValidToDate() + "\n");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_VALID_FROM_DATE)
+                            + " " + getValidFromDate());
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_VALID_TO_DATE)
+                            + " " + getValidToDate() + "\n");
+                }
             } catch (NumberFormatException | UtilsException e) {
-                String errMsg = Configs.getInstance()
-                        .getString("LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE") + " " + e;
+                String errMsg = configs
+                        .getString(ConfigKey.LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE) + " " + e;
                 LOGGER.error(errMsg);
             }
         }
@@ -301,8 +363,8 @@ public class Group {
     protected String getNaturalLanguageString(String groupString) {
         String temp = groupString;
 
-        if (groupString.equals(Configs.getInstance()
-                .getString("EXTENDED_DECODED_FM"))) {
+        if (groupString.equals(configs
+                .getString(ConfigKey.EXTENDED_DECODED_FM))) {
             temp += " " + validFromDate;
         } else {
             temp += " from " + validFromDate + " to " + validToDate;
@@ -339,7 +401,7 @@ public class Group {
         if (visibilityGroup != null) {
             if (visibilityGroup.isCavok()) {
                 temp += "\n     Visibility : "
-                        + Configs.getInstance().getString("WEATHER_DECODED_CAVOK");
+                        + configs.getString(ConfigKey.WEATHER_DECODED_CAVOK);
             } else if (visibilityGroup.isVisibilityGreaterThan()) {
                 temp += "\n     Visibility : Greater than "
                         + visibilityGroup.getVisibility() + " mile(s), "
@@ -369,8 +431,9 @@ public class Group {
             temp += "\n\n     Total sky conditions: "
                     + skyConditionsGroup.size();
 
-            List<String> skyCondList
-                    = new ArrayList<>(skyConditionsGroup.values());
+            List<String> skyCondList = new ArrayList<>(getRenderer()
+                    .renderAll(skyConditionsGroup, skyCondIndex - skyConditionsGroup.size() + 1)
+                    .values());
             Collections.sort(skyCondList);
             temp = skyCondList.stream().map((value)
                     -> "\n     Value: " + value.substring(2)).reduce(temp, String::concat);
@@ -380,8 +443,8 @@ public class Group {
             temp += "\n\n     Total weather conditions: "
                     + weatherConditionsGroup.size();
 
-            List<String> skyCondList
-                    = new ArrayList<>(weatherConditionsGroup.values());
+            List<String> skyCondList = new ArrayList<>(getRenderer()
+                    .renderAll(weatherConditionsGroup, 0).values());
             Collections.sort(skyCondList);
             temp = skyCondList.stream().map((value)
                     -> "\n     Value: " + value).reduce(temp, String::concat);
@@ -408,6 +471,27 @@ public class Group {
         this.validFromDate = validFromDate;
     }
 
+    /**
+     * Get the configuration of the locale to decode with
+     *
+     * @return configs
+     */
+    public Configs getConfigs() {
+        return configs;
+    }
+
+    /**
+     * Get the renderer of the natural language of this group
+     *
+     * @return renderer
+     */
+    protected NaturalLanguageRenderer getRenderer() {
+        if (renderer == null) {
+            renderer = new NaturalLanguageRenderer(configs);
+        }
+        return renderer;
+    }
+
     /**
      * Get validFromDate
      *
@@ -531,7 +615,10 @@ public class Group {
      * @param token
      */
     public void setParseString(Matcher token) {
-        LOGGER.debug("Unparsed: #" + token.group("unparsed") + "#");
-        this.parseString.add(token.group("unparsed"));
+        String unparsed = token.group(RegExprConst.UNPARSED_UNPARSED);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Unparsed: #" + unparsed + "#");
+        }
+        this.parseString.add(unparsed);
     }
 }
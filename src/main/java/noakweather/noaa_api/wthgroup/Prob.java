@@ -16,13 +16,12 @@
  */
 package noakweather.noaa_api.wthgroup;
 
-import java.util.regex.Pattern;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.RegExprTable;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
  * Class representing the probability section of the report. It inherits from
@@ -36,6 +35,16 @@ public class Prob extends Group {
             = LogManager.getLogger(Prob.class.getName());
 
     public Prob() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Prob(Configs configs) {
+        super(configs);
         LOGGER.debug("in Prob constructor");
     }
 
@@ -52,12 +61,14 @@ public class Prob extends Group {
      * @throws noakweather.utils.UtilsException
      */
     public String setProbItems(String group, String token, String monthString, String yearString,
-            IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> groupWeathHandlers) throws UtilsException {
+            RegExprTable<Group> groupWeathHandlers) throws UtilsException {
 
-        LOGGER.debug("Inside setProbItems group processing: #" + group + "#");
-        LOGGER.debug("Inside setProbItems token processing: #" + token + "#");
-        LOGGER.debug("Inside setProbItems monthString: #" + monthString + "#");
-        LOGGER.debug("Inside setProbItems yearString: #" + yearString + "#\n");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Inside setProbItems group processing: #" + group + "#");
+            LOGGER.debug("Inside setProbItems token processing: #" + token + "#");
+            LOGGER.debug("Inside setProbItems monthString: #" + monthString + "#");
+            LOGGER.debug("Inside setProbItems yearString: #" + yearString + "#\n");
+        }
 
         setMonthString(monthString);
         setYearString(yearString);
@@ -65,6 +76,6 @@ public class Prob extends Group {
         parseGroupHandlers(token, groupWeathHandlers);
 
         return getNaturalLanguageString(group.substring(4)
-                + Configs.getInstance().getString("EXTENDED_DECODED_PROB"));
+                + getConfigs().getString(ConfigKey.EXTENDED_DECODED_PROB));
     }
 }
@@ -16,13 +16,12 @@
  */
 package noakweather.noaa_api.wthgroup;
 
-import java.util.regex.Pattern;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.RegExprTable;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
  * Class representing the temporary section of the report. It inherits from the
@@ -36,6 +35,16 @@ public class Tempo extends Group {
             = LogManager.getLogger(Tempo.class.getName());
 
     public Tempo() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Tempo(Configs configs) {
+        super(configs);
         LOGGER.debug("in Tempo constructor");
     }
 
@@ -51,17 +60,19 @@ public class Tempo extends Group {
      * @throws noakweather.utils.UtilsException
      */
     public String setTempoItems(String token, String monthString, String yearString,
-            IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> groupWeathHandlers) throws UtilsException {
+            RegExprTable<Group> groupWeathHandlers) throws UtilsException {
 
-        LOGGER.debug("Inside setTempoItems token processing: #" + token + "#");
-        LOGGER.debug("Inside setTempoItems monthString: #" + monthString + "#");
-        LOGGER.debug("Inside setTempoItems yearString: #" + yearString + "#\n");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Inside setTempoItems token processing: #" + token + "#");
+            LOGGER.debug("Inside setTempoItems monthString: #" + monthString + "#");
+            LOGGER.debug("Inside setTempoItems yearString: #" + yearString + "#\n");
+        }
 
         setMonthString(monthString);
         setYearString(yearString);
 
         parseGroupHandlers(token, groupWeathHandlers);
 
-        return getNaturalLanguageString(Configs.getInstance().getString("EXTENDED_DECODED_TEMPO"));
+        return getNaturalLanguageString(getConfigs().getString(ConfigKey.EXTENDED_DECODED_TEMPO));
     }
 }
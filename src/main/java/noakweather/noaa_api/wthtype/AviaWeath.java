@@ -18,8 +18,13 @@ package noakweather.noaa_api.wthtype;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import noakweather.noaa_api.common.NaturalLanguageRenderer;
 import noakweather.noaa_api.common.Remarks;
 import noakweather.noaa_api.common.RunwayVisualRange;
 import noakweather.noaa_api.common.SkyCondition;
@@ -30,15 +35,24 @@ import noakweather.noaa_api.weather.Visibility;
 import noakweather.noaa_api.weather.Wind;
 import noakweather.noaa_api.wthgroup.Becoming;
 import noakweather.noaa_api.wthgroup.FromGroup;
+import noakweather.noaa_api.wthgroup.Group;
 import noakweather.noaa_api.wthgroup.Prob;
 import noakweather.noaa_api.wthgroup.Tempo;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
 import noakweather.utils.IndexedLinkedHashMap;
+import noakweather.utils.ParserMode;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprHandler;
+import noakweather.utils.RegExprHandlers;
+import noakweather.utils.RegExprMatch;
+import noakweather.utils.RegExprSpans;
+import noakweather.utils.RegExprTable;
+import noakweather.utils.StationIds;
 import noakweather.utils.UtilsDate;
 import noakweather.utils.UtilsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
  * Class representing the base class of the METAR and TAF classes
@@ -62,6 +76,7 @@ public class AviaWeath {
     private String dayTemp;
     private String reportString;
     private String stationID;
+    private int stationCode;
     private String dateString;
     private String reportModifier;
     private String monthString;
@@ -72,9 +87,14 @@ public class AviaWeath {
     private Temperature temperature;
     private Pressure pressure;
     private RunwayVisualRange runwayVisualRange;
+    private ArrayList<RunwayVisualRange> runwayVisualRangeList;
+    private ArrayList<WeatherCondition> weatherConditionList;
+    private ArrayList<SkyCondition> skyConditionList;
+    // Rendered on first read, see getRenderer()
     private IndexedLinkedHashMap<RunwayVisualRange, String> runwayVisualRanges;
     private IndexedLinkedHashMap<WeatherCondition, String> weatherConditions;
     private IndexedLinkedHashMap<SkyCondition, String> skyConditions;
+    private NaturalLanguageRenderer renderer;
     private WeatherCondition weatherConditionRemark;
     private FromGroup fromGroup;
     private IndexedLinkedHashMap<FromGroup, String> fromGroups;
@@ -84,21 +104,71 @@ public class AviaWeath {
     private IndexedLinkedHashMap<Tempo, String> tempos;
     private Prob prob;
     private IndexedLinkedHashMap<Prob, String> probs;
+    private ParserMode parserMode;
 
     protected Remarks remarks;
     protected WeatherCondition weatherCondition;
     protected SkyCondition skyCondition;
-    protected IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> aviaMainWthHandlers;
-    protected IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> aviaRemarkWthHandlers;
-    protected IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> aviaGroupWthHandlers;
+    protected RegExprTable<AviaWeath> aviaMainWthHandlers;
+    protected RegExprTable<AviaWeath> aviaRemarkWthHandlers;
+    protected RegExprTable<Group> aviaGroupWthHandlers;
+    private IndexedLinkedHashMap<String, String> customRemarks;
+    private boolean isLazy;
+    private RegExprSpans<AviaWeath> mainSpans;
+    private RegExprSpans<AviaWeath> remarkSpans;
+    private EnumSet<MetarField> lazyFields;
+    private UtilsException decodeError;
+
+    private final Configs configs;
 
     private static final Logger LOGGER
             = LogManager.getLogger(AviaWeath.class.getName());
 
+    /**
+     * The shared METAR main table
+     */
+    public static final RegExprTable<AviaWeath> METAR_MAIN_TABLE
+            = new RegExprTable<>(RegExprHandlers.METAR_MAIN_PLAN, buildMainDecoders());
+
+    /**
+     * The shared TAF main table
+     */
+    public static final RegExprTable<AviaWeath> TAF_MAIN_TABLE
+            = new RegExprTable<>(RegExprHandlers.TAF_MAIN_PLAN, buildMainDecoders());
+
+    /**
+     * The shared remarks table. Custom remark groups are added with
+     * REMARKS_TABLE.withHandler(...) and setAviaRemarkWeathHandlers(...)
+     */
+    public static final RegExprTable<AviaWeath> REMARKS_TABLE
+            = new RegExprTable<>(RegExprHandlers.REMARKS_PLAN, buildRemarkDecoders());
+
+    private static final Map<String, RegExprHandler<AviaWeath>> REMARK_ITEM_DECODERS
+            = buildRemarkItemDecoders();
+
+    /**
+     * Decoder of a remark group matched by its regular expression
+     */
+    @FunctionalInterface
+    private interface RemarkDecoder {
+
+        void decode(AviaWeath target, Matcher value) throws UtilsException;
+    }
+
     /**
      * Constructor
      */
     public AviaWeath() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public AviaWeath(Configs configs) {
+        this.configs = configs;
         LOGGER.debug("in AviaWeath constructor");
         this.skyCondIndex = 0;
         this.fmIndex = 0;
@@ -126,15 +196,24 @@ public class AviaWeath {
         this.pressure = null;
         this.remarks = null;
         this.runwayVisualRange = null;
+        this.runwayVisualRangeList = null;
         this.runwayVisualRanges = null;
         this.weatherCondition = null;
+        this.weatherConditionList = null;
         this.weatherConditions = null;
         this.skyCondition = null;
+        this.skyConditionList = null;
         this.skyConditions = null;
         this.weatherConditionRemark = null;
         this.aviaMainWthHandlers = null;
-        this.aviaRemarkWthHandlers = null;
+        this.aviaRemarkWthHandlers = REMARKS_TABLE;
         this.aviaGroupWthHandlers = null;
+        this.customRemarks = null;
+        this.isLazy = false;
+        this.mainSpans = null;
+        this.remarkSpans = null;
+        this.lazyFields = null;
+        this.decodeError = null;
         this.fromGroup = null;
         this.fromGroups = null;
         this.becoming = null;
@@ -143,6 +222,7 @@ public class AviaWeath {
         this.tempos = null;
         this.prob = null;
         this.probs = null;
+        this.parserMode = ParserMode.REGEX;
     }
 
     /**
@@ -153,418 +233,947 @@ public class AviaWeath {
      * @param handlersType
      * @throws noakweather.utils.UtilsException
      */
-    protected void parseAviaHandlers(String token, IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> handlers, String handlersType) throws UtilsException {
-        boolean isFound = false;
-        while (!token.isEmpty()) {
-            LOGGER.debug("\n");
-            LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_TOKEN_PROCESSING")
-                    + " #" + token + "#");
-            handlers.keySet();
-            for (Pattern i : handlers.keySet()) {
-                LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_PATTERN_I")
-                        + " #" + i + "#  #" + handlers.get(i) + "#");
-                Matcher matcher = i.matcher(token);
-                while (matcher.find()) {
-                    isFound = true;
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_MATCHER_GROUP_CNT")
-                            + " " + matcher.groupCount());
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_MATCHER_GROUP_0")
-                            + " #" + matcher.group(0) + "#");
-                    if (matcher.group(0).equals("")) {
-                        break;
-                    }
-                    for (int j = 1; j <= matcher.groupCount(); j++) {
-                        LOGGER.debug(Configs.getInstance()
-                                .getString("MATCH_DECODED_CAPTURE_GROUP_NUMBER")
-                                + " " + Configs.getInstance()
-                                        .getString("MATCH_DECODED_CAPTURE_GROUP_NUMBER")
-                                + " " + j + "   " + Configs.getInstance()
-                                        .getString("MATCH_DECODED_CAPTURED_TEXT")
-                                + " #" + matcher.group(j) + "#");
-                    }
-                    if (handlersType.equals(Configs.getInstance()
-                            .getString("AVIA_MAIN_HANDLERS"))) {
-                        detMainItems(handlers.get(i).getValue0(), matcher);
-                    } else if (handlersType.equals(Configs.getInstance()
-                            .getString("AVIA_REMARK_HANDLERS"))) {
-                        detRemarkItems(handlers.get(i).getValue0(), matcher);
-                    }
-                    token = matcher.replaceFirst("").trim();
-                    //This is necessary to make sure the last token is properly processed
-                    if (token.length() > 0) {
-                        token = token + " ";
-                    }
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_TOKEN_AFTER_LAST_MATCH")
-                            + " #" + token);
-                    LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_PATTERN")
-                            + " " + handlers.get(i).getValue1());
-                    if (handlers.get(i).getValue1().equals(false)) {
-                        break;
-                    }
-                    matcher = i.matcher(token);
-                }
-                if (isFound) {
-                    isFound = false;
-                    break;
-                }
-            }
+    protected void parseAviaHandlers(String token, RegExprTable<AviaWeath> handlers, String handlersType) throws UtilsException {
+        if (handlersType.equals(configs.getString(ConfigKey.AVIA_MAIN_HANDLERS))) {
+            handlers.parse(this, token, parserMode);
+        } else if (handlersType.equals(configs.getString(ConfigKey.AVIA_REMARK_HANDLERS))) {
+            handlers.parse(this, token, ParserMode.REGEX);
+        }
+    }
+
+    /**
+     * Index the avia handlers information. Only the span of every group is
+     * recorded, the groups are decoded on first access of their field
+     *
+     * @param token
+     * @param handlers
+     * @param handlersType
+     * @throws noakweather.utils.UtilsException
+     */
+    protected void indexAviaHandlers(String token, RegExprTable<AviaWeath> handlers, String handlersType) throws UtilsException {
+        if (lazyFields == null) {
+            lazyFields = EnumSet.allOf(MetarField.class);
+        }
+        if (handlersType.equals(configs.getString(ConfigKey.AVIA_MAIN_HANDLERS))) {
+            mainSpans = handlers.index(token, parserMode);
+        } else if (handlersType.equals(configs.getString(ConfigKey.AVIA_REMARK_HANDLERS))) {
+            remarkSpans = handlers.index(token, ParserMode.REGEX);
+        }
+    }
+
+    /**
+     * Decode a field of an indexed report, if it is not decoded yet. The
+     * station comes first as the dates of the other groups use its month and
+     * year. The remarks add to the wind, visibility, temperature and
+     * pressure, so these fields (and the unparsed data, to keep its order)
+     * are decoded before the remarks. A report with a group that fails to
+     * decode is not valid, as it is for the eager parse, so every field read
+     * after the failure fails too
+     *
+     * @param field
+     * @throws IllegalStateException if a group of the report fails to decode,
+     * the cause is the UtilsException of the decoder
+     */
+    protected void decodeLazy(MetarField field) {
+        if (decodeError == null) {
+            try {
+                decodeField(field);
+            } catch (UtilsException e) {
+                String errMsg = configs
+                        .getString(ConfigKey.LOG_DECODED_UNABLE_DECODE_FIELD) + " " + field + " " + e;
+                LOGGER.error(errMsg);
+                decodeError = e;
+            }
+        }
+        if (decodeError != null) {
+            throw new IllegalStateException(configs
+                    .getString(ConfigKey.LOG_DECODED_UNABLE_DECODE_FIELD) + " " + field, decodeError);
+        }
+    }
+
+    /**
+     * Get the error of the lazy decode of the report
+     *
+     * @return the error, null if no field failed to decode
+     */
+    public UtilsException getDecodeError() {
+        return decodeError;
+    }
+
+    /**
+     * Decode the fields of the projection of an indexed report. The fields
+     * outside the projection are never decoded
+     *
+     * @param fields
+     * @throws noakweather.utils.UtilsException
+     */
+    protected void decodeProjection(Set<MetarField> fields) throws UtilsException {
+        if (lazyFields == null) {
+            return;
+        }
+        for (MetarField field : fields) {
+            decodeField(field);
+        }
+        lazyFields.clear();
+        mainSpans = null;
+        remarkSpans = null;
+    }
+
+    /**
+     * Decode a field of an indexed report, if it is not decoded yet
+     *
+     * @param field
+     * @throws noakweather.utils.UtilsException
+     */
+    private void decodeField(MetarField field) throws UtilsException {
+        // Remove the field first, the decoders read the report back
+        if (lazyFields == null || !lazyFields.remove(field)) {
+            return;
+        }
+        if (field != MetarField.STATION) {
+            decodeField(MetarField.STATION);
+        }
+        if (field == MetarField.REMARKS) {
+            decodeField(MetarField.WIND);
+            decodeField(MetarField.VISIBILITY);
+            decodeField(MetarField.TEMPERATURE);
+            decodeField(MetarField.ALTIMETER);
+            decodeField(MetarField.UNPARSED);
+            if (remarkSpans != null) {
+                remarks = new Remarks(configs);
+                remarkSpans.decodeAll(this);
+            }
+        } else {
+            if (mainSpans != null) {
+                mainSpans.decode(this, field.getMainNames());
+            }
+            if (remarkSpans != null && !field.getRemarkNames().isEmpty()) {
+                remarkSpans.decode(this, field.getRemarkNames(), REMARK_ITEM_DECODERS);
+            }
+        }
+    }
+
+    /**
+     * Build the main decode callbacks by handler name
+     *
+     * @return decoders
+     */
+    private static Map<String, RegExprHandler<AviaWeath>> buildMainDecoders() {
+        Map<String, RegExprHandler<AviaWeath>> decoders = new HashMap<>();
+        decoders.put("mnthdayyr", AviaWeath::decodeMonthDayYear);
+        decoders.put("station", AviaWeath::decodeStation);
+        decoders.put("reportmodifier", AviaWeath::decodeReportModifier);
+        decoders.put("wind", AviaWeath::decodeWind);
+        decoders.put("visibility", AviaWeath::decodeVisibility);
+        decoders.put("runway", AviaWeath::decodeRunway);
+        decoders.put("presentweather", AviaWeath::decodePresentWeather);
+        decoders.put("skycondition", AviaWeath::decodeSkyCondition);
+        decoders.put("tempdewpoint", AviaWeath::decodeTempDewPoint);
+        decoders.put("altimeter", AviaWeath::decodeAltimeter);
+        decoders.put("nosigchng", AviaWeath::decodeNoSignificantChange);
+        decoders.put("tafstr", AviaWeath::decodeTafString);
+        decoders.put("grpbecmgtempprob", AviaWeath::decodeGroups);
+        decoders.put("grpfm", AviaWeath::decodeFromGroup);
+        decoders.put("unparsed", AviaWeath::decodeUnparsed);
+        return decoders;
+    }
+
+    /**
+     * Build the remarks decode callbacks by handler name
+     *
+     * @return decoders
+     */
+    private static Map<String, RegExprHandler<AviaWeath>> buildRemarkDecoders() {
+        Map<String, RegExprHandler<AviaWeath>> decoders = new HashMap<>();
+        decoders.put("presrisfal", remark(AviaWeath::decodePressureRisingFalling));
+        decoders.put("trnfcwsp", remark(AviaWeath::decodeTornadicActivity));
+        decoders.put("auto", remark(AviaWeath::decodeAutomatedStation));
+        decoders.put("beginendwthr", remark(AviaWeath::decodeBeginEndWeather));
+        decoders.put("sealvlpress", remark(AviaWeath::decodeSeaLevelPressure));
+        decoders.put("peakwind", remark(AviaWeath::decodePeakWind));
+        decoders.put("windshift", remark(AviaWeath::decodeWindShift));
+        decoders.put("twrsfcvis", remark(AviaWeath::decodeTowerSurfaceVisibility));
+        decoders.put("vpvsvvsl", remark(AviaWeath::decodeVariableVisibility));
+        decoders.put("lightning", remark(AviaWeath::decodeLightning));
+        decoders.put("tsloc", remark(AviaWeath::decodeThunderstormLocation));
+        decoders.put("icing", remark(AviaWeath::decodeIcing));
+        decoders.put("sixhrmaxmintemp", remark(AviaWeath::decodeSixHourMaxMinTemperature));
+        decoders.put("precip1hr", remark(AviaWeath::decodeHourlyPrecipitation));
+        decoders.put("precip3hr24hr", remark(AviaWeath::decodeSixTwentyFourHourPrecipitation));
+        decoders.put("temp1hr", remark(AviaWeath::decodeHourlyTemperature));
+        decoders.put("temp24hr", remark(AviaWeath::decodeTwentyFourHourMaxMinTemperature));
+        decoders.put("press3hr", remark(AviaWeath::decodeThreeHourPressureTendency));
+        decoders.put("denalt", remark(AviaWeath::decodeDensityAltitude));
+        decoders.put("cloudokta", remark(AviaWeath::decodeCloudOkta));
+        decoders.put("lastobs", remark(AviaWeath::decodeLastObservation));
+        decoders.put("pressqfn", remark(AviaWeath::decodeQFEQNHQNEPressure));
+        decoders.put("automaint", remark(AviaWeath::decodeAutomatedMaintenance));
+        decoders.put("snwongrnd", remark(AviaWeath::decodeSnowOnGround));
+        decoders.put("nxtfcstby", remark(AviaWeath::decodeNextForecastBy));
+        decoders.put("windre", remark(AviaWeath::decodeRemarkWind));
+        decoders.put("unparsed", remark(AviaWeath::decodeRemarkUnparsed));
+        return decoders;
+    }
+
+    /**
+     * Build the callbacks that only set the items a remark adds to the wind,
+     * visibility, temperature or pressure, by handler name. They let a lazy
+     * report decode these fields without the rest of the remarks.
+     *
+     * @return decoders
+     */
+    private static Map<String, RegExprHandler<AviaWeath>> buildRemarkItemDecoders() {
+        Map<String, RegExprHandler<AviaWeath>> decoders = new HashMap<>();
+        decoders.put("sealvlpress", remark(AviaWeath::setSeaLevelPressureItems));
+        decoders.put("peakwind", remark(AviaWeath::setPeakWindItems));
+        decoders.put("twrsfcvis", remark(AviaWeath::setTowerSurfaceVisibilityItems));
+        decoders.put("vpvsvvsl", remark(AviaWeath::setVariableVisibilityItems));
+        decoders.put("sixhrmaxmintemp", remark(AviaWeath::setSixHourMaxMinTemperatureItems));
+        decoders.put("temp1hr", remark(AviaWeath::setHourlyTemperatureItems));
+        decoders.put("temp24hr", remark(AviaWeath::setTwentyFourHourMaxMinTemperatureItems));
+        decoders.put("press3hr", remark(AviaWeath::setThreeHourPressureTendencyItems));
+        decoders.put("pressqfn", remark(AviaWeath::setQFEQNHQNEPressureItems));
+        return decoders;
+    }
+
+    /**
+     * Adapt a remark decoder, the remark groups are always matched with their
+     * regular expression
+     *
+     * @param decoder
+     * @return decode callback
+     */
+    private static RegExprHandler<AviaWeath> remark(RemarkDecoder decoder) {
+        return (target, match) -> decoder.decode(target, match.getMatcher());
+    }
+
+    /**
+     * Decode the year and month data
+     *
+     * @param value
+     */
+    private void decodeMonthDayYear(RegExprMatch value) throws UtilsException {
+        String year = value.group(RegExprConst.MONTH_DAY_YEAR_YEAR);
+        String month = value.group(RegExprConst.MONTH_DAY_YEAR_MONTH);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("year: #" + year + "#");
+            LOGGER.debug("month: #" + month + "#");
+            LOGGER.debug("day: #" + value.group(RegExprConst.MONTH_DAY_YEAR_DAY) + "#");
+            LOGGER.debug("time: #" + value.group(RegExprConst.MONTH_DAY_YEAR_TIME) + "#");
+        }
+        setYearString(year);
+        setMonthString(month);
+    }
+
+    /**
+     * Decode the station data
+     *
+     * @param value
+     */
+    private void decodeStation(RegExprMatch value) throws UtilsException {
+        String station = value.group(RegExprConst.STATION_DAY_TIME_VALTMPER_STATION);
+        String zday = value.group(RegExprConst.STATION_DAY_TIME_VALTMPER_ZDAY);
+        String zhour = value.group(RegExprConst.STATION_DAY_TIME_VALTMPER_ZHOUR);
+        String zmin = value.group(RegExprConst.STATION_DAY_TIME_VALTMPER_ZMIN);
+        String bvaltime = value.group(RegExprConst.STATION_DAY_TIME_VALTMPER_BVALTIME);
+        String evaltime = value.group(RegExprConst.STATION_DAY_TIME_VALTMPER_EVALTIME);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("stationID: #" + station + "#");
+            LOGGER.debug("zday: #" + zday + "#");
+            LOGGER.debug("zhour: #" + zhour + "#");
+            LOGGER.debug("zmin: #" + zmin + "#");
+            LOGGER.debug("bvaltime: #" + bvaltime + "#");
+            LOGGER.debug("evaltime: #" + evaltime + "#");
+        }
+        setStationID(station);
+        setDateInfo(zday, zhour, zmin);
+        setValidToFromDateInfo(bvaltime, evaltime);
+    }
+
+    /**
+     * Decode the report modifier data
+     *
+     * @param value
+     */
+    private void decodeReportModifier(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.MATCH_DECODED_PATTERN)
+                    + " #" + getReportModifier() + "#");
+        }
+        setReportModifier(value.group(RegExprConst.REPORT_MODIFIER_MOD));
+    }
+
+    /**
+     * Decode the wind data
+     *
+     * @param value
+     */
+    private void decodeWind(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_WIND));
+        }
+        if (wind == null) {
+            wind = new Wind(configs);
+        }
+        wind.setMainWindItems(value, 'M');
+    }
+
+    /**
+     * Decode the visibility data
+     *
+     * @param value
+     */
+    private void decodeVisibility(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_VISIBILITY));
+        }
+        if (visibility == null) {
+            visibility = new Visibility(configs);
+        }
+        visibility.setVisibilityItems(value);
+    }
+
+    /**
+     * Decode the runway visual range data
+     *
+     * @param value
+     */
+    private void decodeRunway(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_RVR));
+        }
+        if (runwayVisualRangeList == null) {
+            runwayVisualRangeList = new ArrayList<>();
+        }
+        parseRunVisualRange(value);
+    }
+
+    /**
+     * Decode the present weather data
+     *
+     * @param value
+     */
+    private void decodePresentWeather(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_WEATHER_GROUPS));
+        }
+        if (weatherConditionList == null) {
+            weatherConditionList = new ArrayList<>();
+        }
+        weatherCondition = new WeatherCondition(configs);
+        weatherCondition.setWeatherConditionItems(value);
+        weatherConditionList.add(weatherCondition);
+        weatherConditions = null;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_WEATHER_CONDITIONS)
+                    + " " + weatherCondition.getNaturalLanguageString());
+        }
+    }
+
+    /**
+     * Decode the sky condition data
+     *
+     * @param value
+     */
+    private void decodeSkyCondition(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_SKY_CONDITIONS));
+        }
+        if (skyConditionList == null) {
+            skyConditionList = new ArrayList<>();
+        }
+        skyCondition = new SkyCondition(configs);
+        skyCondition.setSkyConditionItems(value);
+        skyCondIndex++;
+        skyConditionList.add(skyCondition);
+        skyConditions = null;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_SKY_CONDITIONS)
+                    + " " + skyCondition.getNaturalLanguageString());
+        }
+    }
+
+    /**
+     * Decode the temperature and dew point data
+     *
+     * @param value
+     */
+    private void decodeTempDewPoint(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_TEMPERATURE_DEWPOINT));
+        }
+        if (temperature == null) {
+            temperature = new Temperature(configs);
+        }
+        temperature.setTemperatureItems(value);
+    }
+
+    /**
+     * Decode the pressure data
+     *
+     * @param value
+     */
+    private void decodeAltimeter(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_PRESSURE));
+        }
+        pressure = new Pressure(configs);
+        pressure.setPressureItems(value);
+    }
+
+    /**
+     * Decode the no significant change data
+     *
+     * @param value
+     */
+    private void decodeNoSignificantChange(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_NO_SIGNIFICANT_CHANGE));
+        }
+        setIsNoSignificantChange(true);
+    }
+
+    /**
+     * Decode the TAF string, which is captured but ignored
+     *
+     * @param value
+     */
+    private void decodeTafString(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.MISC_TAF));
+        }
+    }
+
+    /**
+     * Decode the BECMG, TEMPO and PROB group data
+     *
+     * @param value
+     */
+    private void decodeGroups(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_BECMGTEMPOPROBFM_DATA));
+        }
+        parseGroups(value.group(RegExprConst.GROUP_BECMG_TEMPO_PROB_GROUP), null,
+                value.group(RegExprConst.GROUP_BECMG_TEMPO_PROB_OBS));
+    }
+
+    /**
+     * Decode the FM group data
+     *
+     * @param value
+     */
+    private void decodeFromGroup(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_BECMGTEMPOPROBFM_DATA));
+        }
+        parseGroups(value.group(RegExprConst.GROUP_FM_GROUP),
+                value.group(RegExprConst.GROUP_FM_DAYTIME), value.group(RegExprConst.GROUP_FM_OBS));
+    }
+
+    /**
+     * Decode the unparsed data
+     *
+     * @param value
+     */
+    private void decodeUnparsed(RegExprMatch value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_UNPARSED_DATA));
+        }
+        if (parseString == null) {
+            parseString = new ArrayList<>();
+        }
+        setParseString(value.getMatcher());
+    }
+
+    /**
+     * Decode the pressure rising or falling rapidly data
+     *
+     * @param value
+     */
+    private void decodePressureRisingFalling(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_PRESSURE_RISING_FALLING_RAPIDLY));
+        }
+        remarks.setPressureRFRapidlyItems(value);
+    }
+
+    /**
+     * Decode the tornadic activity data
+     *
+     * @param value
+     */
+    private void decodeTornadicActivity(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_TORNADIC_ACTIVITY));
+        }
+        remarks.setTornadicActivity(value);
+    }
+
+    /**
+     * Decode the automated station data
+     *
+     * @param value
+     */
+    private void decodeAutomatedStation(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_AUTOMATED_STATION));
+        }
+        remarks.setAutomatedStation(value);
+    }
+
+    /**
+     * Decode the beginning and end of precipitation data
+     *
+     * @param value
+     */
+    private void decodeBeginEndWeather(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_BEG_END_PRECIPITATION));
+        }
+        weatherConditionRemark = new WeatherCondition(configs);
+        weatherConditionRemark.setWeatherConditionItems(value);
+        weatherConditionRemark.setWeatherConditionBegEnd(value);
+        remarks.setWeatherConditionBegEnd(weatherConditionRemark);
+    }
+
+    /**
+     * Decode the sea level pressure data
+     *
+     * @param value
+     */
+    private void decodeSeaLevelPressure(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_SEA_LEVEL_PRESSURE));
+        }
+        setSeaLevelPressureItems(value);
+        remarks.setSeaLevelPressure(pressure);
+    }
+
+    /**
+     * Set the sea level pressure of the pressure
+     *
+     * @param value
+     */
+    private void setSeaLevelPressureItems(Matcher value) throws UtilsException {
+        if (pressure == null) {
+            pressure = new Pressure(configs);
+        }
+        pressure.setSLPressureItems(value);
+    }
+
+    /**
+     * Decode the peak wind data
+     *
+     * @param value
+     */
+    private void decodePeakWind(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_PEAK_WIND));
+        }
+        setPeakWindItems(value);
+        remarks.setPeakWindSpeed(wind);
+    }
+
+    /**
+     * Set the peak wind of the wind
+     *
+     * @param value
+     */
+    private void setPeakWindItems(Matcher value) throws UtilsException {
+        if (wind == null) {
+            wind = new Wind(configs);
+        }
+        wind.setPeakWindItems(value);
+    }
+
+    /**
+     * Decode the wind shift data
+     *
+     * @param value
+     */
+    private void decodeWindShift(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_WIND_SHIFT));
+        }
+        remarks.setWindShiftItems(value);
+    }
+
+    /**
+     * Decode the tower or surface visibility data
+     *
+     * @param value
+     */
+    private void decodeTowerSurfaceVisibility(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_TWRSRFVIS));
+        }
+        setTowerSurfaceVisibilityItems(value);
+        remarks.setTowerSurfVisItems(visibility);
+    }
+
+    /**
+     * Set the tower or surface visibility of the visibility
+     *
+     * @param value
+     */
+    private void setTowerSurfaceVisibilityItems(Matcher value) throws UtilsException {
+        if (visibility == null) {
+            visibility = new Visibility(configs);
+        }
+        visibility.setTowerSurfVisItems(value);
+    }
+
+    /**
+     * Decode the variable prevailing visibility, sector visibility or visibility
+     * at second location data
+     *
+     * @param value
+     */
+    private void decodeVariableVisibility(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs
+                    .getString(ConfigKey.LOG_DECODED_FOUND_VARPREVVIS_SECTORVIS_VISSECONDLOC));
+        }
+        setVariableVisibilityItems(value);
+        remarks.setVarPrevVisSecVisVisSecLocItems(visibility);
+    }
+
+    /**
+     * Set the variable prevailing visibility, sector visibility or visibility at
+     * second location of the visibility
+     *
+     * @param value
+     */
+    private void setVariableVisibilityItems(Matcher value) throws UtilsException {
+        // A new instance of Visibility should be created as this is
+        // shared with 3 different remarks
+        if (visibility == null) {
+            visibility = new Visibility(configs);
+        }
+        visibility.setVarPrevVisSecVisVisSecLocItems(value);
+    }
+
+    /**
+     * Decode the lightning data
+     *
+     * @param value
+     */
+    private void decodeLightning(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_LIGHTNING));
+        }
+        remarks.setLightningItems(value);
+    }
+
+    /**
+     * Decode the thunderstorm location data
+     *
+     * @param value
+     */
+    private void decodeThunderstormLocation(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_THUNDERSTORM_LOC));
+        }
+        remarks.setThunderCloudLocationItems(value);
+    }
+
+    /**
+     * Decode the icing data
+     *
+     * @param value
+     */
+    private void decodeIcing(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_ICING));
+        }
+        remarks.setIcingItems(value);
+    }
+
+    /**
+     * Decode the 6-hourly maximum or minimum temperature data
+     *
+     * @param value
+     */
+    private void decodeSixHourMaxMinTemperature(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_6_HOURLY_MAX_MIN_TEMPERATURE));
+        }
+        setSixHourMaxMinTemperatureItems(value);
+        switch (Integer.parseInt(value.group(RegExprConst.TEMP_6HR_MAX_MIN_TYPE))) {
+            case 1:
+                remarks.setSixHourMaximumTemperature(temperature);
+                break;
+            case 2:
+                remarks.setSixHourMinimumTemperature(temperature);
+                break;
+            // Should not happen
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Set the 6-hourly maximum or minimum temperature of the temperature
+     *
+     * @param value
+     */
+    private void setSixHourMaxMinTemperatureItems(Matcher value) throws UtilsException {
+        if (temperature == null) {
+            temperature = new Temperature(configs);
+        }
+        temperature.setSixHourMaxMinTemperature(value);
+    }
+
+    /**
+     * Decode the precipitation that has fallen in the past hour
+     *
+     * @param value
+     */
+    private void decodeHourlyPrecipitation(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_PRECIPITATION_FALLEN_PAST_HOUR));
         }
+        remarks.setHourlyPrecipitationItems(value);
     }
 
     /**
-     * Determine the main data information
+     * Decode the 3hr/6hr/24hr precipitation data
      *
-     * @param type
      * @param value
      */
-    private void detMainItems(String type, Matcher value) throws UtilsException {
-        switch (type) {
-            case "mnthdayyr":
-                // We have year and month data
-                LOGGER.debug("year: #" + value.group("year") + "#");
-                LOGGER.debug("month: #" + value.group("month") + "#");
-                LOGGER.debug("day: #" + value.group("day") + "#");
-                LOGGER.debug("time: #" + value.group("time") + "#");
-                setYearString(value.group("year"));
-                setMonthString(value.group("month"));
-                break;
-            case "station":
-                // We have station data
-                LOGGER.debug("stationID: #" + value.group("station") + "#");
-                LOGGER.debug("zday: #" + value.group("zday") + "#");
-                LOGGER.debug("zhour: #" + value.group("zhour") + "#");
-                LOGGER.debug("zmin: #" + value.group("zmin") + "#");
-                LOGGER.debug("bvaltime: #" + value.group("bvaltime") + "#");
-                LOGGER.debug("evaltime: #" + value.group("evaltime") + "#");
-                setStationID(value.group("station"));
-                setDateInfo(value);
-                setValidToFromDateInfo(value);
-                break;
-            case "reportmodifier":
-                // We have reportmodifier data
-                LOGGER.debug(Configs.getInstance().getString("MATCH_DECODED_PATTERN")
-                        + " #" + getReportModifier() + "#");
-                setReportModifier(value.group("mod"));
-                break;
-            case "wind":
-                // We have wind data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_WIND"));
-                if (wind == null) {
-                    wind = new Wind();
-                }
-                wind.setMainWindItems(value, 'M');
-                break;
-            case "visibility":
-                // We have visibility data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_VISIBILITY"));
-                if (visibility == null) {
-                    visibility = new Visibility();
-                }
-                visibility.setVisibilityItems(value);
-                break;
-            case "runway":
-                // We have Runaway group data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_RVR"));
-                if (runwayVisualRanges == null) {
-                    runwayVisualRanges = new IndexedLinkedHashMap<>();
-                }
-                parseRunVisualRange(value);
-                break;
-            case "presentweather":
-                // We have Present Weather data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_WEATHER_GROUPS"));
-                if (weatherConditions == null) {
-                    weatherConditions = new IndexedLinkedHashMap<>();
-                }
-                weatherCondition = new WeatherCondition();
-                weatherCondition.setWeatherConditionItems(value);
-                weatherConditions.put(weatherCondition,
-                        weatherCondition.getNaturalLanguageString());
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_WEATHER_CONDITIONS")
-                        + " " + weatherCondition.getNaturalLanguageString());
-                break;
-            case "skycondition":
-                // We have a sky condition data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_SKY_CONDITIONS"));
-                if (skyConditions == null) {
-                    skyConditions = new IndexedLinkedHashMap<>();
-                }
-                skyCondition = new SkyCondition();
-                skyCondition.setSkyConditionItems(value);
-                skyCondIndex++;
-                skyConditions.put(skyCondition,
-                        String.valueOf(skyCondIndex) + " "
-                        + skyCondition.getNaturalLanguageString());
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_SKY_CONDITIONS")
-                        + " " + skyCondition.getNaturalLanguageString());
-                break;
-            case "tempdewpoint":
-                // We have Temperature / Dew Point data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_TEMPERATURE_DEWPOINT"));
-                if (temperature == null) {
-                    temperature = new Temperature();
+    private void decodeSixTwentyFourHourPrecipitation(Matcher value) throws UtilsException {
+        switch (Integer.parseInt(value.group(RegExprConst.PRECIP_3HR_24HR_TYPE))) {
+            case 6:
+                // We have 3 and 6 hour precipitation that has fallen
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs
+                            .getString(ConfigKey.LOG_DECODED_FOUND_3_6_HOUR_PRECIPITATION_FALLEN));
                 }
-                temperature.setTemperatureItems(value);
-                break;
-            case "altimeter":
-                // We have pressure data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_PRESSURE"));
-                pressure = new Pressure();
-                pressure.setPressureItems(value);
                 break;
-            case "nosigchng":
-                // We have no significant change data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_NO_SIGNIFICANT_CHANGE"));
-                setIsNoSignificantChange(true);
-                break;
-            case "tafstr":
-                // We have a TAF string which is captured but ignored data
-                LOGGER.debug(Configs.getInstance().getString("MISC_TAF"));
-                break;
-            case "grpbecmgtempprob":
-            case "grpfm":
-                // We have group BECMG|TEMPO|PROB|FM data data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_BECMGTEMPOPROBFM_DATA"));
-                parseGroups(value);
-                break;
-            case "unparsed":
-                // We have Unparsed data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_UNPARSED_DATA"));
-                if (parseString == null) {
-                    parseString = new ArrayList<>();
+            case 7:
+                // We have 24 hour precipitation that has fallen
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs
+                            .getString(ConfigKey.LOG_DECODED_FOUND_24_HOUR_PRECIPITATION_FALLEN));
                 }
-                setParseString(value);
                 break;
+            // Should not happen
             default:
                 break;
         }
+        remarks.setSixTwentyFourHourPrecipitationItems(value);
     }
 
     /**
-     * Determine the remarks data information
+     * Decode the hourly temperature and dew point data
      *
-     * @param type
      * @param value
      */
-    private void detRemarkItems(String type, Matcher value) throws UtilsException {
-        switch (type) {
-            case "presrisfal":
-                // We have Pressure Rising or Falling Rapidly data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_PRESSURE_RISING_FALLING_RAPIDLY"));
-                remarks.setPressureRFRapidlyItems(value);
-                break;
-            case "trnfcwsp":
-                // We have Tornadic Activity data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_TORNADIC_ACTIVITY"));
-                remarks.setTornadicActivity(value);
-                break;
-            case "auto":
-                // We have Automated Station data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_AUTOMATED_STATION"));
-                remarks.setAutomatedStation(value);
-                break;
-            case "beginendwthr":
-                // We have Beginning and End of Precipitation data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_BEG_END_PRECIPITATION"));
-                weatherConditionRemark = new WeatherCondition();
-                weatherConditionRemark.setWeatherConditionItems(value);
-                weatherConditionRemark.setWeatherConditionBegEnd(value);
-                remarks.setWeatherConditionBegEnd(weatherConditionRemark);
-                break;
-            case "sealvlpress":
-                // We have a Sea Level Pressure data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_SEA_LEVEL_PRESSURE"));
-                if (pressure == null) {
-                    pressure = new Pressure();
-                }
-                pressure.setSLPressureItems(value);
-                remarks.setSeaLevelPressure(pressure);
-                break;
-            case "peakwind":
-                // We have a Peak Wind data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_PEAK_WIND"));
-                if (wind == null) {
-                    wind = new Wind();
-                }
-                wind.setPeakWindItems(value);
-                remarks.setPeakWindSpeed(wind);
-                break;
-            case "windshift":
-                // We have a Wind Shift data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_WIND_SHIFT"));
-                remarks.setWindShiftItems(value);
-                break;
-            case "twrsfcvis":
-                // We have Tower or Surface Visibility data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_TWRSRFVIS"));
-                if (visibility == null) {
-                    visibility = new Visibility();
-                }
-                visibility.setTowerSurfVisItems(value);
-                remarks.setTowerSurfVisItems(visibility);
-                break;
-            case "vpvsvvsl":
-                // We have Variable Prevailing Visibility, Sector Visibility
-                // or Visibility At Second Location data
-                LOGGER.debug(Configs.getInstance()
-                        .getString("LOG_DECODED_FOUND_VARPREVVIS_SECTORVIS_VISSECONDLOC"));
-                // A new instance of Visibility should be created as this is
-                // shared with 3 different remarks
-                if (visibility == null) {
-                    visibility = new Visibility();
-                }
-                visibility.setVarPrevVisSecVisVisSecLocItems(value);
-                remarks.setVarPrevVisSecVisVisSecLocItems(visibility);
-                break;
-            case "lightning":
-                // We have Lighting data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_LIGHTNING"));
-                remarks.setLightningItems(value);
-                break;
-            case "tsloc":
-                // We have Thunderstorm Location data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_THUNDERSTORM_LOC"));
-                remarks.setThunderCloudLocationItems(value);
-                break;
-            case "icing":
-                // We have Icing data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_ICING"));
-                remarks.setIcingItems(value);
-                break;
-            case "sixhrmaxmintemp":
-                // We have 6-hourly maximum or minimum temperature data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_6_HOURLY_MAX_MIN_TEMPERATURE"));
-                if (temperature == null) {
-                    temperature = new Temperature();
-                }
-                temperature.setSixHourMaxMinTemperature(value);
-                switch (Integer.parseInt(value.group("type"))) {
-                    case 1:
-                        remarks.setSixHourMaximumTemperature(temperature);
-                        break;
-                    case 2:
-                        remarks.setSixHourMinimumTemperature(temperature);
-                        break;
-                    // Should not happen
-                    default:
-                        break;
-                }
-                break;
-            case "precip1hr":
-                // We have precipitation that has fallen in the past hour data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_PRECIPITATION_FALLEN_PAST_HOUR"));
-                remarks.setHourlyPrecipitationItems(value);
-                break;
-            case "precip3hr24hr":
-                // We have 3hr/6hr/24hr precipitation data
-                switch (Integer.parseInt(value.group("type"))) {
-                    case 6:
-                        // We have 3 and 6 hour precipitation that has fallen
-                        LOGGER.debug(Configs.getInstance()
-                                .getString("LOG_DECODED_FOUND_3_6_HOUR_PRECIPITATION_FALLEN"));
-                        break;
-                    case 7:
-                        // We have 24 hour precipitation that has fallen
-                        LOGGER.debug(Configs.getInstance()
-                                .getString("LOG_DECODED_FOUND_24_HOUR_PRECIPITATION_FALLEN"));
-                        break;
-                    // Should not happen
-                    default:
-                        break;
-                }
-                remarks.setSixTwentyFourHourPrecipitationItems(value);
-                break;
-            case "temp1hr":
-                // We have hourly temperature and dew point data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_HOURLY_TEMPERATURE_DEWPOINT"));
-                if (temperature == null) {
-                    temperature = new Temperature();
-                }
-                temperature.setHourlyTemperatureItems(value);
-                remarks.setHourlyTemperatureDewPoint(temperature);
-                break;
-            case "temp24hr":
-                // We have 24-hour maximum  and minimum temperature data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_24_HOUR_MAX_MIN_TEMPERATURE"));
-                if (temperature == null) {
-                    temperature = new Temperature();
-                }
-                temperature.setTwentyFourHourMaxMinTemperature(value);
-                remarks.setTwentyFourHourMaxMinTemperature(temperature);
-                break;
-            case "press3hr":
-                // We have 3-hour pressure tendency data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_3_HOUR_PRESSURE_TENDENCY"));
-                if (pressure == null) {
-                    pressure = new Pressure();
-                }
-                pressure.setTendencyPressureItems(value);
-                remarks.setThreeHourPressureTendencyItems(pressure);
-                break;
-            case "denalt":
-                // We have Density Altitude data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_DENSITY_ALTITUDE"));
-                remarks.setDensityAltitudeItems(value);
-                break;
-            case "cloudokta":
-                // We have Clouds data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_CLOUDS"));
-                remarks.setCloudOktaItems(value);
-                break;
-            case "lastobs":
-                // We have Last Observation data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_LAST_OBS"));
-                remarks.setLastObsItems(value);
-                break;
-            case "pressqfn":
-                // We have QFE/QNH/QNE pressure data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_QFE_QNH_QNE_PRESSURE"));
-                if (pressure == null) {
-                    pressure = new Pressure();
-                }
-                pressure.setQFEQNHQNEPressureItems(value);
-                remarks.setQFEQNHQNEPressure(pressure);
-                break;
-            case "automaint":
-                // We have automated maintenance data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_AUTOMATED_MAINTENANCE_DATA"));
-                remarks.setAutomatedMaintenanceItems(value);
-                break;
-            case "snwongrnd":
-                // We have snow on ground data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_SNOW_ON_GROUND"));
-                remarks.setSnowOnGround(value);
-                break;
-            case "nxtfcstby":
-                // We have next forecast by data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_NEXT_FORECAST_BY"));
-                LOGGER.debug("type: #" + value.group("type") + "#");
-                LOGGER.debug("zday: #" + value.group("zday") + "#");
-                LOGGER.debug("zhour: #" + value.group("zhour") + "#");
-                LOGGER.debug("zmin: #" + value.group("zmin") + "#");
-                setNxtFcstByDateInfo(value);
-                remarks.setNextForecastItems(getNxtFcstByDate());
-                break;
-            case "windre":
-                // TODO Still needs to be coded
-                // We have a wind in the remarks section
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_REMARK_WIND"));
-                if (wind == null) {
-                    wind = new Wind();
-                }
-                //wind.setMainWindItems(value);
-                break;
-            case "unparsed":
-                // We have Unparsed data
-                LOGGER.debug(Configs.getInstance().getString("LOG_DECODED_FOUND_UNPARSED_DATA"));
-                if (parseString == null) {
-                    parseString = new ArrayList<>();
-                }
-                setParseString(value);
-                break;
-            default:
-                break;
+    private void decodeHourlyTemperature(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_HOURLY_TEMPERATURE_DEWPOINT));
+        }
+        setHourlyTemperatureItems(value);
+        remarks.setHourlyTemperatureDewPoint(temperature);
+    }
+
+    /**
+     * Set the hourly temperature and dew point of the temperature
+     *
+     * @param value
+     */
+    private void setHourlyTemperatureItems(Matcher value) throws UtilsException {
+        if (temperature == null) {
+            temperature = new Temperature(configs);
+        }
+        temperature.setHourlyTemperatureItems(value);
+    }
+
+    /**
+     * Decode the 24-hour maximum and minimum temperature data
+     *
+     * @param value
+     */
+    private void decodeTwentyFourHourMaxMinTemperature(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_24_HOUR_MAX_MIN_TEMPERATURE));
+        }
+        setTwentyFourHourMaxMinTemperatureItems(value);
+        remarks.setTwentyFourHourMaxMinTemperature(temperature);
+    }
+
+    /**
+     * Set the 24-hour maximum and minimum temperature of the temperature
+     *
+     * @param value
+     */
+    private void setTwentyFourHourMaxMinTemperatureItems(Matcher value) throws UtilsException {
+        if (temperature == null) {
+            temperature = new Temperature(configs);
+        }
+        temperature.setTwentyFourHourMaxMinTemperature(value);
+    }
+
+    /**
+     * Decode the 3-hour pressure tendency data
+     *
+     * @param value
+     */
+    private void decodeThreeHourPressureTendency(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_3_HOUR_PRESSURE_TENDENCY));
+        }
+        setThreeHourPressureTendencyItems(value);
+        remarks.setThreeHourPressureTendencyItems(pressure);
+    }
+
+    /**
+     * Set the 3-hour pressure tendency of the pressure
+     *
+     * @param value
+     */
+    private void setThreeHourPressureTendencyItems(Matcher value) throws UtilsException {
+        if (pressure == null) {
+            pressure = new Pressure(configs);
+        }
+        pressure.setTendencyPressureItems(value);
+    }
+
+    /**
+     * Decode the density altitude data
+     *
+     * @param value
+     */
+    private void decodeDensityAltitude(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_DENSITY_ALTITUDE));
+        }
+        remarks.setDensityAltitudeItems(value);
+    }
+
+    /**
+     * Decode the clouds data
+     *
+     * @param value
+     */
+    private void decodeCloudOkta(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_CLOUDS));
+        }
+        remarks.setCloudOktaItems(value);
+    }
+
+    /**
+     * Decode the last observation data
+     *
+     * @param value
+     */
+    private void decodeLastObservation(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_LAST_OBS));
+        }
+        remarks.setLastObsItems(value);
+    }
+
+    /**
+     * Decode the QFE/QNH/QNE pressure data
+     *
+     * @param value
+     */
+    private void decodeQFEQNHQNEPressure(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_QFE_QNH_QNE_PRESSURE));
         }
+        setQFEQNHQNEPressureItems(value);
+        remarks.setQFEQNHQNEPressure(pressure);
+    }
+
+    /**
+     * Set the QFE/QNH/QNE pressure of the pressure
+     *
+     * @param value
+     */
+    private void setQFEQNHQNEPressureItems(Matcher value) throws UtilsException {
+        if (pressure == null) {
+            pressure = new Pressure(configs);
+        }
+        pressure.setQFEQNHQNEPressureItems(value);
+    }
+
+    /**
+     * Decode the automated maintenance data
+     *
+     * @param value
+     */
+    private void decodeAutomatedMaintenance(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_AUTOMATED_MAINTENANCE_DATA));
+        }
+        remarks.setAutomatedMaintenanceItems(value);
+    }
+
+    /**
+     * Decode the snow on ground data
+     *
+     * @param value
+     */
+    private void decodeSnowOnGround(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_SNOW_ON_GROUND));
+        }
+        remarks.setSnowOnGround(value);
+    }
+
+    /**
+     * Decode the next forecast by data
+     *
+     * @param value
+     */
+    private void decodeNextForecastBy(Matcher value) throws UtilsException {
+        String zday = value.group(RegExprConst.NXT_FCST_BY_ZDAY);
+        String zhour = value.group(RegExprConst.NXT_FCST_BY_ZHOUR);
+        String zmin = value.group(RegExprConst.NXT_FCST_BY_ZMIN);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_NEXT_FORECAST_BY));
+            LOGGER.debug("type: #" + value.group(RegExprConst.NXT_FCST_BY_TYPE) + "#");
+            LOGGER.debug("zday: #" + zday + "#");
+            LOGGER.debug("zhour: #" + zhour + "#");
+            LOGGER.debug("zmin: #" + zmin + "#");
+        }
+        setNxtFcstByDateInfo(zday, zhour, zmin);
+        remarks.setNextForecastItems(getNxtFcstByDate());
+    }
+
+    /**
+     * Decode the wind in the remarks section
+     *
+     * @param value
+     */
+    private void decodeRemarkWind(Matcher value) throws UtilsException {
+        // TODO Still needs to be coded
+        // We have a wind in the remarks section
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_REMARK_WIND));
+        }
+        if (wind == null) {
+            wind = new Wind(configs);
+        }
+        //wind.setMainWindItems(value);
+    }
+
+    /**
+     * Decode the unparsed data
+     *
+     * @param value
+     */
+    private void decodeRemarkUnparsed(Matcher value) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.LOG_DECODED_FOUND_UNPARSED_DATA));
+        }
+        if (parseString == null) {
+            parseString = new ArrayList<>();
+        }
+        setParseString(value);
     }
 
     /**
@@ -572,142 +1181,163 @@ public class AviaWeath {
      *
      * @param token
      */
-    private void parseRunVisualRange(Matcher token) throws UtilsException {
+    private void parseRunVisualRange(RegExprMatch token) throws UtilsException {
+        String name = token.group(RegExprConst.RUNWAY_NAME);
+        String inden = token.group(RegExprConst.RUNWAY_INDEN);
+        String low = token.group(RegExprConst.RUNWAY_LOW);
+        String lvalue = token.group(RegExprConst.RUNWAY_LVALUE);
+        String high = token.group(RegExprConst.RUNWAY_HIGH);
+        String unit = token.group(RegExprConst.RUNWAY_UNIT);
+
         // We have a RVR
-        LOGGER.debug("group(0): #" + token.group(0) + "#");
-        LOGGER.debug("name: #" + token.group("name") + "#");
-        LOGGER.debug("inden: #" + token.group("inden") + "#");
-        LOGGER.debug("low: #" + token.group("low") + "#");
-        LOGGER.debug("lvalue: #" + token.group("lvalue") + "#");
-        LOGGER.debug("high: #" + token.group("high") + "#");
-        LOGGER.debug("unit: #" + token.group("unit") + "#");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("group(0): #" + token.group() + "#");
+            LOGGER.debug("name: #" + name + "#");
+            LOGGER.debug("inden: #" + inden + "#");
+            LOGGER.debug("low: #" + low + "#");
+            LOGGER.debug("lvalue: #" + lvalue + "#");
+            LOGGER.debug("high: #" + high + "#");
+            LOGGER.debug("unit: #" + unit + "#");
+        }
 
-        runwayVisualRange = new RunwayVisualRange();
+        runwayVisualRange = new RunwayVisualRange(configs);
 
-        if (token.group(0).contains("/")) {
+        if (token.group().contains("/")) {
             // Get the runway number
-            runwayVisualRange.setRunwayNumber(Integer.parseInt(token
-                    .group("name").substring(0, 2)));
+            runwayVisualRange.setRunwayNumber(Integer.parseInt(name.substring(0, 2)));
 
             // Get the approach direction if it exists.
-            if (token.group("inden") != null) {
-                runwayVisualRange.setApproachDirection(token.group("inden")
+            if (inden != null) {
+                runwayVisualRange.setApproachDirection(inden
                         .charAt(0));
             }
 
             // Determine if we have a modifier for maximum or minimum
-            if (token.group("low").startsWith("P")
-                    || token.group("low").startsWith("M")) {
+            if (low.startsWith("P")
+                    || low.startsWith("M")) {
                 runwayVisualRange.setReportableModifier(
-                        token.group("low").charAt(0));
+                        low.charAt(0));
             }
 
             // We may have the contamination conditions cease to exist
-            if (token.group("low").equals("CLRD")) {
+            if (low.equals("CLRD")) {
                 runwayVisualRange.setContaminationCondClrd(true);
             } // We may have a trend
-            else if (token.group("unit").equals("U")
-                    || token.group("unit").equals("D")
-                    || token.group("unit").equals("N")) {
+            else if (unit.equals("U")
+                    || unit.equals("D")
+                    || unit.equals("N")) {
                 runwayVisualRange.setLowestReportable(Integer
-                        .parseInt(token.group("lvalue")));
-                //.parseInt(UtilsMisc.removeNonNumeric(token.group("low"))));
-                runwayVisualRange.setReportableTrend(token.group("unit").charAt(0));
+                        .parseInt(lvalue));
+                //.parseInt(UtilsMisc.removeNonNumeric(low)));
+                runwayVisualRange.setReportableTrend(unit.charAt(0));
             } else {
-                LOGGER.debug(Configs.getInstance().getString("RVR_DECODED_RVR_LOWEST_REPORTABLE"));
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.RVR_DECODED_RVR_LOWEST_REPORTABLE));
+                }
                 runwayVisualRange.setLowestReportable(Integer
-                        .parseInt(token.group("lvalue")));
-                //.parseInt(UtilsMisc.removeNonNumeric(token.group("low"))));
+                        .parseInt(lvalue));
+                //.parseInt(UtilsMisc.removeNonNumeric(low)));
             }
         } // May not need this part. Need to find examples
         else {
-            LOGGER.debug("RVR: In else part: " + token.group(0));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("RVR: In else part: " + token.group());
+            }
         }
 
-        runwayVisualRanges.put(runwayVisualRange,
-                runwayVisualRange.getNaturalLanguageString());
-        LOGGER.debug(Configs.getInstance().getString("RVR_RUNWAY_VISUAL_RANGE")
-                + " " + runwayVisualRange.getNaturalLanguageString());
+        runwayVisualRangeList.add(runwayVisualRange);
+        runwayVisualRanges = null;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(configs.getString(ConfigKey.RVR_RUNWAY_VISUAL_RANGE)
+                    + " " + runwayVisualRange.getNaturalLanguageString());
+        }
     }
 
     /**
      * Parse the groups information
      *
-     * @param token
+     * @param group the group name, FM, BECMG, TEMPO or PROBnn
+     * @param daytime the day and time of a FM group, null otherwise
+     * @param obs the observations of the group
      */
-    private void parseGroups(Matcher token) throws UtilsException {
-        LOGGER.debug("group: #" + token.group("group") + "#");
-        LOGGER.debug("obs: #" + token.group("obs") + "#");
+    private void parseGroups(String group, String daytime, String obs) throws UtilsException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("group: #" + group + "#");
+            LOGGER.debug("obs: #" + obs + "#");
+        }
 
-        if (token.group("group")
-                .equals(Configs.getInstance().getString("EXTENDED_FM"))) {
-            LOGGER.debug("daytime: #" + token.group("daytime") + "#");
+        if (group
+                .equals(configs.getString(ConfigKey.EXTENDED_FM))) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("daytime: #" + daytime + "#");
+            }
             fmIndex++;
             if (fromGroups == null) {
                 fromGroups = new IndexedLinkedHashMap<>();
             }
-            fromGroup = new FromGroup();
+            fromGroup = new FromGroup(configs);
             fromGroups.put(fromGroup, String.valueOf(fmIndex) + " "
-                    + fromGroup.setFromGroupItems(token.group("daytime"), token.group("obs"), monthString, yearString, aviaGroupWthHandlers));
-        } else if (token.group("group")
-                .equals(Configs.getInstance().getString("EXTENDED_BECMG"))) {
+                    + fromGroup.setFromGroupItems(daytime, obs, monthString, yearString, aviaGroupWthHandlers));
+        } else if (group
+                .equals(configs.getString(ConfigKey.EXTENDED_BECMG))) {
             bcmgIndex++;
             if (becomings == null) {
                 becomings = new IndexedLinkedHashMap<>();
             }
-            becoming = new Becoming();
+            becoming = new Becoming(configs);
             becomings.put(becoming, String.valueOf(bcmgIndex) + " "
-                    + becoming.setBecomingItems(token.group("obs"), monthString, yearString, aviaGroupWthHandlers));
-        } else if (token.group("group")
-                .equals(Configs.getInstance().getString("EXTENDED_TEMPO"))
-                || token.group("group")
-                        .equals(Configs.getInstance().getString("EXTENDED_TEMP0"))) {
+                    + becoming.setBecomingItems(obs, monthString, yearString, aviaGroupWthHandlers));
+        } else if (group
+                .equals(configs.getString(ConfigKey.EXTENDED_TEMPO))
+                || group
+                        .equals(configs.getString(ConfigKey.EXTENDED_TEMP0))) {
             tempoIndex++;
             if (tempos == null) {
                 tempos = new IndexedLinkedHashMap<>();
             }
-            tempo = new Tempo();
+            tempo = new Tempo(configs);
             tempos.put(tempo, String.valueOf(tempoIndex) + " "
-                    + tempo.setTempoItems(token.group("obs"), monthString, yearString, aviaGroupWthHandlers));
-        } else if (token.group("group")
-                .startsWith(Configs.getInstance().getString("EXTENDED_PROB"))
-                || token.group("group")
-                        .startsWith(Configs.getInstance().getString("EXTENDED_PR0B"))) {
+                    + tempo.setTempoItems(obs, monthString, yearString, aviaGroupWthHandlers));
+        } else if (group
+                .startsWith(configs.getString(ConfigKey.EXTENDED_PROB))
+                || group
+                        .startsWith(configs.getString(ConfigKey.EXTENDED_PR0B))) {
             probIndex++;
             if (probs == null) {
                 probs = new IndexedLinkedHashMap<>();
             }
-            prob = new Prob();
+            prob = new Prob(configs);
             probs.put(prob, String.valueOf(probIndex) + " "
-                    + prob.setProbItems(token.group("group"), token.group("obs"), monthString, yearString, aviaGroupWthHandlers));
+                    + prob.setProbItems(group, obs, monthString, yearString, aviaGroupWthHandlers));
         }
     }
 
     /**
      * Set the date information
      *
-     * @param token The date information.
+     * @param zday the day of the month
+     * @param zhour the hour
+     * @param zmin the minutes
      */
-    private void setDateInfo(Matcher token) {
+    private void setDateInfo(String zday, String zhour, String zmin) {
         // Date and time of the report
         // format: YYGGggZ
         //     YY - date
         //     GG - hours
         //     gg - minutes
         //     Z - Zulu (UTC)
-        if (token.group("zday") != null && token.group("zhour") != null
-                && token.group("zmin") != null) {
+        if (zday != null && zhour != null && zmin != null) {
             try {
-                dayTemp = token.group("zday");
-                String fullDate = token.group("zday") + token.group("zhour")
-                        + token.group("zmin");
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_FULL_DATE")
-                        + " " + fullDate);
-                setDate(UtilsDate.setDate(token.group("zday"),
-                        token.group("zhour"), token.group("zmin"),
+                dayTemp = zday;
+                String fullDate = zday + zhour + zmin;
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_FULL_DATE)
+                            + " " + fullDate);
+                }
+                setDate(UtilsDate.setDate(zday, zhour, zmin,
                         monthString, yearString));
             } catch (NumberFormatException | UtilsException e) {
-                String errMsg = Configs.getInstance().getString("LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE")
+                String errMsg = configs.getString(ConfigKey.LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE)
                         + " " + e;
                 LOGGER.error(errMsg);
             }
@@ -717,30 +1347,33 @@ public class AviaWeath {
     /**
      * Set the next forecast by date information
      *
-     * @param token The date information.
+     * @param zday the day of the month
+     * @param zhour the hour
+     * @param zmin the minutes
      */
-    private void setNxtFcstByDateInfo(Matcher token) {
+    private void setNxtFcstByDateInfo(String zday, String zhour, String zmin) {
         // Date and time of the report
         // format: YYGGggZ
         //     YY - date
         //     GG - hours
         //     gg - minutes
         //     Z - Zulu (UTC)
-        if (token.group("zday") != null && token.group("zhour") != null
-                && token.group("zmin") != null) {
+        if (zday != null && zhour != null && zmin != null) {
             try {
-                dayTemp = token.group("zday");
-                String fullDate = token.group("zday") + token.group("zhour")
-                        + token.group("zmin");
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_FULL_DATE")
-                        + " " + fullDate);
-                setNxtFcstByDate(UtilsDate.setDate(token.group("zday"),
-                        token.group("zhour"), token.group("zmin"),
+                dayTemp = zday;
+                String fullDate = zday + zhour + zmin;
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_FULL_DATE)
+                            + " " + fullDate);
+                }
+                setNxtFcstByDate(UtilsDate.setDate(zday, zhour, zmin,
                         monthString, yearString));
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_NXT_FCST_BY_DATE")
-                        + " " + getNxtFcstByDate() + "\n");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_NXT_FCST_BY_DATE)
+                            + " " + getNxtFcstByDate() + "\n");
+                }
             } catch (NumberFormatException | UtilsException e) {
-                String errMsg = Configs.getInstance().getString("LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE")
+                String errMsg = configs.getString(ConfigKey.LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE)
                         + " " + e;
                 LOGGER.error(errMsg);
             }
@@ -750,25 +1383,28 @@ public class AviaWeath {
     /**
      * Set the valid to and from date information
      *
-     * @param token The valid to and from date information.
+     * @param bvaltime the beginning of the valid time period
+     * @param evaltime the end of the valid time period
      */
-    private void setValidToFromDateInfo(Matcher token) {
-        if (token.group("bvaltime") != null && token.group("evaltime") != null) {
+    private void setValidToFromDateInfo(String bvaltime, String evaltime) {
+        if (bvaltime != null && evaltime != null) {
             // 1918/2018 means it is valid from the 19th 1800Z to the 20th 1800Z
             try {
-                setValidFromDate(UtilsDate.setDate(token.group("bvaltime").substring(0, 2),
-                        token.group("bvaltime").substring(2, 4), "00",
+                setValidFromDate(UtilsDate.setDate(bvaltime.substring(0, 2),
+                        bvaltime.substring(2, 4), "00",
                         monthString, yearString));
-                setValidToDate(UtilsDate.setDate(token.group("evaltime").substring(0, 2),
-                        token.group("evaltime").substring(2, 4), "00",
+                setValidToDate(UtilsDate.setDate(evaltime.substring(0, 2),
+                        evaltime.substring(2, 4), "00",
                         monthString, yearString));
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_VALID_FROM_DATE")
-                        + " " + getValidFromDate());
-                LOGGER.debug(Configs.getInstance().getString("LOC_TIME_DECODED_VALID_TO_DATE")
-                        + " " + getValidToDate() + "\n");
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_VALID_FROM_DATE)
+                            + " " + getValidFromDate());
+                    LOGGER.debug(configs.getString(ConfigKey.LOC_TIME_DECODED_VALID_TO_DATE)
+                            + " " + getValidToDate() + "\n");
+                }
             } catch (NumberFormatException | UtilsException e) {
-                String errMsg = Configs.getInstance()
-                        .getString("LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE") + " " + e;
+                String errMsg = configs
+                        .getString(ConfigKey.LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE) + " " + e;
                 LOGGER.error(errMsg);
             }
         }
@@ -798,16 +1434,29 @@ public class AviaWeath {
      * @return stationID
      */
     public String getStationID() {
+        decodeLazy(MetarField.STATION);
         return stationID;
     }
 
     /**
-     * Set stationID
+     * Get the station id packed by StationIds
+     *
+     * @return station id, StationIds.NONE when the stationID is not an ICAO
+     * identifier
+     */
+    public int getStationCode() {
+        decodeLazy(MetarField.STATION);
+        return stationCode;
+    }
+
+    /**
+     * Set stationID, the reports of a station share its interned identifier
      *
      * @param stationID
      */
     public void setStationID(String stationID) {
-        this.stationID = stationID;
+        this.stationID = StationIds.intern(stationID);
+        this.stationCode = StationIds.encodeOrNone(stationID);
     }
 
     /**
@@ -816,6 +1465,7 @@ public class AviaWeath {
      * @return dateString
      */
     public String getDateString() {
+        decodeLazy(MetarField.STATION);
         return dateString;
     }
 
@@ -834,6 +1484,7 @@ public class AviaWeath {
      * @return date
      */
     public Date getDate() {
+        decodeLazy(MetarField.STATION);
         return date;
     }
 
@@ -852,6 +1503,7 @@ public class AviaWeath {
      * @return date
      */
     public Date getNxtFcstByDate() {
+        decodeLazy(MetarField.REMARKS);
         return nxtFcstByDate;
     }
 
@@ -870,6 +1522,7 @@ public class AviaWeath {
      * @return date
      */
     public Date getValidFromDate() {
+        decodeLazy(MetarField.STATION);
         return validFromDate;
     }
 
@@ -888,6 +1541,7 @@ public class AviaWeath {
      * @return date
      */
     public Date getValidToDate() {
+        decodeLazy(MetarField.STATION);
         return validToDate;
     }
 
@@ -960,6 +1614,7 @@ public class AviaWeath {
      * @return reportModifier
      */
     public String getReportModifier() {
+        decodeLazy(MetarField.REPORT_MODIFIER);
         return reportModifier;
     }
 
@@ -978,6 +1633,7 @@ public class AviaWeath {
      * @return yearString
      */
     public String getYearString() {
+        decodeLazy(MetarField.STATION);
         return yearString;
     }
 
@@ -996,6 +1652,7 @@ public class AviaWeath {
      * @return monthString
      */
     public String getMonthString() {
+        decodeLazy(MetarField.STATION);
         return monthString;
     }
 
@@ -1014,6 +1671,7 @@ public class AviaWeath {
      * @return isNoSignificantChange NSC
      */
     public boolean isNoSignificantChange() {
+        decodeLazy(MetarField.NO_SIGNIFICANT_CHANGE);
         return isNoSignificantChange;
     }
 
@@ -1032,6 +1690,7 @@ public class AviaWeath {
      * @return runwayVisualRange less than
      */
     public RunwayVisualRange getRunwayVisualRange() {
+        decodeLazy(MetarField.RUNWAY_VISUAL_RANGE);
         return runwayVisualRange;
     }
 
@@ -1041,6 +1700,7 @@ public class AviaWeath {
      * @return weatherCondition less than
      */
     public WeatherCondition getWeatherCondition() {
+        decodeLazy(MetarField.PRESENT_WEATHER);
         return weatherCondition;
     }
 
@@ -1050,33 +1710,66 @@ public class AviaWeath {
      * @return skyCondition less than
      */
     public SkyCondition getSkyCondition() {
+        decodeLazy(MetarField.SKY_CONDITION);
         return skyCondition;
     }
 
     /**
-     * Get weatherConditions
+     * Get weatherConditions and their natural language, rendered on the first
+     * call
      *
      * @return weatherConditions
      */
     public IndexedLinkedHashMap<WeatherCondition, String> getWeatherConditions() {
+        decodeLazy(MetarField.PRESENT_WEATHER);
+        if (weatherConditions == null && weatherConditionList != null) {
+            weatherConditions = getRenderer().renderAll(weatherConditionList, 0);
+        }
         return weatherConditions;
     }
 
     /**
-     * Get skyConditions
+     * Get the decoded weather conditions, without rendering them
+     *
+     * @return weather conditions, null when there is none
+     */
+    public List<WeatherCondition> getWeatherConditionList() {
+        decodeLazy(MetarField.PRESENT_WEATHER);
+        return weatherConditionList;
+    }
+
+    /**
+     * Get skyConditions and their numbered natural language, rendered on the
+     * first call
      *
      * @return skyConditions
      */
     public IndexedLinkedHashMap<SkyCondition, String> getSkyConditions() {
+        decodeLazy(MetarField.SKY_CONDITION);
+        if (skyConditions == null && skyConditionList != null) {
+            skyConditions = getRenderer().renderAll(skyConditionList,
+                    skyCondIndex - skyConditionList.size() + 1);
+        }
         return skyConditions;
     }
 
+    /**
+     * Get the decoded sky conditions, without rendering them
+     *
+     * @return sky conditions, null when there is none
+     */
+    public List<SkyCondition> getSkyConditionList() {
+        decodeLazy(MetarField.SKY_CONDITION);
+        return skyConditionList;
+    }
+
     /**
      * Get parseString
      *
      * @return parseString
      */
     public ArrayList<String> getParseString() {
+        decodeLazy(MetarField.UNPARSED);
         return parseString;
     }
 
@@ -1086,8 +1779,11 @@ public class AviaWeath {
      * @param token
      */
     public void setParseString(Matcher token) {
-        LOGGER.debug("Unparsed: #" + token.group("unparsed") + "#");
-        this.parseString.add(token.group("unparsed"));
+        String unparsed = token.group(RegExprConst.UNPARSED_UNPARSED);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Unparsed: #" + unparsed + "#");
+        }
+        this.parseString.add(unparsed);
     }
 
     /**
@@ -1096,6 +1792,7 @@ public class AviaWeath {
      * @return visibility object
      */
     public Visibility getVisibility() {
+        decodeLazy(MetarField.VISIBILITY);
         return visibility;
     }
 
@@ -1105,6 +1802,7 @@ public class AviaWeath {
      * @return wind object
      */
     public Wind getWind() {
+        decodeLazy(MetarField.WIND);
         return wind;
     }
 
@@ -1114,6 +1812,7 @@ public class AviaWeath {
      * @return temperature object
      */
     public Temperature getTemperature() {
+        decodeLazy(MetarField.TEMPERATURE);
         return temperature;
     }
 
@@ -1123,6 +1822,7 @@ public class AviaWeath {
      * @return pressure object
      */
     public Pressure getPressure() {
+        decodeLazy(MetarField.ALTIMETER);
         return pressure;
     }
 
@@ -1141,24 +1841,53 @@ public class AviaWeath {
      * @return remarks object
      */
     public Remarks getRemarks() {
+        decodeLazy(MetarField.REMARKS);
         return remarks;
     }
 
     /**
-     * Get runwayVisualRanges
+     * Get runwayVisualRanges and their natural language, rendered on the first
+     * call
      *
      * @return runwayVisualRanges
      */
     public IndexedLinkedHashMap<RunwayVisualRange, String> getRunwayVisualRanges() {
+        decodeLazy(MetarField.RUNWAY_VISUAL_RANGE);
+        if (runwayVisualRanges == null && runwayVisualRangeList != null) {
+            runwayVisualRanges = getRenderer().renderAll(runwayVisualRangeList, 0);
+        }
         return runwayVisualRanges;
     }
 
+    /**
+     * Get the decoded runway visual ranges, without rendering them
+     *
+     * @return runway visual ranges, null when there is none
+     */
+    public List<RunwayVisualRange> getRunwayVisualRangeList() {
+        decodeLazy(MetarField.RUNWAY_VISUAL_RANGE);
+        return runwayVisualRangeList;
+    }
+
+    /**
+     * Get the renderer of the natural language of this report. The decoders
+     * only keep the decoded groups, the text is rendered when it is read
+     *
+     * @return renderer
+     */
+    protected NaturalLanguageRenderer getRenderer() {
+        if (renderer == null) {
+            renderer = new NaturalLanguageRenderer(configs);
+        }
+        return renderer;
+    }
+
     /**
      * Get aviaMainWthHandlers
      *
      * @return aviaMainWthHandlers
      */
-    public IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> getAviaMainWeathHandlers() {
+    public RegExprTable<AviaWeath> getAviaMainWeathHandlers() {
         return aviaMainWthHandlers;
     }
 
@@ -1167,19 +1896,100 @@ public class AviaWeath {
      *
      * @return aviaRemarkWthHandlers
      */
-    public IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> getAviaRemarkWeathHandlers() {
+    public RegExprTable<AviaWeath> getAviaRemarkWeathHandlers() {
         return aviaRemarkWthHandlers;
     }
 
+    /**
+     * Set aviaRemarkWthHandlers. Use a table built from REMARKS_TABLE with
+     * custom handlers to decode regional or military remark groups
+     *
+     * @param aviaRemarkWthHandlers
+     */
+    public void setAviaRemarkWeathHandlers(RegExprTable<AviaWeath> aviaRemarkWthHandlers) {
+        this.aviaRemarkWthHandlers = aviaRemarkWthHandlers;
+    }
+
     /**
      * Get aviaGroupWthHandlers
      *
      * @return aviaGroupWthHandlers
      */
-    public IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> getAviaGroupWeathHandlers() {
+    public RegExprTable<Group> getAviaGroupWeathHandlers() {
         return aviaGroupWthHandlers;
     }
 
+    /**
+     * Get customRemarks, the remark groups decoded by custom handlers
+     *
+     * @return customRemarks
+     */
+    public IndexedLinkedHashMap<String, String> getCustomRemarks() {
+        decodeLazy(MetarField.REMARKS);
+        return customRemarks;
+    }
+
+    /**
+     * Add a remark group decoded by a custom handler
+     *
+     * @param name
+     * @param value
+     */
+    public void putCustomRemark(String name, String value) {
+        if (customRemarks == null) {
+            customRemarks = new IndexedLinkedHashMap<>();
+        }
+        customRemarks.put(name, value);
+    }
+
+    /**
+     * Get isLazy
+     *
+     * @return isLazy
+     */
+    public boolean isLazy() {
+        return isLazy;
+    }
+
+    /**
+     * Set isLazy. A lazy report only records the groups when it is parsed and
+     * decodes a field on the first access of its getter. A getter of a lazy
+     * report throws an IllegalStateException when a group fails to decode. A
+     * lazy report is not safe to read from multiple threads
+     *
+     * @param isLazy
+     */
+    public void setLazy(boolean isLazy) {
+        this.isLazy = isLazy;
+    }
+
+    /**
+     * Get the configuration of the locale to decode with
+     *
+     * @return configs
+     */
+    public Configs getConfigs() {
+        return configs;
+    }
+
+    /**
+     * Get parserMode
+     *
+     * @return parserMode
+     */
+    public ParserMode getParserMode() {
+        return parserMode;
+    }
+
+    /**
+     * Set parserMode. The mode is used for the main section of the report
+     *
+     * @param parserMode
+     */
+    public void setParserMode(ParserMode parserMode) {
+        this.parserMode = parserMode;
+    }
+
     /**
      * Get fromGroups
      *
@@ -18,20 +18,26 @@ package noakweather.noaa_api.wthtype;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import noakweather.noaa_api.common.Remarks;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.RegExprConst;
-import noakweather.utils.RegExprHandlers;
+import noakweather.utils.ParseTrace;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsMisc;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
- * Class representing the METAR parsing. It inherits from the AviaWeath class
+ * Class representing the METAR parsing. It inherits from the AviaWeath class.
+ * The parse state is held by the instance, so a Metar is used by one thread
+ * at a time, and separate instances can parse on many threads. parseOne and
+ * parseAll parse on a new instance per report
  *
  * Author: quark95cos Since: Copyright(c) 2022
  */
@@ -40,13 +46,98 @@ public class Metar extends AviaWeath {
     private static final Logger LOGGER
             = LogManager.getLogger(Metar.class.getName());
 
+    // Reports parsed by one task of parseAll
+    private static final int BATCH = 64;
+
     /**
      * Constructor
      */
     public Metar() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Metar(Configs configs) {
+        super(configs);
         LOGGER.debug("in Metar constructor");
     }
 
+    /**
+     * Parse a report on a new Metar of the default configuration. It can be
+     * called from many threads, for example from a parallel stream
+     *
+     * @param metarString
+     * @return the parsed report
+     * @throws noakweather.utils.UtilsException
+     */
+    public static Metar parseOne(String metarString) throws UtilsException {
+        return parseOne(metarString, Configs.getInstance());
+    }
+
+    /**
+     * Parse a report on a new Metar
+     *
+     * @param metarString
+     * @param configs the configuration of the locale to decode with
+     * @return the parsed report
+     * @throws noakweather.utils.UtilsException
+     */
+    public static Metar parseOne(String metarString, Configs configs) throws UtilsException {
+        Metar metar = new Metar(configs);
+        metar.parse(metarString);
+        return metar;
+    }
+
+    /**
+     * Parse reports in parallel with the default configuration, read once so
+     * all the reports have the same locale
+     *
+     * @param metarStrings
+     * @param executor runs the batches of reports
+     * @return the parsed reports in the order of metarStrings, null for a
+     * report that fails to parse
+     */
+    public static List<Metar> parseAll(List<String> metarStrings, Executor executor) {
+        return parseAll(metarStrings, executor, Configs.getInstance());
+    }
+
+    /**
+     * Parse reports in parallel, in batches of consecutive reports. A report
+     * that fails to parse is logged and left null, the others are parsed
+     *
+     * @param metarStrings
+     * @param executor runs the batches of reports
+     * @param configs the configuration of the locale to decode with
+     * @return the parsed reports in the order of metarStrings, null for a
+     * report that fails to parse
+     */
+    public static List<Metar> parseAll(List<String> metarStrings, Executor executor, Configs configs) {
+        String[] reports = metarStrings.toArray(new String[0]);
+        Metar[] metars = new Metar[reports.length];
+        CompletableFuture<?>[] batches = new CompletableFuture<?>[(reports.length + BATCH - 1) / BATCH];
+        for (int b = 0; b < batches.length; b++) {
+            int from = b * BATCH;
+            int to = Math.min(from + BATCH, reports.length);
+            batches[b] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    try {
+                        metars[i] = parseOne(reports[i], configs);
+                    } catch (UtilsException | RuntimeException e) {
+                        LOGGER.error(configs.getString(ConfigKey.EXCEP_FAILED_PARSE_REPORT)
+                                + " " + reports[i] + " " + e);
+                    }
+                }
+            }, executor);
+        }
+        // The join publishes the reports written by the batches
+        CompletableFuture.allOf(batches).join();
+        return Arrays.asList(metars);
+    }
+
     /**
      * Parse the metar information
      *
@@ -54,15 +145,51 @@ public class Metar extends AviaWeath {
      * @throws noakweather.utils.UtilsException
      */
     public void parse(String metarString) throws UtilsException {
+        parse(metarString, null);
+    }
+
+    /**
+     * Parse only the fields of the projection of the metar information, for
+     * example parse(metarString, EnumSet.of(WIND, ALTIMETER, TEMPERATURE)).
+     * The other fields are left null. The station is always decoded. The
+     * remarks section is only parsed when the projection has REMARKS; the
+     * remarks also decode the fields they add to (wind, visibility,
+     * temperature, altimeter) and the unparsed data
+     *
+     * @param metarString
+     * @param fields the projection, or null for all the fields
+     * @throws noakweather.utils.UtilsException
+     */
+    public void parse(String metarString, Set<MetarField> fields) throws UtilsException {
+        ParseTrace.begin();
+        try {
+            parseReport(metarString, fields);
+        } finally {
+            ParseTrace.end(metarString);
+        }
+    }
+
+    /**
+     * Parse the fields of the projection of the metar information
+     *
+     * @param metarString
+     * @param fields the projection, or null for all the fields
+     * @throws noakweather.utils.UtilsException
+     */
+    private void parseReport(String metarString, Set<MetarField> fields) throws UtilsException {
         String metarMain = null;
         String metarRemarks = null;
 
-        LOGGER.debug(Configs.getInstance().getString("METAR_DECODED_METAR_PARSE_STRING")
-                + " #" + metarString + "#");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(getConfigs().getString(ConfigKey.METAR_DECODED_METAR_PARSE_STRING)
+                    + " #" + metarString + "#");
+        }
 
         // Check to see if we have a metarString to parse
         if (metarString == null || metarString.length() == 0) {
-            LOGGER.debug(Configs.getInstance().getString("METAR_DECODED_EMPTY_METAR_DATA"));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(getConfigs().getString(ConfigKey.METAR_DECODED_EMPTY_METAR_DATA));
+            }
             return;
         }
 
@@ -70,10 +197,10 @@ public class Metar extends AviaWeath {
 
         // First split the metar string to break out the Remarks section so
         // it can be parsed first
-        if (metarString.contains(Configs.getInstance().getString("EXTENDED_REMARKS"))) {
+        if (metarString.contains(getConfigs().getString(ConfigKey.EXTENDED_REMARKS))) {
             String[] metarParts = UtilsMisc
-                    .stringSplit(metarString, Configs.getInstance()
-                            .getString("EXTENDED_REMARKS"));
+                    .stringSplit(metarString, getConfigs()
+                            .getString(ConfigKey.EXTENDED_REMARKS));
             metarMain = metarParts[0];
             metarRemarks = metarParts[1];
         } else {
@@ -83,18 +210,27 @@ public class Metar extends AviaWeath {
         if (metarMain.length() > 0) {
             metarMain = metarMain + " ";
         }
-        LOGGER.debug(Configs.getInstance().getString("METAR_DECODED_METAR_MAIN")
-                + " #" + metarMain + "#");
-        parseMetarMain(metarMain);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(getConfigs().getString(ConfigKey.METAR_DECODED_METAR_MAIN)
+                    + " #" + metarMain + "#");
+        }
+        boolean isIndexed = isLazy() || fields != null;
+        parseMetarMain(metarMain, isIndexed);
 
         //Parse the Remarks section if it exists
-        if (metarRemarks != null) {
+        if (metarRemarks != null && (fields == null || fields.contains(MetarField.REMARKS))) {
             if (metarRemarks.length() > 0) {
                 metarRemarks = metarRemarks + " ";
             }
-            LOGGER.debug(Configs.getInstance().getString("METAR_DECODED_METAR_REMARKS")
-                    + " #" + metarRemarks + "#");
-            parseMetarRemarks(metarRemarks);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(getConfigs().getString(ConfigKey.METAR_DECODED_METAR_REMARKS)
+                        + " #" + metarRemarks + "#");
+            }
+            parseMetarRemarks(metarRemarks, isIndexed);
+        }
+
+        if (fields != null) {
+            decodeProjection(fields);
         }
     }
 
@@ -102,34 +238,44 @@ public class Metar extends AviaWeath {
      * Parse the main Metar information
      *
      * @param metarMain
+     * @param isIndexed whether the groups are only indexed
      * @throws noakweather.utils.UtilsException
      */
-    private void parseMetarMain(String metarMain) throws UtilsException {
-        aviaMainWthHandlers = RegExprHandlers.setMainHandlers();
-        // Add the UNPARSED_PATTERN after calling aviaMainWthHandlers for any specific handlers
-        // that are necessary
-        aviaMainWthHandlers.put(RegExprConst.UNPARSED_PATTERN,
-                Pair.with("unparsed", false));
-        LOGGER.debug("\n");
-        LOGGER.debug(Configs.getInstance().getString("METAR_DECODED_METAR_MAIN_HANDLERS"));
-        aviaMainWthHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug(Configs.getInstance().getString("METAR_DECODED_METAR_MAIN_HANDLERS") + "\n");
-
-        parseAviaHandlers(metarMain, aviaMainWthHandlers, Configs.getInstance()
-                .getString("AVIA_MAIN_HANDLERS"));
+    private void parseMetarMain(String metarMain, boolean isIndexed) throws UtilsException {
+        aviaMainWthHandlers = AviaWeath.METAR_MAIN_TABLE;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug(getConfigs().getString(ConfigKey.METAR_DECODED_METAR_MAIN_HANDLERS));
+            aviaMainWthHandlers.getPlan().forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug(getConfigs().getString(ConfigKey.METAR_DECODED_METAR_MAIN_HANDLERS) + "\n");
+        }
+
+        if (isIndexed) {
+            indexAviaHandlers(metarMain, aviaMainWthHandlers, getConfigs()
+                    .getString(ConfigKey.AVIA_MAIN_HANDLERS));
+        } else {
+            parseAviaHandlers(metarMain, aviaMainWthHandlers, getConfigs()
+                    .getString(ConfigKey.AVIA_MAIN_HANDLERS));
+        }
     }
 
     /**
      * Parse the remarks information
      *
      * @param metarRemarks
+     * @param isIndexed whether the groups are only indexed
      * @throws noakweather.utils.UtilsException
      */
-    private void parseMetarRemarks(String metarRemarks) throws UtilsException {
-        remarks = new Remarks();
-        aviaRemarkWthHandlers = RegExprHandlers.setRemarksHandlers();
-        parseAviaHandlers(metarRemarks, aviaRemarkWthHandlers, Configs.getInstance()
-                .getString("AVIA_REMARK_HANDLERS"));
+    private void parseMetarRemarks(String metarRemarks, boolean isIndexed) throws UtilsException {
+        if (isIndexed) {
+            // The remarks are created when they are decoded
+            indexAviaHandlers(metarRemarks, aviaRemarkWthHandlers, getConfigs()
+                    .getString(ConfigKey.AVIA_REMARK_HANDLERS));
+        } else {
+            remarks = new Remarks(getConfigs());
+            parseAviaHandlers(metarRemarks, aviaRemarkWthHandlers, getConfigs()
+                    .getString(ConfigKey.AVIA_REMARK_HANDLERS));
+        }
     }
 
     /**
@@ -190,7 +336,7 @@ public class Metar extends AviaWeath {
         if (getVisibility() != null) {
             if (getVisibility().isCavok()) {
                 System.out.println("Visibility : "
-                        + Configs.getInstance().getString("WEATHER_DECODED_CAVOK"));
+                        + getConfigs().getString(ConfigKey.WEATHER_DECODED_CAVOK));
             } else if (getVisibility().isNDV()) {
                 System.out.println("Visibility : "
                         + getVisibility().getVisibilityNDV());
@@ -277,8 +423,8 @@ public class Metar extends AviaWeath {
         System.out.println();
 
         if (isNoSignificantChange()) {
-            System.out.println(Configs.getInstance()
-                    .getString("WEATHER_DECODED_NO_SIGNIFICANT_CHANGE"));
+            System.out.println(getConfigs()
+                    .getString(ConfigKey.WEATHER_DECODED_NO_SIGNIFICANT_CHANGE));
         }
         System.out.println();
 
@@ -289,6 +435,11 @@ public class Metar extends AviaWeath {
             System.out.println("There are no remarks for this");
         }
 
+        if (getCustomRemarks() != null) {
+            System.out.println("Custom remarks are as follows");
+            System.out.println(getCustomRemarks());
+        }
+
         //if (!getParseString().isEmpty()) {
         if (getParseString() != null) {
             System.out.println("Unparsed Data is as follows");
@@ -0,0 +1,107 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.wthtype;
+
+import java.util.Set;
+
+/**
+ * Enum representing the fields of a METAR report that are decoded on their
+ * own. Every field lists the main handlers that decode it and the remark
+ * handlers that add to it (for example the sea level pressure remark adds to
+ * the pressure).
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public enum MetarField {
+
+    /**
+     * Station, date and time
+     */
+    STATION(Set.of("mnthdayyr", "station"), Set.of()),
+    /**
+     * Report modifier (AUTO, COR)
+     */
+    REPORT_MODIFIER(Set.of("reportmodifier"), Set.of()),
+    /**
+     * Wind, with the peak wind remark
+     */
+    WIND(Set.of("wind"), Set.of("peakwind", "windre")),
+    /**
+     * Visibility, with the tower/surface and variable visibility remarks
+     */
+    VISIBILITY(Set.of("visibility"), Set.of("twrsfcvis", "vpvsvvsl")),
+    /**
+     * Runway visual ranges
+     */
+    RUNWAY_VISUAL_RANGE(Set.of("runway"), Set.of()),
+    /**
+     * Present weather conditions
+     */
+    PRESENT_WEATHER(Set.of("presentweather"), Set.of()),
+    /**
+     * Sky conditions
+     */
+    SKY_CONDITION(Set.of("skycondition"), Set.of()),
+    /**
+     * Temperature and dew point, with the hourly, 6-hourly and 24-hourly
+     * temperature remarks
+     */
+    TEMPERATURE(Set.of("tempdewpoint"), Set.of("sixhrmaxmintemp", "temp1hr", "temp24hr")),
+    /**
+     * Altimeter, with the sea level, QFE/QNH/QNE and 3-hour tendency pressure
+     * remarks
+     */
+    ALTIMETER(Set.of("altimeter"), Set.of("sealvlpress", "press3hr", "pressqfn")),
+    /**
+     * No significant change
+     */
+    NO_SIGNIFICANT_CHANGE(Set.of("nosigchng"), Set.of()),
+    /**
+     * Unparsed data of the main and remarks sections
+     */
+    UNPARSED(Set.of("unparsed"), Set.of("unparsed")),
+    /**
+     * Decoded remarks
+     */
+    REMARKS(Set.of(), Set.of());
+
+    private final Set<String> mainNames;
+    private final Set<String> remarkNames;
+
+    MetarField(Set<String> mainNames, Set<String> remarkNames) {
+        this.mainNames = mainNames;
+        this.remarkNames = remarkNames;
+    }
+
+    /**
+     * Get the main handler names
+     *
+     * @return mainNames
+     */
+    public Set<String> getMainNames() {
+        return mainNames;
+    }
+
+    /**
+     * Get the remark handler names that add to the field
+     *
+     * @return remarkNames
+     */
+    public Set<String> getRemarkNames() {
+        return remarkNames;
+    }
+}
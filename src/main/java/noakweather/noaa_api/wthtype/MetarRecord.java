@@ -0,0 +1,880 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.wthtype;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import noakweather.noaa_api.common.SkyCondition;
+import noakweather.noaa_api.common.WeatherCondition;
+import noakweather.noaa_api.weather.Pressure;
+import noakweather.noaa_api.weather.Temperature;
+import noakweather.noaa_api.weather.Visibility;
+import noakweather.noaa_api.weather.Wind;
+import noakweather.utils.Configs;
+import noakweather.utils.StationIds;
+import noakweather.utils.UtilsException;
+
+/**
+ * Class representing a METAR observation as a flat immutable record of
+ * primitive fields: the packed station, the time in epoch minutes, the
+ * temperature and dew point in tenths of degree Celsius, the wind in degrees
+ * and knots, the visibility in meters, the altimeter in hundredths of inches
+ * Hg, up to MAX_SKY_LAYERS sky layers packed in ints and the present weather
+ * phenomena as a bitmask. A record takes 72 bytes of heap with compressed
+ * references. A value that is not known is MISSING.
+ *
+ * A record is converted from a Metar with of(Metar) and back with
+ * toMetar(), which parses the report string of the record. The conversion
+ * keeps the values of the record, not the report: the remarks other than
+ * the hourly temperature, the runway visual ranges and the variable wind and
+ * visibility are not kept, and a hPa altimeter is kept in inches Hg.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class MetarRecord {
+
+    /**
+     * Maximum number of sky layers of a record
+     */
+    public static final int MAX_SKY_LAYERS = 6;
+
+    /**
+     * Value of a field that is not known
+     */
+    public static final short MISSING = Short.MIN_VALUE;
+
+    /**
+     * Value of the time that is not known
+     */
+    public static final int MISSING_TIME = Integer.MIN_VALUE;
+
+    /**
+     * The report is automated (AUTO)
+     */
+    public static final int FLAG_AUTO = 1;
+
+    /**
+     * The report is a correction (COR)
+     */
+    public static final int FLAG_COR = 1 << 1;
+
+    /**
+     * The wind direction is variable (VRB)
+     */
+    public static final int FLAG_WIND_VARIABLE = 1 << 2;
+
+    /**
+     * Ceiling and visibility OK (CAVOK)
+     */
+    public static final int FLAG_CAVOK = 1 << 3;
+
+    /**
+     * The visibility is less than the value (M)
+     */
+    public static final int FLAG_VIS_LESS_THAN = 1 << 4;
+
+    /**
+     * The visibility is greater than the value (P)
+     */
+    public static final int FLAG_VIS_GREATER_THAN = 1 << 5;
+
+    /**
+     * The visibility is reported in statute miles
+     */
+    public static final int FLAG_VIS_STATUTE = 1 << 6;
+
+    /**
+     * Sky covers of a packed sky layer, the index is the cover code and 0 is
+     * no layer
+     */
+    private static final String[] COVERS = {
+        null, "SKC", "CLR", "NSC", "NCD", "FEW", "SCT", "BKN", "OVC", "VV", "///"
+    };
+
+    /**
+     * Cloud types of a packed sky layer, the index is the cloud code and 0 is
+     * no cloud type
+     */
+    private static final String[] CLOUDS = {null, "CB", "TCU"};
+
+    /**
+     * Present weather codes, the index is the bit of the weather bitmask
+     */
+    private static final String[] WEATHER_CODES = {
+        "-", "+", "VC",
+        "MI", "PR", "BC", "DR", "BL", "SH", "TS", "FZ",
+        "DZ", "RA", "SN", "SG", "IC", "PL", "GR", "GS", "UP",
+        "BR", "FG", "FU", "VA", "DU", "SA", "HZ", "PY",
+        "PO", "SQ", "FC", "SS", "DS", "NSW"
+    };
+
+    // Ends of the bits of the intensity, descriptors and precipitations and
+    // of the obscurations, the other phenomena follow
+    private static final int PRECIPITATION_END = 20;
+    private static final int OBSCURATION_END = 28;
+
+    private static final double METERS_PER_MILE = 1609.344;
+
+    /**
+     * Fields decoded to make a record
+     */
+    private static final Set<MetarField> FIELDS = EnumSet.of(MetarField.STATION,
+            MetarField.REPORT_MODIFIER, MetarField.WIND, MetarField.VISIBILITY,
+            MetarField.PRESENT_WEATHER, MetarField.SKY_CONDITION,
+            MetarField.TEMPERATURE, MetarField.ALTIMETER, MetarField.REMARKS);
+
+    private final int station;
+    private final int epochMinutes;
+    private final short temperature;
+    private final short dewPoint;
+    private final short windDirection;
+    private final short windSpeed;
+    private final short windGust;
+    private final int visibility;
+    private final short altimeter;
+    private final short flags;
+    private final int sky0;
+    private final int sky1;
+    private final int sky2;
+    private final int sky3;
+    private final int sky4;
+    private final int sky5;
+    private final long weather;
+
+    /**
+     * Constructor
+     *
+     * @param station station id, see StationIds
+     * @param epochMinutes time in minutes since the epoch
+     * @param temperature temperature in tenths of degree Celsius
+     * @param dewPoint dew point in tenths of degree Celsius
+     * @param windDirection wind direction in degrees
+     * @param windSpeed wind speed in knots
+     * @param windGust wind gust speed in knots
+     * @param visibility visibility in meters
+     * @param altimeter altimeter in hundredths of inches Hg
+     * @param flags FLAG_ bits
+     * @param skyLayers packed sky layers, see packSkyLayer
+     * @param weather present weather bitmask, see weatherBits
+     */
+    public MetarRecord(int station, int epochMinutes, short temperature,
+            short dewPoint, short windDirection, short windSpeed, short windGust,
+            int visibility, short altimeter, int flags, int[] skyLayers,
+            long weather) {
+        if (skyLayers.length > MAX_SKY_LAYERS) {
+            throw new IllegalArgumentException("skyLayers: " + skyLayers.length);
+        }
+        int[] sky = Arrays.copyOf(skyLayers, MAX_SKY_LAYERS);
+        this.station = station;
+        this.epochMinutes = epochMinutes;
+        this.temperature = temperature;
+        this.dewPoint = dewPoint;
+        this.windDirection = windDirection;
+        this.windSpeed = windSpeed;
+        this.windGust = windGust;
+        this.visibility = visibility;
+        this.altimeter = altimeter;
+        this.flags = (short) flags;
+        this.sky0 = sky[0];
+        this.sky1 = sky[1];
+        this.sky2 = sky[2];
+        this.sky3 = sky[3];
+        this.sky4 = sky[4];
+        this.sky5 = sky[5];
+        this.weather = weather;
+    }
+
+    /**
+     * Parse a metar report into a record, only the fields of the record are
+     * decoded
+     *
+     * @param metarString
+     * @return the record
+     * @throws noakweather.utils.UtilsException
+     */
+    public static MetarRecord parse(String metarString) throws UtilsException {
+        return parse(metarString, Configs.getInstance());
+    }
+
+    /**
+     * Parse a metar report into a record with the configuration of a locale,
+     * only the fields of the record are decoded
+     *
+     * @param metarString
+     * @param configs
+     * @return the record
+     * @throws noakweather.utils.UtilsException
+     */
+    public static MetarRecord parse(String metarString, Configs configs) throws UtilsException {
+        Metar metar = new Metar(configs);
+        metar.parse(metarString, FIELDS);
+        return of(metar);
+    }
+
+    /**
+     * Convert a parsed metar into a record
+     *
+     * @param metar
+     * @return the record
+     */
+    public static MetarRecord of(Metar metar) {
+        int flags = 0;
+        String modifier = metar.getReportModifier();
+        if ("AUTO".equals(modifier)) {
+            flags |= FLAG_AUTO;
+        } else if (modifier != null && (modifier.startsWith("COR") || modifier.startsWith("CC"))) {
+            flags |= FLAG_COR;
+        }
+
+        Date date = metar.getDate();
+        int minutes = date == null ? MISSING_TIME : (int) (date.getTime() / 60000L);
+
+        short direction = MISSING;
+        short speed = MISSING;
+        short gust = MISSING;
+        Wind wind = metar.getWind();
+        if (wind != null && wind.getWindNotDetermined() == null) {
+            if (wind.isWindDirectionIsVariable()) {
+                flags |= FLAG_WIND_VARIABLE;
+            } else {
+                direction = (short) wind.getWindDirection();
+            }
+            speed = toShort(wind.getWindSpeedInKnotsAsDouble(), 1);
+            if (wind.getWindGustsInKnotsAsDouble() > 0) {
+                gust = toShort(wind.getWindGustsInKnotsAsDouble(), 1);
+            }
+        }
+
+        int vis = MISSING;
+        Visibility visibilityGroup = metar.getVisibility();
+        if (visibilityGroup != null) {
+            if (visibilityGroup.isCavok()) {
+                flags |= FLAG_CAVOK;
+            } else if (visibilityGroup.isVisibilityStatuteMiles()) {
+                flags |= FLAG_VIS_STATUTE;
+                vis = (int) Math.round(visibilityGroup.getVisibilityMilesAsDouble() * METERS_PER_MILE);
+            } else if (visibilityGroup.getVisibilityKilometersAsDouble() > 0) {
+                vis = (int) Math.round(visibilityGroup.getVisibilityKilometersAsDouble() * 1000);
+            }
+            if (vis != MISSING && visibilityGroup.isVisibilityLessThan()) {
+                flags |= FLAG_VIS_LESS_THAN;
+            }
+            if (vis != MISSING && visibilityGroup.isVisibilityGreaterThan()) {
+                flags |= FLAG_VIS_GREATER_THAN;
+            }
+        }
+
+        // The hourly temperature of the remarks has the tenths
+        short temp = MISSING;
+        short dew = MISSING;
+        Temperature temperatureGroup = metar.getTemperature();
+        if (temperatureGroup != null) {
+            temp = toShort(Double.isNaN(temperatureGroup.getHourlyTemperatureAsDouble())
+                    ? temperatureGroup.getTemperatureAsDouble()
+                    : temperatureGroup.getHourlyTemperatureAsDouble(), 10);
+            dew = toShort(Double.isNaN(temperatureGroup.getHourlyDewPointAsDouble())
+                    ? temperatureGroup.getDewpointAsDouble()
+                    : temperatureGroup.getHourlyDewPointAsDouble(), 10);
+        }
+
+        short alt = MISSING;
+        Pressure pressure = metar.getPressure();
+        if (pressure != null) {
+            alt = toShort(pressure.getPressureAsDouble(), 100);
+        }
+
+        int[] sky = new int[MAX_SKY_LAYERS];
+        if (metar.getSkyConditionList() != null) {
+            int n = 0;
+            for (SkyCondition layer : metar.getSkyConditionList()) {
+                if (n == MAX_SKY_LAYERS) {
+                    break;
+                }
+                int cover = coverCode(layer.getContraction());
+                if (cover != 0) {
+                    sky[n++] = packSkyLayer(cover, indexOf(CLOUDS, layer.getModifier()),
+                            layer.getHeight() / 100);
+                }
+            }
+        }
+
+        long bits = 0;
+        if (metar.getWeatherConditionList() != null) {
+            for (WeatherCondition condition : metar.getWeatherConditionList()) {
+                bits |= weatherBits(condition.getCode());
+            }
+        }
+
+        return new MetarRecord(metar.getStationCode(), minutes, temp, dew,
+                direction, speed, gust, vis, alt, flags, sky, bits);
+    }
+
+    /**
+     * Convert the record into a metar, by parsing the report string of the
+     * record
+     *
+     * @return the metar
+     * @throws noakweather.utils.UtilsException
+     */
+    public Metar toMetar() throws UtilsException {
+        return toMetar(Configs.getInstance());
+    }
+
+    /**
+     * Convert the record into a metar with the configuration of a locale, by
+     * parsing the report string of the record
+     *
+     * @param configs
+     * @return the metar
+     * @throws noakweather.utils.UtilsException
+     */
+    public Metar toMetar(Configs configs) throws UtilsException {
+        Metar metar = new Metar(configs);
+        metar.parse(toReportString());
+        return metar;
+    }
+
+    /**
+     * Get the report string of the record, with the NOAA date and time
+     * header, for example "2021/12/28 21:00 KATL 282100Z 00000KT 3SM BR
+     * OVC003 15/15 A3002"
+     *
+     * @return the report string
+     */
+    public String toReportString() {
+        StringBuilder sb = new StringBuilder(96);
+        if (epochMinutes != MISSING_TIME) {
+            LocalDateTime time = LocalDateTime.ofEpochSecond(epochMinutes * 60L, 0, ZoneOffset.UTC);
+            sb.append(String.format("%04d/%02d/%02d %02d:%02d ", time.getYear(),
+                    time.getMonthValue(), time.getDayOfMonth(), time.getHour(),
+                    time.getMinute()));
+            sb.append(getStation()).append(' ');
+            sb.append(String.format("%02d%02d%02dZ", time.getDayOfMonth(),
+                    time.getHour(), time.getMinute()));
+        } else {
+            sb.append(getStation());
+        }
+        if ((flags & FLAG_AUTO) != 0) {
+            sb.append(" AUTO");
+        } else if ((flags & FLAG_COR) != 0) {
+            sb.append(" COR");
+        }
+
+        if (windSpeed != MISSING) {
+            sb.append(' ');
+            if ((flags & FLAG_WIND_VARIABLE) != 0) {
+                sb.append("VRB");
+            } else {
+                sb.append(String.format("%03d", windDirection));
+            }
+            sb.append(String.format("%02d", windSpeed));
+            if (windGust != MISSING) {
+                sb.append(String.format("G%02d", windGust));
+            }
+            sb.append("KT");
+        }
+
+        if ((flags & FLAG_CAVOK) != 0) {
+            sb.append(" CAVOK");
+        } else if (visibility != MISSING) {
+            sb.append(' ');
+            appendVisibility(sb);
+        }
+
+        appendWeather(sb);
+
+        for (int i = 0; i < MAX_SKY_LAYERS; i++) {
+            int layer = getSkyLayer(i);
+            if (layer == 0) {
+                break;
+            }
+            int cover = skyCover(layer);
+            sb.append(' ').append(COVERS[cover]);
+            if (cover > 4) {
+                sb.append(String.format("%03d", skyHeight(layer) / 100));
+            }
+            if (skyCloud(layer) != 0) {
+                sb.append(CLOUDS[skyCloud(layer)]);
+            }
+        }
+
+        if (temperature != MISSING || dewPoint != MISSING) {
+            sb.append(' ');
+            appendWholeDegrees(sb, temperature, "//");
+            sb.append('/');
+            appendWholeDegrees(sb, dewPoint, "");
+        }
+
+        if (altimeter != MISSING) {
+            sb.append(String.format(" A%04d", altimeter));
+        }
+
+        // The tenths of degree are only reported by the hourly temperature
+        if (temperature != MISSING && (temperature % 10 != 0
+                || dewPoint != MISSING && dewPoint % 10 != 0)) {
+            sb.append(" RMK T");
+            appendTenths(sb, temperature);
+            if (dewPoint != MISSING) {
+                appendTenths(sb, dewPoint);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Append the visibility: meters, or statute miles with the fraction in
+     * sixteenths
+     */
+    private void appendVisibility(StringBuilder sb) {
+        if ((flags & FLAG_VIS_STATUTE) == 0) {
+            sb.append((flags & FLAG_VIS_LESS_THAN) != 0 ? "0000"
+                    : String.format("%04d", Math.min(visibility, 9999)));
+            return;
+        }
+        if ((flags & FLAG_VIS_LESS_THAN) != 0) {
+            sb.append('M');
+        } else if ((flags & FLAG_VIS_GREATER_THAN) != 0) {
+            sb.append('P');
+        }
+        int sixteenths = (int) Math.round(visibility * 16 / METERS_PER_MILE);
+        int whole = sixteenths / 16;
+        int numerator = sixteenths % 16;
+        int denominator = 16;
+        while (numerator != 0 && numerator % 2 == 0) {
+            numerator /= 2;
+            denominator /= 2;
+        }
+        // A fraction is parsed with a whole part unless the denominator has
+        // two digits, so 3/4SM is reported as 0 3/4SM
+        sb.append(whole);
+        if (numerator != 0) {
+            sb.append(' ').append(numerator).append('/').append(denominator);
+        }
+        sb.append("SM");
+    }
+
+    /**
+     * Append the present weather: one group of the intensity, descriptors,
+     * precipitations, first obscuration and first other phenomenon, then one
+     * group for each remaining obscuration and phenomenon
+     */
+    private void appendWeather(StringBuilder sb) {
+        if (weather == 0) {
+            return;
+        }
+        StringBuilder first = new StringBuilder();
+        StringBuilder rest = new StringBuilder();
+        boolean obscuration = false;
+        boolean other = false;
+        for (int bit = 0; bit < WEATHER_CODES.length; bit++) {
+            if ((weather & (1L << bit)) == 0) {
+                continue;
+            }
+            String code = WEATHER_CODES[bit];
+            if (code.equals("NSW")) {
+                rest.append(" NSW");
+            } else if (bit < PRECIPITATION_END) {
+                first.append(code);
+            } else if (bit < OBSCURATION_END && !obscuration) {
+                first.append(code);
+                obscuration = true;
+            } else if (bit >= OBSCURATION_END && !other) {
+                first.append(code);
+                other = true;
+            } else {
+                rest.append(' ').append(code);
+            }
+        }
+        if (first.length() > 0) {
+            sb.append(' ').append(first);
+        }
+        sb.append(rest);
+    }
+
+    private static void appendWholeDegrees(StringBuilder sb, short tenths, String missing) {
+        if (tenths == MISSING) {
+            sb.append(missing);
+            return;
+        }
+        if (tenths < 0) {
+            sb.append('M');
+        }
+        sb.append(String.format("%02d", Math.round(Math.abs(tenths) / 10.0)));
+    }
+
+    private static void appendTenths(StringBuilder sb, short tenths) {
+        sb.append(tenths < 0 ? '1' : '0').append(String.format("%03d", Math.abs(tenths)));
+    }
+
+    private static short toShort(double value, double scale) {
+        if (Double.isNaN(value)) {
+            return MISSING;
+        }
+        return (short) Math.round(value * scale);
+    }
+
+    private static int indexOf(String[] codes, String code) {
+        for (int i = 1; i < codes.length; i++) {
+            if (codes[i].equals(code)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static int coverCode(String contraction) {
+        if (contraction == null) {
+            return 0;
+        }
+        switch (contraction) {
+            case "SCK":
+                return indexOf(COVERS, "SKC");
+            case "0VC":
+                return indexOf(COVERS, "OVC");
+            default:
+                return indexOf(COVERS, contraction);
+        }
+    }
+
+    /**
+     * Pack a sky layer in an int: the cover in the high byte, the cloud type
+     * in the next byte and the height in hundreds of feet in the low short
+     *
+     * @param cover cover code, 1 SKC, 2 CLR, 3 NSC, 4 NCD, 5 FEW, 6 SCT, 7
+     * BKN, 8 OVC, 9 VV, 10 ///
+     * @param cloud cloud code, 0 none, 1 CB, 2 TCU
+     * @param hundredsOfFeet height in hundreds of feet
+     * @return the packed sky layer
+     */
+    public static int packSkyLayer(int cover, int cloud, int hundredsOfFeet) {
+        return cover << 24 | cloud << 16 | hundredsOfFeet & 0xFFFF;
+    }
+
+    /**
+     * Get the cover code of a packed sky layer
+     *
+     * @param layer
+     * @return cover code
+     */
+    public static int skyCover(int layer) {
+        return layer >>> 24;
+    }
+
+    /**
+     * Get the cover of a packed sky layer as reported (FEW, SCT, etc.)
+     *
+     * @param layer
+     * @return cover, null for no layer
+     */
+    public static String skyCoverString(int layer) {
+        return COVERS[skyCover(layer)];
+    }
+
+    /**
+     * Get the cloud code of a packed sky layer
+     *
+     * @param layer
+     * @return cloud code
+     */
+    public static int skyCloud(int layer) {
+        return layer >>> 16 & 0xFF;
+    }
+
+    /**
+     * Get the height of a packed sky layer
+     *
+     * @param layer
+     * @return height in feet
+     */
+    public static int skyHeight(int layer) {
+        return (layer & 0xFFFF) * 100;
+    }
+
+    /**
+     * Get the bit of a present weather code
+     *
+     * @param code weather code, for example "SN" or "+"
+     * @return the bit, 0 for an unknown code
+     */
+    public static long weatherBit(String code) {
+        for (int bit = 0; bit < WEATHER_CODES.length; bit++) {
+            if (WEATHER_CODES[bit].equals(code)) {
+                return 1L << bit;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the bitmask of a present weather group, for example "-SHRA"
+     *
+     * @param group
+     * @return the bitmask
+     */
+    public static long weatherBits(String group) {
+        long bits = 0;
+        if (group == null) {
+            return bits;
+        }
+        int pos = 0;
+        while (pos < group.length()) {
+            char c = group.charAt(pos);
+            if (c == '-' || c == '+') {
+                bits |= weatherBit(String.valueOf(c));
+                pos++;
+            } else if (group.startsWith("NSW", pos)) {
+                bits |= weatherBit("NSW");
+                pos += 3;
+            } else if (c == '/' || pos + 2 > group.length()) {
+                pos++;
+            } else {
+                bits |= weatherBit(group.substring(pos, pos + 2));
+                pos += 2;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Get the station id
+     *
+     * @return station id, see StationIds
+     */
+    public int getStationCode() {
+        return station;
+    }
+
+    /**
+     * Get the station identifier
+     *
+     * @return station identifier
+     */
+    public String getStation() {
+        return StationIds.decode(station);
+    }
+
+    /**
+     * Get the time
+     *
+     * @return time in minutes since the epoch, MISSING_TIME when not known
+     */
+    public int getEpochMinutes() {
+        return epochMinutes;
+    }
+
+    /**
+     * Get the temperature
+     *
+     * @return temperature in tenths of degree Celsius
+     */
+    public short getTemperature() {
+        return temperature;
+    }
+
+    /**
+     * Get the dew point
+     *
+     * @return dew point in tenths of degree Celsius
+     */
+    public short getDewPoint() {
+        return dewPoint;
+    }
+
+    /**
+     * Get the wind direction
+     *
+     * @return wind direction in degrees, MISSING when variable
+     */
+    public short getWindDirection() {
+        return windDirection;
+    }
+
+    /**
+     * Get the wind speed
+     *
+     * @return wind speed in knots
+     */
+    public short getWindSpeed() {
+        return windSpeed;
+    }
+
+    /**
+     * Get the wind gust speed
+     *
+     * @return wind gust speed in knots, MISSING when no gusts
+     */
+    public short getWindGust() {
+        return windGust;
+    }
+
+    /**
+     * Get the visibility
+     *
+     * @return visibility in meters, MISSING when not known
+     */
+    public int getVisibility() {
+        return visibility;
+    }
+
+    /**
+     * Get the altimeter
+     *
+     * @return altimeter in hundredths of inches Hg
+     */
+    public short getAltimeter() {
+        return altimeter;
+    }
+
+    /**
+     * Get the flags
+     *
+     * @return FLAG_ bits
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Get whether a flag is set
+     *
+     * @param flag FLAG_ bit
+     * @return is the flag set
+     */
+    public boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    /**
+     * Get a packed sky layer
+     *
+     * @param index from 0 to MAX_SKY_LAYERS - 1
+     * @return the packed sky layer, 0 for no layer
+     */
+    public int getSkyLayer(int index) {
+        switch (index) {
+            case 0:
+                return sky0;
+            case 1:
+                return sky1;
+            case 2:
+                return sky2;
+            case 3:
+                return sky3;
+            case 4:
+                return sky4;
+            case 5:
+                return sky5;
+            default:
+                throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /**
+     * Get the number of sky layers
+     *
+     * @return number of sky layers
+     */
+    public int getSkyLayerCount() {
+        int n = 0;
+        while (n < MAX_SKY_LAYERS && getSkyLayer(n) != 0) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Get the ceiling, the lowest broken, overcast or vertical visibility
+     * layer
+     *
+     * @return ceiling in feet, MISSING when there is no ceiling
+     */
+    public int getCeiling() {
+        for (int i = 0; i < MAX_SKY_LAYERS; i++) {
+            int layer = getSkyLayer(i);
+            if (layer == 0) {
+                break;
+            }
+            String cover = skyCoverString(layer);
+            if (cover.equals("BKN") || cover.equals("OVC") || cover.equals("VV")) {
+                return skyHeight(layer);
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Get the present weather bitmask
+     *
+     * @return weather bitmask, see weatherBit
+     */
+    public long getWeather() {
+        return weather;
+    }
+
+    /**
+     * Get whether a present weather code was reported
+     *
+     * @param code weather code, for example "SN" or "+"
+     * @return is the code reported
+     */
+    public boolean hasWeather(String code) {
+        return (weather & weatherBit(code)) != 0;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MetarRecord)) {
+            return false;
+        }
+        MetarRecord other = (MetarRecord) obj;
+        return station == other.station && epochMinutes == other.epochMinutes
+                && temperature == other.temperature && dewPoint == other.dewPoint
+                && windDirection == other.windDirection && windSpeed == other.windSpeed
+                && windGust == other.windGust && visibility == other.visibility
+                && altimeter == other.altimeter && flags == other.flags
+                && sky0 == other.sky0 && sky1 == other.sky1 && sky2 == other.sky2
+                && sky3 == other.sky3 && sky4 == other.sky4 && sky5 == other.sky5
+                && weather == other.weather;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = station;
+        hash = 31 * hash + epochMinutes;
+        hash = 31 * hash + (temperature << 16 | dewPoint & 0xFFFF);
+        hash = 31 * hash + (windDirection << 16 | windSpeed & 0xFFFF);
+        hash = 31 * hash + (windGust << 16 | altimeter & 0xFFFF);
+        hash = 31 * hash + visibility;
+        hash = 31 * hash + flags;
+        hash = 31 * hash + sky0;
+        hash = 31 * hash + sky1;
+        hash = 31 * hash + Long.hashCode(weather);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toReportString();
+    }
+}
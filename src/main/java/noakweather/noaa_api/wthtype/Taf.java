@@ -23,14 +23,14 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import noakweather.noaa_api.common.Remarks;
+import noakweather.noaa_api.wthgroup.Group;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
-import noakweather.utils.RegExprConst;
-import noakweather.utils.RegExprHandlers;
+import noakweather.utils.ParseTrace;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsMisc;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.javatuples.Pair;
 
 /**
  * Class representing the TAF parsing. It inherits from the AviaWeath class
@@ -46,6 +46,16 @@ public class Taf extends AviaWeath {
      * Constructor
      */
     public Taf() {
+        this(Configs.getInstance());
+    }
+
+    /**
+     * Constructor with the configuration of the locale to decode with
+     *
+     * @param configs
+     */
+    public Taf(Configs configs) {
+        super(configs);
         LOGGER.debug("in Taf constructor");
     }
 
@@ -56,28 +66,47 @@ public class Taf extends AviaWeath {
      * @throws noakweather.utils.UtilsException
      */
     public void parse(String tafString) throws UtilsException {
+        ParseTrace.begin();
+        try {
+            parseReport(tafString);
+        } finally {
+            ParseTrace.end(tafString);
+        }
+    }
+
+    /**
+     * Parses the taf information of the report
+     *
+     * @param tafString
+     * @throws noakweather.utils.UtilsException
+     */
+    private void parseReport(String tafString) throws UtilsException {
         String tafMain = null;
         String tafRemarks = null;
 
-        LOGGER.debug(Configs.getInstance().getString("TAF_DECODED_TAF_STRING")
-                + " #" + tafString + "#");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(getConfigs().getString(ConfigKey.TAF_DECODED_TAF_STRING)
+                    + " #" + tafString + "#");
+        }
 
         // Check to see if we have a tafString to parse
         if (tafString == null || tafString.length() == 0) {
-            LOGGER.debug(Configs.getInstance().getString("TAF_DECODED_TAF_EMPTY"));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(getConfigs().getString(ConfigKey.TAF_DECODED_TAF_EMPTY));
+            }
             return;
         }
 
         setReportString(tafString);
 
-        //String[] tafParts = tafString.split(Configs.getInstance()
+        //String[] tafParts = tafString.split(getConfigs()
         //                .getString("EXTENDED_REMARKS"));
         // First split the metar string to break out the Remarks section so
         // it can be parsed first
-        if (tafString.contains(Configs.getInstance().getString("EXTENDED_REMARKS"))) {
+        if (tafString.contains(getConfigs().getString(ConfigKey.EXTENDED_REMARKS))) {
             String[] tafParts = UtilsMisc
-                    .stringSplit(tafString, Configs.getInstance()
-                            .getString("EXTENDED_REMARKS"));
+                    .stringSplit(tafString, getConfigs()
+                            .getString(ConfigKey.EXTENDED_REMARKS));
             tafMain = tafParts[0];
             tafRemarks = tafParts[1];
         } else {
@@ -87,9 +116,11 @@ public class Taf extends AviaWeath {
         prepaviaWeathHandlers();
         tafMain = prepTafString(tafMain);
         String[] tafSplitStrings = UtilsMisc.stringSplit(tafMain,
-                Configs.getInstance().getString("MISC_DEL_0x1E"));
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E));
         for (int i = 0; i < tafSplitStrings.length; i++) {
-            LOGGER.info("[" + i + "] #" + tafSplitStrings[i].trim() + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("[" + i + "] #" + tafSplitStrings[i].trim() + "#");
+            }
             parseTafData(tafSplitStrings[i].trim() + " ");
         }
         LOGGER.debug("\n");
@@ -99,8 +130,10 @@ public class Taf extends AviaWeath {
             if (tafRemarks.length() > 0) {
                 tafRemarks = tafRemarks + " ";
             }
-            LOGGER.debug(Configs.getInstance().getString("METAR_DECODED_METAR_REMARKS")
-                    + " #" + tafRemarks + "#");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(getConfigs().getString(ConfigKey.METAR_DECODED_METAR_REMARKS)
+                        + " #" + tafRemarks + "#");
+            }
             parseTafRemarks(tafRemarks);
         }
     }
@@ -112,8 +145,8 @@ public class Taf extends AviaWeath {
      * @throws noakweather.utils.UtilsException
      */
     private void parseTafData(String tafData) throws UtilsException {
-        parseAviaHandlers(tafData, aviaMainWthHandlers, Configs.getInstance()
-                .getString("AVIA_MAIN_HANDLERS"));
+        parseAviaHandlers(tafData, aviaMainWthHandlers, getConfigs()
+                .getString(ConfigKey.AVIA_MAIN_HANDLERS));
     }
 
     /**
@@ -123,10 +156,9 @@ public class Taf extends AviaWeath {
      * @throws noakweather.utils.UtilsException
      */
     private void parseTafRemarks(String tafRemarks) throws UtilsException {
-        remarks = new Remarks();
-        aviaRemarkWthHandlers = RegExprHandlers.setRemarksHandlers();
-        parseAviaHandlers(tafRemarks, aviaRemarkWthHandlers, Configs.getInstance()
-                .getString("AVIA_REMARK_HANDLERS"));
+        remarks = new Remarks(getConfigs());
+        parseAviaHandlers(tafRemarks, aviaRemarkWthHandlers, getConfigs()
+                .getString(ConfigKey.AVIA_REMARK_HANDLERS));
     }
 
     /**
@@ -135,28 +167,21 @@ public class Taf extends AviaWeath {
      * @throws noakweather.utils.UtilsException
      */
     private void prepaviaWeathHandlers() throws UtilsException {
-        aviaMainWthHandlers = RegExprHandlers.setMainHandlers();
-        // Add additional handlers that are necessary
-        aviaMainWthHandlers.put(RegExprConst.TAF_STR_PATTERN,
-                Pair.with("tafstr", false));
-        aviaMainWthHandlers.put(RegExprConst.GROUP_BECMG_TEMPO_PROB_PATTERN,
-                Pair.with("grpbecmgtempprob", false));
-        aviaMainWthHandlers.put(RegExprConst.GROUP_FM_PATTERN,
-                Pair.with("grpfm", false));
-        // Add the UNPARSED_PATTERN after calling aviaMainWthHandlers for any specific handlers
-        // that are necessary
-        aviaMainWthHandlers.put(RegExprConst.UNPARSED_PATTERN,
-                Pair.with("unparsed", false));
-        LOGGER.debug("\n");
-        LOGGER.debug(Configs.getInstance().getString("TAF_DECODED_TAF_MAIN_HANDLERS"));
-        aviaMainWthHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug(Configs.getInstance().getString("TAF_DECODED_TAF_MAIN_HANDLERS") + "\n");
+        aviaMainWthHandlers = AviaWeath.TAF_MAIN_TABLE;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug(getConfigs().getString(ConfigKey.TAF_DECODED_TAF_MAIN_HANDLERS));
+            aviaMainWthHandlers.getPlan().forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug(getConfigs().getString(ConfigKey.TAF_DECODED_TAF_MAIN_HANDLERS) + "\n");
+        }
 
-        aviaGroupWthHandlers = RegExprHandlers.setGroupHandlers();
-        LOGGER.debug("\n");
-        LOGGER.debug(Configs.getInstance().getString("TAF_DECODED_TAF_GROUPS_HANDLERS"));
-        aviaGroupWthHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug(Configs.getInstance().getString("TAF_DECODED_TAF_GROUPS_HANDLERS") + "\n");
+        aviaGroupWthHandlers = Group.GROUP_TABLE;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug(getConfigs().getString(ConfigKey.TAF_DECODED_TAF_GROUPS_HANDLERS));
+            aviaGroupWthHandlers.getPlan().forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug(getConfigs().getString(ConfigKey.TAF_DECODED_TAF_GROUPS_HANDLERS) + "\n");
+        }
     }
 
     /**
@@ -167,8 +192,8 @@ public class Taf extends AviaWeath {
      */
     private String prepTafString(String token) throws UtilsException {
         // Add the "0x1E" character so it can be as the delimiter
-        Pattern pattern = Pattern.compile(Configs.getInstance()
-                .getString("EXTENDED_SP_FM"), Pattern.LITERAL);
+        Pattern pattern = Pattern.compile(getConfigs()
+                .getString(ConfigKey.EXTENDED_SP_FM), Pattern.LITERAL);
         Matcher matcher = pattern.matcher(token);
 
         int pos = 0;
@@ -181,8 +206,8 @@ public class Taf extends AviaWeath {
                 //System.out.println("pos = " + pos);
                 //System.out.println("tafString pos = " + tafString.charAt(pos) + "  tafString pos+2 = " + tafString.charAt(pos+2));
                 if (UtilsMisc.containsOnlyNumbers(Character.toString(token.charAt(pos + 2)))) {
-                    matcher.appendReplacement(sb, Configs.getInstance().getString("MISC_DEL_0x1E")
-                            + Configs.getInstance().getString("EXTENDED_FM"));
+                    matcher.appendReplacement(sb, getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                            + getConfigs().getString(ConfigKey.EXTENDED_FM));
                 }
                 result = matcher.find();
                 //System.out.println("result = " + result);
@@ -191,37 +216,39 @@ public class Taf extends AviaWeath {
             token = sb.toString();
         }
 
-        token = token.replace(Configs.getInstance().getString("EXTENDED_BECMG"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_BECMG"));
-        token = token.replace(Configs.getInstance().getString("EXTENDED_REMARKS"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_REMARKS"));
-        token = token.replace(Configs.getInstance().getString("EXTENDED_TEMPO"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_TEMPO"));
-        token = token.replace(Configs.getInstance().getString("EXTENDED_TEMP0"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_TEMPO"));
-        token = token.replace(Configs.getInstance().getString("EXTENDED_PROB"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_PROB"));
-        token = token.replace(Configs.getInstance().getString("EXTENDED_PR0B"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_PROB"));
-        token = token.replace(Configs.getInstance().getString("EXTENDED_TX"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_TX"));
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_BECMG),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_BECMG));
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_REMARKS),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_REMARKS));
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_TEMPO),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_TEMPO));
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_TEMP0),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_TEMPO));
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_PROB),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_PROB));
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_PR0B),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_PROB));
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_TX),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_TX));
         // TODO Extended AMD and AMDS
         // This is for ExtendedConstants.EXTENDED_AMD and
         // ExtendedConstants.EXTENDED_AMDS This is causing issue.
         //tafString = tafString.replace(ExtendedConstants.EXTENDED_AMD,
         //    MiscConstants.MISC_DEL_0x1E + ExtendedConstants.EXTENDED_AMD);
-        token = token.replace(Configs.getInstance().getString("EXTENDED_LAST"),
-                Configs.getInstance().getString("MISC_DEL_0x1E")
-                + Configs.getInstance().getString("EXTENDED_LAST"));
-        LOGGER.debug(Configs.getInstance().getString("TAF_DECODED_TAF_0x1E_STRING")
-                + " #" + token + "#\n");
+        token = token.replace(getConfigs().getString(ConfigKey.EXTENDED_LAST),
+                getConfigs().getString(ConfigKey.MISC_DEL_0x1E)
+                + getConfigs().getString(ConfigKey.EXTENDED_LAST));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(getConfigs().getString(ConfigKey.TAF_DECODED_TAF_0x1E_STRING)
+                    + " #" + token + "#\n");
+        }
 
         return token;
     }
@@ -298,7 +325,7 @@ public class Taf extends AviaWeath {
         if (getVisibility() != null) {
             if (getVisibility().isCavok()) {
                 System.out.println("Visibility : "
-                        + Configs.getInstance().getString("WEATHER_DECODED_CAVOK"));
+                        + getConfigs().getString(ConfigKey.WEATHER_DECODED_CAVOK));
             } else if (getVisibility().isVisibilityGreaterThan()) {
                 System.out.println("Visibility : Greater than "
                         + getVisibility().getVisibility() + " mile(s), "
@@ -353,6 +380,11 @@ public class Taf extends AviaWeath {
 
         System.out.println();
 
+        if (getCustomRemarks() != null) {
+            System.out.println("Custom remarks are as follows");
+            System.out.println(getCustomRemarks());
+        }
+
         //if (!getParseString().isEmpty()) {
         if (getParseString() != null) {
             System.out.println("Unparsed Data is as follows");
@@ -0,0 +1,262 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Matcher;
+import noakweather.noaa_api.wthtype.AviaWeath;
+import noakweather.utils.ConfigKey;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Class representing the parallel reading of a raw report archive, one file
+ * of any size in the format of the cycle files. The file is cut in chunks of
+ * about chunkSize bytes, each one starting at a yyyy/MM/dd HH:mm header line,
+ * and the chunks are mapped with FileChannel.map and loaded by the tasks of a
+ * fork-join pool. A report is parsed by one task into its own Metar or Taf,
+ * only the chunk offsets are kept on the heap. The listener is called from the
+ * tasks of the pool, concurrently and not in the order of the file, so it has
+ * to be thread safe.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ *
+ * @param <T> the type of the reports, Metar or Taf
+ */
+public final class ArchiveReader<T extends AviaWeath> {
+
+    private static final Logger LOGGER
+            = LogManager.getLogger(ArchiveReader.class.getName());
+
+    /**
+     * Default size of the chunks, 64 MB
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+
+    // A header is searched for in windows of this size
+    private static final int WINDOW = 64 << 10;
+    private static final int MAX_HEADER = 256;
+
+    private final CycleFileLoader<T> loader;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Constructor reading on the common pool in chunks of DEFAULT_CHUNK_SIZE
+     *
+     * @param loader the loader of the reports of a chunk
+     */
+    public ArchiveReader(CycleFileLoader<T> loader) {
+        this(loader, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param loader the loader of the reports of a chunk
+     * @param pool the pool of the tasks loading the chunks
+     * @param chunkSize the size in bytes of a chunk
+     */
+    public ArchiveReader(CycleFileLoader<T> loader, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize: " + chunkSize);
+        }
+        this.loader = loader;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Read the reports of an archive
+     *
+     * @param file the archive
+     * @param listener called from the tasks of the pool
+     * @return the counts of the read
+     * @throws noakweather.utils.UtilsException when the file can not be read
+     */
+    public CycleFileLoader.Summary read(Path file, CycleFileLoader.Listener<? super T> listener)
+            throws UtilsException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            CycleFileLoader.Summary summary = pool.invoke(
+                    new ChunkTask(channel, bounds, 0, bounds.length - 1, listener));
+            summary.addFile();
+            return summary;
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.error(loader.getConfigs().getString(ConfigKey.EXCEP_FAILED_READ_FILE)
+                    + " " + file + " " + e);
+            throw new UtilsException("read: ", e);
+        }
+    }
+
+    /**
+     * Get the offsets of the chunks of a file, from 0 to the size of the file
+     *
+     * @param channel the file
+     * @return the offsets
+     * @throws java.io.IOException
+     */
+    long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long[] bounds = new long[Math.toIntExact(size / chunkSize + 2)];
+        int n = 1;
+        long start = 0;
+        while (size - start > chunkSize) {
+            long bound = nextHeader(channel, start + chunkSize, size);
+            if (bound >= size) {
+                break;
+            }
+            bounds[n++] = bound;
+            start = bound;
+        }
+        bounds[n++] = size;
+        return Arrays.copyOf(bounds, n);
+    }
+
+    private static long nextHeader(FileChannel channel, long from, long size) throws IOException {
+        Matcher matcher = RegExprConst.MONTH_DAY_YEAR_PATTERN.matcher("");
+        StringBuilder header = new StringBuilder(MAX_HEADER);
+        StringBuilder line = new StringBuilder(MAX_HEADER);
+        // Start on the byte before so that a header at from is found
+        long position = from - 1;
+        long lineStart = -1;
+        while (position < size) {
+            int length = (int) Math.min(WINDOW, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                char c = (char) (window.get(i) & 0xFF);
+                if (c == '\n') {
+                    if (lineStart >= 0
+                            && CycleFileLoader.isHeader(matcher, header, line.toString().trim())) {
+                        return lineStart;
+                    }
+                    lineStart = position + i + 1;
+                    line.setLength(0);
+                } else if (lineStart >= 0 && line.length() < MAX_HEADER) {
+                    line.append(c);
+                }
+            }
+            position += length;
+        }
+        if (lineStart >= 0 && CycleFileLoader.isHeader(matcher, header, line.toString().trim())) {
+            return lineStart;
+        }
+        return size;
+    }
+
+    /**
+     * Task loading the chunks from..to, halving the range until one chunk is
+     * left
+     */
+    private final class ChunkTask extends RecursiveTask<CycleFileLoader.Summary> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+        private final transient CycleFileLoader.Listener<? super T> listener;
+
+        ChunkTask(FileChannel channel, long[] bounds, int from, int to,
+                CycleFileLoader.Listener<? super T> listener) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.listener = listener;
+        }
+
+        @Override
+        protected CycleFileLoader.Summary compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                ChunkTask first = new ChunkTask(channel, bounds, from, middle, listener);
+                first.fork();
+                CycleFileLoader.Summary summary
+                        = new ChunkTask(channel, bounds, middle, to, listener).compute();
+                summary.add(first.join());
+                return summary;
+            }
+            CycleFileLoader.Summary summary = new CycleFileLoader.Summary();
+            try (BufferedReader reader = new BufferedReader(
+                    new MappedReader(channel, bounds[from], bounds[to], chunkSize))) {
+                loader.load(reader, listener, summary);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return summary;
+        }
+    }
+
+    /**
+     * Reader of the ISO-8859-1 characters of a region of a file, mapped a
+     * window at a time
+     */
+    private static final class MappedReader extends Reader {
+
+        private final FileChannel channel;
+        private final long end;
+        private final int window;
+        private long position;
+        private MappedByteBuffer buffer;
+
+        MappedReader(FileChannel channel, long start, long end, int window) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+            this.window = window;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (buffer == null || !buffer.hasRemaining()) {
+                if (position >= end) {
+                    return -1;
+                }
+                int length = (int) Math.min(window, end - position);
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                position += length;
+            }
+            int n = Math.min(len, buffer.remaining());
+            for (int i = 0; i < n; i++) {
+                cbuf[off + i] = (char) (buffer.get() & 0xFF);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            buffer = null;
+        }
+    }
+}
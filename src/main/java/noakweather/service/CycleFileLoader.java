@@ -0,0 +1,306 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import noakweather.noaa_api.wthtype.AviaWeath;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.Taf;
+import noakweather.utils.ConfigKey;
+import noakweather.utils.Configs;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Class representing the bulk loading of the NOAA cycle files, the files that
+ * hold the reports of every station for one hour. A file is read line by line:
+ * a report starts at a yyyy/MM/dd HH:mm line (MONTH_DAY_YEAR_PATTERN), its
+ * following lines are joined to it, so only one report is held at a time.
+ * Each report is parsed on its own and handed to the listener, a report that
+ * fails to parse is handed to the listener as a failure and the loading goes
+ * on.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ *
+ * @param <T> the type of the reports, Metar or Taf
+ */
+public final class CycleFileLoader<T extends AviaWeath> {
+
+    private static final Logger LOGGER
+            = LogManager.getLogger(CycleFileLoader.class.getName());
+
+    /**
+     * Parser of one report
+     *
+     * @param <T> the type of the reports
+     */
+    @FunctionalInterface
+    public interface ReportParser<T> {
+
+        /**
+         * Parse a report
+         *
+         * @param report the report, header included
+         * @return the parsed report
+         * @throws noakweather.utils.UtilsException
+         */
+        T parse(String report) throws UtilsException;
+    }
+
+    /**
+     * Listener of the loaded reports
+     *
+     * @param <T> the type of the reports
+     */
+    @FunctionalInterface
+    public interface Listener<T> {
+
+        /**
+         * Called with each parsed report, in the order of the file
+         *
+         * @param report
+         */
+        void onReport(T report);
+
+        /**
+         * Called with each report that fails to parse. The failure is already
+         * logged
+         *
+         * @param report the report, header included
+         * @param error the failure
+         */
+        default void onFailure(String report, Exception error) {
+        }
+    }
+
+    /**
+     * Counts of a load
+     */
+    public static final class Summary {
+
+        private int files;
+        private long reports;
+        private long failures;
+
+        /**
+         * Get the number of files read
+         *
+         * @return files
+         */
+        public int getFiles() {
+            return files;
+        }
+
+        /**
+         * Get the number of parsed reports
+         *
+         * @return reports
+         */
+        public long getReports() {
+            return reports;
+        }
+
+        /**
+         * Get the number of reports that failed to parse
+         *
+         * @return failures
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        void addFile() {
+            files++;
+        }
+
+        void add(Summary other) {
+            files += other.files;
+            reports += other.reports;
+            failures += other.failures;
+        }
+    }
+
+    private final ReportParser<T> parser;
+    private final Configs configs;
+
+    /**
+     * Constructor
+     *
+     * @param parser the parser of one report
+     * @param configs the configuration of the locale of the messages
+     */
+    public CycleFileLoader(ReportParser<T> parser, Configs configs) {
+        this.parser = parser;
+        this.configs = configs;
+    }
+
+    /**
+     * Get a loader of METAR cycle files
+     *
+     * @param configs the configuration of the locale to decode with
+     * @return loader
+     */
+    public static CycleFileLoader<Metar> metars(Configs configs) {
+        return new CycleFileLoader<>(report -> {
+            Metar metar = new Metar(configs);
+            metar.parse(report);
+            return metar;
+        }, configs);
+    }
+
+    /**
+     * Get a loader of TAF cycle files
+     *
+     * @param configs the configuration of the locale to decode with
+     * @return loader
+     */
+    public static CycleFileLoader<Taf> tafs(Configs configs) {
+        return new CycleFileLoader<>(report -> {
+            Taf taf = new Taf(configs);
+            taf.parse(report);
+            return taf;
+        }, configs);
+    }
+
+    /**
+     * Load a cycle file, or the cycle files of a directory in the order of
+     * their names
+     *
+     * @param path file or directory
+     * @param listener
+     * @return the counts of the load
+     * @throws noakweather.utils.UtilsException when a file can not be read
+     */
+    public Summary load(Path path, Listener<? super T> listener) throws UtilsException {
+        Summary summary = new Summary();
+        for (Path file : files(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+                load(reader, listener, summary);
+                summary.files++;
+            } catch (IOException e) {
+                LOGGER.error(configs.getString(ConfigKey.EXCEP_FAILED_READ_FILE)
+                        + " " + file + " " + e);
+                throw new UtilsException("load: ", e);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Load the reports of a cycle file
+     *
+     * @param reader the content of the file
+     * @param listener
+     * @return the counts of the load
+     * @throws java.io.IOException
+     */
+    public Summary load(Reader reader, Listener<? super T> listener) throws IOException {
+        Summary summary = new Summary();
+        load(reader instanceof BufferedReader ? (BufferedReader) reader
+                : new BufferedReader(reader), listener, summary);
+        summary.files++;
+        return summary;
+    }
+
+    Configs getConfigs() {
+        return configs;
+    }
+
+    void load(BufferedReader reader, Listener<? super T> listener, Summary summary)
+            throws IOException {
+        StringBuilder report = new StringBuilder(512);
+        StringBuilder header = new StringBuilder(32);
+        Matcher matcher = RegExprConst.MONTH_DAY_YEAR_PATTERN.matcher("");
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (isHeader(matcher, header, trimmed)) {
+                emit(report, listener, summary);
+            } else if (report.length() == 0) {
+                // Lines before the first header have no date, skip them
+                continue;
+            }
+            if (report.length() > 0) {
+                report.append(' ');
+            }
+            report.append(trimmed);
+        }
+        emit(report, listener, summary);
+    }
+
+    /**
+     * Check a trimmed line starts a report
+     *
+     * @param matcher a matcher of MONTH_DAY_YEAR_PATTERN
+     * @param header a builder to reuse
+     * @param trimmed the line
+     * @return does the line start with yyyy/MM/dd HH:mm
+     */
+    static boolean isHeader(Matcher matcher, StringBuilder header, String trimmed) {
+        // The header line has no trailing space for the pattern
+        header.setLength(0);
+        header.append(trimmed).append(' ');
+        return matcher.reset(header).lookingAt();
+    }
+
+    private void emit(StringBuilder report, Listener<? super T> listener, Summary summary) {
+        if (report.length() == 0) {
+            return;
+        }
+        String text = report.toString();
+        report.setLength(0);
+        T parsed;
+        try {
+            parsed = parser.parse(text);
+        } catch (UtilsException | RuntimeException e) {
+            LOGGER.error(configs.getString(ConfigKey.EXCEP_FAILED_PARSE_REPORT)
+                    + " " + text + " " + e);
+            summary.failures++;
+            listener.onFailure(text, e);
+            return;
+        }
+        summary.reports++;
+        listener.onReport(parsed);
+    }
+
+    private List<Path> files(Path path) throws UtilsException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            LOGGER.error(configs.getString(ConfigKey.EXCEP_FAILED_READ_FILE)
+                    + " " + path + " " + e);
+            throw new UtilsException("files: ", e);
+        }
+    }
+}
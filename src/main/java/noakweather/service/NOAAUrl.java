@@ -17,6 +17,7 @@
 package noakweather.service;
 
 import java.net.URL;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
 import noakweather.utils.UtilsException;
 import noakweather.utils.UtilsWeb;
@@ -30,10 +31,10 @@ import org.apache.logging.log4j.Logger;
  */
 public class NOAAUrl {
 
-    private final static String WEATHMETARURL = Configs.getInstance().getString("MISC_METAR_URL");
-    private final static String WEATHTAFURL = Configs.getInstance().getString("MISC_TAF_URL");
-    private final static String WEATHMETAREXT = Configs.getInstance().getString("MISC_METAR_EXT");
-    private final static String WEATHTAFEXT = Configs.getInstance().getString("MISC_TAF_EXT");
+    private final static String WEATHMETARURL = Configs.getInstance().getString(ConfigKey.MISC_METAR_URL);
+    private final static String WEATHTAFURL = Configs.getInstance().getString(ConfigKey.MISC_TAF_URL);
+    private final static String WEATHMETAREXT = Configs.getInstance().getString(ConfigKey.MISC_METAR_EXT);
+    private final static String WEATHTAFEXT = Configs.getInstance().getString(ConfigKey.MISC_TAF_EXT);
 
     private static final Logger LOGGER
             = LogManager.getLogger(NOAAUrl.class.getName());
@@ -50,10 +51,12 @@ public class NOAAUrl {
 
         try {
             urlString = UtilsWeb.getUrl(WEATHMETARURL + station + WEATHMETAREXT);
-            LOGGER.debug(Configs.getInstance().getString("NOAA_URL_DECODED_GEN_METAR_URL")
-                    + " " + urlString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(Configs.getInstance().getString(ConfigKey.NOAA_URL_DECODED_GEN_METAR_URL)
+                        + " " + urlString);
+            }
         } catch (UtilsException err) {
-            LOGGER.error(Configs.getInstance().getString("NOAA_URL_DECODED_GEN_MT_ERR_URL")
+            LOGGER.error(Configs.getInstance().getString(ConfigKey.NOAA_URL_DECODED_GEN_MT_ERR_URL)
                     + " " + err);
         }
 
@@ -72,10 +75,12 @@ public class NOAAUrl {
 
         try {
             urlString = UtilsWeb.getUrl(WEATHTAFURL + station + WEATHTAFEXT);
-            LOGGER.debug(Configs.getInstance().getString("NOAA_URL_DECODED_GEN_TAF_URL")
-                    + " " + urlString);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(Configs.getInstance().getString(ConfigKey.NOAA_URL_DECODED_GEN_TAF_URL)
+                        + " " + urlString);
+            }
         } catch (UtilsException err) {
-            LOGGER.error(Configs.getInstance().getString("NOAA_URL_DECODED_GEN_MT_ERR_URL")
+            LOGGER.error(Configs.getInstance().getString(ConfigKey.NOAA_URL_DECODED_GEN_MT_ERR_URL)
                     + " " + err);
         }
 
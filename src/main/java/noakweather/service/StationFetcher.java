@@ -0,0 +1,416 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.service;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import noakweather.noaa_api.wthtype.AviaWeath;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.Taf;
+import noakweather.utils.ConfigKey;
+import noakweather.utils.Configs;
+import noakweather.utils.StationIds;
+import noakweather.utils.StationMap;
+import noakweather.utils.UtilsException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Class representing the asynchronous fetching of the METAR and TAF station
+ * files from NOAA. The requests go through one HttpClient, shared by all the
+ * fetchers unless one is given, so the connections are kept alive (or
+ * multiplexed with HTTP/2) across the stations. At most maxConcurrency
+ * requests of a fetcher are in flight, the others wait in a queue without
+ * blocking the caller. The body of a station file is parsed as a cycle file
+ * of one report.
+ *
+ * The ETag and Last-Modified of the station files are kept with the parsed
+ * report, by station id, and sent back as If-None-Match and
+ * If-Modified-Since. On a 304 Not Modified the body is not read and the
+ * cached report is returned again, so a report may be shared by several
+ * callers and is not to be modified
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class StationFetcher {
+
+    private static final Logger LOGGER
+            = LogManager.getLogger(StationFetcher.class.getName());
+
+    /**
+     * Default number of requests in flight
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /**
+     * Default timeout of the connection and of a request
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    // No body is read for a 304
+    private static final HttpResponse.BodyHandler<String> BODY = info -> info.statusCode() == 304
+            ? HttpResponse.BodySubscribers.replacing(null)
+            : HttpResponse.BodySubscribers.ofString(StandardCharsets.ISO_8859_1);
+
+    private static final class SharedClient {
+
+        private static final HttpClient CLIENT = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(DEFAULT_TIMEOUT)
+                .build();
+    }
+
+    /**
+     * A parsed station file and the validators of its response
+     *
+     * @param <T> the type of the report
+     */
+    private static final class Cached<T> {
+
+        private final String etag;
+        private final String lastModified;
+        private final T report;
+
+        Cached(String etag, String lastModified, T report) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.report = report;
+        }
+    }
+
+    /**
+     * The station files of one type of report
+     *
+     * @param <T> the type of the reports
+     */
+    private static final class Endpoint<T extends AviaWeath> {
+
+        private final URI base;
+        private final String extension;
+        private final ConfigKey noneKey;
+        private final CycleFileLoader<T> loader;
+        // Guarded by itself
+        private final StationMap<Cached<T>> cache = new StationMap<>();
+
+        Endpoint(URI base, String extension, ConfigKey noneKey, CycleFileLoader<T> loader) {
+            this.base = base;
+            this.extension = extension;
+            this.noneKey = noneKey;
+            this.loader = loader;
+        }
+    }
+
+    private final HttpClient client;
+    private final Duration timeout;
+    private final Configs configs;
+    private final Endpoint<Metar> metars;
+    private final Endpoint<Taf> tafs;
+    private final int maxConcurrency;
+    private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+    private int running;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor fetching from NOAA with the shared client
+     *
+     * @param configs the configuration of the locale to decode with
+     */
+    public StationFetcher(Configs configs) {
+        this(SharedClient.CLIENT, URI.create(configs.getString(ConfigKey.MISC_METAR_URL)),
+                URI.create(configs.getString(ConfigKey.MISC_TAF_URL)),
+                DEFAULT_MAX_CONCURRENCY, DEFAULT_TIMEOUT, configs);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param client the client of the requests
+     * @param metarBase the directory of the METAR station files
+     * @param tafBase the directory of the TAF station files
+     * @param maxConcurrency the maximum number of requests in flight
+     * @param timeout the timeout of a request
+     * @param configs the configuration of the locale to decode with
+     */
+    public StationFetcher(HttpClient client, URI metarBase, URI tafBase, int maxConcurrency,
+            Duration timeout, Configs configs) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency: " + maxConcurrency);
+        }
+        this.client = client;
+        this.timeout = timeout;
+        this.configs = configs;
+        this.metars = new Endpoint<>(metarBase, configs.getString(ConfigKey.MISC_METAR_EXT),
+                ConfigKey.MISC_METAR_NONE, CycleFileLoader.metars(configs));
+        this.tafs = new Endpoint<>(tafBase, configs.getString(ConfigKey.MISC_TAF_EXT),
+                ConfigKey.MISC_TAF_NONE, CycleFileLoader.tafs(configs));
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Get the shared client
+     *
+     * @return client
+     */
+    public static HttpClient sharedClient() {
+        return SharedClient.CLIENT;
+    }
+
+    /**
+     * Get the number of fetches answered from the cache, with a 304
+     *
+     * @return hits
+     */
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of fetches that read and parsed a station file
+     *
+     * @return misses
+     */
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Forget the cached reports, the next fetches are not conditional
+     */
+    public void clearCache() {
+        for (Endpoint<?> endpoint : new Endpoint<?>[]{metars, tafs}) {
+            synchronized (endpoint.cache) {
+                endpoint.cache.clear();
+            }
+        }
+    }
+
+    /**
+     * Fetch and parse the METAR of a station
+     *
+     * @param station ICAO identifier, [A-Z][A-Z0-9]{3}
+     * @return the report, or a failure with UtilsException when the file can
+     * not be fetched or parsed
+     */
+    public CompletableFuture<Metar> fetchMetar(String station) {
+        return fetch(metars, station);
+    }
+
+    /**
+     * Fetch and parse the TAF of a station
+     *
+     * @param station ICAO identifier, [A-Z][A-Z0-9]{3}
+     * @return the report, or a failure with UtilsException when the file can
+     * not be fetched or parsed
+     */
+    public CompletableFuture<Taf> fetchTaf(String station) {
+        return fetch(tafs, station);
+    }
+
+    /**
+     * Fetch and parse the METAR of stations
+     *
+     * @param stations
+     * @return the reports by station, in the order of stations
+     */
+    public Map<String, CompletableFuture<Metar>> fetchMetars(Collection<String> stations) {
+        Map<String, CompletableFuture<Metar>> reports = new LinkedHashMap<>();
+        for (String station : stations) {
+            reports.computeIfAbsent(station, this::fetchMetar);
+        }
+        return reports;
+    }
+
+    /**
+     * Fetch and parse the TAF of stations
+     *
+     * @param stations
+     * @return the reports by station, in the order of stations
+     */
+    public Map<String, CompletableFuture<Taf>> fetchTafs(Collection<String> stations) {
+        Map<String, CompletableFuture<Taf>> reports = new LinkedHashMap<>();
+        for (String station : stations) {
+            reports.computeIfAbsent(station, this::fetchTaf);
+        }
+        return reports;
+    }
+
+    private <T extends AviaWeath> CompletableFuture<T> fetch(Endpoint<T> endpoint, String station) {
+        if (!StationIds.isValid(station)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("station: " + station));
+        }
+        int id = StationIds.encode(station);
+        Cached<T> cached;
+        synchronized (endpoint.cache) {
+            cached = endpoint.cache.get(id);
+        }
+        URI uri = endpoint.base.resolve(station + endpoint.extension);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(timeout).GET();
+        if (cached != null && cached.etag != null) {
+            builder.header("If-None-Match", cached.etag);
+        }
+        if (cached != null && cached.lastModified != null) {
+            builder.header("If-Modified-Since", cached.lastModified);
+        }
+        HttpRequest request = builder.build();
+        return limit(() -> client.sendAsync(request, BODY))
+                .thenApply(response -> {
+                    if (response.statusCode() == 304 && cached != null) {
+                        hits.increment();
+                        return cached.report;
+                    }
+                    T report;
+                    try {
+                        report = parse(endpoint, station, response);
+                    } catch (UtilsException e) {
+                        throw new CompletionException(e);
+                    }
+                    misses.increment();
+                    store(endpoint, id, response, report);
+                    return report;
+                });
+    }
+
+    private <T extends AviaWeath> void store(Endpoint<T> endpoint, int id,
+            HttpResponse<String> response, T report) {
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (etag == null && lastModified == null) {
+            synchronized (endpoint.cache) {
+                endpoint.cache.remove(id);
+            }
+            return;
+        }
+        // Render before the report is shared, the maps are then only read
+        report.getRunwayVisualRanges();
+        report.getWeatherConditions();
+        report.getSkyConditions();
+        synchronized (endpoint.cache) {
+            endpoint.cache.put(id, new Cached<>(etag, lastModified, report));
+        }
+    }
+
+    private <T extends AviaWeath> T parse(Endpoint<T> endpoint, String station,
+            HttpResponse<String> response) throws UtilsException {
+        if (response.statusCode() != 200) {
+            String errMsg = configs.getString(ConfigKey.EXCEP_UNEXPECTED_HTTP_STATUS)
+                    + " " + response.statusCode() + " " + response.uri();
+            LOGGER.error(errMsg);
+            throw new UtilsException(errMsg);
+        }
+        Object[] result = new Object[1];
+        try {
+            endpoint.loader.load(new StringReader(response.body()),
+                    new CycleFileLoader.Listener<T>() {
+                @Override
+                public void onReport(T report) {
+                    if (result[0] == null) {
+                        result[0] = report;
+                    }
+                }
+
+                @Override
+                public void onFailure(String report, Exception error) {
+                    if (result[0] == null) {
+                        result[0] = error;
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new UtilsException("parse: ", e);
+        }
+        if (result[0] instanceof Exception) {
+            throw new UtilsException("parse: ", (Exception) result[0]);
+        }
+        if (result[0] == null) {
+            throw new UtilsException(configs.getString(endpoint.noneKey) + " " + station);
+        }
+        @SuppressWarnings("unchecked")
+        T report = (T) result[0];
+        return report;
+    }
+
+    /**
+     * Start a request now if fewer than maxConcurrency are in flight, else
+     * when one completes
+     */
+    private <R> CompletableFuture<R> limit(Supplier<CompletableFuture<R>> request) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<R> sent;
+            try {
+                sent = request.get();
+            } catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            sent.whenComplete((response, error) -> {
+                release();
+                if (error != null) {
+                    LOGGER.error(configs.getString(ConfigKey.EXCEP_FAILED_DOWNLOAD_FILE)
+                            + " " + error);
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(response);
+                }
+            });
+        };
+        boolean now;
+        synchronized (waiting) {
+            now = running < maxConcurrency;
+            if (now) {
+                running++;
+            } else {
+                waiting.add(start);
+            }
+        }
+        if (now) {
+            start.run();
+        }
+        return result;
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (waiting) {
+            next = waiting.poll();
+            if (next == null) {
+                running--;
+            }
+        }
+        if (next != null) {
+            // Not on this stack, a request that fails at once completes
+            // inline and would start the next one deeper each time
+            CompletableFuture.runAsync(next, client.executor().orElse(ForkJoinPool.commonPool()));
+        }
+    }
+}
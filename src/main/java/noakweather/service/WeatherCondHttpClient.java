@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLConnection;
+import noakweather.utils.ConfigKey;
 import noakweather.utils.Configs;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,8 +34,6 @@ import org.apache.logging.log4j.Logger;
  */
 public class WeatherCondHttpClient {
 
-    private static String station = "";
-
     private static final Logger LOGGER
             = LogManager.getLogger(WeatherCondHttpClient.class.getName());
 
@@ -46,9 +45,8 @@ public class WeatherCondHttpClient {
      * @return empty string
      */
     public static String refreshWeather(String station) {
-        WeatherCondHttpClient.station = station;
-        System.out.println(Configs.getInstance().getString("MISC_STATION")
-                + " #" + WeatherCondHttpClient.station + "#");
+        System.out.println(Configs.getInstance().getString(ConfigKey.MISC_STATION)
+                + " #" + station + "#");
 
         // Create an URL object
         // URL url;
@@ -69,9 +67,9 @@ public class WeatherCondHttpClient {
             URL url = null;
             URLConnection connection = null;
             InputStream inputStream = null;
-            if (dataType.equals(Configs.getInstance().getString("MISC_METAR_M"))) {
+            if (dataType.equals(Configs.getInstance().getString(ConfigKey.MISC_METAR_M))) {
                 url = new NOAAUrl().generateMetarDataUrl(station);
-            } else if (dataType.equals(Configs.getInstance().getString("MISC_TAF_T"))) {
+            } else if (dataType.equals(Configs.getInstance().getString(ConfigKey.MISC_TAF_T))) {
                 url = new NOAAUrl().generateTafDataUrl(station);
             } // Should never happen
             else {
@@ -93,15 +91,17 @@ public class WeatherCondHttpClient {
                 weatherData.append(line).append(" ");
             }
         } catch (IOException e) {
-            LOGGER.error(Configs.getInstance().getString("EXCEP_FAILED_DOWNLOAD_FILE")
+            LOGGER.error(Configs.getInstance().getString(ConfigKey.EXCEP_FAILED_DOWNLOAD_FILE)
                     + " " + e);
         } catch (NullPointerException e) {
-            LOGGER.error(Configs.getInstance().getString("EXCEP_NULL_POINTER_EXCEPTION")
+            LOGGER.error(Configs.getInstance().getString(ConfigKey.EXCEP_NULL_POINTER_EXCEPTION)
                     + " " + e);
         }
 
-        LOGGER.debug(Configs.getInstance().getString("MISC_WEATHER_DATA")
-                + " " + weatherData.toString());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(Configs.getInstance().getString(ConfigKey.MISC_WEATHER_DATA)
+                    + " " + weatherData.toString());
+        }
 
         return weatherData.toString();
     }
@@ -0,0 +1,313 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.store;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.MetarRecord;
+
+/**
+ * Class representing a columnar store of observations kept off the heap.
+ * The rows are stored in chunks of CHUNK_ROWS rows, a chunk is one direct
+ * buffer holding one column after the other, so the heap only holds a
+ * buffer reference per chunk whatever the number of observations. The
+ * values of the columns are the values of MetarRecord, a value that is not
+ * known is MetarRecord.MISSING (MetarRecord.MISSING_TIME for the time).
+ *
+ * Observations are added by one appender at a time; scans and reads may run
+ * on other threads at the same time and see the rows appended before they
+ * started.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class ObservationStore {
+
+    /**
+     * Number of rows of a chunk
+     */
+    public static final int CHUNK_ROWS = 1 << 16;
+
+    /**
+     * Columns of the store
+     */
+    public enum Column {
+
+        /**
+         * Station id, see StationIds
+         */
+        STATION(Integer.BYTES),
+        /**
+         * Time in minutes since the epoch
+         */
+        TIME(Integer.BYTES),
+        /**
+         * Wind direction in degrees
+         */
+        WIND_DIRECTION(Short.BYTES),
+        /**
+         * Wind speed in knots
+         */
+        WIND_SPEED(Short.BYTES),
+        /**
+         * Wind gust speed in knots
+         */
+        WIND_GUST(Short.BYTES),
+        /**
+         * Temperature in tenths of degree Celsius
+         */
+        TEMPERATURE(Short.BYTES),
+        /**
+         * Dew point in tenths of degree Celsius
+         */
+        DEW_POINT(Short.BYTES),
+        /**
+         * Altimeter in hundredths of inches Hg
+         */
+        ALTIMETER(Short.BYTES),
+        /**
+         * Visibility in meters
+         */
+        VISIBILITY(Integer.BYTES),
+        /**
+         * Ceiling in feet
+         */
+        CEILING(Integer.BYTES);
+
+        private final int width;
+
+        Column(int width) {
+            this.width = width;
+        }
+    }
+
+    private static final Column[] COLUMNS = Column.values();
+    private static final int[] OFFSETS = new int[COLUMNS.length];
+    private static final int CHUNK_BYTES;
+
+    static {
+        int offset = 0;
+        for (Column column : COLUMNS) {
+            OFFSETS[column.ordinal()] = offset;
+            offset += column.width * CHUNK_ROWS;
+        }
+        CHUNK_BYTES = offset;
+    }
+
+    private volatile ByteBuffer[] chunks = new ByteBuffer[16];
+    private volatile int size;
+
+    /**
+     * Class representing the appender of a store, it converts the parsed
+     * metars into rows
+     */
+    public final class Appender implements Consumer<Metar> {
+
+        private Appender() {
+        }
+
+        /**
+         * Append a parsed metar
+         *
+         * @param metar
+         */
+        @Override
+        public void accept(Metar metar) {
+            append(MetarRecord.of(metar));
+        }
+
+        /**
+         * Append a record
+         *
+         * @param record
+         */
+        public void append(MetarRecord record) {
+            int row = size;
+            int index = row / CHUNK_ROWS;
+            ByteBuffer[] current = chunks;
+            if (index == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            if (current[index] == null) {
+                current[index] = ByteBuffer.allocateDirect(CHUNK_BYTES)
+                        .order(ByteOrder.nativeOrder());
+                chunks = current;
+            }
+            ByteBuffer chunk = current[index];
+            int i = row % CHUNK_ROWS;
+            putInt(chunk, Column.STATION, i, record.getStationCode());
+            putInt(chunk, Column.TIME, i, record.getEpochMinutes());
+            putShort(chunk, Column.WIND_DIRECTION, i, record.getWindDirection());
+            putShort(chunk, Column.WIND_SPEED, i, record.getWindSpeed());
+            putShort(chunk, Column.WIND_GUST, i, record.getWindGust());
+            putShort(chunk, Column.TEMPERATURE, i, record.getTemperature());
+            putShort(chunk, Column.DEW_POINT, i, record.getDewPoint());
+            putShort(chunk, Column.ALTIMETER, i, record.getAltimeter());
+            putInt(chunk, Column.VISIBILITY, i, record.getVisibility());
+            putInt(chunk, Column.CEILING, i, record.getCeiling());
+            // Publish the row after its values
+            size = row + 1;
+        }
+    }
+
+    /**
+     * Get the appender of the store, only one appender may append at a time
+     *
+     * @return appender
+     */
+    public Appender appender() {
+        return new Appender();
+    }
+
+    /**
+     * Get the number of rows
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the off-heap bytes of the store
+     *
+     * @return bytes of the allocated chunks
+     */
+    public long getOffHeapBytes() {
+        return (long) ((size() + CHUNK_ROWS - 1) / CHUNK_ROWS) * CHUNK_BYTES;
+    }
+
+    /**
+     * Get the value of a row
+     *
+     * @param column
+     * @param row
+     * @return the value
+     */
+    public int get(Column column, int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row: " + row);
+        }
+        return get(chunks[row / CHUNK_ROWS], column, row % CHUNK_ROWS);
+    }
+
+    /**
+     * Count the rows with a value from min to max (inclusive)
+     *
+     * @param column
+     * @param min
+     * @param max
+     * @return the number of rows
+     */
+    public int count(Column column, int min, int max) {
+        int rows = size;
+        ByteBuffer[] current = chunks;
+        int count = 0;
+        for (int c = 0; c * CHUNK_ROWS < rows; c++) {
+            int n = Math.min(CHUNK_ROWS, rows - c * CHUNK_ROWS);
+            ByteBuffer chunk = current[c];
+            int base = OFFSETS[column.ordinal()];
+            // Branch free so the loops can be unrolled and vectorized
+            if (column.width == Short.BYTES) {
+                for (int i = 0; i < n; i++) {
+                    int value = chunk.getShort(base + i * Short.BYTES);
+                    count += (value >= min) & (value <= max) ? 1 : 0;
+                }
+            } else {
+                for (int i = 0; i < n; i++) {
+                    int value = chunk.getInt(base + i * Integer.BYTES);
+                    count += (value >= min) & (value <= max) ? 1 : 0;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Scan the rows with a value from min to max (inclusive), in the order
+     * of the rows
+     *
+     * @param column
+     * @param min
+     * @param max
+     * @param action called with each row
+     */
+    public void scan(Column column, int min, int max, IntConsumer action) {
+        int rows = size;
+        ByteBuffer[] current = chunks;
+        for (int c = 0; c * CHUNK_ROWS < rows; c++) {
+            int n = Math.min(CHUNK_ROWS, rows - c * CHUNK_ROWS);
+            ByteBuffer chunk = current[c];
+            for (int i = 0; i < n; i++) {
+                int value = get(chunk, column, i);
+                if (value >= min && value <= max) {
+                    action.accept(c * CHUNK_ROWS + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Select the rows with a value from min to max (inclusive)
+     *
+     * @param column
+     * @param min
+     * @param max
+     * @return the selected rows
+     */
+    public BitSet select(Column column, int min, int max) {
+        BitSet rows = new BitSet(size);
+        scan(column, min, max, rows::set);
+        return rows;
+    }
+
+    /**
+     * Keep the selected rows with a value from min to max (inclusive), to
+     * filter on several columns
+     *
+     * @param rows the selected rows
+     * @param column
+     * @param min
+     * @param max
+     */
+    public void retain(BitSet rows, Column column, int min, int max) {
+        ByteBuffer[] current = chunks;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            int value = get(current[row / CHUNK_ROWS], column, row % CHUNK_ROWS);
+            if (value < min || value > max) {
+                rows.clear(row);
+            }
+        }
+    }
+
+    private static int get(ByteBuffer chunk, Column column, int i) {
+        int index = OFFSETS[column.ordinal()] + i * column.width;
+        return column.width == Short.BYTES ? chunk.getShort(index) : chunk.getInt(index);
+    }
+
+    private static void putInt(ByteBuffer chunk, Column column, int i, int value) {
+        chunk.putInt(OFFSETS[column.ordinal()] + i * Integer.BYTES, value);
+    }
+
+    private static void putShort(ByteBuffer chunk, Column column, int i, short value) {
+        chunk.putShort(OFFSETS[column.ordinal()] + i * Short.BYTES, value);
+    }
+}
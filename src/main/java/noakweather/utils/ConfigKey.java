@@ -0,0 +1,610 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+/**
+ * Class representing the keys of the configuration information, in the
+ * order of configs.properties. A key is resolved to its translation by its
+ * ordinal with Configs.getString(ConfigKey), without a bundle lookup
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public enum ConfigKey {
+    AVIA_MAIN_HANDLERS,
+    AVIA_REMARK_HANDLERS,
+    AVIA_GROUP_HANDLERS,
+    REG_EXPR_DECODED_MAIN_HANDLERS,
+    REG_EXPR_DECODED_REMARKS_HANDLERS,
+    REG_EXPR_DECODED_GROUPS_HANDLERS,
+    REG_EXPR_DECODED_GROUP_OBJECT_HANDLERS,
+    CLOUD_CUMULONIMBUS,
+    CLOUD_CUMULONIMBUS_MAMMATUS,
+    CLOUD_TOWERING_CUMULUS,
+    CLOUD_CUMULUS,
+    CLOUD_CUMULUS_FRACTUS,
+    CLOUD_STRATUS,
+    CLOUD_STRATUS_FRACTUS,
+    CLOUD_STRATOCUMULUS,
+    CLOUD_NIMBOSTRATUS,
+    CLOUD_ALTOSTRATUS,
+    CLOUD_ALTOCUMULUS,
+    CLOUD_ALTOCUMULUS_CASTELLANUS,
+    CLOUD_CIRROSTRATUS,
+    CLOUD_CIRROCUMULUS,
+    CLOUD_CIRRUS,
+    CLOUD_OKTA_1,
+    CLOUD_OKTA_2,
+    CLOUD_OKTA_3,
+    CLOUD_OKTA_4,
+    CLOUD_OKTA_5,
+    CLOUD_OKTA_6,
+    CLOUD_OKTA_7,
+    CLOUD_OKTA_8,
+    CLOUD_DECODED_CLOUD_AND_COVER,
+    CLOUD_DECODED_CUMULONIMBUS,
+    CLOUD_DECODED_CUMULONIMBUS_MAMMATUS,
+    CLOUD_DECODED_TOWERING_CUMULUS,
+    CLOUD_DECODED_CUMULUS,
+    CLOUD_DECODED_CUMULUS_FRACTUS,
+    CLOUD_DECODED_STRATUS,
+    CLOUD_DECODED_STRATUS_FRACTUS,
+    CLOUD_DECODED_STRATOCUMULUS,
+    CLOUD_DECODED_NIMBOSTRATUS,
+    CLOUD_DECODED_ALTOSTRATUS,
+    CLOUD_DECODED_ALTOCUMULUS,
+    CLOUD_DECODED_ALTOCUMULUS_CASTELLANUS,
+    CLOUD_DECODED_CIRROSTRATUS,
+    CLOUD_DECODED_CIRROCUMULUS,
+    CLOUD_DECODED_CIRRUS,
+    EXCEP_WEATHER_GET_METAR,
+    EXCEP_WEATHER_GET_TAF,
+    EXCEP_FAILED_DOWNLOAD_FILE,
+    EXCEP_NULL_POINTER_EXCEPTION,
+    EXCEP_FAILED_READ_FILE,
+    EXCEP_FAILED_PARSE_REPORT,
+    EXCEP_UNEXPECTED_HTTP_STATUS,
+    EXTENDED_REMARKS,
+    EXTENDED_TORNADO,
+    EXTENDED_FUNNEL_CLOUD,
+    EXTENDED_WATERSPOUT,
+    EXTENDED_AUTO_A01,
+    EXTENDED_AUTO_A02,
+    EXTENDED_AUTO_AO1,
+    EXTENDED_AUTO_AO2,
+    EXTENDED_DENSITY_ALTITUDE,
+    EXTENDED_ICING,
+    EXTENDED_WIND_SHIFT,
+    EXTENDED_TOWER_VISIBILITY,
+    EXTENDED_SURFACE_VISIBILITY,
+    EXTENDED_VARIABLE_PREVAILING_VISIBILITY,
+    EXTENDED_VARIABLE_CEILING,
+    EXTENDED_PRESSURE_FALLING_RAPIDLY,
+    EXTENDED_PRESSURE_RISING_RAPIDLY,
+    EXTENDED_SEA_LEVEL_PRESSURE,
+    EXTENDED_NO_SEA_LEVEL_PRESSURE_TYPE,
+    EXTENDED_NO_SEA_LEVEL_PRESSURE,
+    EXTENDED_HOURLY_PRECIPITATION_AMOUNT,
+    EXTENDED_6_HOUR_PRECIPITATION_AMOUNT,
+    EXTENDED_24_HOUR_PRECIPITATION_AMOUNT,
+    EXTENDED_HOURLY_TEMPERATURE_AND_DEW_POINT,
+    EXTENDED_6_HOUR_MAXIMUM_TEMPERATURE,
+    EXTENDED_6_HOUR_MINIMUM_TEMPERATURE,
+    EXTENDED_24_HOUR_MAX_MIN_TEMP,
+    EXTENDED_3_HOUR_PRESSURE_TENDENCY,
+    EXTENDED_SENSOR_STATUS_INDICATOR_RVRNO,
+    EXTENDED_SENSOR_STATUS_INDICATOR_PWINO,
+    EXTENDED_SENSOR_STATUS_INDICATOR_PNO,
+    EXTENDED_SENSOR_STATUS_INDICATOR_FZRANO,
+    EXTENDED_SENSOR_STATUS_INDICATOR_TSNO,
+    EXTENDED_SENSOR_STATUS_INDICATOR_VISNO,
+    EXTENDED_SENSOR_STATUS_INDICATOR_CHINO,
+    EXTENDED_MAINTENANCE_CHECK_INDICATOR,
+    EXTENDED_PRESSURE_TENDENCY_INCR_DEACR,
+    EXTENDED_PRESSURE_TENDENCY_INCR_STEADY_OR_INCR_INCR_SLOWLY,
+    EXTENDED_PRESSURE_TENDENCY_INCR_STEADY_UNSTEADY,
+    EXTENDED_PRESSURE_TENDENCY_DEACR_OR_STEADY_INCR,
+    EXTENDED_PRESSURE_TENDENCY_STEADY,
+    EXTENDED_PRESSURE_TENDENCY_DEACR_INCR,
+    EXTENDED_PRESSURE_TENDENCY_DEACR_STEADY_OR_DEACR_DEACR_SLOWLY,
+    EXTENDED_PRESSURE_TENDENCY_DEACR_STEADY_UNSTEADY,
+    EXTENDED_PRESSURE_TENDENCY_STEADY_INCR_DEACR,
+    EXTENDED_NEXT_FORECAST_BY,
+    EXTENDED_NEXT_FORECAST_WILL,
+    EXTENDED_MT,
+    EXTENDED_SP_FM,
+    EXTENDED_FM,
+    EXTENDED_BECMG,
+    EXTENDED_TEMPO,
+    EXTENDED_TEMP0,
+    EXTENDED_PROB,
+    EXTENDED_PR0B,
+    EXTENDED_TX,
+    EXTENDED_LAST,
+    EXTENDED_AMD,
+    EXTENDED_AMDS,
+    EXTENDED_DECODED_FM,
+    EXTENDED_DECODED_BECMG,
+    EXTENDED_DECODED_TEMPO,
+    EXTENDED_DECODED_PROB,
+    EXTENDED_DECODED_REMARKS_STRING,
+    EXTENDED_DECODED_FUNNEL_CLOUD,
+    EXTENDED_DECODED_TORNADO,
+    EXTENDED_DECODED_PHEN_TORNADIC_ACTIVITY,
+    EXTENDED_DECODED_TORNADIC_ACTIVITY,
+    EXTENDED_DECODED_IS_TORNADIC_ACTIVITY_BEG_END,
+    EXTENDED_DECODED_PHEN_TORNADIC_ACTIVITY_TIME,
+    EXTENDED_DECODED_PHEN_TORNADIC_ACTIVITY_LOC,
+    EXTENDED_DECODED_PHEN_TORNADIC_ACTIVITY_MVMT,
+    EXTENDED_DECODED_WATERSPOUT,
+    EXTENDED_DECODED_PHEN_AUTO_STATION,
+    EXTENDED_DECODED_AUTO_AO1,
+    EXTENDED_DECODED_AUTO_AO2,
+    EXTENDED_DECODED_DENSITY_ALTITUDE,
+    EXTENDED_DECODED_ICING,
+    EXTENDED_DECODED_PRESSURE_FALLING_RAPIDLY,
+    EXTENDED_DECODED_PRESSURE_RISING_RAPIDLY,
+    EXTENDED_DECODED_SEA_LEVEL_PRESSURE,
+    EXTENDED_DECODED_NO_SEA_LEVEL_PRESSURE,
+    EXTENDED_DECODED_PEAK_WIND,
+    EXTENDED_DECODED_PEAK_WIND_DIR,
+    EXTENDED_DECODED_PEAK_WIND_SPEED,
+    EXTENDED_DECODED_PEAK_WIND_AT,
+    EXTENDED_DECODED_WIND_SHIFT_AT,
+    EXTENDED_DECODED_CTL_TWR_VIS,
+    EXTENDED_DECODED_SFC_VIS,
+    EXTENDED_DECODED_VIS_VRES_BETWN,
+    EXTENDED_DECODED_VIS_OF,
+    EXTENDED_DECODED_LTNG_FREQ_LESS_1,
+    EXTENDED_DECODED_LTNG_FREQ_1_TO_6,
+    EXTENDED_DECODED_LTNG_FREQ_MORE_6,
+    EXTENDED_DECODED_LTNG_FREQ_UNKNOWN,
+    EXTENDED_DECODED_HOURLY_PRECIPITATION,
+    EXTENDED_DECODED_HOURLY_PRECIPITATION_AMOUNT,
+    EXTENDED_DECODED_LESS_HOURLY_PRECIPITATION_AMOUNT,
+    EXTENDED_DECODED_6_HOUR_PRECIPITATION,
+    EXTENDED_DECODED_24_HOUR_PRECIPITATION,
+    EXTENDED_DECODED_6_24_HOUR_PRECIPITATION_AMOUNT,
+    EXTENDED_DECODED_LESS_SIX_HOUR_PRECIPITATION_AMOUNT,
+    EXTENDED_DECODED_IND_6_24_HOUR_PRECIPITATION_AMOUNT,
+    EXTENDED_DECODED_PRESSURE_TENDENCY,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_CHANGE,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_DEACR,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_STEADY_OR_INCR_INCR_SLOWLY,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_STEADY_UNSTEADY,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_OR_STEADY_INCR,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_STEADY,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_INCR,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_STEADY_OR_DEACR_DEACR_SLOWLY,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_STEADY_UNSTEADY,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_STEADY_INCR_DEACR,
+    EXTENDED_DECODED_PRESSURE_TENDENCY_UNKNOWN,
+    EXTENDED_DECODED_PRESSURE_Q,
+    EXTENDED_DECODED_HOURLY_TEMP,
+    EXTENDED_DECODED_HOURLY_DEWPT,
+    EXTENDED_DECODED_6_HOUR_MAX_TEMP,
+    EXTENDED_DECODED_6_HOUR_MIN_TEMP,
+    EXTENDED_DECODED_24_HOUR_MAX_TEMP,
+    EXTENDED_DECODED_24_HOUR_MIN_TEMP,
+    EXTENDED_DECODED_AUTOMATED_MAINTENANCE,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_RVRNO,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_PWINO,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_PNO,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_FZRANO,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_TSNO,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_VISNO,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_CHINO,
+    EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_UNKNOWN,
+    EXTENDED_DECODED_MAINTENANCE_CHECK_INDICATOR,
+    EXTENDED_DECODED_SNOW_ON_GROUND,
+    EXTENDED_DECODED_NEXT_FORECAST_BY,
+    EXTENDED_DECODED_NEXT_FORECAST_WILL_BE,
+    EXTENDED_DECODED_MT_OBSC,
+    EXTENDED_DECODED_LAST_OBSERVATION,
+    LOC_TIME_BEGIN,
+    LOC_TIME_END,
+    LOC_TIME_OCCASIONAL,
+    LOC_TIME_FREQUENT,
+    LOC_TIME_CONTINUOUS,
+    LOC_TIME_DISTANT,
+    LOC_TIME_DISTANT_I,
+    LOC_TIME_OHD,
+    LOC_TIME_DISIPATED,
+    LOC_TIME_TOP,
+    LOC_TIME_VC,
+    LOC_TIME_MOVG,
+    LOC_TIME_DECODED_HH_AMPM,
+    LOC_TIME_DECODED_HH_MM_AMPM,
+    LOC_TIME_DECODED_OCCASIONAL,
+    LOC_TIME_DECODED_FREQUENT,
+    LOC_TIME_DECODED_CONTINUOUS,
+    LOC_TIME_DECODED_DISTANT,
+    LOC_TIME_DECODED_OHD,
+    LOC_TIME_DECODED_DISIPATED,
+    LOC_TIME_DECODED_DIRECTION,
+    LOC_TIME_DECODED_COMPASS,
+    LOC_TIME_DECODED_TOP,
+    LOC_TIME_DECODED_VC,
+    LOC_TIME_DECODED_BEGIN,
+    LOC_TIME_DECODED_END,
+    LOC_TIME_DECODED_ENDING,
+    LOC_TIME_DECODED_MOVNG,
+    LOC_TIME_DECODED_FULL_DATE,
+    LOC_TIME_DECODED_VALID_FROM_DATE,
+    LOC_TIME_DECODED_VALID_TO_DATE,
+    LOC_TIME_DECODED_NXT_FCST_BY_DATE,
+    LOC_TIME_DECODED_UNABLE_PARSE_DATE_VALUE,
+    LOC_TIME_DECODED_LOCTED,
+    LOC_TIME_DECODED_AT,
+    LOC_TIME_DECODED_TO,
+    LOC_TIME_DECODED_OF,
+    LOC_TIME_DECODED_THE,
+    LOC_TIME_DECODED_AND,
+    LOC_TIME_DECODED_IN,
+    LOC_TIME_DECODED_OCTANT,
+    LOC_TIME_DECODED_LESS_THAN,
+    LOC_TIME_DECODED_GREATER_THAN,
+    LOG_DECODED_INFO,
+    LOG_DECODED_WARN,
+    LOG_DECODED_DEBUG,
+    LOG_DECODED_UNKN,
+    LOG_DECODED_MSG_NOT_EN,
+    LOG_DECODED_MSG_UNK_WTH_TYP,
+    LOG_DECODED_MSG_MET_PARM,
+    LOG_DECODED_MSG_TAF_PARM,
+    LOG_DECODED_MSG_EXIT,
+    LOG_DECODED_REPORT_MODIFIER,
+    LOG_DECODED_FOUND_VALID_TO_FROM_TP,
+    LOG_DECODED_FOUND_WIND,
+    LOG_DECODED_FOUND_VISIBILITY,
+    LOG_DECODED_FOUND_RVR,
+    LOG_DECODED_FOUND_WEATHER_GROUPS,
+    LOG_DECODED_WEATHER_CONDITIONS,
+    LOG_DECODED_FOUND_SKY_CONDITIONS,
+    LOG_DECODED_SKY_CONDITIONS,
+    LOG_DECODED_FOUND_TEMPERATURE_DEWPOINT,
+    LOG_DECODED_FOUND_PRESSURE,
+    LOG_DECODED_FOUND_NO_SIGNIFICANT_CHANGE,
+    LOG_DECODED_FOUND_PRESSURE_RISING_FALLING_RAPIDLY,
+    LOG_DECODED_FOUND_TORNADIC_ACTIVITY,
+    LOG_DECODED_FOUND_AUTOMATED_STATION,
+    LOG_DECODED_FOUND_BEG_END_PRECIPITATION,
+    LOG_DECODED_FOUND_SEA_LEVEL_PRESSURE,
+    LOG_DECODED_FOUND_PEAK_WIND,
+    LOG_DECODED_FOUND_WIND_SHIFT,
+    LOG_DECODED_FOUND_TWRSRFVIS,
+    LOG_DECODED_FOUND_VARPREVVIS_SECTORVIS_VISSECONDLOC,
+    LOG_DECODED_FOUND_LIGHTNING,
+    LOG_DECODED_FOUND_THUNDERSTORM_LOC,
+    LOG_DECODED_FOUND_ICING,
+    LOG_DECODED_FOUND_6_HOURLY_MAX_MIN_TEMPERATURE,
+    LOG_DECODED_FOUND_PRECIPITATION_FALLEN_PAST_HOUR,
+    LOG_DECODED_FOUND_3_6_HOUR_PRECIPITATION_FALLEN,
+    LOG_DECODED_FOUND_24_HOUR_PRECIPITATION_FALLEN,
+    LOG_DECODED_FOUND_HOURLY_TEMPERATURE_DEWPOINT,
+    LOG_DECODED_FOUND_24_HOUR_MAX_MIN_TEMPERATURE,
+    LOG_DECODED_FOUND_3_HOUR_PRESSURE_TENDENCY,
+    LOG_DECODED_FOUND_DENSITY_ALTITUDE,
+    LOG_DECODED_FOUND_CLOUDS,
+    LOG_DECODED_FOUND_LAST_OBS,
+    LOG_DECODED_FOUND_QFE_QNH_QNE_PRESSURE,
+    LOG_DECODED_FOUND_AUTOMATED_MAINTENANCE_DATA,
+    LOG_DECODED_FOUND_BECMGTEMPOPROBFM_DATA,
+    LOG_DECODED_FOUND_SNOW_ON_GROUND,
+    LOG_DECODED_FOUND_NEXT_FORECAST_BY,
+    LOG_DECODED_FOUND_REMARK_WIND,
+    LOG_DECODED_FOUND_UNPARSED_DATA,
+    LOG_DECODED_UNABLE_DECODE_FIELD,
+    MATCH_DECODED_TOKEN_PROCESSING,
+    MATCH_DECODED_PATTERN_I,
+    MATCH_DECODED_MATCHER_GROUP_CNT,
+    MATCH_DECODED_MATCHER_GROUP_0,
+    MATCH_DECODED_CAPTURE_GROUP_NUMBER,
+    MATCH_DECODED_CAPTURED_TEXT,
+    MATCH_DECODED_TOKEN_AFTER_LAST_MATCH,
+    MATCH_DECODED_PATTERN,
+    METAR_DECODED_METAR_PARSE_STRING,
+    METAR_DECODED_EMPTY_METAR_DATA,
+    METAR_DECODED_METAR_MAIN,
+    METAR_DECODED_METAR_REMARKS,
+    METAR_DECODED_METAR_MAIN_HANDLERS,
+    METAR_DECODED_METAR_REMARKS_HANDLERS,
+    MISC_DEL_0x1E,
+    MISC_METAR_M,
+    MISC_METAR,
+    MISC_METAR_URL,
+    MISC_METAR_EXT,
+    MISC_METAR_NONE,
+    MISC_TAF_T,
+    MISC_TAF,
+    MISC_TAF_URL,
+    MISC_TAF_EXT,
+    MISC_TAF_NONE,
+    MISC_WEATHER_DATA,
+    MISC_STATION,
+    MISC_RAW_METARDATA,
+    MISC_RAW_TAFDATA,
+    MISC_UNABLE_PARSE_VALUE,
+    MISC_VALUE_0,
+    MISC_VALUE_1,
+    MISC_VALUE_6,
+    MISC_VALUE_9,
+    MISC_VALUE_10,
+    MISC_VALUE_AS,
+    MISC_VALUE_HP,
+    MISC_VALUE_PT,
+    MISC_VALUE_CO,
+    MISC_VALUE_UL,
+    MISC_VALUE_UR,
+    MISC_VALUE_UC,
+    MISC_VALUE_UU,
+    MISC_VALUE_UD,
+    MISC_VALUE_UN,
+    MISC_DECODED_VALUE_L,
+    MISC_DECODED_VALUE_R,
+    MISC_DECODED_VALUE_C,
+    MISC_DECODED_VALUE_U,
+    MISC_DECODED_VALUE_D,
+    MISC_DECODED_VALUE_N,
+    MSRMNT_DECODED_CM,
+    MSRMNT_DECODED_HG,
+    MSRMNT_DECODED_HPA,
+    MSRMNT_DECODED_MM,
+    MSRMNT_DECODED_MB,
+    MSRMNT_DECODED_INCHES,
+    MSRMNT_DECODED_FEET,
+    MSRMNT_DECODED_MILES,
+    MSRMNT_DECODED_KILOMETERS,
+    MSRMNT_DECODED_METERS,
+    MSRMNT_DECODED_MINUTES,
+    MSRMNT_DECODED_HOUR,
+    MSRMNT_DECODED_MIN_AFT,
+    MSRMNT_DECODED_MIN_AFT_HR,
+    NOAA_URL_DECODED_GEN_METAR_URL,
+    NOAA_URL_DECODED_GEN_TAF_URL,
+    NOAA_URL_DECODED_GEN_MT_ERR_URL,
+    PRESS_FALLING,
+    PRESS_RISING,
+    PRESS_QFE,
+    PRESS_QNH,
+    PRESS_QNE,
+    PRESS_DECODED_PRESSURE,
+    PRESS_DECODED_PRESSURE_Q,
+    PRESS_DECODED_PRESSURE_Q_TYPE,
+    PRESS_DECODED_CNTNS_ALPHA_VALUES,
+    PRESS_DECODED_TENDENCY_CODE,
+    PRESS_DECODED_FIELD_ELEVATION,
+    PRESS_DECODED_NORMAL_HEIGHT,
+    PRESS_DECODED_NORMAL_ELEVATION,
+    PRESS_DECODED_UNKNOWN,
+    RVR_RUNWAY_VISUAL_RANGE,
+    RVR_REPORTABLE_BELOW,
+    RVR_REPORTABLE_ABOVE,
+    RVR_DECODED_RUNWAY_NUMBER,
+    RVR_DECODED_RUNWAY_APPROACH_DIRECTION,
+    RVR_DECODED_RUNWAY_MP_RVR_MODIFIER,
+    RVR_DECODED_RUNWAY_CONTMNTN_COND_CLRD_DIRECTION,
+    RVR_DECODED_RVR_MODIFIER,
+    RVR_DECODED_RVR_LOWEST_REPORTABLE,
+    RVR_DECODED_RVR_HIGHEST_REPORTABLE,
+    RVR_DECODED_MILES_AT_RNWY,
+    RVR_DECODED_RUNWAY_CTMNRN_COND_CSD_TO_EXIST,
+    SKY_COND_VERTICAL_VISIBILITY,
+    SKY_COND_SKY_CLEAR,
+    SKY_COND_CLEAR,
+    SKY_COND_FEW,
+    SKY_COND_SCATTERED,
+    SKY_COND_BROKEN,
+    SKY_COND_OVERCAST,
+    SKY_COND_NO_CLOUDS_DETECTED,
+    SKY_COND_NO_SIGNIFICANT_CLOUDS,
+    SKY_COND_DECODED_CONTRACTION,
+    SKY_COND_DECODED_HEIGHT,
+    SKY_COND_DECODED_MODIFIER,
+    SKY_COND_DECODED_UNKNOWN,
+    SKY_COND_DECODED_VERTICAL_VISIBILITY,
+    SKY_COND_DECODED_SKY_CLEAR,
+    SKY_COND_DECODED_CLEAR,
+    SKY_COND_DECODED_FEW,
+    SKY_COND_DECODED_SCATTERED,
+    SKY_COND_DECODED_BROKEN,
+    SKY_COND_DECODED_OVERCAST,
+    SKY_COND_DECODED_NO_CLOUDS_DETECTED,
+    SKY_COND_DECODED_NO_SIGNIFICANT_CLOUDS,
+    TAF_DECODED_GROUP_MAIN_HANDLERS,
+    TAF_DECODED_TAF_MAIN_HANDLERS,
+    TAF_DECODED_TAF_REMARKS_HANDLERS,
+    TAF_DECODED_TAF_GROUPS_HANDLERS,
+    TAF_DECODED_TAF_STRING,
+    TAF_DECODED_TAF_0x1E_STRING,
+    TAF_DECODED_TAF_EMPTY,
+    TEMP_DECODED_CELSIUS,
+    TEMP_DECODED_FAHRENHEIT,
+    TEMP_DECODED_KELVIN,
+    TEMP_DECODED_RANKINE,
+    TEMP_DECODED_DEGREES,
+    TEMP_DECODED_TEMPERATURE,
+    TEMP_DECODED_DEWPT,
+    VISIBILITY_DECODED_VISIBILITY,
+    VISIBILITY_DECODED_NON_NUMERIC,
+    VISIBILITY_DECODED_VAR_PREVAIL_ONE,
+    VISIBILITY_DECODED_VAR_PREVAIL_TWO,
+    VISIBILITY_DECODED_IS_VISVAR_PREVAIL_VARIABLE,
+    VISIBILITY_DECODED_VISVAR_PREVAIL_RUNWAY,
+    VISIBILITY_DECODED_IS_VISVAR_PREVAIL_RUNWAY,
+    VISIBILITY_DECODED_VISVAR_PREVAIL_DIR,
+    VISIBILITY_DECODED_PREVAIL_UNKNOWN,
+    WEATHER_AUTOMATED,
+    WEATHER_AMENDED,
+    WEATHER_CORRECTED,
+    WEATHER_CORRECTED_CC,
+    WEATHER_DELAYED,
+    WEATHER_TRACE,
+    WEATHER_HEAVY,
+    WEATHER_LIGHT,
+    WEATHER_IN_PRECIPITATION,
+    WEATHER_IN_CLD,
+    WEATHER_CLD_TO_CLD,
+    WEATHER_CLD_GRND,
+    WEATHER_CLD_TO_AIR,
+    WEATHER_CLD_TO_WATER,
+    WEATHER_SHALLOW,
+    WEATHER_PARTIAL,
+    WEATHER_PATCHES,
+    WEATHER_LOW_DRIFTING,
+    WEATHER_BLOWING,
+    WEATHER_SHOWERS,
+    WEATHER_THUNDERSTORMS,
+    WEATHER_THUNDERSTORMS_RAIN,
+    WEATHER_VIRGA,
+    WEATHER_FREEZING,
+    WEATHER_DRIZZLE,
+    WEATHER_RAIN,
+    WEATHER_SNOW,
+    WEATHER_SNOW_GRAINS,
+    WEATHER_ICE_CRYSTALS,
+    WEATHER_ICE_PELLETS,
+    WEATHER_HAIL,
+    WEATHER_SMALL_HAIL,
+    WEATHER_UNKNOWN_PRECIPITATION,
+    WEATHER_MIST,
+    WEATHER_FOG,
+    WEATHER_SMOKE,
+    WEATHER_VOLCANIC_ASH,
+    WEATHER_WIDESPREAD_DUST,
+    WEATHER_SAND,
+    WEATHER_HAZE,
+    WEATHER_SPRAY,
+    WEATHER_DUST_SAND_WHIRLS,
+    WEATHER_SQUALLS,
+    WEATHER_FUNNEL_CLOUD,
+    WEATHER_SAND_STORM,
+    WEATHER_DUST_STORM,
+    WEATHER_BECOMING,
+    WEATHER_CAVOK,
+    WEATHER_P6SM,
+    WEATHER_NO_SIGNIFICANT_CHANGE,
+    WEATHER_NO_SIGNIFICANT_WEATHER,
+    WEATHER_NO_DIRECTIONAL_VARIATION,
+    WEATHER_ALTIMETER_A,
+    WEATHER_ALTIMETER_AA,
+    WEATHER_ALTIMETER_Q,
+    WEATHER_ALTIMETER_QNH,
+    WEATHER_STATUE_MILE,
+    WEATHER_KILOMETER,
+    WEATHER_DECODED_GROUP,
+    WEATHER_DECODED_TRACE,
+    WEATHER_DECODED_INTENSITY,
+    WEATHER_DECODED_DESCRIPTOR,
+    WEATHER_DECODED_SEVERE,
+    WEATHER_DECODED_HEAVY,
+    WEATHER_DECODED_LIGHT,
+    WEATHER_DECODED_VC,
+    WEATHER_DECODED_SLIGHT,
+    WEATHER_DECODED_MODERATE,
+    WEATHER_DECODED_SHALLOW,
+    WEATHER_DECODED_PARTIAL,
+    WEATHER_DECODED_PATCHES,
+    WEATHER_DECODED_LOW_DRIFTING,
+    WEATHER_DECODED_BLOWING,
+    WEATHER_DECODED_SHOWERS,
+    WEATHER_DECODED_THUNDERSTORM_CLOUD_LOC,
+    WEATHER_DECODED_THUNDERSTORMS,
+    WEATHER_DECODED_THUNDERSTORMS_TYPE_UNKNOWN,
+    WEATHER_DECODED_THUNDERSTORMS_LOC_UNKNOWN,
+    WEATHER_DECODED_VIRGA,
+    WEATHER_DECODED_LIGHTNING,
+    WEATHER_DECODED_LIGHTNING_OBSERVED,
+    WEATHER_DECODED_LIGHTNING_UNKNOWN,
+    WEATHER_DECODED_IN_PRECIPITATION,
+    WEATHER_DECODED_IN_CLD,
+    WEATHER_DECODED_CLD_TO_CLD,
+    WEATHER_DECODED_CLD_GRND,
+    WEATHER_DECODED_CLD_TO_AIR,
+    WEATHER_DECODED_CLD_TO_WATER,
+    WEATHER_DECODED_PRECIPITATION,
+    WEATHER_DECODED_OBSTRUCTION,
+    WEATHER_DECODED_FREEZING,
+    WEATHER_DECODED_DRIZZLE,
+    WEATHER_DECODED_RAIN,
+    WEATHER_DECODED_SNOW,
+    WEATHER_DECODED_SNOW_GRAINS,
+    WEATHER_DECODED_ICE_CRYSTALS,
+    WEATHER_DECODED_ICE_PELLETS,
+    WEATHER_DECODED_HAIL,
+    WEATHER_DECODED_SMALL_HAIL,
+    WEATHER_DECODED_UNKNOWN_PRECIP,
+    WEATHER_DECODED_MIST,
+    WEATHER_DECODED_FOG,
+    WEATHER_DECODED_SMOKE,
+    WEATHER_DECODED_VOLCANIC_ASH,
+    WEATHER_DECODED_WIDESPREAD_DUST,
+    WEATHER_DECODED_SAND,
+    WEATHER_DECODED_HAZE,
+    WEATHER_DECODED_SPRAY,
+    WEATHER_DECODED_DUST_SAND_WHIRLS,
+    WEATHER_DECODED_SQUALLS,
+    WEATHER_DECODED_FUNNEL_CLOUD,
+    WEATHER_DECODED_SAND_STORM,
+    WEATHER_DECODED_DUST_STORM,
+    WEATHER_DECODED_CAVOK,
+    WEATHER_DECODED_P6SM,
+    WEATHER_DECODED_NO_SIGNIFICANT_CHANGE,
+    WEATHER_DECODED_NO_SIGNIFICANT_WEATHER,
+    WEATHER_DECODED_NO_DESCRIPTOR,
+    WEATHER_DECODED_NO_PRECIPITATION,
+    WEATHER_DECODED_NO_OBSTRUCTION,
+    WEATHER_DECODED_NO_DIRECTIONAL_VARIATION,
+    WIND_KNOTS_1,
+    WIND_KNOTS_2,
+    WIND_MILES_PER_SEC,
+    WIND_VARIABLE,
+    WIND_PEAK_WIND,
+    WIND_NOT_DETERMINED,
+    WIND_DIR_NORTH,
+    WIND_DIR_NORTH_NORTH_EAST,
+    WIND_DIR_NORTH_EAST,
+    WIND_DIR_EAST_NORTH_EAST,
+    WIND_DIR_EAST,
+    WIND_DIR_EAST_SOUTH_EAST,
+    WIND_DIR_SOUTH_EAST,
+    WIND_DIR_SOUTH_SOUTH_EAST,
+    WIND_DIR_SOUTH,
+    WIND_DIR_SOUTH_SOUTH_WEST,
+    WIND_DIR_SOUTH_WEST,
+    WIND_DIR_WEST_SOUTH_WEST,
+    WIND_DIR_WEST,
+    WIND_DIR_WEST_NORTH_WEST,
+    WIND_DIR_NORTH_WEST,
+    WIND_DIR_NORTH_NORTH_WEST,
+    WIND_DECODED_WIND_SPEED,
+    WIND_DECODED_WIND_GUST,
+    WIND_DECODED_WIND_NO_GUST,
+    WIND_DECODED_MILES_PER_HOUR,
+    WIND_DECODED_METERS_PER_SECOND,
+    WIND_DECODED_KNOTS,
+    WIND_DECODED_DIR_CALM,
+    WIND_DECODED_DIR_UNKNOWN,
+    WIND_DECODED_CONTAINS_ALPHA,
+    WIND_DECODED_VARIABLE_DIRECTION_GTR_6_KNOTS,
+    WIND_DECODED_VARIABLE_DIRECTION_LSS_EQL_6_KNOTS,
+    WIND_DECODED_DIRECTION_VAR_GTR_SIX,
+    WIND_DECODED_DIRECTION_VAR_ONE,
+    WIND_DECODED_DIRECTION_VAR_TWO,
+    WIND_DECODED_DIRECTION_VAR_ONE_COMPASS,
+    WIND_DECODED_DIRECTION_VAR_TWO_COMPASS,
+    WIND_DECODED_NOT_DETERMINED;
+}
@@ -17,67 +17,143 @@
 package noakweather.utils;
 
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Class representing the configuration information
+ * Class representing the configuration information. A Configs is bound to
+ * one locale and never changes once built, so the instances of several
+ * locales can decode and render at the same time. getInstance() is the
+ * default configuration, used when none is given explicitly
  *
  * Author: quark95cos Since: Copyright(c) 2022
  */
 public class Configs {
 
     /**
-     * The singleton instance.
+     * Name of the bundle.
      *
      */
-    private static final Configs INSTANCE = new Configs();
+    private static final String BUNDLE_NAME = "configs";
 
     /**
-     * Name of the bundle.
+     * The keys by name.
      *
      */
-    private static final String BUNDLE_NAME = "configs";
+    private static final Map<String, ConfigKey> KEYS = new HashMap<>();
+
+    static {
+        for (ConfigKey key : ConfigKey.values()) {
+            KEYS.put(key.name(), key);
+        }
+    }
 
     /**
-     * Bundle variable.
+     * The configurations by locale.
      *
      */
-    private ResourceBundle fResourceBundle;
+    private static final Map<Locale, Configs> LOCALES = new ConcurrentHashMap<>();
+
+    /**
+     * The default instance.
+     *
+     */
+    private static volatile Configs instance = forLocale(Locale.getDefault());
+
+    /**
+     * The locale of the bundle.
+     *
+     */
+    private final Locale fLocale;
+
+    /**
+     * The translations of the bundle, indexed by the ordinal of the keys.
+     *
+     */
+    private final String[] fValues;
+
+    /**
+     * The message formats, parsed on first use.
+     *
+     */
+    private final Map<ConfigKey, MessageFormat> fFormats = new ConcurrentHashMap<>();
 
     /**
      * Private constructor.
+     *
+     * @param locale the locale of the bundle.
      */
-    private Configs() {
+    private Configs(final Locale locale) {
+        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
+        ConfigKey[] keys = ConfigKey.values();
+        this.fLocale = locale;
+        this.fValues = new String[keys.length];
+        for (ConfigKey key : keys) {
+            this.fValues[key.ordinal()] = bundle.getString(key.name());
+        }
     }
 
     /**
      * Get INSTANCE
      *
-     * @return the Configs instance.
+     * @return the default Configs instance.
      */
     public static Configs getInstance() {
-        return INSTANCE;
+        return instance;
     }
 
     /**
-     * !!!!!!!!!!!!!!!!!!!!! NOT IN USE - NEED TO FINALIZE
-     * !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
+     * Get the configuration of a locale. The instance is built once per
+     * locale and shared
+     *
+     * @param locale the locale of the bundle.
+     * @return the Configs instance of the locale.
      */
-    private static class ConfigsHolder {
-
-        private static final Configs INSTANCE = new Configs();
+    public static Configs forLocale(final Locale locale) {
+        return LOCALES.computeIfAbsent(locale, Configs::new);
     }
 
     /**
-     * Sets the locale of the bundle.
+     * Sets the locale of the default configuration returned by getInstance()
+     * and the default locale of the JVM. This instance is not changed. The
+     * reports already created keep their configuration, code that parses on
+     * several threads while the default may change should pass the Configs
+     * of forLocale explicitly
      *
      * @param locale the locale to set.
      */
     public void setLocale(final Locale locale) {
         Locale.setDefault(locale);
-        ResourceBundle.clearCache();
-        fResourceBundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
+        instance = forLocale(locale);
+    }
+
+    /**
+     * Get the locale of the configuration
+     *
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return fLocale;
+    }
+
+    /**
+     * Get the key of the configuration
+     *
+     * @param config the name of the key
+     * @return the key
+     * @throws MissingResourceException if there is no such key
+     */
+    private static ConfigKey getKey(final String config) {
+        ConfigKey key = KEYS.get(config);
+        if (key == null) {
+            throw new MissingResourceException("Can't find resource for bundle "
+                    + BUNDLE_NAME + ", key " + config, BUNDLE_NAME, config);
+        }
+        return key;
     }
 
     /**
@@ -87,7 +163,17 @@ public class Configs {
      * @return the translation of config
      */
     public String getString(final String config) {
-        return fResourceBundle.getString(config);
+        return getString(getKey(config));
+    }
+
+    /**
+     * Get the translation of the configuration
+     *
+     * @param config the key to get
+     * @return the translation of config
+     */
+    public String getString(final ConfigKey config) {
+        return fValues[config.ordinal()];
     }
 
     /**
@@ -98,6 +184,21 @@ public class Configs {
      * @return the translation of config with the arguments
      */
     public String getString(final String config, final Object... arguments) {
-        return MessageFormat.format(getString(config), arguments);
+        return getString(getKey(config), arguments);
+    }
+
+    /**
+     * Get the translation of the configuration with the arguments
+     *
+     * @param config the key of the translation to get
+     * @param arguments the arguments to fill
+     * @return the translation of config with the arguments
+     */
+    public String getString(final ConfigKey config, final Object... arguments) {
+        MessageFormat format = fFormats.computeIfAbsent(config,
+                k -> new MessageFormat(fValues[k.ordinal()], fLocale));
+        synchronized (format) {
+            return format.format(arguments);
+        }
     }
 }
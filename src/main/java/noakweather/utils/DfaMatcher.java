@@ -0,0 +1,137 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Arrays;
+
+/**
+ * Class representing a matcher generated from a RegExprConst pattern (see
+ * GeneratedMatchers). It runs the deterministic automaton built from the
+ * pattern, one table lookup per character, and keeps the actions taken. Once
+ * the match is known, the named group offsets are found by following the
+ * matching thread back through the actions. The answer is the one of the
+ * regular expression, so it is never UNSURE.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+final class DfaMatcher implements FastLexer.Scanner {
+
+    private static final int ASCII = 128;
+    // Starting length of the working buffer, the usual groups fit in it
+    private static final int TRAIL = 32;
+
+    private final String[] names;
+    private final int[] numbers;
+    // Character class of each ASCII character, the last one for the others
+    private final int[] classes;
+    private final int classCount;
+    private final int initial;
+    private final int initialActions;
+    // Index of the matching thread of each state, -1 if none
+    private final int[] accept;
+    // Next state and offset of its actions by state and character class
+    private final int[] transitions;
+    private final int[] actionOffsets;
+    // Actions: the thread count, then the source thread and the mask of the
+    // group offsets set by each thread
+    private final int[] actions;
+
+    /**
+     * Constructor, for the generated tables
+     */
+    DfaMatcher(String[] names, int[] numbers, int[] classes, int classCount, int initial,
+            int initialActions, int[] accept, int[] transitions,
+            int[] actionOffsets, int[] actions) {
+        this.names = names;
+        this.numbers = numbers;
+        this.classes = classes;
+        this.classCount = classCount;
+        this.initial = initial;
+        this.initialActions = initialActions;
+        this.accept = accept;
+        this.transitions = transitions;
+        this.actionOffsets = actionOffsets;
+        this.actions = actions;
+    }
+
+    @Override
+    public int scan(String s, int pos, int end, RegExprMatch match) {
+        if (initial < 0) {
+            return FastLexer.NO_MATCH;
+        }
+        // The actions taken at each offset, the group offsets are only
+        // followed back from the matching thread once the match is known
+        int[] trail = match.scratch(TRAIL);
+        trail[0] = initialActions;
+        int state = initial;
+        int bestEnd = -1;
+        int bestThread = accept[state];
+        if (bestThread >= 0) {
+            bestEnd = pos;
+        }
+        for (int i = pos; i < end; i++) {
+            char c = s.charAt(i);
+            int t = state * classCount + classes[c < ASCII ? c : ASCII];
+            state = transitions[t];
+            if (state < 0) {
+                break;
+            }
+            int step = i + 1 - pos;
+            if (step >= trail.length) {
+                trail = match.scratch(step + 1);
+            }
+            trail[step] = actionOffsets[t];
+            if (accept[state] >= 0) {
+                bestEnd = i + 1;
+                bestThread = accept[state];
+            }
+        }
+        // The regular expression does not take empty matches either
+        if (bestEnd <= pos) {
+            return FastLexer.NO_MATCH;
+        }
+
+        int width = 2 * names.length;
+        int steps = bestEnd - pos;
+        trail = match.scratch(steps + 1 + width);
+        Arrays.fill(trail, steps + 1, steps + 1 + width, -1);
+        int thread = bestThread;
+        for (int step = steps; step >= 0; step--) {
+            int offset = trail[step] + 1 + 2 * thread;
+            int mask = actions[offset + 1];
+            // Going back, the last offset set on the way is the first one seen
+            while (mask != 0) {
+                int register = steps + 1 + Integer.numberOfTrailingZeros(mask);
+                if (trail[register] < 0) {
+                    trail[register] = pos + step;
+                }
+                mask &= mask - 1;
+            }
+            thread = actions[offset];
+        }
+        for (int slot = 0; slot < names.length; slot++) {
+            int from = trail[steps + 1 + 2 * slot];
+            int to = trail[steps + 2 + 2 * slot];
+            if (from < 0 || to < 0) {
+                match.clear(slot);
+            } else {
+                match.set(slot, from, to);
+            }
+        }
+        return match.scanned(names, numbers, pos, bestEnd);
+    }
+}
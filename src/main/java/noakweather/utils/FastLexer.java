@@ -0,0 +1,416 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the fast lexer. It scans the common METAR body groups
+ * without regular expressions and captures the same named groups as the
+ * RegExprConst pattern it stands in for. A scanner only answers when it is
+ * sure: anything unusual is left to the regular expression. The visibility,
+ * runway and present weather groups are scanned by the matchers generated
+ * from their patterns at build time (see DfaMatcher), which are always sure.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class FastLexer {
+
+    /**
+     * The pattern cannot match at the offset
+     */
+    static final int NO_MATCH = -1;
+
+    /**
+     * The scanner cannot tell, the regular expression has to be used
+     */
+    static final int UNSURE = -2;
+
+    /**
+     * Scanner standing in for one pattern
+     */
+    @FunctionalInterface
+    interface Scanner {
+
+        /**
+         * Scan the group at the offset
+         *
+         * @param s the input
+         * @param pos the offset of the group
+         * @param end the end of the input
+         * @param match the match to fill
+         * @return the end of the group (trailing blanks included), NO_MATCH
+         * or UNSURE
+         */
+        int scan(String s, int pos, int end, RegExprMatch match);
+    }
+
+    private static final String[] STATION_GROUPS = {
+        "station", "zday", "zhour", "zmin", "bvaltime", "evaltime"};
+    private static final int[] STATION_NUMBERS = {
+        RegExprConst.STATION_DAY_TIME_VALTMPER_STATION,
+        RegExprConst.STATION_DAY_TIME_VALTMPER_ZDAY,
+        RegExprConst.STATION_DAY_TIME_VALTMPER_ZHOUR,
+        RegExprConst.STATION_DAY_TIME_VALTMPER_ZMIN,
+        RegExprConst.STATION_DAY_TIME_VALTMPER_BVALTIME,
+        RegExprConst.STATION_DAY_TIME_VALTMPER_EVALTIME};
+    private static final String[] WIND_GROUPS = {
+        "dir", "speed", "inden", "gust", "units", "varfrom", "varto"};
+    private static final int[] WIND_NUMBERS = {
+        RegExprConst.WIND_DIR, RegExprConst.WIND_SPEED, RegExprConst.WIND_INDEN,
+        RegExprConst.WIND_GUST, RegExprConst.WIND_UNITS, RegExprConst.WIND_VARFROM,
+        RegExprConst.WIND_VARTO};
+    private static final String[] SKY_CONDITION_GROUPS = {
+        "cover", "height", "cloud"};
+    private static final int[] SKY_CONDITION_NUMBERS = {
+        RegExprConst.SKY_CONDITION_COVER, RegExprConst.SKY_CONDITION_HEIGHT,
+        RegExprConst.SKY_CONDITION_CLOUD};
+    private static final String[] TEMP_DEWPOINT_GROUPS = {
+        "signt", "temp", "signd", "dewpt"};
+    private static final int[] TEMP_DEWPOINT_NUMBERS = {
+        RegExprConst.TEMP_DEWPOINT_SIGNT, RegExprConst.TEMP_DEWPOINT_TEMP,
+        RegExprConst.TEMP_DEWPOINT_SIGND, RegExprConst.TEMP_DEWPOINT_DEWPT};
+    private static final String[] ALTIMETER_GROUPS = {
+        "unit", "press", "unit2"};
+    private static final int[] ALTIMETER_NUMBERS = {
+        RegExprConst.ALTIMETER_UNIT, RegExprConst.ALTIMETER_PRESS,
+        RegExprConst.ALTIMETER_UNIT2};
+
+    private static final String[] SKY_COVERS = {
+        "VV", "CLR", "SKC", "BKN", "SCT", "FEW", "OVC"};
+
+    private FastLexer() {
+    }
+
+    /**
+     * Get the scanner standing in for the pattern
+     *
+     * @param pattern
+     * @return scanner, or null if the pattern has none
+     */
+    static Scanner scannerFor(Pattern pattern) {
+        if (pattern == RegExprConst.STATION_DAY_TIME_VALTMPER_PATTERN) {
+            return FastLexer::scanStation;
+        } else if (pattern == RegExprConst.WIND_PATTERN) {
+            return FastLexer::scanWind;
+        } else if (pattern == RegExprConst.VISIBILITY_PATTERN) {
+            return GeneratedMatchers.VISIBILITY;
+        } else if (pattern == RegExprConst.RUNWAY_PATTERN) {
+            return GeneratedMatchers.RUNWAY;
+        } else if (pattern == RegExprConst.PRESENT_WEATHER_PATTERN) {
+            return GeneratedMatchers.PRESENT_WEATHER;
+        } else if (pattern == RegExprConst.SKY_CONDITION_PATTERN) {
+            return FastLexer::scanSkyCondition;
+        } else if (pattern == RegExprConst.TEMP_DEWPOINT_PATTERN) {
+            return FastLexer::scanTempDewPoint;
+        } else if (pattern == RegExprConst.ALTIMETER_PATTERN) {
+            return FastLexer::scanAltimeter;
+        }
+        return null;
+    }
+
+    /**
+     * Scan the station, day and time (and valid period) group, for example
+     * KCLT 280152Z or KCLT 280150Z 2802/2906
+     */
+    static int scanStation(String s, int pos, int end, RegExprMatch match) {
+        if (!isUpper(charAt(s, pos, end))) {
+            return NO_MATCH;
+        }
+        for (int i = pos + 1; i < pos + 4; i++) {
+            char c = charAt(s, i, end);
+            if (!isUpper(c) && !isDigit(c)) {
+                return NO_MATCH;
+            }
+        }
+        if (charAt(s, pos + 4, end) != ' ' || digits(s, pos + 5, end) < 6
+                || charAt(s, pos + 11, end) != 'Z') {
+            return NO_MATCH;
+        }
+        match.set(0, pos, pos + 4);
+        match.set(1, pos + 5, pos + 7);
+        match.set(2, pos + 7, pos + 9);
+        match.set(3, pos + 9, pos + 11);
+        match.clear(4);
+        match.clear(5);
+
+        // \s?((?<bvaltime>\d\d\d\d)/(?<evaltime>\d\d\d\d))?\s+
+        int i = pos + 12;
+        if (isSpace(charAt(s, i, end))) {
+            if (isValidPeriod(s, i + 1, end)) {
+                match.set(4, i + 1, i + 5);
+                match.set(5, i + 6, i + 10);
+                i += 10;
+            }
+        } else if (isValidPeriod(s, i, end)) {
+            match.set(4, i, i + 4);
+            match.set(5, i + 5, i + 9);
+            i += 9;
+        } else {
+            return NO_MATCH;
+        }
+        return match.scanned(STATION_GROUPS, STATION_NUMBERS, pos, skipSpaces(s, i, end));
+    }
+
+    /**
+     * Scan the wind group, for example 22006KT, 21012G18KT or 22006KT 180V240
+     */
+    static int scanWind(String s, int pos, int end, RegExprMatch match) {
+        char c = charAt(s, pos, end);
+        if (isDigit(c)) {
+            if (digits(s, pos, end) < 3) {
+                return NO_MATCH;
+            }
+            match.set(0, pos, pos + 3);
+        } else if (s.startsWith("VRB", pos) && pos + 3 <= end) {
+            match.set(0, pos, pos + 3);
+        } else if (c == '/' || (c == 'M' && s.startsWith("MMM", pos))) {
+            return UNSURE;
+        } else {
+            return NO_MATCH;
+        }
+        int i = pos + 3;
+
+        // (?<speed>\d{2,3})?
+        int count = digits(s, i, end);
+        if (count == 0) {
+            return UNSURE;
+        } else if (count == 1 || count > 3) {
+            return NO_MATCH;
+        }
+        match.set(1, i, i + count);
+        i += count;
+
+        // (?<inden>G(?<gust>\d{2,3}))?
+        match.clear(2);
+        match.clear(3);
+        if (charAt(s, i, end) == 'G') {
+            count = digits(s, i + 1, end);
+            if (count < 2 || count > 3) {
+                return NO_MATCH;
+            }
+            match.set(2, i, i + 1 + count);
+            match.set(3, i + 1, i + 1 + count);
+            i += 1 + count;
+        }
+
+        // (?<units>KTS?|LT|K|T|KMH|MPS)
+        if (s.startsWith("KT", i) && i + 2 <= end) {
+            count = charAt(s, i + 2, end) == 'S' ? 3 : 2;
+        } else if ((s.startsWith("MPS", i) || s.startsWith("KMH", i)) && i + 3 <= end) {
+            count = 3;
+        } else {
+            return UNSURE;
+        }
+        match.set(4, i, i + count);
+        i += count;
+
+        // \s?((?<varfrom>\d\d\d)V(?<varto>\d\d\d))?\s+
+        match.clear(5);
+        match.clear(6);
+        if (!isSpace(charAt(s, i, end))) {
+            return UNSURE;
+        }
+        if (isVariableDirection(s, i + 1, end)) {
+            match.set(5, i + 1, i + 4);
+            match.set(6, i + 5, i + 8);
+            i += 8;
+        }
+        return match.scanned(WIND_GROUPS, WIND_NUMBERS, pos, skipSpaces(s, i, end));
+    }
+
+    /**
+     * Scan the sky condition group, for example BKN240, OVC014CB or CLR
+     */
+    static int scanSkyCondition(String s, int pos, int end, RegExprMatch match) {
+        String cover = null;
+        for (String sky : SKY_COVERS) {
+            if (s.startsWith(sky, pos) && pos + sky.length() <= end) {
+                cover = sky;
+                break;
+            }
+        }
+        if (cover == null) {
+            return "VCSNBFO0/".indexOf(charAt(s, pos, end)) < 0 ? NO_MATCH : UNSURE;
+        }
+        match.set(0, pos, pos + cover.length());
+        match.clear(1);
+        match.clear(2);
+        int i = pos + cover.length();
+
+        // (?<height>[\dO]{2,4}|///)?
+        int count = digits(s, i, end);
+        char c = charAt(s, i + count, end);
+        if (c == 'O' || c == '/' || count == 1 || count > 4) {
+            return UNSURE;
+        }
+        if (count > 0) {
+            match.set(1, i, i + count);
+            i += count;
+        }
+
+        // (?<cloud>([A-Z][A-Z]+|///))?
+        count = 0;
+        while (isUpper(charAt(s, i + count, end))) {
+            count++;
+        }
+        if (count == 1) {
+            return UNSURE;
+        }
+        if (count > 1) {
+            match.set(2, i, i + count);
+            i += count;
+        }
+        if (!isSpace(charAt(s, i, end))) {
+            return UNSURE;
+        }
+        return match.scanned(SKY_CONDITION_GROUPS, SKY_CONDITION_NUMBERS, pos, skipSpaces(s, i, end));
+    }
+
+    /**
+     * Scan the temperature and dew point group, for example 17/13 or M01/M12
+     */
+    static int scanTempDewPoint(String s, int pos, int end, RegExprMatch match) {
+        match.clear(2);
+        match.clear(3);
+        char c = charAt(s, pos, end);
+        int i = pos;
+        if (c == 'M' || c == '-') {
+            if (!isDigit(charAt(s, pos + 1, end))) {
+                return c == 'M' ? UNSURE : NO_MATCH;
+            }
+            match.set(0, pos, pos + 1);
+            i++;
+        } else if (isDigit(c)) {
+            match.clear(0);
+        } else {
+            return c == '/' || c == 'X' ? UNSURE : NO_MATCH;
+        }
+        int count = digits(s, i, end);
+        match.set(1, i, i + count);
+        i += count;
+        if (charAt(s, i, end) != '/') {
+            return NO_MATCH;
+        }
+        i++;
+
+        // ((?<signd>(M|-))?(?<dewpt>\d+)|//|XX|MM)?
+        c = charAt(s, i, end);
+        if (c == 'M' || c == '-') {
+            if (!isDigit(charAt(s, i + 1, end))) {
+                return UNSURE;
+            }
+            match.set(2, i, i + 1);
+            i++;
+        }
+        count = digits(s, i, end);
+        if (count > 0) {
+            match.set(3, i, i + count);
+            i += count;
+        }
+        if (!isSpace(charAt(s, i, end))) {
+            return UNSURE;
+        }
+        return match.scanned(TEMP_DEWPOINT_GROUPS, TEMP_DEWPOINT_NUMBERS, pos, skipSpaces(s, i, end));
+    }
+
+    /**
+     * Scan the altimeter group, for example A2989, Q1013 or QNH2979INS
+     */
+    static int scanAltimeter(String s, int pos, int end, RegExprMatch match) {
+        char c = charAt(s, pos, end);
+        int i;
+        if (c == 'A' && isDigit(charAt(s, pos + 1, end))) {
+            match.set(0, pos, pos + 1);
+            i = pos + 1;
+        } else if (c == 'Q' && isDigit(charAt(s, pos + 1, end))) {
+            match.set(0, pos, pos + 1);
+            i = pos + 1;
+        } else if (s.startsWith("QNH", pos) && isDigit(charAt(s, pos + 3, end))) {
+            match.set(0, pos, pos + 3);
+            i = pos + 3;
+        } else {
+            return c == 'A' || c == 'Q' || c == 'O' || c == '/' || isDigit(c)
+                    ? UNSURE : NO_MATCH;
+        }
+
+        // (?<press>[\dO]{3,4}|////)(?<unit2>INS)?
+        int count = digits(s, i, end);
+        if (count < 3 || count > 4 || charAt(s, i + count, end) == 'O') {
+            return UNSURE;
+        }
+        match.set(1, i, i + count);
+        i += count;
+        match.clear(2);
+        if (s.startsWith("INS", i) && i + 3 <= end) {
+            match.set(2, i, i + 3);
+            i += 3;
+        }
+        if (!isSpace(charAt(s, i, end))) {
+            return UNSURE;
+        }
+        return match.scanned(ALTIMETER_GROUPS, ALTIMETER_NUMBERS, pos, skipSpaces(s, i, end));
+    }
+
+    /**
+     * Get whether \d\d\d\d/\d\d\d\d followed by a blank is at the offset
+     */
+    private static boolean isValidPeriod(String s, int i, int end) {
+        return digits(s, i, end) == 4 && charAt(s, i + 4, end) == '/'
+                && digits(s, i + 5, end) == 4 && isSpace(charAt(s, i + 9, end));
+    }
+
+    /**
+     * Get whether \d\d\d V\d\d\d followed by a blank is at the offset
+     */
+    private static boolean isVariableDirection(String s, int i, int end) {
+        return digits(s, i, end) == 3 && charAt(s, i + 3, end) == 'V'
+                && digits(s, i + 4, end) == 3 && isSpace(charAt(s, i + 7, end));
+    }
+
+    private static char charAt(String s, int i, int end) {
+        return i < end ? s.charAt(i) : 0;
+    }
+
+    private static int digits(String s, int i, int end) {
+        int count = 0;
+        while (isDigit(charAt(s, i + count, end))) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int skipSpaces(String s, int i, int end) {
+        while (isSpace(charAt(s, i, end))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    // The characters of \s
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Class representing the parse traces of the reports with unparsed groups.
+ * When it is enabled every pattern attempt of the plans is recorded in a
+ * ring of the parsing thread (one long and two references, no allocation
+ * and no lock). When a report ends with a group matched by the unparsed
+ * handler its trace is copied into a bounded ring of retained traces, the
+ * other traces are dropped. A trace keeps at most EVENTS attempts (the last
+ * ones) and at most TRACES traces are retained (the last ones).
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class ParseTrace {
+
+    /**
+     * Maximum number of attempts kept per report
+     */
+    public static final int EVENTS = 512;
+
+    /**
+     * Maximum number of retained traces
+     */
+    public static final int TRACES = 64;
+
+    private static final int BITS = 21;
+    private static final long MASK = (1L << BITS) - 1;
+
+    private static volatile boolean enabled = false;
+
+    private static final ThreadLocal<Recorder> RECORDERS
+            = ThreadLocal.withInitial(Recorder::new);
+
+    private static final AtomicReferenceArray<Trace> RETAINED
+            = new AtomicReferenceArray<>(TRACES);
+
+    private static final AtomicLong RETAINED_COUNT = new AtomicLong();
+
+    private ParseTrace() {
+    }
+
+    /**
+     * Class representing the attempts of the current report of a thread.
+     * Only its thread writes it
+     */
+    static final class Recorder {
+
+        private final long[] events = new long[EVENTS];
+        private final RegExprPlan[] plans = new RegExprPlan[EVENTS];
+        private final String[] inputs = new String[EVENTS];
+        private int count;
+        private boolean unparsed;
+
+        /**
+         * Record an attempt of a handler of the plan
+         *
+         * @param plan
+         * @param handler the index of the handler
+         * @param input the text being parsed
+         * @param pos the offset of the attempt
+         * @param end the end of the group, not greater than pos if no match
+         */
+        void record(RegExprPlan plan, int handler, String input, int pos, int end) {
+            int slot = count++ & (EVENTS - 1);
+            // The offsets past MASK are clamped so they keep out of the handler
+            long start = Math.min(pos, MASK);
+            events[slot] = ((long) handler << (2 * BITS)) | (start << BITS)
+                    | (end > pos ? Math.min(end, MASK) : 0);
+            plans[slot] = plan;
+            inputs[slot] = input;
+            if (end > pos && plan.getPattern(handler) == RegExprConst.UNPARSED_PATTERN) {
+                unparsed = true;
+            }
+        }
+
+        private void reset() {
+            count = 0;
+            unparsed = false;
+        }
+    }
+
+    /**
+     * Class representing a retained trace
+     */
+    public static final class Trace {
+
+        private final String report;
+        private final List<String> lines;
+        private final int dropped;
+
+        private Trace(String report, List<String> lines, int dropped) {
+            this.report = report;
+            this.lines = lines;
+            this.dropped = dropped;
+        }
+
+        /**
+         * Get the report
+         *
+         * @return report
+         */
+        public String getReport() {
+            return report;
+        }
+
+        /**
+         * Get the attempts, one per line: the handler, the offset and the
+         * recognized group or "-" when the handler did not match
+         *
+         * @return lines
+         */
+        public List<String> getLines() {
+            return lines;
+        }
+
+        /**
+         * Get the number of first attempts that did not fit in the trace
+         *
+         * @return dropped
+         */
+        public int getDropped() {
+            return dropped;
+        }
+    }
+
+    /**
+     * Enable or disable the recording. It is disabled by default
+     *
+     * @param isEnabled
+     */
+    public static void setEnabled(boolean isEnabled) {
+        enabled = isEnabled;
+    }
+
+    /**
+     * Get whether the recording is enabled
+     *
+     * @return enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the recorder of the thread
+     *
+     * @return the recorder, or null when the recording is disabled
+     */
+    static Recorder recorder() {
+        return enabled ? RECORDERS.get() : null;
+    }
+
+    /**
+     * Start the trace of a report on this thread
+     */
+    public static void begin() {
+        if (enabled) {
+            RECORDERS.get().reset();
+        }
+    }
+
+    /**
+     * End the trace of a report on this thread, it is retained when a group
+     * of the report was matched by the unparsed handler
+     *
+     * @param report
+     */
+    public static void end(String report) {
+        if (!enabled) {
+            return;
+        }
+        Recorder recorder = RECORDERS.get();
+        if (recorder.unparsed) {
+            Trace trace = copy(report, recorder);
+            RETAINED.set((int) (RETAINED_COUNT.getAndIncrement() % TRACES), trace);
+        }
+        recorder.reset();
+    }
+
+    private static Trace copy(String report, Recorder recorder) {
+        int first = Math.max(0, recorder.count - EVENTS);
+        List<String> lines = new ArrayList<>(recorder.count - first);
+        String input = null;
+        for (int n = first; n < recorder.count; n++) {
+            int slot = n & (EVENTS - 1);
+            long event = recorder.events[slot];
+            int handler = (int) (event >>> (2 * BITS));
+            int pos = (int) ((event >>> BITS) & MASK);
+            int end = (int) (event & MASK);
+            if (recorder.inputs[slot] != input) {
+                input = recorder.inputs[slot];
+                lines.add("#" + input + "#");
+            }
+            lines.add(recorder.plans[slot].getName(handler) + " @" + pos + " "
+                    + (end > pos ? "#" + input.substring(pos, end) + "#" : "-"));
+        }
+        return new Trace(report, Collections.unmodifiableList(lines), first);
+    }
+
+    /**
+     * Get the retained traces, the oldest first
+     *
+     * @return traces
+     */
+    public static List<Trace> getTraces() {
+        long count = RETAINED_COUNT.get();
+        List<Trace> traces = new ArrayList<>();
+        for (long n = Math.max(0, count - TRACES); n < count; n++) {
+            Trace trace = RETAINED.get((int) (n % TRACES));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * Remove the retained traces
+     */
+    public static void clear() {
+        for (int i = 0; i < TRACES; i++) {
+            RETAINED.set(i, null);
+        }
+        RETAINED_COUNT.set(0);
+    }
+
+    /**
+     * Print the retained traces
+     *
+     * @param out
+     */
+    public static void dump(PrintStream out) {
+        for (Trace trace : getTraces()) {
+            out.println("### " + trace.getReport());
+            if (trace.getDropped() > 0) {
+                out.println("... " + trace.getDropped());
+            }
+            trace.getLines().forEach(out::println);
+        }
+    }
+}
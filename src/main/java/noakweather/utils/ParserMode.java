@@ -0,0 +1,36 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+/**
+ * Enum representing how a parser plan recognizes the groups of a report
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public enum ParserMode {
+
+    /**
+     * Every group is matched with the regular expression of its handler
+     */
+    REGEX,
+    /**
+     * The common METAR body groups (station and time, wind, visibility, sky
+     * condition, temperature and dew point, altimeter) are scanned by the
+     * fast lexer; anything unusual falls back to the regular expressions
+     */
+    FAST
+}
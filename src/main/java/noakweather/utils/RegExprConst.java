@@ -35,6 +35,7 @@ public interface RegExprConst {
     public static final Pattern TAF_STR_PATTERN = Pattern.compile(
             "^(?<type>TAF)\\s+"
     );
+    public static final int TAF_STR_TYPE = RegExprGroups.indexOf(TAF_STR_PATTERN, "type");
 
     /**
      * Month, Day and Year
@@ -42,6 +43,10 @@ public interface RegExprConst {
     public static final Pattern MONTH_DAY_YEAR_PATTERN = Pattern.compile(
             "^(?<year>\\d\\d\\d\\d)/(?<month>\\d\\d)/(?<day>\\d\\d) (?<time>\\d\\d:\\d\\d)?\\s+"
     );
+    public static final int MONTH_DAY_YEAR_YEAR = RegExprGroups.indexOf(MONTH_DAY_YEAR_PATTERN, "year");
+    public static final int MONTH_DAY_YEAR_MONTH = RegExprGroups.indexOf(MONTH_DAY_YEAR_PATTERN, "month");
+    public static final int MONTH_DAY_YEAR_DAY = RegExprGroups.indexOf(MONTH_DAY_YEAR_PATTERN, "day");
+    public static final int MONTH_DAY_YEAR_TIME = RegExprGroups.indexOf(MONTH_DAY_YEAR_PATTERN, "time");
 
     /**
      * Station, Day, Time and Valid Time Period
@@ -49,6 +54,12 @@ public interface RegExprConst {
     public static final Pattern STATION_DAY_TIME_VALTMPER_PATTERN = Pattern.compile(
             "^(?<station>[A-Z][A-Z0-9]{3}) (?<zday>\\d\\d)(?<zhour>\\d\\d)(?<zmin>\\d\\d)Z\\s?((?<bvaltime>\\d\\d\\d\\d)/(?<evaltime>\\d\\d\\d\\d))?\\s+"
     );
+    public static final int STATION_DAY_TIME_VALTMPER_STATION = RegExprGroups.indexOf(STATION_DAY_TIME_VALTMPER_PATTERN, "station");
+    public static final int STATION_DAY_TIME_VALTMPER_ZDAY = RegExprGroups.indexOf(STATION_DAY_TIME_VALTMPER_PATTERN, "zday");
+    public static final int STATION_DAY_TIME_VALTMPER_ZHOUR = RegExprGroups.indexOf(STATION_DAY_TIME_VALTMPER_PATTERN, "zhour");
+    public static final int STATION_DAY_TIME_VALTMPER_ZMIN = RegExprGroups.indexOf(STATION_DAY_TIME_VALTMPER_PATTERN, "zmin");
+    public static final int STATION_DAY_TIME_VALTMPER_BVALTIME = RegExprGroups.indexOf(STATION_DAY_TIME_VALTMPER_PATTERN, "bvaltime");
+    public static final int STATION_DAY_TIME_VALTMPER_EVALTIME = RegExprGroups.indexOf(STATION_DAY_TIME_VALTMPER_PATTERN, "evaltime");
 
     /**
      * Report Modifier
@@ -56,6 +67,7 @@ public interface RegExprConst {
     public static final Pattern REPORT_MODIFIER_PATTERN = Pattern.compile(
             "^(?<mod>AMD|AUTO|FINO|NIL|TEST|CORR?|RTD|CC[A-G])\\s+"
     );
+    public static final int REPORT_MODIFIER_MOD = RegExprGroups.indexOf(REPORT_MODIFIER_PATTERN, "mod");
 
     /**
      * Wind, Wind Variability
@@ -63,6 +75,13 @@ public interface RegExprConst {
     public static final Pattern WIND_PATTERN = Pattern.compile(
             "^(?:(?<dir>\\d{3}|/{1,5}|MMM|VRB)(?<speed>\\d{2,3})?(?<inden>G(?<gust>\\d{2,3}))?(?<units>KTS?|LT|K|T|KMH|MPS))\\s?((?<varfrom>\\d\\d\\d)V(?<varto>\\d\\d\\d))?\\s+"
     );
+    public static final int WIND_DIR = RegExprGroups.indexOf(WIND_PATTERN, "dir");
+    public static final int WIND_SPEED = RegExprGroups.indexOf(WIND_PATTERN, "speed");
+    public static final int WIND_INDEN = RegExprGroups.indexOf(WIND_PATTERN, "inden");
+    public static final int WIND_GUST = RegExprGroups.indexOf(WIND_PATTERN, "gust");
+    public static final int WIND_UNITS = RegExprGroups.indexOf(WIND_PATTERN, "units");
+    public static final int WIND_VARFROM = RegExprGroups.indexOf(WIND_PATTERN, "varfrom");
+    public static final int WIND_VARTO = RegExprGroups.indexOf(WIND_PATTERN, "varto");
 
     /**
      * Visibility
@@ -70,6 +89,11 @@ public interface RegExprConst {
     public static final Pattern VISIBILITY_PATTERN = Pattern.compile(
             "^(?<vis>(?<dist>(M|P)?\\d\\d\\d\\d|////)(?<dir>[NSEW][EW]?|NDV)?|(?<distu>(M|P)?(\\d+|\\d\\d?/\\d\\d|\\d+\\s+\\d/\\d))(?<units>SM|KM|M|U)|NDV|CAVOK)\\s+"
     );
+    public static final int VISIBILITY_VIS = RegExprGroups.indexOf(VISIBILITY_PATTERN, "vis");
+    public static final int VISIBILITY_DIST = RegExprGroups.indexOf(VISIBILITY_PATTERN, "dist");
+    public static final int VISIBILITY_DIR = RegExprGroups.indexOf(VISIBILITY_PATTERN, "dir");
+    public static final int VISIBILITY_DISTU = RegExprGroups.indexOf(VISIBILITY_PATTERN, "distu");
+    public static final int VISIBILITY_UNITS = RegExprGroups.indexOf(VISIBILITY_PATTERN, "units");
 
     /**
      * RVR Runway visual range
@@ -77,6 +101,12 @@ public interface RegExprConst {
     public static final Pattern RUNWAY_PATTERN = Pattern.compile(
             "^(RVRNO|R(?<name>\\d\\d(?<inden>R|L|C)?))/(?<low>(M|P)?(?<lvalue>CLRD|\\d{1,4}))(V(?<high>(M|P)?\\d\\d\\d\\d))?/?/?/?/?(?<unit>\\d{2,4}|FT|N|D|U)\\s+"
     );
+    public static final int RUNWAY_NAME = RegExprGroups.indexOf(RUNWAY_PATTERN, "name");
+    public static final int RUNWAY_INDEN = RegExprGroups.indexOf(RUNWAY_PATTERN, "inden");
+    public static final int RUNWAY_LOW = RegExprGroups.indexOf(RUNWAY_PATTERN, "low");
+    public static final int RUNWAY_LVALUE = RegExprGroups.indexOf(RUNWAY_PATTERN, "lvalue");
+    public static final int RUNWAY_HIGH = RegExprGroups.indexOf(RUNWAY_PATTERN, "high");
+    public static final int RUNWAY_UNIT = RegExprGroups.indexOf(RUNWAY_PATTERN, "unit");
 
     /**
      * Present weather
@@ -84,6 +114,12 @@ public interface RegExprConst {
     public static final Pattern PRESENT_WEATHER_PATTERN = Pattern.compile(
             "^(?<int>(VC|-|\\+)*)(?<desc>(MI|PR|BC|DR|BL|SH|TS|FZ)+)?(?<prec>(DZ|RA|SN|SG|IC|PL|GR|GS|UP|/)*)(?<obsc>BR|FG|FU|VA|DU|SA|HZ|PY)?(?<other>PO|SQ|FC|SS|DS|NSW|/+)?(?<int2>[-+])?\\s+"
     );
+    public static final int PRESENT_WEATHER_INT = RegExprGroups.indexOf(PRESENT_WEATHER_PATTERN, "int");
+    public static final int PRESENT_WEATHER_DESC = RegExprGroups.indexOf(PRESENT_WEATHER_PATTERN, "desc");
+    public static final int PRESENT_WEATHER_PREC = RegExprGroups.indexOf(PRESENT_WEATHER_PATTERN, "prec");
+    public static final int PRESENT_WEATHER_OBSC = RegExprGroups.indexOf(PRESENT_WEATHER_PATTERN, "obsc");
+    public static final int PRESENT_WEATHER_OTHER = RegExprGroups.indexOf(PRESENT_WEATHER_PATTERN, "other");
+    public static final int PRESENT_WEATHER_INT2 = RegExprGroups.indexOf(PRESENT_WEATHER_PATTERN, "int2");
 
     /**
      * Sky condition
@@ -91,6 +127,9 @@ public interface RegExprConst {
     public static final Pattern SKY_CONDITION_PATTERN = Pattern.compile(
             "^(?<cover>VV|CLR|SKC|SCK|NSC|NCD|BKN|SCT|FEW|[O0]VC|///)(?<height>[\\dO]{2,4}|///)?(?<cloud>([A-Z][A-Z]+|///))?\\s+"
     );
+    public static final int SKY_CONDITION_COVER = RegExprGroups.indexOf(SKY_CONDITION_PATTERN, "cover");
+    public static final int SKY_CONDITION_HEIGHT = RegExprGroups.indexOf(SKY_CONDITION_PATTERN, "height");
+    public static final int SKY_CONDITION_CLOUD = RegExprGroups.indexOf(SKY_CONDITION_PATTERN, "cloud");
 
     /**
      * Temperature/Dewpoint
@@ -98,6 +137,10 @@ public interface RegExprConst {
     public static final Pattern TEMP_DEWPOINT_PATTERN = Pattern.compile(
             "^((?<signt>(M|-))?(?<temp>\\d+)|//|XX|MM)/((?<signd>(M|-))?(?<dewpt>\\d+)|//|XX|MM)?\\s+"
     );
+    public static final int TEMP_DEWPOINT_SIGNT = RegExprGroups.indexOf(TEMP_DEWPOINT_PATTERN, "signt");
+    public static final int TEMP_DEWPOINT_TEMP = RegExprGroups.indexOf(TEMP_DEWPOINT_PATTERN, "temp");
+    public static final int TEMP_DEWPOINT_SIGND = RegExprGroups.indexOf(TEMP_DEWPOINT_PATTERN, "signd");
+    public static final int TEMP_DEWPOINT_DEWPT = RegExprGroups.indexOf(TEMP_DEWPOINT_PATTERN, "dewpt");
 
     /**
      * Altimeter
@@ -105,6 +148,9 @@ public interface RegExprConst {
     public static final Pattern ALTIMETER_PATTERN = Pattern.compile(
             "^(?<unit>A{1,2}|Q|QNH)?(?<press>[\\dO]{3,4}|////)(?<unit2>INS)?\\s+"
     );
+    public static final int ALTIMETER_UNIT = RegExprGroups.indexOf(ALTIMETER_PATTERN, "unit");
+    public static final int ALTIMETER_PRESS = RegExprGroups.indexOf(ALTIMETER_PATTERN, "press");
+    public static final int ALTIMETER_UNIT2 = RegExprGroups.indexOf(ALTIMETER_PATTERN, "unit2");
 
     /**
      * No Significant Change
@@ -112,6 +158,7 @@ public interface RegExprConst {
     public static final Pattern NO_SIG_CHANGE_PATTERN = Pattern.compile(
             "^(?<nosigchng>NOSIG)\\s+"
     );
+    public static final int NO_SIG_CHANGE_NOSIGCHNG = RegExprGroups.indexOf(NO_SIG_CHANGE_PATTERN, "nosigchng");
 
     /**
      * Funnel Cloud (Tornadic activity_B/E(hh)mm_LOC/DIR_(MOV)). At manual
@@ -121,6 +168,12 @@ public interface RegExprConst {
     public static final Pattern TRN_FC_WSP_PATTERN = Pattern.compile(
             "^(?<type>TORNADO|FUNNEL CLOUD|WATERSPOUT) (?<betime>B|E)(?<time>\\d+) (?<dirfrom>\\w) (?<verb>\\w+) (?<dirto>\\w)?\\s+"
     );
+    public static final int TRN_FC_WSP_TYPE = RegExprGroups.indexOf(TRN_FC_WSP_PATTERN, "type");
+    public static final int TRN_FC_WSP_BETIME = RegExprGroups.indexOf(TRN_FC_WSP_PATTERN, "betime");
+    public static final int TRN_FC_WSP_TIME = RegExprGroups.indexOf(TRN_FC_WSP_PATTERN, "time");
+    public static final int TRN_FC_WSP_DIRFROM = RegExprGroups.indexOf(TRN_FC_WSP_PATTERN, "dirfrom");
+    public static final int TRN_FC_WSP_VERB = RegExprGroups.indexOf(TRN_FC_WSP_PATTERN, "verb");
+    public static final int TRN_FC_WSP_DIRTO = RegExprGroups.indexOf(TRN_FC_WSP_PATTERN, "dirto");
 
     /**
      * Type of Automated Station (AO1 or AO2). AO1 or AO2 shall be coded in all
@@ -129,6 +182,7 @@ public interface RegExprConst {
     public static final Pattern AUTO_PATTERN = Pattern.compile(
             "^A(O|0)(?<type>\\d)\\s+"
     );
+    public static final int AUTO_TYPE = RegExprGroups.indexOf(AUTO_PATTERN, "type");
 
     /**
      * Beginning and End of Precipitation. Example RAB20E51
@@ -136,6 +190,16 @@ public interface RegExprConst {
     public static final Pattern BEGIN_END_WEATHER_PATTERN = Pattern.compile(
             "^(?<int>(VC|-|\\+)*)(?<desc>(MI|PR|BC|DR|BL|SH|TS|FZ)+)?(?<prec>(DZ|RA|SN|SG|IC|PL|GR|GS|UP|/)*)(?<obsc>BR|FG|FU|VA|DU|SA|HZ|PY)?(?<other>PO|SQ|FC|SS|DS|NSW|/+)?(?<int2>[-+])?((?<begin>B)(?<begint>\\d\\d)*)?((?<end>E)(?<endt>\\d\\d)*)"
     );
+    public static final int BEGIN_END_WEATHER_INT = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "int");
+    public static final int BEGIN_END_WEATHER_DESC = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "desc");
+    public static final int BEGIN_END_WEATHER_PREC = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "prec");
+    public static final int BEGIN_END_WEATHER_OBSC = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "obsc");
+    public static final int BEGIN_END_WEATHER_OTHER = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "other");
+    public static final int BEGIN_END_WEATHER_INT2 = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "int2");
+    public static final int BEGIN_END_WEATHER_BEGIN = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "begin");
+    public static final int BEGIN_END_WEATHER_BEGINT = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "begint");
+    public static final int BEGIN_END_WEATHER_END = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "end");
+    public static final int BEGIN_END_WEATHER_ENDT = RegExprGroups.indexOf(BEGIN_END_WEATHER_PATTERN, "endt");
 
     /**
      * Sea-Level Pressure (SLPppp). At designated stations, the sea-level
@@ -144,6 +208,8 @@ public interface RegExprConst {
     public static final Pattern SEALVL_PRESS_PATTERN = Pattern.compile(
             "^(?<type>SLP)(?<press>\\d\\d\\d|NO)?\\s+"
     );
+    public static final int SEALVL_PRESS_TYPE = RegExprGroups.indexOf(SEALVL_PRESS_PATTERN, "type");
+    public static final int SEALVL_PRESS_PRESS = RegExprGroups.indexOf(SEALVL_PRESS_PATTERN, "press");
 
     /**
      * Peak Wind (PK_WND_dddff(f)/(hh)mm). The peak wind shall be coded in the
@@ -152,6 +218,10 @@ public interface RegExprConst {
     public static final Pattern PEAK_WIND_PATTERN = Pattern.compile(
             "^PK WND (?<dir>\\d\\d\\d)?(?<speed>P?\\d\\d\\d?)/(?<hour>[0-1][0-9]|[2][0-3])?(?<min>\\d\\d)?\\s+"
     );
+    public static final int PEAK_WIND_DIR = RegExprGroups.indexOf(PEAK_WIND_PATTERN, "dir");
+    public static final int PEAK_WIND_SPEED = RegExprGroups.indexOf(PEAK_WIND_PATTERN, "speed");
+    public static final int PEAK_WIND_HOUR = RegExprGroups.indexOf(PEAK_WIND_PATTERN, "hour");
+    public static final int PEAK_WIND_MIN = RegExprGroups.indexOf(PEAK_WIND_PATTERN, "min");
 
     /**
      * Wind Shift (WSHFT_(hh)mm). A wind shift shall be coded in the format
@@ -160,6 +230,9 @@ public interface RegExprConst {
     public static final Pattern WIND_SHIFT_PATTERN = Pattern.compile(
             "^WSHFT (?<hour>\\d\\d)?(?<min>\\d\\d)(\\s+(?<front>FROPA))?\\s+"
     );
+    public static final int WIND_SHIFT_HOUR = RegExprGroups.indexOf(WIND_SHIFT_PATTERN, "hour");
+    public static final int WIND_SHIFT_MIN = RegExprGroups.indexOf(WIND_SHIFT_PATTERN, "min");
+    public static final int WIND_SHIFT_FRONT = RegExprGroups.indexOf(WIND_SHIFT_PATTERN, "front");
 
     /**
      * Tower or Surface Visibility (TWR_VIS_vvvvv or SFC_VIS_vvvvv). Tower
@@ -169,6 +242,8 @@ public interface RegExprConst {
     public static final Pattern TWR_SFC_VIS_PATTERN = Pattern.compile(
             "^(?<type>TWR VIS|SFC VIS) (?<dist>\\d+\\s\\d/\\d|\\d\\d?/\\d\\d?|\\d{1,2})?\\s+"
     );
+    public static final int TWR_SFC_VIS_TYPE = RegExprGroups.indexOf(TWR_SFC_VIS_PATTERN, "type");
+    public static final int TWR_SFC_VIS_DIST = RegExprGroups.indexOf(TWR_SFC_VIS_PATTERN, "dist");
 
     /**
      * Variable Prevailing Visibility (VIS_vnvn vnvnVvxvxvx vxvx). Variable
@@ -183,6 +258,11 @@ public interface RegExprConst {
     public static final Pattern VPV_SV_VSL_PATTERN = Pattern.compile(
             "^(?<vis>VIS) (?<dir>([NSEW][EW]))?\\s*(?<dist1>\\d\\d?/\\d\\d?|\\d+\\s+\\d\\d?/\\d\\d?|\\d+)?(\\s*(?<add>V|RWY)\\s*(?<dist2>\\d\\d?/\\d\\d?|\\d+\\s+\\d\\d?/\\d\\d?|\\d+))?\\s+"
     );
+    public static final int VPV_SV_VSL_VIS = RegExprGroups.indexOf(VPV_SV_VSL_PATTERN, "vis");
+    public static final int VPV_SV_VSL_DIR = RegExprGroups.indexOf(VPV_SV_VSL_PATTERN, "dir");
+    public static final int VPV_SV_VSL_DIST1 = RegExprGroups.indexOf(VPV_SV_VSL_PATTERN, "dist1");
+    public static final int VPV_SV_VSL_ADD = RegExprGroups.indexOf(VPV_SV_VSL_PATTERN, "add");
+    public static final int VPV_SV_VSL_DIST2 = RegExprGroups.indexOf(VPV_SV_VSL_PATTERN, "dist2");
 
     /**
      * Lightning (Frequency_LTG(type)_[LOC]).
@@ -190,6 +270,15 @@ public interface RegExprConst {
     public static final Pattern LIGHTNING_PATTERN = Pattern.compile(
             "^((?<freq>OCNL|FRQ|CONS)\\s+)?LTG((?<typeic>IC)?(?<typecc>CC)?(?<typecg>CG)?(?<typeca>CA)?(?<typecw>CW)?)*? (?<loc>(OHD|VC|DSNT))\\s+((?<dir>[NSEW][EW]?)-?(?<dir2>[NSEW][EW]?)*)?\\s+"
     );
+    public static final int LIGHTNING_FREQ = RegExprGroups.indexOf(LIGHTNING_PATTERN, "freq");
+    public static final int LIGHTNING_TYPEIC = RegExprGroups.indexOf(LIGHTNING_PATTERN, "typeic");
+    public static final int LIGHTNING_TYPECC = RegExprGroups.indexOf(LIGHTNING_PATTERN, "typecc");
+    public static final int LIGHTNING_TYPECG = RegExprGroups.indexOf(LIGHTNING_PATTERN, "typecg");
+    public static final int LIGHTNING_TYPECA = RegExprGroups.indexOf(LIGHTNING_PATTERN, "typeca");
+    public static final int LIGHTNING_TYPECW = RegExprGroups.indexOf(LIGHTNING_PATTERN, "typecw");
+    public static final int LIGHTNING_LOC = RegExprGroups.indexOf(LIGHTNING_PATTERN, "loc");
+    public static final int LIGHTNING_DIR = RegExprGroups.indexOf(LIGHTNING_PATTERN, "dir");
+    public static final int LIGHTNING_DIR2 = RegExprGroups.indexOf(LIGHTNING_PATTERN, "dir2");
 
     /**
      * Thunderstorm Location (TS_LOC_(MOV_DIR)) [Plain Language].
@@ -201,6 +290,11 @@ public interface RegExprConst {
     public static final Pattern TS_CLD_LOC_PATTERN = Pattern.compile(
             "^(?<type>TS|CB|TCU|ACC|CBMAM|VIRGA)\\s*(?<loc>(OHD|VC|DSNT|DSIPTD|TOP|TR)?)\\s*((?<dir>[NSEW][EW]?)-?(?<dir2>[NSEW][EW]?)*)?(\\s*MOV\\s*(?<dirm>[NSEW][EW]?))?\\s+"
     );
+    public static final int TS_CLD_LOC_TYPE = RegExprGroups.indexOf(TS_CLD_LOC_PATTERN, "type");
+    public static final int TS_CLD_LOC_LOC = RegExprGroups.indexOf(TS_CLD_LOC_PATTERN, "loc");
+    public static final int TS_CLD_LOC_DIR = RegExprGroups.indexOf(TS_CLD_LOC_PATTERN, "dir");
+    public static final int TS_CLD_LOC_DIR2 = RegExprGroups.indexOf(TS_CLD_LOC_PATTERN, "dir2");
+    public static final int TS_CLD_LOC_DIRM = RegExprGroups.indexOf(TS_CLD_LOC_PATTERN, "dirm");
 
     /**
      * Pressure Rising or Falling Rapidly (PRESRR or PRESFR)
@@ -208,6 +302,7 @@ public interface RegExprConst {
     public static final Pattern PRES_RF_RAPDLY_PATTERN = Pattern.compile(
             "^PRES(?<presrisfal>\\w)\\w\\s+"
     );
+    public static final int PRES_RF_RAPDLY_PRESRISFAL = RegExprGroups.indexOf(PRES_RF_RAPDLY_PATTERN, "presrisfal");
 
     /**
      * Icing
@@ -215,6 +310,10 @@ public interface RegExprConst {
     public static final Pattern ICING_PATTERN = Pattern.compile(
             "^(?<type>ICG)((?<typeic>IC)?(?<typeip>IP)?)\\s(?<extra>\\w\\w\\w\\w\\s\\w\\w)\\s+"
     );
+    public static final int ICING_TYPE = RegExprGroups.indexOf(ICING_PATTERN, "type");
+    public static final int ICING_TYPEIC = RegExprGroups.indexOf(ICING_PATTERN, "typeic");
+    public static final int ICING_TYPEIP = RegExprGroups.indexOf(ICING_PATTERN, "typeip");
+    public static final int ICING_EXTRA = RegExprGroups.indexOf(ICING_PATTERN, "extra");
 
     /**
      * 6-hour maximum and minimum temperature in tenths degrees C format; 1sTTT
@@ -223,6 +322,9 @@ public interface RegExprConst {
     public static final Pattern TEMP_6HR_MAX_MIN_PATTERN = Pattern.compile(
             "^(?<type>1|2)(?<sign>0|1)(?<temp>\\d{2,3})\\s+"
     );
+    public static final int TEMP_6HR_MAX_MIN_TYPE = RegExprGroups.indexOf(TEMP_6HR_MAX_MIN_PATTERN, "type");
+    public static final int TEMP_6HR_MAX_MIN_SIGN = RegExprGroups.indexOf(TEMP_6HR_MAX_MIN_PATTERN, "sign");
+    public static final int TEMP_6HR_MAX_MIN_TEMP = RegExprGroups.indexOf(TEMP_6HR_MAX_MIN_PATTERN, "temp");
 
     /**
      * Hourly Precipitation Amount (Prrrr). At designated automated stations,
@@ -231,6 +333,8 @@ public interface RegExprConst {
     public static final Pattern PRECIP_1HR_PATTERN = Pattern.compile(
             "^(?<type>P)(?<precip>\\d\\d\\d\\d)\\s+"
     );
+    public static final int PRECIP_1HR_TYPE = RegExprGroups.indexOf(PRECIP_1HR_PATTERN, "type");
+    public static final int PRECIP_1HR_PRECIP = RegExprGroups.indexOf(PRECIP_1HR_PATTERN, "precip");
 
     /**
      * 3-hour pressure tendency
@@ -238,6 +342,9 @@ public interface RegExprConst {
     public static final Pattern PRESS_3HR_PATTERN = Pattern.compile(
             "^(?<type>5)(?<tend>[0-8])(?<press>\\d\\d\\d)\\s+"
     );
+    public static final int PRESS_3HR_TYPE = RegExprGroups.indexOf(PRESS_3HR_PATTERN, "type");
+    public static final int PRESS_3HR_TEND = RegExprGroups.indexOf(PRESS_3HR_PATTERN, "tend");
+    public static final int PRESS_3HR_PRESS = RegExprGroups.indexOf(PRESS_3HR_PATTERN, "press");
 
     /**
      * 3- and 6-hour Precipitation (6RRRR). At designated stations, the 3- and
@@ -248,6 +355,8 @@ public interface RegExprConst {
     public static final Pattern PRECIP_3HR_24HR_PATTERN = Pattern.compile(
             "^(?<type>6|7)(?<precip>\\d{1,5}|/{1,5})\\s+"
     );
+    public static final int PRECIP_3HR_24HR_TYPE = RegExprGroups.indexOf(PRECIP_3HR_24HR_PATTERN, "type");
+    public static final int PRECIP_3HR_24HR_PRECIP = RegExprGroups.indexOf(PRECIP_3HR_24HR_PATTERN, "precip");
 
     /**
      * Hourly Temperature and Dew Point (TsnT'T'T'snT'dT'dT'd). At designated
@@ -257,6 +366,11 @@ public interface RegExprConst {
     public static final Pattern TEMP_1HR_PATTERN = Pattern.compile(
             "^(?<type>T)(?<tsign>0|1)(?<temp>\\d\\d\\d)((?<dsign>0|1)(?<dewpt>\\d\\d\\d))?\\s+"
     );
+    public static final int TEMP_1HR_TYPE = RegExprGroups.indexOf(TEMP_1HR_PATTERN, "type");
+    public static final int TEMP_1HR_TSIGN = RegExprGroups.indexOf(TEMP_1HR_PATTERN, "tsign");
+    public static final int TEMP_1HR_TEMP = RegExprGroups.indexOf(TEMP_1HR_PATTERN, "temp");
+    public static final int TEMP_1HR_DSIGN = RegExprGroups.indexOf(TEMP_1HR_PATTERN, "dsign");
+    public static final int TEMP_1HR_DEWPT = RegExprGroups.indexOf(TEMP_1HR_PATTERN, "dewpt");
 
     /**
      * 24-Hour Maximum and Minimum Temperature 4snTxTxTxsnTnTnTn; tenth of
@@ -267,6 +381,11 @@ public interface RegExprConst {
     public static final Pattern TEMP_24HR_PATTERN = Pattern.compile(
             "^(?<type>4)(?<maxsign>0|1)(?<maxtemp>\\d\\d\\d)((?<minsign>0|1)(?<mintemp>\\d\\d\\d))\\s+"
     );
+    public static final int TEMP_24HR_TYPE = RegExprGroups.indexOf(TEMP_24HR_PATTERN, "type");
+    public static final int TEMP_24HR_MAXSIGN = RegExprGroups.indexOf(TEMP_24HR_PATTERN, "maxsign");
+    public static final int TEMP_24HR_MAXTEMP = RegExprGroups.indexOf(TEMP_24HR_PATTERN, "maxtemp");
+    public static final int TEMP_24HR_MINSIGN = RegExprGroups.indexOf(TEMP_24HR_PATTERN, "minsign");
+    public static final int TEMP_24HR_MINTEMP = RegExprGroups.indexOf(TEMP_24HR_PATTERN, "mintemp");
 
     /**
      * Density Altitude Example DENSITY ALT 800FT
@@ -274,6 +393,9 @@ public interface RegExprConst {
     public static final Pattern DENSITY_ALTITUDE_PATTERN = Pattern.compile(
             "^(?<type>DENSITY ALT) (?<denalt>\\d{1,5})(?<units>FT)\\s+"
     );
+    public static final int DENSITY_ALTITUDE_TYPE = RegExprGroups.indexOf(DENSITY_ALTITUDE_PATTERN, "type");
+    public static final int DENSITY_ALTITUDE_DENALT = RegExprGroups.indexOf(DENSITY_ALTITUDE_PATTERN, "denalt");
+    public static final int DENSITY_ALTITUDE_UNITS = RegExprGroups.indexOf(DENSITY_ALTITUDE_PATTERN, "units");
 
     /**
      * Sky Conditions FEW = 1 to 2 oktas; SCT (Scattered) = 3 to 4 oktas; BKN
@@ -283,6 +405,10 @@ public interface RegExprConst {
     public static final Pattern CLOUD_OKTA_PATTERN = Pattern.compile(
             "^(?<cloud>(CU|CF|ST|SC|SF|NS|AS|AC|CS|CC|CI))(?<okta>\\d|\\s\\w{1,3})?(\\s*(?<verb>MOVG)\\s*(?<dirm>[NSEW][EW]?))?"
     );
+    public static final int CLOUD_OKTA_CLOUD = RegExprGroups.indexOf(CLOUD_OKTA_PATTERN, "cloud");
+    public static final int CLOUD_OKTA_OKTA = RegExprGroups.indexOf(CLOUD_OKTA_PATTERN, "okta");
+    public static final int CLOUD_OKTA_VERB = RegExprGroups.indexOf(CLOUD_OKTA_PATTERN, "verb");
+    public static final int CLOUD_OKTA_DIRM = RegExprGroups.indexOf(CLOUD_OKTA_PATTERN, "dirm");
 
     /**
      * Last Observation Example LAST STFD OBS
@@ -290,6 +416,7 @@ public interface RegExprConst {
     public static final Pattern LAST_OBS_PATTERN = Pattern.compile(
             "^(?<last>LAST)\\s+"
     );
+    public static final int LAST_OBS_LAST = RegExprGroups.indexOf(LAST_OBS_PATTERN, "last");
 
     /**
      * Pressure (Q Codes) - QFE=Q-Field Elevation QNH=Q-Normal Height
@@ -299,6 +426,9 @@ public interface RegExprConst {
     public static final Pattern PRESS_Q_PATTERN = Pattern.compile(
             "^(?<pressq>QFE|QNH|QNE)((?<pressmm>\\d{3,4})?(/(?<pressmb>\\d{3,4}))?)?\\s+"
     );
+    public static final int PRESS_Q_PRESSQ = RegExprGroups.indexOf(PRESS_Q_PATTERN, "pressq");
+    public static final int PRESS_Q_PRESSMM = RegExprGroups.indexOf(PRESS_Q_PATTERN, "pressmm");
+    public static final int PRESS_Q_PRESSMB = RegExprGroups.indexOf(PRESS_Q_PATTERN, "pressmb");
 
     /**
      * Automated Maintenance Data RVRNO: RVR missing; PWINO: precipitation
@@ -311,8 +441,11 @@ public interface RegExprConst {
      * Maintenance check indicator ASOS requires maintenance
      */
     public static final Pattern AUTOMATED_MAINTENANCE_PATTERN = Pattern.compile(
-            "^(?<typeam>|RVRNO|PWINO|PNO|FZRANO|TSNO|VISNO|CHINO)\\s(?<loc>\\w+\\d+)?|(?<typemc>\\$)\\s+"
+            "^(?:(?<typeam>|RVRNO|PWINO|PNO|FZRANO|TSNO|VISNO|CHINO)\\s(?<loc>\\w+\\d+)?|(?<typemc>\\$)\\s+)"
     );
+    public static final int AUTOMATED_MAINTENANCE_TYPEAM = RegExprGroups.indexOf(AUTOMATED_MAINTENANCE_PATTERN, "typeam");
+    public static final int AUTOMATED_MAINTENANCE_LOC = RegExprGroups.indexOf(AUTOMATED_MAINTENANCE_PATTERN, "loc");
+    public static final int AUTOMATED_MAINTENANCE_TYPEMC = RegExprGroups.indexOf(AUTOMATED_MAINTENANCE_PATTERN, "typemc");
 
     /**
      * Groups - BECMG - Becoming, TEMPO - Temporary, PROB - Probability
@@ -321,6 +454,8 @@ public interface RegExprConst {
     public static final Pattern GROUP_BECMG_TEMPO_PROB_PATTERN = Pattern.compile(
             "^(?<group>BECMG|TEMPO|PROB\\d\\d) (?<obs>(\\S+\\s){1,})"
     );
+    public static final int GROUP_BECMG_TEMPO_PROB_GROUP = RegExprGroups.indexOf(GROUP_BECMG_TEMPO_PROB_PATTERN, "group");
+    public static final int GROUP_BECMG_TEMPO_PROB_OBS = RegExprGroups.indexOf(GROUP_BECMG_TEMPO_PROB_PATTERN, "obs");
 
     /**
      * Group - FM - From
@@ -328,6 +463,9 @@ public interface RegExprConst {
     public static final Pattern GROUP_FM_PATTERN = Pattern.compile(
             "^(?<group>FM)(?<daytime>\\d\\d\\d\\d\\d\\d) (?<obs>(\\S+\\s){1,})"
     );
+    public static final int GROUP_FM_GROUP = RegExprGroups.indexOf(GROUP_FM_PATTERN, "group");
+    public static final int GROUP_FM_DAYTIME = RegExprGroups.indexOf(GROUP_FM_PATTERN, "daytime");
+    public static final int GROUP_FM_OBS = RegExprGroups.indexOf(GROUP_FM_PATTERN, "obs");
 
     /**
      *
@@ -335,6 +473,8 @@ public interface RegExprConst {
     public static final Pattern VALTMPER_PATTERN = Pattern.compile(
             "^(?<bvaltime>\\d\\d\\d\\d)/(?<evaltime>\\d\\d\\d\\d)\\s+"
     );
+    public static final int VALTMPER_BVALTIME = RegExprGroups.indexOf(VALTMPER_PATTERN, "bvaltime");
+    public static final int VALTMPER_EVALTIME = RegExprGroups.indexOf(VALTMPER_PATTERN, "evaltime");
 
     /**
      *
@@ -342,6 +482,10 @@ public interface RegExprConst {
     public static final Pattern NXT_FCST_BY_PATTERN = Pattern.compile(
             "^(?<type>NXT FCST BY) (?<zday>\\d\\d)(?<zhour>\\d\\d)(?<zmin>\\d\\d)Z\\s+"
     );
+    public static final int NXT_FCST_BY_TYPE = RegExprGroups.indexOf(NXT_FCST_BY_PATTERN, "type");
+    public static final int NXT_FCST_BY_ZDAY = RegExprGroups.indexOf(NXT_FCST_BY_PATTERN, "zday");
+    public static final int NXT_FCST_BY_ZHOUR = RegExprGroups.indexOf(NXT_FCST_BY_PATTERN, "zhour");
+    public static final int NXT_FCST_BY_ZMIN = RegExprGroups.indexOf(NXT_FCST_BY_PATTERN, "zmin");
 
     /**
      *
@@ -349,6 +493,8 @@ public interface RegExprConst {
     public static final Pattern SNOW_ON_GRND_PATTERN = Pattern.compile(
             "^(?<type>SOG) (?<amt>\\d{1,3})\\s+"
     );
+    public static final int SNOW_ON_GRND_TYPE = RegExprGroups.indexOf(SNOW_ON_GRND_PATTERN, "type");
+    public static final int SNOW_ON_GRND_AMT = RegExprGroups.indexOf(SNOW_ON_GRND_PATTERN, "amt");
 
     /**
      * Unparsed
@@ -356,4 +502,5 @@ public interface RegExprConst {
     public static final Pattern UNPARSED_PATTERN = Pattern.compile(
             "^(?<unparsed>\\S+)\\s+"
     );
+    public static final int UNPARSED_UNPARSED = RegExprGroups.indexOf(UNPARSED_PATTERN, "unparsed");
 }
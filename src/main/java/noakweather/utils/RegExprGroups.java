@@ -0,0 +1,80 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the resolution of the named capture groups of a
+ * regular expression to their group numbers. The numbers are resolved once,
+ * so the decoders read the groups by number instead of looking the name up
+ * on every match.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class RegExprGroups {
+
+    private RegExprGroups() {
+    }
+
+    /**
+     * Get the number of the named group of the pattern. Groups are numbered
+     * by their opening parenthesis, like java.util.regex does: escaped
+     * characters, character classes and the non capturing constructs ((?:,
+     * (?=, (?<=, ...) are skipped.
+     *
+     * @param pattern
+     * @param name
+     * @return group number
+     */
+    public static int indexOf(Pattern pattern, String name) {
+        String regex = pattern.pattern();
+        int count = 0;
+        int depth = 0;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (regex.startsWith("Q", i + 1)) {
+                    int quoteEnd = regex.indexOf("\\E", i + 2);
+                    i = quoteEnd < 0 ? regex.length() : quoteEnd + 1;
+                } else {
+                    i++;
+                }
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && depth > 0) {
+                depth--;
+            } else if (c == '(' && depth == 0) {
+                if (!regex.startsWith("?", i + 1)) {
+                    count++;
+                } else if (regex.startsWith("?<", i + 1)
+                        && Character.isLetter(charAt(regex, i + 3))) {
+                    count++;
+                    if (regex.startsWith(name + ">", i + 3)) {
+                        return count;
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("No group with name <" + name + "> in "
+                + pattern);
+    }
+
+    private static char charAt(String s, int i) {
+        return i < s.length() ? s.charAt(i) : 0;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+/**
+ * Interface representing the decode callback of a regular expression handler.
+ * The callback is bound to its pattern in a RegExprTable and is called with
+ * the report being decoded and the recognized group.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ *
+ * @param <T> the type of the report being decoded
+ */
+@FunctionalInterface
+public interface RegExprHandler<T> {
+
+    /**
+     * Decode a recognized group into the report
+     *
+     * @param target the report being decoded
+     * @param match the recognized group
+     * @throws noakweather.utils.UtilsException
+     */
+    void decode(T target, RegExprMatch match) throws UtilsException;
+}
@@ -31,12 +31,97 @@ public final class RegExprHandlers {
     private static final Logger LOGGER
             = LogManager.getLogger(RegExprHandlers.class.getName());
 
+    /**
+     * The shared METAR main plan (main handlers followed by unparsed)
+     */
+    public static final RegExprPlan METAR_MAIN_PLAN
+            = new RegExprPlan(buildMetarMainHandlers());
+
+    /**
+     * The shared TAF main plan (main handlers, TAF and group headers followed
+     * by unparsed)
+     */
+    public static final RegExprPlan TAF_MAIN_PLAN
+            = new RegExprPlan(buildTafMainHandlers());
+
+    /**
+     * The shared remarks plan
+     */
+    public static final RegExprPlan REMARKS_PLAN
+            = new RegExprPlan(buildRemarksHandlers());
+
+    /**
+     * The shared group (FM, BECMG, TEMPO, PROB) plan
+     */
+    public static final RegExprPlan GROUP_PLAN
+            = new RegExprPlan(buildGroupHandlers());
+
+    private RegExprHandlers() {
+    }
+
     /**
      * Parse the main information
      *
      * @return mainHandlers
      */
     public static final IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> setMainHandlers() {
+        IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> mainHandlers
+                = buildMainHandlers();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug(Configs.getInstance().getString(ConfigKey.REG_EXPR_DECODED_MAIN_HANDLERS));
+            mainHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug(Configs.getInstance().getString(ConfigKey.REG_EXPR_DECODED_MAIN_HANDLERS) + "\n");
+        }
+
+        return mainHandlers;
+    }
+
+    /**
+     * Parse the remarks information
+     *
+     * @return remarkHandlers
+     */
+    public static final IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> setRemarksHandlers() {
+        IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> remarkHandlers
+                = buildRemarksHandlers();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug(Configs.getInstance().getString(ConfigKey.REG_EXPR_DECODED_REMARKS_HANDLERS));
+            remarkHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug(Configs.getInstance().getString(ConfigKey.REG_EXPR_DECODED_REMARKS_HANDLERS) + "\n");
+        }
+
+        return remarkHandlers;
+    }
+
+    /**
+     * Parse the group information
+     *
+     * @return groupHandlers
+     */
+    public static final IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> setGroupHandlers() {
+        IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> groupHandlers
+                = buildGroupHandlers();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug(Configs.getInstance().getString(ConfigKey.REG_EXPR_DECODED_GROUPS_HANDLERS));
+            groupHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug(Configs.getInstance().getString(ConfigKey.REG_EXPR_DECODED_GROUPS_HANDLERS) + "\n");
+        }
+
+        return groupHandlers;
+    }
+
+    /**
+     * Build the main handlers
+     *
+     * @return mainHandlers
+     */
+    private static IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> buildMainHandlers() {
         IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> mainHandlers;
         mainHandlers = new IndexedLinkedHashMap<>();
         mainHandlers.put(RegExprConst.MONTH_DAY_YEAR_PATTERN,
@@ -61,21 +146,50 @@ public final class RegExprHandlers {
                 Pair.with("altimeter", false));
         mainHandlers.put(RegExprConst.NO_SIG_CHANGE_PATTERN,
                 Pair.with("nosigchng", false));
+        return mainHandlers;
+    }
 
-        LOGGER.debug("\n");
-        LOGGER.debug(Configs.getInstance().getString("REG_EXPR_DECODED_MAIN_HANDLERS"));
-        mainHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug(Configs.getInstance().getString("REG_EXPR_DECODED_MAIN_HANDLERS") + "\n");
+    /**
+     * Build the METAR main handlers
+     *
+     * @return mainHandlers
+     */
+    private static IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> buildMetarMainHandlers() {
+        IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> mainHandlers
+                = buildMainHandlers();
+        // Add the UNPARSED_PATTERN after the main handlers
+        mainHandlers.put(RegExprConst.UNPARSED_PATTERN,
+                Pair.with("unparsed", false));
+        return mainHandlers;
+    }
 
+    /**
+     * Build the TAF main handlers
+     *
+     * @return mainHandlers
+     */
+    private static IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> buildTafMainHandlers() {
+        IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> mainHandlers
+                = buildMainHandlers();
+        // Add additional handlers that are necessary
+        mainHandlers.put(RegExprConst.TAF_STR_PATTERN,
+                Pair.with("tafstr", false));
+        mainHandlers.put(RegExprConst.GROUP_BECMG_TEMPO_PROB_PATTERN,
+                Pair.with("grpbecmgtempprob", false));
+        mainHandlers.put(RegExprConst.GROUP_FM_PATTERN,
+                Pair.with("grpfm", false));
+        // Add the UNPARSED_PATTERN after the specific handlers
+        mainHandlers.put(RegExprConst.UNPARSED_PATTERN,
+                Pair.with("unparsed", false));
         return mainHandlers;
     }
 
     /**
-     * Parse the remarks information
+     * Build the remarks handlers
      *
      * @return remarkHandlers
      */
-    public static final IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> setRemarksHandlers() {
+    private static IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> buildRemarksHandlers() {
         IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> remarkHandlers;
         remarkHandlers = new IndexedLinkedHashMap<>();
         remarkHandlers.put(RegExprConst.PRES_RF_RAPDLY_PATTERN,
@@ -133,21 +247,15 @@ public final class RegExprHandlers {
                 Pair.with("windre", false));
         remarkHandlers.put(RegExprConst.UNPARSED_PATTERN,
                 Pair.with("unparsed", false));
-
-        LOGGER.debug("\n");
-        LOGGER.debug(Configs.getInstance().getString("REG_EXPR_DECODED_REMARKS_HANDLERS"));
-        remarkHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug(Configs.getInstance().getString("REG_EXPR_DECODED_REMARKS_HANDLERS") + "\n");
-
         return remarkHandlers;
     }
 
     /**
-     * Parse the group information
+     * Build the group handlers
      *
      * @return groupHandlers
      */
-    public static final IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> setGroupHandlers() {
+    private static IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> buildGroupHandlers() {
         IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> groupHandlers;
         groupHandlers = new IndexedLinkedHashMap<>();
         groupHandlers.put(RegExprConst.VALTMPER_PATTERN,
@@ -170,12 +278,6 @@ public final class RegExprHandlers {
                 Pair.with("nosigchng", false));
         groupHandlers.put(RegExprConst.UNPARSED_PATTERN,
                 Pair.with("unparsed", false));
-
-        LOGGER.debug("\n");
-        LOGGER.debug(Configs.getInstance().getString("REG_EXPR_DECODED_GROUPS_HANDLERS"));
-        groupHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug(Configs.getInstance().getString("REG_EXPR_DECODED_GROUPS_HANDLERS") + "\n");
-
         return groupHandlers;
     }
 }
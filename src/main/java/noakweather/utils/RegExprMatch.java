@@ -0,0 +1,311 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class representing the group recognized by a parser plan. The group was
+ * either matched by the regular expression of its handler, or scanned by the
+ * fast lexer, in which case the named groups are the ones the regular
+ * expression would have captured.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class RegExprMatch {
+
+    private static final int MAX_GROUPS = 8;
+
+    private String input;
+    private Matcher matcher;
+    private boolean isFast;
+    private String[] names;
+    private int[] numbers;
+    // Offsets of the groups scanned by the fast lexer, -1 when the group did
+    // not participate
+    private final int[] starts = new int[MAX_GROUPS];
+    private final int[] ends = new int[MAX_GROUPS];
+    private int start;
+    private int end;
+    // Working buffer of the generated matchers, kept between the groups
+    private int[] scratch = new int[0];
+
+    /**
+     * Constructor
+     *
+     * @param input the text being parsed
+     */
+    RegExprMatch(String input) {
+        this.input = input;
+        this.matcher = null;
+        this.isFast = false;
+        this.names = null;
+        this.numbers = null;
+        this.start = 0;
+        this.end = 0;
+    }
+
+    /**
+     * Wrap a regular expression matcher after a successful match, for the
+     * callers that match the patterns of RegExprConst themselves
+     *
+     * @param matcher
+     * @return the group of the match
+     * @throws IllegalStateException if the matcher has no match
+     */
+    public static RegExprMatch of(Matcher matcher) {
+        RegExprMatch match = new RegExprMatch(null);
+        match.matcher = matcher;
+        match.start = matcher.start();
+        match.end = matcher.end();
+        return match;
+    }
+
+    /**
+     * Continue the parse on a new input. The new input must keep the same
+     * offsets as the previous one.
+     *
+     * @param input
+     */
+    void reset(String input) {
+        this.input = input;
+        if (matcher != null) {
+            matcher.reset(input);
+        }
+    }
+
+    /**
+     * Match the pattern at the start of the region
+     *
+     * @param pattern
+     * @param from
+     * @param to
+     * @return the end of the match, or -1 if there is no (or an empty) match
+     */
+    int lookingAt(Pattern pattern, int from, int to) {
+        if (matcher == null) {
+            matcher = pattern.matcher(input);
+        } else {
+            matcher.usePattern(pattern);
+        }
+        matcher.region(from, to);
+        if (matcher.lookingAt() && matcher.end() > from) {
+            isFast = false;
+            start = from;
+            end = matcher.end();
+            return end;
+        }
+        return -1;
+    }
+
+    /**
+     * Get the text being parsed
+     *
+     * @return input
+     */
+    String input() {
+        return input;
+    }
+
+    /**
+     * Get the start of the group
+     *
+     * @return start
+     */
+    int start() {
+        return start;
+    }
+
+    /**
+     * Get the end of the group
+     *
+     * @return end
+     */
+    int end() {
+        return end;
+    }
+
+    /**
+     * Set the offsets of a group scanned by the fast lexer
+     *
+     * @param slot the slot of the group, in the order of the group names
+     * @param from
+     * @param to
+     */
+    void set(int slot, int from, int to) {
+        starts[slot] = from;
+        ends[slot] = to;
+    }
+
+    /**
+     * Set a group scanned by the fast lexer as not participating
+     *
+     * @param slot the slot of the group, in the order of the group names
+     */
+    void clear(int slot) {
+        starts[slot] = -1;
+        ends[slot] = -1;
+    }
+
+    /**
+     * Get the working buffer of the generated matchers, grown if needed. Its
+     * content is kept when it grows.
+     *
+     * @param size the length needed
+     * @return the buffer, at least size long
+     */
+    int[] scratch(int size) {
+        if (scratch.length < size) {
+            scratch = Arrays.copyOf(scratch, Math.max(size, 2 * scratch.length));
+        }
+        return scratch;
+    }
+
+    /**
+     * Set the group scanned by the fast lexer
+     *
+     * @param names the group names of the slots
+     * @param numbers the group numbers of the slots in the regular expression
+     * @param from
+     * @param to
+     * @return the end of the match
+     */
+    int scanned(String[] names, int[] numbers, int from, int to) {
+        this.isFast = true;
+        this.names = names;
+        this.numbers = numbers;
+        this.start = from;
+        this.end = to;
+        return to;
+    }
+
+    /**
+     * Get the captured text of the named group
+     *
+     * @param name
+     * @return the text, or null if the group did not participate
+     */
+    public String group(String name) {
+        if (!isFast) {
+            return matcher.group(name);
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return starts[i] < 0 ? null : input.substring(starts[i], ends[i]);
+            }
+        }
+        throw new IllegalArgumentException("No group with name <" + name + ">");
+    }
+
+    /**
+     * Get the captured text of the group, by its number in the regular
+     * expression (see the group numbers of RegExprConst)
+     *
+     * @param group
+     * @return the text, or null if the group did not participate
+     */
+    public String group(int group) {
+        if (!isFast) {
+            return matcher.group(group);
+        }
+        int from = start(group);
+        return from < 0 ? null : input.substring(from, end(group));
+    }
+
+    /**
+     * Get the offset of the group in the text being parsed
+     *
+     * @param group the group number
+     * @return the start offset, or -1 if the group did not participate
+     */
+    public int start(int group) {
+        if (!isFast) {
+            return matcher.start(group);
+        }
+        return group == 0 ? start : starts[slot(group)];
+    }
+
+    /**
+     * Get the offset after the group in the text being parsed
+     *
+     * @param group the group number
+     * @return the end offset, or -1 if the group did not participate
+     */
+    public int end(int group) {
+        if (!isFast) {
+            return matcher.end(group);
+        }
+        return group == 0 ? end : ends[slot(group)];
+    }
+
+    /**
+     * Get the fast lexer slot of the group
+     *
+     * @param group the group number
+     * @return slot
+     */
+    private int slot(int group) {
+        for (int i = 0; i < numbers.length; i++) {
+            if (numbers[i] == group) {
+                return i;
+            }
+        }
+        throw new IndexOutOfBoundsException("No group " + group);
+    }
+
+    /**
+     * Get the text being parsed, the offsets of the groups are in it
+     *
+     * @return input, null for a wrapped matcher
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Get the text of the whole group
+     *
+     * @return the text
+     */
+    public String group() {
+        if (!isFast) {
+            return matcher.group();
+        }
+        return input.substring(start, end);
+    }
+
+    /**
+     * Get the regular expression matcher. This is only set when the group was
+     * not scanned by the fast lexer
+     *
+     * @return matcher
+     */
+    public Matcher getMatcher() {
+        return isFast ? null : matcher;
+    }
+
+    /**
+     * Get whether the group was scanned by the fast lexer
+     *
+     * @return isFast
+     */
+    public boolean isFast() {
+        return isFast;
+    }
+}
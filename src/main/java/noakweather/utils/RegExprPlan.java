@@ -0,0 +1,456 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.javatuples.Pair;
+
+/**
+ * Class representing an immutable parser plan. A plan is the ordered list of
+ * regular expression handlers used to decode one section of a report (main,
+ * remarks, groups). Plans are built once and shared by every parse, so they
+ * are safe to use from multiple threads.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class RegExprPlan {
+
+    private final Pattern[] patterns;
+    private final Pair<String, Boolean>[] handlers;
+    private final boolean[] repeatable;
+    // Keyword trie of the candidate handler indexes by leading characters
+    private final DispatchNode dispatch;
+    // Fast lexer scanners, null for the handlers that have none
+    private final FastLexer.Scanner[] scanners;
+
+    private static final int ASCII_ANY = 128;
+    // Longest prefix the dispatch trie looks at
+    private static final int DISPATCH_DEPTH = 4;
+    // Characters of the reports the trie looks at after the leading one,
+    // the others keep the candidates of the shorter prefix
+    private static final String DISPATCH_CHARS
+            = " $+-/0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static final Logger LOGGER
+            = LogManager.getLogger(RegExprPlan.class.getName());
+
+    /**
+     * Decoder called for every group recognized by the plan
+     */
+    @FunctionalInterface
+    public interface Decoder {
+
+        /**
+         * Decode a recognized group
+         *
+         * @param index the index of the handler in the plan
+         * @param match the recognized group
+         * @throws noakweather.utils.UtilsException
+         */
+        void decode(int index, RegExprMatch match) throws UtilsException;
+    }
+
+    /**
+     * Node of the dispatch trie. The candidates are the handlers that can
+     * recognize a group starting with the prefix of the node, in plan order.
+     * The children are null when no longer prefix narrows the candidates.
+     */
+    private static final class DispatchNode {
+
+        private final int[] candidates;
+        private DispatchNode[] next;
+
+        private DispatchNode(int[] candidates) {
+            this.candidates = candidates;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param handlers the ordered handlers the plan is built from
+     */
+    @SuppressWarnings("unchecked")
+    RegExprPlan(IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> handlers) {
+        int size = handlers.size();
+        this.patterns = new Pattern[size];
+        this.handlers = (Pair<String, Boolean>[]) new Pair<?, ?>[size];
+        this.repeatable = new boolean[size];
+        this.scanners = new FastLexer.Scanner[size];
+        for (int i = 0; i < size; i++) {
+            this.patterns[i] = handlers.getKeyAtIndex(i);
+            this.handlers[i] = handlers.getValueAtIndex(i);
+            this.repeatable[i] = this.handlers[i].getValue1();
+            this.scanners[i] = FastLexer.scannerFor(this.patterns[i]);
+        }
+        this.dispatch = buildDispatch(this.patterns);
+    }
+
+    /**
+     * Build the dispatch trie over the leading characters of the groups. A
+     * pattern is a candidate for a prefix when it matches the prefix alone,
+     * or when the matcher hit the end of the input (more input could still
+     * match). A node only gets children when one more character narrows its
+     * candidates, so the trie stops at the distinguishing prefixes of the
+     * groups (SLP, PK WND, 4/ ...) and the ambiguous ones keep the candidates
+     * of their parent. Candidates stay in plan order so the fallbacks
+     * (UNPARSED_PATTERN last) keep their priority.
+     *
+     * @param patterns
+     * @return dispatch trie
+     */
+    private static DispatchNode buildDispatch(Pattern[] patterns) {
+        int[] all = new int[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            all[i] = i;
+        }
+        // Any other leading character tries every handler
+        DispatchNode root = new DispatchNode(all);
+        root.next = buildChildren(patterns, root, "", new HashMap<>());
+        return root;
+    }
+
+    /**
+     * Build the children of a dispatch node. The children that have no
+     * children of their own are shared between the nodes.
+     *
+     * @param patterns
+     * @param node
+     * @param prefix the prefix of the node
+     * @param leaves the shared leaves by candidates
+     * @return children, or null if no character narrows the candidates
+     */
+    private static DispatchNode[] buildChildren(Pattern[] patterns, DispatchNode node,
+            String prefix, Map<List<Integer>, DispatchNode> leaves) {
+        DispatchNode[] next = new DispatchNode[ASCII_ANY];
+        int[] candidates = new int[node.candidates.length];
+        boolean isNarrowed = false;
+        for (char c = 0; c < ASCII_ANY; c++) {
+            if (!prefix.isEmpty() && DISPATCH_CHARS.indexOf(c) < 0) {
+                next[c] = leaf(node.candidates, leaves);
+                continue;
+            }
+            String lead = prefix + c;
+            int count = 0;
+            for (int i : node.candidates) {
+                Matcher matcher = patterns[i].matcher(lead);
+                if (matcher.lookingAt() || matcher.hitEnd()) {
+                    candidates[count++] = i;
+                }
+            }
+            if (count == node.candidates.length) {
+                next[c] = leaf(node.candidates, leaves);
+                continue;
+            }
+            isNarrowed = true;
+            int[] narrowed = Arrays.copyOf(candidates, count);
+            DispatchNode child = new DispatchNode(narrowed);
+            // One handler and the fallback are not worth a longer prefix
+            if (count > 2 && lead.length() < DISPATCH_DEPTH) {
+                child.next = buildChildren(patterns, child, lead, leaves);
+            }
+            next[c] = child.next == null ? leaf(narrowed, leaves) : child;
+        }
+        return isNarrowed ? next : null;
+    }
+
+    /**
+     * Get the shared leaf for the candidates
+     *
+     * @param candidates
+     * @param leaves
+     * @return leaf
+     */
+    private static DispatchNode leaf(int[] candidates, Map<List<Integer>, DispatchNode> leaves) {
+        List<Integer> key = new ArrayList<>(candidates.length);
+        for (int i : candidates) {
+            key.add(i);
+        }
+        return leaves.computeIfAbsent(key, k -> new DispatchNode(candidates));
+    }
+
+    /**
+     * Get the candidate handlers for a group at the offset, walking the
+     * dispatch trie as far as it narrows them
+     *
+     * @param input
+     * @param pos
+     * @param end
+     * @return candidate handler indexes, in plan order
+     */
+    int[] candidatesAt(String input, int pos, int end) {
+        DispatchNode node = dispatch;
+        for (int j = pos; j < end && node.next != null; j++) {
+            char c = input.charAt(j);
+            if (c >= ASCII_ANY) {
+                break;
+            }
+            node = node.next[c];
+        }
+        return node.candidates;
+    }
+
+    /**
+     * Parse the token with the plan, matching every group with the regular
+     * expressions
+     *
+     * @param token
+     * @param decoder
+     * @throws noakweather.utils.UtilsException
+     */
+    public void parse(String token, Decoder decoder) throws UtilsException {
+        parse(token, ParserMode.REGEX, decoder);
+    }
+
+    /**
+     * Parse the token with the plan. The handlers are tried in order at the
+     * current offset; after a group is recognized the offset moves past it
+     * (and past the blanks that follow) and the handlers are tried again from
+     * the first one. Only the handlers that can start with the leading
+     * characters at the offset are tried. A repeatable handler is retried
+     * right away at the new offset. The token is never copied, the matcher
+     * walks it with a region. In FAST mode the handlers that have a fast
+     * lexer scanner try it before their regular expression.
+     *
+     * @param token
+     * @param mode
+     * @param decoder
+     * @throws noakweather.utils.UtilsException
+     */
+    public void parse(String token, ParserMode mode, Decoder decoder) throws UtilsException {
+        // The groups after the first one are matched as if the remaining
+        // token was trimmed and followed by exactly one blank
+        int last = token.length();
+        while (last > 0 && token.charAt(last - 1) <= ' ') {
+            last--;
+        }
+        String rest = last + 1 == token.length() && token.charAt(last) == ' '
+                ? token : token.substring(0, last) + " ";
+
+        boolean isFast = mode == ParserMode.FAST;
+        String input = token;
+        int pos = 0;
+        int end = input.length();
+        RegExprMatch match = new RegExprMatch(input);
+        ParseTrace.Recorder trace = ParseTrace.recorder();
+        while (pos < end) {
+            LOGGER.debug("\n");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(Configs.getInstance().getString(ConfigKey.MATCH_DECODED_TOKEN_PROCESSING)
+                        + " #" + input.substring(pos, end) + "#");
+            }
+            boolean isFound = false;
+            int[] candidates = candidatesAt(input, pos, end);
+            for (int k = 0; k < candidates.length && !isFound && pos < end; k++) {
+                int i = candidates[k];
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(Configs.getInstance().getString(ConfigKey.MATCH_DECODED_PATTERN_I)
+                            + " #" + patterns[i] + "#  #" + handlers[i] + "#");
+                }
+                int matchEnd = find(i, isFast, input, pos, end, match);
+                if (trace != null) {
+                    trace.record(this, i, input, pos, matchEnd);
+                }
+                while (matchEnd > pos) {
+                    isFound = true;
+                    if (LOGGER.isDebugEnabled()) {
+                        logMatch(match);
+                    }
+                    decoder.decode(i, match);
+
+                    // Skip the blanks after the group
+                    pos = matchEnd;
+                    while (pos < last && input.charAt(pos) <= ' ') {
+                        pos++;
+                    }
+                    if (pos >= last) {
+                        pos = end;
+                        break;
+                    }
+                    if (input != rest) {
+                        input = rest;
+                        end = rest.length();
+                        match.reset(input);
+                    }
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(Configs.getInstance().getString(ConfigKey.MATCH_DECODED_TOKEN_AFTER_LAST_MATCH)
+                                + " #" + input.substring(pos, end));
+                        LOGGER.debug(Configs.getInstance().getString(ConfigKey.MATCH_DECODED_PATTERN)
+                                + " " + repeatable[i]);
+                    }
+                    if (!repeatable[i]) {
+                        break;
+                    }
+                    matchEnd = find(i, isFast, input, pos, end, match);
+                    if (trace != null) {
+                        trace.record(this, i, input, pos, matchEnd);
+                    }
+                }
+            }
+            if (!isFound) {
+                // Nothing recognizes the rest of the token
+                break;
+            }
+        }
+    }
+
+    /**
+     * Find the group of the handler at the offset
+     *
+     * @return the end of the group, or a value not greater than pos if there
+     * is no group
+     */
+    int find(int i, boolean isFast, String input, int pos, int end, RegExprMatch match) {
+        if (isFast && scanners[i] != null) {
+            int matchEnd = scanners[i].scan(input, pos, end, match);
+            if (matchEnd != FastLexer.UNSURE) {
+                return matchEnd;
+            }
+        }
+        return match.lookingAt(patterns[i], pos, end);
+    }
+
+    /**
+     * Log the recognized group, the callers check the debug level
+     *
+     * @param match
+     */
+    private static void logMatch(RegExprMatch match) {
+        LOGGER.debug(Configs.getInstance().getString(ConfigKey.MATCH_DECODED_MATCHER_GROUP_0)
+                + " #" + match.group() + "#");
+        Matcher matcher = match.getMatcher();
+        if (matcher == null) {
+            LOGGER.debug("fast lexer match");
+            return;
+        }
+        LOGGER.debug(Configs.getInstance().getString(ConfigKey.MATCH_DECODED_MATCHER_GROUP_CNT)
+                + " " + matcher.groupCount());
+        for (int j = 1; j <= matcher.groupCount(); j++) {
+            LOGGER.debug(Configs.getInstance()
+                    .getString(ConfigKey.MATCH_DECODED_CAPTURE_GROUP_NUMBER)
+                    + " " + j + "   " + Configs.getInstance()
+                            .getString(ConfigKey.MATCH_DECODED_CAPTURED_TEXT)
+                    + " #" + matcher.group(j) + "#");
+        }
+    }
+
+    /**
+     * Get the number of handlers in the plan
+     *
+     * @return size
+     */
+    public int size() {
+        return patterns.length;
+    }
+
+    /**
+     * Get the pattern at index
+     *
+     * @param i
+     * @return pattern
+     */
+    public Pattern getPattern(int i) {
+        return patterns[i];
+    }
+
+    /**
+     * Get the handler name at index
+     *
+     * @param i
+     * @return handler name
+     */
+    public String getName(int i) {
+        return handlers[i].getValue0();
+    }
+
+    /**
+     * Get the handler at index
+     *
+     * @param i
+     * @return handler name and repeat flag
+     */
+    public Pair<String, Boolean> getHandler(int i) {
+        return handlers[i];
+    }
+
+    /**
+     * Get whether the pattern at index may match several groups in a row
+     *
+     * @param i
+     * @return is repeatable
+     */
+    public boolean isRepeatable(int i) {
+        return repeatable[i];
+    }
+
+    /**
+     * Perform the action for each handler of the plan, in order
+     *
+     * @param action
+     */
+    public void forEach(BiConsumer<Pattern, Pair<String, Boolean>> action) {
+        for (int i = 0; i < patterns.length; i++) {
+            action.accept(patterns[i], handlers[i]);
+        }
+    }
+
+    /**
+     * Get a new plan with a handler inserted at index
+     *
+     * @param index
+     * @param pattern
+     * @param handler handler name and repeat flag
+     * @return plan
+     */
+    public RegExprPlan withHandler(int index, Pattern pattern, Pair<String, Boolean> handler) {
+        IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> copy
+                = new IndexedLinkedHashMap<>(patterns.length + 1);
+        for (int i = 0; i <= patterns.length; i++) {
+            if (i == index) {
+                copy.put(pattern, handler);
+            }
+            if (i < patterns.length) {
+                copy.put(patterns[i], handlers[i]);
+            }
+        }
+        if (copy.size() != patterns.length + 1) {
+            throw new IllegalArgumentException("The plan already has the pattern " + pattern);
+        }
+        return new RegExprPlan(copy);
+    }
+
+    /**
+     * Get a mutable copy of the plan as handlers
+     *
+     * @return handlers
+     */
+    public IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> toHandlers() {
+        IndexedLinkedHashMap<Pattern, Pair<String, Boolean>> copy
+                = new IndexedLinkedHashMap<>(patterns.length);
+        forEach(copy::put);
+        return copy;
+    }
+}
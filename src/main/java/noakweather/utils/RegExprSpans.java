@@ -0,0 +1,194 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class representing the groups recognized in a token, recorded as the
+ * handler and the character span of every group. A group is decoded on
+ * demand by matching its handler again at its span, so a reader only pays for
+ * the groups it asks for. Groups are decoded in the order of the token. Spans
+ * are not safe to decode from multiple threads.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ *
+ * @param <T> the type of the report being decoded
+ */
+public final class RegExprSpans<T> {
+
+    private final RegExprPlan plan;
+    private final RegExprHandler<? super T>[] decoders;
+    private final boolean isFast;
+    private int count;
+    private int[] handlers;
+    private int[] starts;
+    private String[] inputs;
+    private boolean[] decoded;
+
+    /**
+     * Constructor
+     *
+     * @param plan
+     * @param decoders the decode callbacks by handler index
+     * @param mode
+     */
+    RegExprSpans(RegExprPlan plan, RegExprHandler<? super T>[] decoders, ParserMode mode) {
+        this.plan = plan;
+        this.decoders = decoders;
+        this.isFast = mode == ParserMode.FAST;
+        this.count = 0;
+        this.handlers = new int[8];
+        this.starts = new int[8];
+        this.inputs = new String[8];
+        this.decoded = new boolean[8];
+    }
+
+    /**
+     * Record a recognized group
+     *
+     * @param index the handler index
+     * @param match
+     */
+    void add(int index, RegExprMatch match) {
+        if (count == handlers.length) {
+            handlers = Arrays.copyOf(handlers, count * 2);
+            starts = Arrays.copyOf(starts, count * 2);
+            inputs = Arrays.copyOf(inputs, count * 2);
+            decoded = Arrays.copyOf(decoded, count * 2);
+        }
+        handlers[count] = index;
+        starts[count] = match.start();
+        inputs[count] = match.input();
+        count++;
+    }
+
+    /**
+     * Decode the groups of the named handlers that are not decoded yet
+     *
+     * @param target the report being decoded
+     * @param names the handler names
+     * @throws noakweather.utils.UtilsException
+     */
+    public void decode(T target, Set<String> names) throws UtilsException {
+        RegExprMatch match = null;
+        for (int k = 0; k < count; k++) {
+            if (!decoded[k] && names.contains(plan.getName(handlers[k]))) {
+                // Mark the group first, a decoder may read the report back
+                decoded[k] = true;
+                match = rematch(k, match);
+                decoders[handlers[k]].decode(target, match);
+            }
+        }
+    }
+
+    /**
+     * Decode every group that is not decoded yet
+     *
+     * @param target the report being decoded
+     * @throws noakweather.utils.UtilsException
+     */
+    public void decodeAll(T target) throws UtilsException {
+        RegExprMatch match = null;
+        for (int k = 0; k < count; k++) {
+            if (!decoded[k]) {
+                decoded[k] = true;
+                match = rematch(k, match);
+                decoders[handlers[k]].decode(target, match);
+            }
+        }
+    }
+
+    /**
+     * Decode the groups of the named handlers that are not decoded yet. The
+     * groups of the handlers that have a partial callback are only given to
+     * it and stay to be decoded, so that a later decode sees them again.
+     *
+     * @param target the report being decoded
+     * @param names the handler names
+     * @param partials the partial callbacks by handler name
+     * @throws noakweather.utils.UtilsException
+     */
+    public void decode(T target, Set<String> names,
+            Map<String, ? extends RegExprHandler<? super T>> partials) throws UtilsException {
+        RegExprMatch match = null;
+        for (int k = 0; k < count; k++) {
+            String name = plan.getName(handlers[k]);
+            if (!decoded[k] && names.contains(name)) {
+                RegExprHandler<? super T> partial = partials.get(name);
+                if (partial == null) {
+                    decoded[k] = true;
+                }
+                match = rematch(k, match);
+                if (partial != null) {
+                    partial.decode(target, match);
+                } else {
+                    decoders[handlers[k]].decode(target, match);
+                }
+            }
+        }
+    }
+
+    /**
+     * Match the group again at its span
+     *
+     * @param k the group
+     * @param match the match to reuse, or null
+     * @return match
+     */
+    private RegExprMatch rematch(int k, RegExprMatch match) {
+        String input = inputs[k];
+        if (match == null) {
+            match = new RegExprMatch(input);
+        } else {
+            match.reset(input);
+        }
+        plan.find(handlers[k], isFast, input, starts[k], input.length(), match);
+        return match;
+    }
+
+    /**
+     * Get the number of recorded groups
+     *
+     * @return count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get the handler name of the group
+     *
+     * @param k
+     * @return handler name
+     */
+    public String getName(int k) {
+        return plan.getName(handlers[k]);
+    }
+
+    /**
+     * Get whether the group is decoded
+     *
+     * @param k
+     * @return is decoded
+     */
+    public boolean isDecoded(int k) {
+        return decoded[k];
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.javatuples.Pair;
+
+/**
+ * Class representing a parser plan bound to the decode callbacks of its
+ * handlers. Every handler of the plan carries its own callback and repeat
+ * flag, so a recognized group goes straight to its callback. Tables are
+ * immutable and can be shared by every parse; withHandler returns a new table
+ * with a custom handler, for example a regional or military remark group.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ *
+ * @param <T> the type of the report being decoded
+ */
+public final class RegExprTable<T> {
+
+    private static final String UNPARSED = "unparsed";
+
+    private final RegExprPlan plan;
+    private final RegExprHandler<? super T>[] decoders;
+
+    /**
+     * Constructor. The handlers without a callback recognize their group and
+     * ignore it.
+     *
+     * @param plan the plan
+     * @param decoders the callbacks by handler name
+     */
+    @SuppressWarnings("unchecked")
+    public RegExprTable(RegExprPlan plan, Map<String, ? extends RegExprHandler<? super T>> decoders) {
+        this.plan = plan;
+        this.decoders = (RegExprHandler<? super T>[]) new RegExprHandler<?>[plan.size()];
+        for (int i = 0; i < plan.size(); i++) {
+            RegExprHandler<? super T> decoder = decoders.get(plan.getName(i));
+            this.decoders[i] = decoder != null ? decoder : (target, match) -> {
+            };
+        }
+    }
+
+    private RegExprTable(RegExprPlan plan, RegExprHandler<? super T>[] decoders) {
+        this.plan = plan;
+        this.decoders = decoders;
+    }
+
+    /**
+     * Get a new table with a custom handler. The handler is tried after the
+     * handlers of the table, before the unparsed fallback.
+     *
+     * @param pattern the pattern of the group
+     * @param name the handler name
+     * @param repeatable whether the pattern may match several groups in a row
+     * @param decoder the decode callback
+     * @return the new table
+     */
+    public RegExprTable<T> withHandler(Pattern pattern, String name, boolean repeatable,
+            RegExprHandler<? super T> decoder) {
+        int index = plan.size();
+        if (index > 0 && plan.getName(index - 1).equals(UNPARSED)) {
+            index--;
+        }
+        RegExprPlan newPlan = plan.withHandler(index, pattern, Pair.with(name, repeatable));
+        RegExprHandler<? super T>[] newDecoders = Arrays.copyOf(decoders, decoders.length + 1);
+        System.arraycopy(decoders, index, newDecoders, index + 1, decoders.length - index);
+        newDecoders[index] = decoder;
+        return new RegExprTable<>(newPlan, newDecoders);
+    }
+
+    /**
+     * Parse the token into the target
+     *
+     * @param target the report being decoded
+     * @param token
+     * @param mode
+     * @throws noakweather.utils.UtilsException
+     */
+    public void parse(T target, String token, ParserMode mode) throws UtilsException {
+        plan.parse(token, mode, (i, match) -> decoders[i].decode(target, match));
+    }
+
+    /**
+     * Index the token without decoding it. The groups are recognized as by
+     * parse, and only the handler and the span of every group are recorded;
+     * the spans decode their groups on demand.
+     *
+     * @param token
+     * @param mode
+     * @return spans
+     * @throws noakweather.utils.UtilsException
+     */
+    public RegExprSpans<T> index(String token, ParserMode mode) throws UtilsException {
+        RegExprSpans<T> spans = new RegExprSpans<>(plan, decoders, mode);
+        plan.parse(token, mode, spans::add);
+        return spans;
+    }
+
+    /**
+     * Get the plan
+     *
+     * @return plan
+     */
+    public RegExprPlan getPlan() {
+        return plan;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+/**
+ * Class representing the dictionary of the ICAO station identifiers. An
+ * identifier of the station pattern ([A-Z][A-Z0-9]{3}) is packed in an int,
+ * six bits per character, so it can key the per-station maps and columns
+ * without a String. The decoded identifiers are interned in a small direct
+ * mapped cache, so the reports of a station share one String.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ */
+public final class StationIds {
+
+    /**
+     * Id of no station
+     */
+    public static final int NONE = 0;
+
+    private static final int BITS = 6;
+    private static final int LENGTH = 4;
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    // Code of the letter A, the digits come before
+    private static final int FIRST_LETTER = 11;
+    private static final int CACHE_BITS = 13;
+
+    // Benign races: a slot holds an immutable String or null
+    private static final String[] CACHE = new String[1 << CACHE_BITS];
+
+    private StationIds() {
+    }
+
+    /**
+     * Check a station identifier can be packed
+     *
+     * @param station
+     * @return is the identifier [A-Z][A-Z0-9]{3}
+     */
+    public static boolean isValid(String station) {
+        if (station == null || station.length() != LENGTH) {
+            return false;
+        }
+        char first = station.charAt(0);
+        if (first < 'A' || first > 'Z') {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            if (code(station.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pack a station identifier
+     *
+     * @param station [A-Z][A-Z0-9]{3}
+     * @return the id
+     * @throws IllegalArgumentException when the identifier is not valid
+     */
+    public static int encode(String station) {
+        if (!isValid(station)) {
+            throw new IllegalArgumentException("station: " + station);
+        }
+        int id = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            id = id << BITS | code(station.charAt(i));
+        }
+        return id;
+    }
+
+    /**
+     * Pack a station identifier, NONE when it is not valid
+     *
+     * @param station
+     * @return the id or NONE
+     */
+    public static int encodeOrNone(String station) {
+        return isValid(station) ? encode(station) : NONE;
+    }
+
+    /**
+     * Unpack a station identifier
+     *
+     * @param id
+     * @return the identifier, null for NONE
+     * @throws IllegalArgumentException when the id is not one of encode
+     */
+    public static String decode(int id) {
+        if (id == NONE) {
+            return null;
+        }
+        // Bits above the four characters, or a first character that is not a
+        // letter, are never set by encode
+        if (id >>> (BITS * LENGTH) != 0 || id >>> (BITS * (LENGTH - 1)) < FIRST_LETTER) {
+            throw new IllegalArgumentException("id: " + id);
+        }
+        int slot = (id * 0x9E3779B9) >>> (Integer.SIZE - CACHE_BITS);
+        String station = CACHE[slot];
+        if (station != null && matches(station, id)) {
+            return station;
+        }
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            int code = id & ((1 << BITS) - 1);
+            if (code == 0 || code > ALPHABET.length()) {
+                throw new IllegalArgumentException("id: " + id);
+            }
+            chars[i] = ALPHABET.charAt(code - 1);
+            id >>>= BITS;
+        }
+        station = new String(chars);
+        CACHE[slot] = station;
+        return station;
+    }
+
+    /**
+     * Get the shared instance of a station identifier
+     *
+     * @param station
+     * @return the shared identifier, or the identifier itself when it is not
+     * valid
+     */
+    public static String intern(String station) {
+        return isValid(station) ? decode(encode(station)) : station;
+    }
+
+    private static boolean matches(String station, int id) {
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            if (code(station.charAt(i)) != (id & ((1 << BITS) - 1))) {
+                return false;
+            }
+            id >>>= BITS;
+        }
+        return true;
+    }
+
+    private static int code(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + FIRST_LETTER;
+        }
+        return 0;
+    }
+}
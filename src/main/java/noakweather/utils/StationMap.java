@@ -0,0 +1,209 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Class representing a map keyed by the station ids of StationIds, with open
+ * addressing on an int array so the keys are not boxed. A map is not safe to
+ * modify from multiple threads.
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ *
+ * @param <V> the type of the values
+ */
+public final class StationMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Constructor
+     */
+    public StationMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructor with the expected number of stations
+     *
+     * @param expected
+     */
+    public StationMap(int expected) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expected * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Get the value of a station
+     *
+     * @param id station id
+     * @return the value, null when there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int id) {
+        int slot = find(id);
+        return keys[slot] == id ? (V) values[slot] : null;
+    }
+
+    /**
+     * Check there is a value for a station
+     *
+     * @param id station id
+     * @return is there a value, false for StationIds.NONE
+     */
+    public boolean containsKey(int id) {
+        // The empty slots hold NONE
+        return id != StationIds.NONE && keys[find(id)] == id;
+    }
+
+    /**
+     * Set the value of a station
+     *
+     * @param id station id, not StationIds.NONE
+     * @param value
+     * @return the previous value, null when there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int id, V value) {
+        if (id == StationIds.NONE) {
+            throw new IllegalArgumentException("id: " + id);
+        }
+        int slot = find(id);
+        if (keys[slot] == id) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = id;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Get the value of a station, computing it when there is none
+     *
+     * @param id station id, not StationIds.NONE
+     * @param function computes the value from the station id
+     * @return the value
+     */
+    public V computeIfAbsent(int id, IntFunction<V> function) {
+        V value = get(id);
+        if (value == null) {
+            value = function.apply(id);
+            put(id, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove the value of a station
+     *
+     * @param id station id
+     * @return the removed value, null when there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int id) {
+        int slot = find(id);
+        if (keys[slot] != id || id == StationIds.NONE) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        // Shift back the following entries of the probe sequence
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; keys[next] != StationIds.NONE; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        keys[hole] = StationIds.NONE;
+        values[hole] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Remove all the stations, the capacity is kept
+     */
+    public void clear() {
+        Arrays.fill(keys, StationIds.NONE);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Get the number of stations
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the station ids, in no particular order
+     *
+     * @return station ids
+     */
+    public int[] keys() {
+        return Arrays.stream(keys).filter(id -> id != StationIds.NONE).toArray();
+    }
+
+    private int find(int id) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (keys[slot] != StationIds.NONE && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Object[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != StationIds.NONE) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
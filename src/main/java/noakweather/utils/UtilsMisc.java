@@ -428,12 +428,35 @@ public class UtilsMisc {
      * @return rounding of value to a certain precision
      */
     public static double roundValue(double value, int precision) {
+        if (Double.isNaN(value)) {
+            return value;
+        }
 
         int scale = (int) Math.pow(10, precision);
 
         return (double) Math.round(value * scale) / scale;
     }
 
+    /**
+     * Box a primitive value, NaN marks a value that is not known
+     *
+     * @param value
+     * @return the boxed value, null when the value is NaN
+     */
+    public static Double boxValue(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * Unbox a value, null marks a value that is not known
+     *
+     * @param value
+     * @return the primitive value, NaN when the value is null
+     */
+    public static double unboxValue(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
     /**
      *
      * Beep!
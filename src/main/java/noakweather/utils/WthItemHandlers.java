@@ -16,12 +16,16 @@
  */
 package noakweather.utils;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.javatuples.Pair;
 
 /**
- * Class representing the handling of certain handlers
+ * Class representing the handling of certain handlers. The set methods build
+ * a new map of the items of a configuration, the get methods return the
+ * immutable tables of the items built once per configuration and shared
  *
  * Author: quark95cos Since: Copyright(c) 2022
  */
@@ -30,36 +34,123 @@ public final class WthItemHandlers {
     private static final Logger LOGGER
             = LogManager.getLogger(WthItemHandlers.class.getName());
 
+    /**
+     * The tables by configuration, a Configs is shared per locale.
+     *
+     */
+    private static final Map<Configs, Tables> TABLES = new ConcurrentHashMap<>();
+
+    private WthItemHandlers() {
+    }
+
+    /**
+     * Get the shared runway visual range weather items
+     *
+     * @param configs the configuration of the locale
+     * @return WthItemTable
+     */
+    public static WthItemTable<String> getRVRWthItems(Configs configs) {
+        return tables(configs).rvr;
+    }
+
+    /**
+     * Get the shared sky condition weather items
+     *
+     * @param configs the configuration of the locale
+     * @return WthItemTable
+     */
+    public static WthItemTable<String> getSkyCondWthItems(Configs configs) {
+        return tables(configs).skyCond;
+    }
+
+    /**
+     * Get the shared weather condition items
+     *
+     * @param configs the configuration of the locale
+     * @return WthItemTable
+     */
+    public static WthItemTable<String> getWeathCondWthItems(Configs configs) {
+        return tables(configs).weathCond;
+    }
+
+    /**
+     * Get the shared remarks weather items
+     *
+     * @param configs the configuration of the locale
+     * @return WthItemTable
+     */
+    public static WthItemTable<String> getRemarksWthItems(Configs configs) {
+        return tables(configs).remarks;
+    }
+
+    /**
+     * Get the shared remarks weather alternate items
+     *
+     * @param configs the configuration of the locale
+     * @return WthItemTable
+     */
+    public static WthItemTable<Pair<String, String>> getRemarksWthAltItems(Configs configs) {
+        return tables(configs).remarksAlt;
+    }
+
+    private static Tables tables(Configs configs) {
+        Tables tables = TABLES.get(configs);
+        return tables != null ? tables : TABLES.computeIfAbsent(configs, Tables::new);
+    }
+
+    /**
+     * The tables of one configuration
+     */
+    private static final class Tables {
+
+        private final WthItemTable<String> rvr;
+        private final WthItemTable<String> skyCond;
+        private final WthItemTable<String> weathCond;
+        private final WthItemTable<String> remarks;
+        private final WthItemTable<Pair<String, String>> remarksAlt;
+
+        private Tables(Configs configs) {
+            this.rvr = new WthItemTable<>(setRVRWthItemsHandlers(configs));
+            this.skyCond = new WthItemTable<>(setSkyCondWthItemsHandlers(configs));
+            this.weathCond = new WthItemTable<>(setWeathCondWthItemsHandlers(configs));
+            this.remarks = new WthItemTable<>(setRemarksWthItemsHandlers(configs));
+            this.remarksAlt = new WthItemTable<>(setRemarksWthAltItemsHandlers(configs));
+        }
+    }
+
     /**
      * Parse the runway visual range weather information
      *
+     * @param configs the configuration of the locale
      * @return IndexedLinkedHashMap
      */
-    public static final IndexedLinkedHashMap<String, String> setRVRWthItemsHandlers() {
+    public static final IndexedLinkedHashMap<String, String> setRVRWthItemsHandlers(Configs configs) {
         IndexedLinkedHashMap<String, String> rvrWthItemsHandlers;
         rvrWthItemsHandlers = new IndexedLinkedHashMap<>();
 
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("RVR_REPORTABLE_ABOVE"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_GREATER_THAN"));
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("RVR_REPORTABLE_BELOW"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_LESS_THAN"));
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("MISC_VALUE_UL"),
-                Configs.getInstance().getString("MISC_DECODED_VALUE_L"));
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("MISC_VALUE_UR"),
-                Configs.getInstance().getString("MISC_DECODED_VALUE_R"));
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("MISC_VALUE_UC"),
-                Configs.getInstance().getString("MISC_DECODED_VALUE_C"));
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("MISC_VALUE_UU"),
-                Configs.getInstance().getString("MISC_DECODED_VALUE_U"));
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("MISC_VALUE_UD"),
-                Configs.getInstance().getString("MISC_DECODED_VALUE_D"));
-        rvrWthItemsHandlers.put(Configs.getInstance().getString("MISC_VALUE_UN"),
-                Configs.getInstance().getString("MISC_DECODED_VALUE_N"));
-
-        LOGGER.debug("\n");
-        LOGGER.debug("RVR Weather Items Handler");
-        rvrWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug("RVR Weather Items Handler" + "\n");
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.RVR_REPORTABLE_ABOVE),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_GREATER_THAN));
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.RVR_REPORTABLE_BELOW),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_LESS_THAN));
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.MISC_VALUE_UL),
+                configs.getString(ConfigKey.MISC_DECODED_VALUE_L));
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.MISC_VALUE_UR),
+                configs.getString(ConfigKey.MISC_DECODED_VALUE_R));
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.MISC_VALUE_UC),
+                configs.getString(ConfigKey.MISC_DECODED_VALUE_C));
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.MISC_VALUE_UU),
+                configs.getString(ConfigKey.MISC_DECODED_VALUE_U));
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.MISC_VALUE_UD),
+                configs.getString(ConfigKey.MISC_DECODED_VALUE_D));
+        rvrWthItemsHandlers.put(configs.getString(ConfigKey.MISC_VALUE_UN),
+                configs.getString(ConfigKey.MISC_DECODED_VALUE_N));
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug("RVR Weather Items Handler");
+            rvrWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug("RVR Weather Items Handler" + "\n");
+        }
 
         return rvrWthItemsHandlers;
     }
@@ -67,39 +158,42 @@ public final class WthItemHandlers {
     /**
      * Parse the sky condition weather information
      *
+     * @param configs the configuration of the locale
      * @return IndexedLinkedHashMap
      */
-    public static final IndexedLinkedHashMap<String, String> setSkyCondWthItemsHandlers() {
+    public static final IndexedLinkedHashMap<String, String> setSkyCondWthItemsHandlers(Configs configs) {
         IndexedLinkedHashMap<String, String> skyCondWthItemsHandlers;
         skyCondWthItemsHandlers = new IndexedLinkedHashMap<>();
 
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_VERTICAL_VISIBILITY"),
-                Configs.getInstance().getString("SKY_COND_DECODED_VERTICAL_VISIBILITY"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_SKY_CLEAR"),
-                Configs.getInstance().getString("SKY_COND_DECODED_SKY_CLEAR"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_CLEAR"),
-                Configs.getInstance().getString("SKY_COND_DECODED_CLEAR"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_FEW"),
-                Configs.getInstance().getString("SKY_COND_DECODED_FEW"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_SCATTERED"),
-                Configs.getInstance().getString("SKY_COND_DECODED_SCATTERED"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_BROKEN"),
-                Configs.getInstance().getString("SKY_COND_DECODED_BROKEN"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_OVERCAST"),
-                Configs.getInstance().getString("SKY_COND_DECODED_OVERCAST"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_NO_CLOUDS_DETECTED"),
-                Configs.getInstance().getString("SKY_COND_DECODED_NO_CLOUDS_DETECTED"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("SKY_COND_NO_SIGNIFICANT_CLOUDS"),
-                Configs.getInstance().getString("SKY_COND_DECODED_NO_SIGNIFICANT_CLOUDS"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CUMULONIMBUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CUMULONIMBUS"));
-        skyCondWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_TOWERING_CUMULUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_TOWERING_CUMULUS"));
-
-        LOGGER.debug("\n");
-        LOGGER.debug("Sky Condition Weather Items Handler");
-        skyCondWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug("Sky Condition Weather Items Handler" + "\n");
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_VERTICAL_VISIBILITY),
+                configs.getString(ConfigKey.SKY_COND_DECODED_VERTICAL_VISIBILITY));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_SKY_CLEAR),
+                configs.getString(ConfigKey.SKY_COND_DECODED_SKY_CLEAR));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_CLEAR),
+                configs.getString(ConfigKey.SKY_COND_DECODED_CLEAR));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_FEW),
+                configs.getString(ConfigKey.SKY_COND_DECODED_FEW));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_SCATTERED),
+                configs.getString(ConfigKey.SKY_COND_DECODED_SCATTERED));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_BROKEN),
+                configs.getString(ConfigKey.SKY_COND_DECODED_BROKEN));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_OVERCAST),
+                configs.getString(ConfigKey.SKY_COND_DECODED_OVERCAST));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_NO_CLOUDS_DETECTED),
+                configs.getString(ConfigKey.SKY_COND_DECODED_NO_CLOUDS_DETECTED));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.SKY_COND_NO_SIGNIFICANT_CLOUDS),
+                configs.getString(ConfigKey.SKY_COND_DECODED_NO_SIGNIFICANT_CLOUDS));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CUMULONIMBUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CUMULONIMBUS));
+        skyCondWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_TOWERING_CUMULUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_TOWERING_CUMULUS));
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug("Sky Condition Weather Items Handler");
+            skyCondWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug("Sky Condition Weather Items Handler" + "\n");
+        }
 
         return skyCondWthItemsHandlers;
     }
@@ -107,83 +201,86 @@ public final class WthItemHandlers {
     /**
      * Parse the weather condition information
      *
+     * @param configs the configuration of the locale
      * @return IndexedLinkedHashMap
      */
-    public static final IndexedLinkedHashMap<String, String> setWeathCondWthItemsHandlers() {
+    public static final IndexedLinkedHashMap<String, String> setWeathCondWthItemsHandlers(Configs configs) {
         IndexedLinkedHashMap<String, String> weathCondWthItemsHandlers;
         weathCondWthItemsHandlers = new IndexedLinkedHashMap<>();
 
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_LIGHT"),
-                Configs.getInstance().getString("WEATHER_DECODED_LIGHT"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_HEAVY"),
-                Configs.getInstance().getString("WEATHER_DECODED_HEAVY"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SHALLOW"),
-                Configs.getInstance().getString("WEATHER_DECODED_SHALLOW"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_PARTIAL"),
-                Configs.getInstance().getString("WEATHER_DECODED_PARTIAL"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_PATCHES"),
-                Configs.getInstance().getString("WEATHER_DECODED_PATCHES"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_LOW_DRIFTING"),
-                Configs.getInstance().getString("WEATHER_DECODED_LOW_DRIFTING"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_BLOWING"),
-                Configs.getInstance().getString("WEATHER_DECODED_BLOWING"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SHOWERS"),
-                Configs.getInstance().getString("WEATHER_DECODED_SHOWERS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_THUNDERSTORMS"),
-                Configs.getInstance().getString("WEATHER_DECODED_THUNDERSTORMS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_FREEZING"),
-                Configs.getInstance().getString("WEATHER_DECODED_FREEZING"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_DRIZZLE"),
-                Configs.getInstance().getString("WEATHER_DECODED_DRIZZLE"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_RAIN"),
-                Configs.getInstance().getString("WEATHER_DECODED_RAIN"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SNOW"),
-                Configs.getInstance().getString("WEATHER_DECODED_SNOW"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SNOW_GRAINS"),
-                Configs.getInstance().getString("WEATHER_DECODED_SNOW_GRAINS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_ICE_CRYSTALS"),
-                Configs.getInstance().getString("WEATHER_DECODED_ICE_CRYSTALS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_ICE_PELLETS"),
-                Configs.getInstance().getString("WEATHER_DECODED_ICE_PELLETS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_HAIL"),
-                Configs.getInstance().getString("WEATHER_DECODED_HAIL"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SMALL_HAIL"),
-                Configs.getInstance().getString("WEATHER_DECODED_SMALL_HAIL"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_UNKNOWN_PRECIPITATION"),
-                Configs.getInstance().getString("WEATHER_DECODED_UNKNOWN_PRECIP"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_THUNDERSTORMS"),
-                Configs.getInstance().getString("WEATHER_DECODED_THUNDERSTORMS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_DUST_SAND_WHIRLS"),
-                Configs.getInstance().getString("WEATHER_DECODED_DUST_SAND_WHIRLS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SQUALLS"),
-                Configs.getInstance().getString("WEATHER_DECODED_SQUALLS"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_FUNNEL_CLOUD"),
-                Configs.getInstance().getString("WEATHER_DECODED_FUNNEL_CLOUD"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SAND_STORM"),
-                Configs.getInstance().getString("WEATHER_DECODED_SAND_STORM"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_DUST_STORM"),
-                Configs.getInstance().getString("WEATHER_DECODED_DUST_STORM"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_MIST"),
-                Configs.getInstance().getString("WEATHER_DECODED_MIST"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_FOG"),
-                Configs.getInstance().getString("WEATHER_DECODED_FOG"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SMOKE"),
-                Configs.getInstance().getString("WEATHER_DECODED_SMOKE"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_VOLCANIC_ASH"),
-                Configs.getInstance().getString("WEATHER_DECODED_VOLCANIC_ASH"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_WIDESPREAD_DUST"),
-                Configs.getInstance().getString("WEATHER_DECODED_WIDESPREAD_DUST"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SAND"),
-                Configs.getInstance().getString("WEATHER_DECODED_SAND"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_HAZE"),
-                Configs.getInstance().getString("WEATHER_DECODED_HAZE"));
-        weathCondWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_SPRAY"),
-                Configs.getInstance().getString("WEATHER_DECODED_SPRAY"));
-
-        LOGGER.debug("\n");
-        LOGGER.debug("Weather Condition Items Handler");
-        weathCondWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug("Weather Condition Items Handler" + "\n");
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_LIGHT),
+                configs.getString(ConfigKey.WEATHER_DECODED_LIGHT));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_HEAVY),
+                configs.getString(ConfigKey.WEATHER_DECODED_HEAVY));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SHALLOW),
+                configs.getString(ConfigKey.WEATHER_DECODED_SHALLOW));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_PARTIAL),
+                configs.getString(ConfigKey.WEATHER_DECODED_PARTIAL));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_PATCHES),
+                configs.getString(ConfigKey.WEATHER_DECODED_PATCHES));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_LOW_DRIFTING),
+                configs.getString(ConfigKey.WEATHER_DECODED_LOW_DRIFTING));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_BLOWING),
+                configs.getString(ConfigKey.WEATHER_DECODED_BLOWING));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SHOWERS),
+                configs.getString(ConfigKey.WEATHER_DECODED_SHOWERS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_THUNDERSTORMS),
+                configs.getString(ConfigKey.WEATHER_DECODED_THUNDERSTORMS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_FREEZING),
+                configs.getString(ConfigKey.WEATHER_DECODED_FREEZING));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_DRIZZLE),
+                configs.getString(ConfigKey.WEATHER_DECODED_DRIZZLE));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_RAIN),
+                configs.getString(ConfigKey.WEATHER_DECODED_RAIN));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SNOW),
+                configs.getString(ConfigKey.WEATHER_DECODED_SNOW));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SNOW_GRAINS),
+                configs.getString(ConfigKey.WEATHER_DECODED_SNOW_GRAINS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_ICE_CRYSTALS),
+                configs.getString(ConfigKey.WEATHER_DECODED_ICE_CRYSTALS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_ICE_PELLETS),
+                configs.getString(ConfigKey.WEATHER_DECODED_ICE_PELLETS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_HAIL),
+                configs.getString(ConfigKey.WEATHER_DECODED_HAIL));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SMALL_HAIL),
+                configs.getString(ConfigKey.WEATHER_DECODED_SMALL_HAIL));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_UNKNOWN_PRECIPITATION),
+                configs.getString(ConfigKey.WEATHER_DECODED_UNKNOWN_PRECIP));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_THUNDERSTORMS),
+                configs.getString(ConfigKey.WEATHER_DECODED_THUNDERSTORMS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_DUST_SAND_WHIRLS),
+                configs.getString(ConfigKey.WEATHER_DECODED_DUST_SAND_WHIRLS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SQUALLS),
+                configs.getString(ConfigKey.WEATHER_DECODED_SQUALLS));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_FUNNEL_CLOUD),
+                configs.getString(ConfigKey.WEATHER_DECODED_FUNNEL_CLOUD));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SAND_STORM),
+                configs.getString(ConfigKey.WEATHER_DECODED_SAND_STORM));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_DUST_STORM),
+                configs.getString(ConfigKey.WEATHER_DECODED_DUST_STORM));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_MIST),
+                configs.getString(ConfigKey.WEATHER_DECODED_MIST));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_FOG),
+                configs.getString(ConfigKey.WEATHER_DECODED_FOG));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SMOKE),
+                configs.getString(ConfigKey.WEATHER_DECODED_SMOKE));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_VOLCANIC_ASH),
+                configs.getString(ConfigKey.WEATHER_DECODED_VOLCANIC_ASH));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_WIDESPREAD_DUST),
+                configs.getString(ConfigKey.WEATHER_DECODED_WIDESPREAD_DUST));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SAND),
+                configs.getString(ConfigKey.WEATHER_DECODED_SAND));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_HAZE),
+                configs.getString(ConfigKey.WEATHER_DECODED_HAZE));
+        weathCondWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_SPRAY),
+                configs.getString(ConfigKey.WEATHER_DECODED_SPRAY));
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug("Weather Condition Items Handler");
+            weathCondWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug("Weather Condition Items Handler" + "\n");
+        }
 
         return weathCondWthItemsHandlers;
     }
@@ -191,155 +288,158 @@ public final class WthItemHandlers {
     /**
      * Parse the remarks weather information
      *
+     * @param configs the configuration of the locale
      * @return IndexedLinkedHashMap
      */
-    public static final IndexedLinkedHashMap<String, String> setRemarksWthItemsHandlers() {
+    public static final IndexedLinkedHashMap<String, String> setRemarksWthItemsHandlers(Configs configs) {
         IndexedLinkedHashMap<String, String> remarkWthItemsHandlers;
         remarkWthItemsHandlers = new IndexedLinkedHashMap<>();
 
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("PRESS_FALLING"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_FALLING_RAPIDLY"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("PRESS_RISING"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_RISING_RAPIDLY"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_TORNADO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_TORNADO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_FUNNEL_CLOUD"),
-                Configs.getInstance().getString("EXTENDED_DECODED_FUNNEL_CLOUD"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_WATERSPOUT"),
-                Configs.getInstance().getString("EXTENDED_DECODED_WATERSPOUT"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_BEGIN"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_BEGIN"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_END"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_ENDING"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_ICING"),
-                Configs.getInstance().getString("EXTENDED_DECODED_ICING"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_IN_CLD"),
-                Configs.getInstance().getString("WEATHER_DECODED_IN_CLD"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_IN_PRECIPITATION"),
-                Configs.getInstance().getString("WEATHER_DECODED_IN_PRECIPITATION"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_AUTO_A01"),
-                Configs.getInstance().getString("EXTENDED_DECODED_AUTO_AO1"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_AUTO_AO1"),
-                Configs.getInstance().getString("EXTENDED_DECODED_AUTO_AO1"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_AUTO_A02"),
-                Configs.getInstance().getString("EXTENDED_DECODED_AUTO_AO2"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_AUTO_AO2"),
-                Configs.getInstance().getString("EXTENDED_DECODED_AUTO_AO2"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_OHD"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_OHD"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_VC"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_VC"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_DISTANT"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_DISTANT"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_THUNDERSTORMS"),
-                Configs.getInstance().getString("WEATHER_DECODED_THUNDERSTORMS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CUMULONIMBUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CUMULONIMBUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_TOWERING_CUMULUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_TOWERING_CUMULUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_ALTOCUMULUS_CASTELLANUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_ALTOCUMULUS_CASTELLANUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CUMULONIMBUS_MAMMATUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CUMULONIMBUS_MAMMATUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_VIRGA"),
-                Configs.getInstance().getString("WEATHER_DECODED_VIRGA"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_OHD"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_OHD"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_VC"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_VC"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_DECODED_DISTANT"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_DISTANT"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_DISIPATED"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_DISIPATED"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_TOP"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_TOP"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("WEATHER_TRACE"),
-                Configs.getInstance().getString("WEATHER_DECODED_TRACE"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_6_HOUR_PRECIPITATION_AMOUNT"),
-                Configs.getInstance().getString("EXTENDED_DECODED_6_HOUR_PRECIPITATION"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_24_HOUR_PRECIPITATION_AMOUNT"),
-                Configs.getInstance().getString("EXTENDED_DECODED_24_HOUR_PRECIPITATION"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_INCR_DEACR"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_DEACR"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_INCR_STEADY_OR_INCR_INCR_SLOWLY"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_STEADY_OR_INCR_INCR_SLOWLY"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_INCR_STEADY_UNSTEADY"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_STEADY_UNSTEADY"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_DEACR_OR_STEADY_INCR"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_OR_STEADY_INCR"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_STEADY"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_STEADY"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_DEACR_INCR"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_INCR"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_DEACR_STEADY_OR_DEACR_DEACR_SLOWLY"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_STEADY_OR_DEACR_DEACR_SLOWLY"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_DEACR_STEADY_UNSTEADY"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_STEADY_UNSTEADY"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_PRESSURE_TENDENCY_STEADY_INCR_DEACR"),
-                Configs.getInstance().getString("EXTENDED_DECODED_PRESSURE_TENDENCY_STEADY_INCR_DEACR"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_1"),
-                Configs.getInstance().getString("SKY_COND_DECODED_FEW"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_2"),
-                Configs.getInstance().getString("SKY_COND_DECODED_FEW"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_3"),
-                Configs.getInstance().getString("SKY_COND_DECODED_SCATTERED"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_4"),
-                Configs.getInstance().getString("SKY_COND_DECODED_SCATTERED"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_5"),
-                Configs.getInstance().getString("SKY_COND_DECODED_BROKEN"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_6"),
-                Configs.getInstance().getString("SKY_COND_DECODED_BROKEN"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_7"),
-                Configs.getInstance().getString("SKY_COND_DECODED_BROKEN"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_OKTA_8"),
-                Configs.getInstance().getString("SKY_COND_DECODED_OVERCAST"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CUMULUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CUMULUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CUMULONIMBUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CUMULONIMBUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CUMULUS_FRACTUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CUMULUS_FRACTUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_STRATUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_STRATUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_STRATUS_FRACTUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_STRATUS_FRACTUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_STRATOCUMULUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_STRATOCUMULUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_NIMBOSTRATUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_NIMBOSTRATUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_ALTOSTRATUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_ALTOSTRATUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_ALTOCUMULUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_ALTOCUMULUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CIRROSTRATUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CIRROSTRATUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CIRROCUMULUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CIRROCUMULUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("CLOUD_CIRRUS"),
-                Configs.getInstance().getString("CLOUD_DECODED_CIRRUS"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_MOVG"),
-                Configs.getInstance().getString("LOC_TIME_DECODED_MOVNG"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_SENSOR_STATUS_INDICATOR_RVRNO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_RVRNO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_SENSOR_STATUS_INDICATOR_PWINO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_PWINO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_SENSOR_STATUS_INDICATOR_PNO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_PNO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_SENSOR_STATUS_INDICATOR_FZRANO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_FZRANO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_SENSOR_STATUS_INDICATOR_TSNO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_TSNO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_SENSOR_STATUS_INDICATOR_VISNO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_VISNO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_SENSOR_STATUS_INDICATOR_CHINO"),
-                Configs.getInstance().getString("EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_CHINO"));
-        remarkWthItemsHandlers.put(Configs.getInstance().getString("EXTENDED_MAINTENANCE_CHECK_INDICATOR"),
-                Configs.getInstance().getString("EXTENDED_DECODED_MAINTENANCE_CHECK_INDICATOR"));
-
-        LOGGER.debug("\n");
-        LOGGER.debug("Remarks Weather Items Handler");
-        remarkWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug("Remarks Weather Items Handler" + "\n");
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.PRESS_FALLING),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_FALLING_RAPIDLY));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.PRESS_RISING),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_RISING_RAPIDLY));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_TORNADO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_TORNADO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_FUNNEL_CLOUD),
+                configs.getString(ConfigKey.EXTENDED_DECODED_FUNNEL_CLOUD));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_WATERSPOUT),
+                configs.getString(ConfigKey.EXTENDED_DECODED_WATERSPOUT));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_BEGIN),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_BEGIN));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_END),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_ENDING));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_ICING),
+                configs.getString(ConfigKey.EXTENDED_DECODED_ICING));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_IN_CLD),
+                configs.getString(ConfigKey.WEATHER_DECODED_IN_CLD));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_IN_PRECIPITATION),
+                configs.getString(ConfigKey.WEATHER_DECODED_IN_PRECIPITATION));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_AUTO_A01),
+                configs.getString(ConfigKey.EXTENDED_DECODED_AUTO_AO1));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_AUTO_AO1),
+                configs.getString(ConfigKey.EXTENDED_DECODED_AUTO_AO1));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_AUTO_A02),
+                configs.getString(ConfigKey.EXTENDED_DECODED_AUTO_AO2));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_AUTO_AO2),
+                configs.getString(ConfigKey.EXTENDED_DECODED_AUTO_AO2));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_OHD),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_OHD));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_VC),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_VC));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_DISTANT),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_DISTANT));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_THUNDERSTORMS),
+                configs.getString(ConfigKey.WEATHER_DECODED_THUNDERSTORMS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CUMULONIMBUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CUMULONIMBUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_TOWERING_CUMULUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_TOWERING_CUMULUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_ALTOCUMULUS_CASTELLANUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_ALTOCUMULUS_CASTELLANUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CUMULONIMBUS_MAMMATUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CUMULONIMBUS_MAMMATUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_VIRGA),
+                configs.getString(ConfigKey.WEATHER_DECODED_VIRGA));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_OHD),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_OHD));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_VC),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_VC));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_DECODED_DISTANT),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_DISTANT));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_DISIPATED),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_DISIPATED));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_TOP),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_TOP));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.WEATHER_TRACE),
+                configs.getString(ConfigKey.WEATHER_DECODED_TRACE));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_6_HOUR_PRECIPITATION_AMOUNT),
+                configs.getString(ConfigKey.EXTENDED_DECODED_6_HOUR_PRECIPITATION));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_24_HOUR_PRECIPITATION_AMOUNT),
+                configs.getString(ConfigKey.EXTENDED_DECODED_24_HOUR_PRECIPITATION));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_INCR_DEACR),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_DEACR));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_INCR_STEADY_OR_INCR_INCR_SLOWLY),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_STEADY_OR_INCR_INCR_SLOWLY));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_INCR_STEADY_UNSTEADY),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_INCR_STEADY_UNSTEADY));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_DEACR_OR_STEADY_INCR),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_OR_STEADY_INCR));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_STEADY),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_STEADY));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_DEACR_INCR),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_INCR));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_DEACR_STEADY_OR_DEACR_DEACR_SLOWLY),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_STEADY_OR_DEACR_DEACR_SLOWLY));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_DEACR_STEADY_UNSTEADY),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_DEACR_STEADY_UNSTEADY));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_PRESSURE_TENDENCY_STEADY_INCR_DEACR),
+                configs.getString(ConfigKey.EXTENDED_DECODED_PRESSURE_TENDENCY_STEADY_INCR_DEACR));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_1),
+                configs.getString(ConfigKey.SKY_COND_DECODED_FEW));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_2),
+                configs.getString(ConfigKey.SKY_COND_DECODED_FEW));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_3),
+                configs.getString(ConfigKey.SKY_COND_DECODED_SCATTERED));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_4),
+                configs.getString(ConfigKey.SKY_COND_DECODED_SCATTERED));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_5),
+                configs.getString(ConfigKey.SKY_COND_DECODED_BROKEN));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_6),
+                configs.getString(ConfigKey.SKY_COND_DECODED_BROKEN));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_7),
+                configs.getString(ConfigKey.SKY_COND_DECODED_BROKEN));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_OKTA_8),
+                configs.getString(ConfigKey.SKY_COND_DECODED_OVERCAST));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CUMULUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CUMULUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CUMULONIMBUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CUMULONIMBUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CUMULUS_FRACTUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CUMULUS_FRACTUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_STRATUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_STRATUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_STRATUS_FRACTUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_STRATUS_FRACTUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_STRATOCUMULUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_STRATOCUMULUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_NIMBOSTRATUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_NIMBOSTRATUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_ALTOSTRATUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_ALTOSTRATUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_ALTOCUMULUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_ALTOCUMULUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CIRROSTRATUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CIRROSTRATUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CIRROCUMULUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CIRROCUMULUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.CLOUD_CIRRUS),
+                configs.getString(ConfigKey.CLOUD_DECODED_CIRRUS));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_MOVG),
+                configs.getString(ConfigKey.LOC_TIME_DECODED_MOVNG));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_SENSOR_STATUS_INDICATOR_RVRNO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_RVRNO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_SENSOR_STATUS_INDICATOR_PWINO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_PWINO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_SENSOR_STATUS_INDICATOR_PNO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_PNO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_SENSOR_STATUS_INDICATOR_FZRANO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_FZRANO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_SENSOR_STATUS_INDICATOR_TSNO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_TSNO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_SENSOR_STATUS_INDICATOR_VISNO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_VISNO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_SENSOR_STATUS_INDICATOR_CHINO),
+                configs.getString(ConfigKey.EXTENDED_DECODED_SENSOR_STATUS_INDICATOR_CHINO));
+        remarkWthItemsHandlers.put(configs.getString(ConfigKey.EXTENDED_MAINTENANCE_CHECK_INDICATOR),
+                configs.getString(ConfigKey.EXTENDED_DECODED_MAINTENANCE_CHECK_INDICATOR));
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug("Remarks Weather Items Handler");
+            remarkWthItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug("Remarks Weather Items Handler" + "\n");
+        }
 
         return remarkWthItemsHandlers;
     }
@@ -347,41 +447,44 @@ public final class WthItemHandlers {
     /**
      * Parse the remarks weather alternate information
      *
+     * @param configs the configuration of the locale
      * @return IndexedLinkedHashMap
      */
-    public static final IndexedLinkedHashMap<String, Pair<String, String>> setRemarksWthAltItemsHandlers() {
+    public static final IndexedLinkedHashMap<String, Pair<String, String>> setRemarksWthAltItemsHandlers(Configs configs) {
         IndexedLinkedHashMap<String, Pair<String, String>> remarkWthAltItemsHandlers;
         remarkWthAltItemsHandlers = new IndexedLinkedHashMap<>();
 
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_OCCASIONAL"),
-                Pair.with(Configs.getInstance().getString("LOC_TIME_DECODED_OCCASIONAL"),
-                        Configs.getInstance().getString("EXTENDED_DECODED_LTNG_FREQ_LESS_1")));
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_FREQUENT"),
-                Pair.with(Configs.getInstance().getString("LOC_TIME_DECODED_FREQUENT"),
-                        Configs.getInstance().getString("EXTENDED_DECODED_LTNG_FREQ_1_TO_6")));
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("LOC_TIME_CONTINUOUS"),
-                Pair.with(Configs.getInstance().getString("LOC_TIME_DECODED_CONTINUOUS"),
-                        Configs.getInstance().getString("EXTENDED_DECODED_LTNG_FREQ_MORE_6")));
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("WEATHER_IN_CLD"),
-                Pair.with(Configs.getInstance().getString("WEATHER_DECODED_IN_CLD"),
-                        Configs.getInstance().getString("WEATHER_DECODED_LIGHTNING_OBSERVED")));
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("WEATHER_CLD_TO_CLD"),
-                Pair.with(Configs.getInstance().getString("WEATHER_DECODED_CLD_TO_CLD"),
-                        Configs.getInstance().getString("WEATHER_DECODED_LIGHTNING_OBSERVED")));
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("WEATHER_CLD_GRND"),
-                Pair.with(Configs.getInstance().getString("WEATHER_DECODED_CLD_GRND"),
-                        Configs.getInstance().getString("WEATHER_DECODED_LIGHTNING_OBSERVED")));
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("WEATHER_CLD_TO_AIR"),
-                Pair.with(Configs.getInstance().getString("WEATHER_DECODED_CLD_TO_AIR"),
-                        Configs.getInstance().getString("WEATHER_DECODED_LIGHTNING_OBSERVED")));
-        remarkWthAltItemsHandlers.put(Configs.getInstance().getString("WEATHER_CLD_TO_WATER"),
-                Pair.with(Configs.getInstance().getString("WEATHER_DECODED_CLD_TO_WATER"),
-                        Configs.getInstance().getString("WEATHER_DECODED_LIGHTNING_OBSERVED")));
-
-        LOGGER.debug("\n");
-        LOGGER.debug("Remarks Weather Alternate Items Handler");
-        remarkWthAltItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
-        LOGGER.debug("Remarks Weather Alternate Items Handler" + "\n");
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_OCCASIONAL),
+                Pair.with(configs.getString(ConfigKey.LOC_TIME_DECODED_OCCASIONAL),
+                        configs.getString(ConfigKey.EXTENDED_DECODED_LTNG_FREQ_LESS_1)));
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_FREQUENT),
+                Pair.with(configs.getString(ConfigKey.LOC_TIME_DECODED_FREQUENT),
+                        configs.getString(ConfigKey.EXTENDED_DECODED_LTNG_FREQ_1_TO_6)));
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.LOC_TIME_CONTINUOUS),
+                Pair.with(configs.getString(ConfigKey.LOC_TIME_DECODED_CONTINUOUS),
+                        configs.getString(ConfigKey.EXTENDED_DECODED_LTNG_FREQ_MORE_6)));
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.WEATHER_IN_CLD),
+                Pair.with(configs.getString(ConfigKey.WEATHER_DECODED_IN_CLD),
+                        configs.getString(ConfigKey.WEATHER_DECODED_LIGHTNING_OBSERVED)));
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.WEATHER_CLD_TO_CLD),
+                Pair.with(configs.getString(ConfigKey.WEATHER_DECODED_CLD_TO_CLD),
+                        configs.getString(ConfigKey.WEATHER_DECODED_LIGHTNING_OBSERVED)));
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.WEATHER_CLD_GRND),
+                Pair.with(configs.getString(ConfigKey.WEATHER_DECODED_CLD_GRND),
+                        configs.getString(ConfigKey.WEATHER_DECODED_LIGHTNING_OBSERVED)));
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.WEATHER_CLD_TO_AIR),
+                Pair.with(configs.getString(ConfigKey.WEATHER_DECODED_CLD_TO_AIR),
+                        configs.getString(ConfigKey.WEATHER_DECODED_LIGHTNING_OBSERVED)));
+        remarkWthAltItemsHandlers.put(configs.getString(ConfigKey.WEATHER_CLD_TO_WATER),
+                Pair.with(configs.getString(ConfigKey.WEATHER_DECODED_CLD_TO_WATER),
+                        configs.getString(ConfigKey.WEATHER_DECODED_LIGHTNING_OBSERVED)));
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("\n");
+            LOGGER.debug("Remarks Weather Alternate Items Handler");
+            remarkWthAltItemsHandlers.forEach((k, v) -> LOGGER.debug((k + ":" + v)));
+            LOGGER.debug("Remarks Weather Alternate Items Handler" + "\n");
+        }
 
         return remarkWthAltItemsHandlers;
     }
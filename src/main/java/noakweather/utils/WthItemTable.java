@@ -0,0 +1,166 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class representing an immutable table of weather items, a code of a report
+ * (FEW, +, RA, ...) and its decoded phrase. The items keep the order they are
+ * given in. The hash seed is searched when the table is built so that every
+ * code is in its home slot, a lookup is one hash and one equals. Tables are
+ * shared by all the reports decoded with one configuration, see
+ * WthItemHandlers
+ *
+ * Author: quark95cos Since: Copyright(c) 2022
+ *
+ * @param <V> the type of the decoded values
+ */
+public final class WthItemTable<V> {
+
+    private static final int MAX_SEEDS = 64;
+    private static final int MAX_GROWTH = 8;
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int[] slots;
+    private final int mask;
+    private final int seed;
+
+    /**
+     * Constructor
+     *
+     * @param items the codes and their values, in order
+     */
+    public WthItemTable(Map<String, ? extends V> items) {
+        this.keys = new String[items.size()];
+        this.values = new Object[items.size()];
+        int i = 0;
+        for (Map.Entry<String, ? extends V> item : items.entrySet()) {
+            keys[i] = Objects.requireNonNull(item.getKey());
+            values[i] = item.getValue();
+            i++;
+        }
+
+        int minCapacity = Integer.highestOneBit(Math.max(keys.length, 1)) << 2;
+        int capacity = minCapacity;
+        int found = -1;
+        // Look for a seed without collisions, else keep linear probing
+        while (found < 0 && capacity <= minCapacity * MAX_GROWTH) {
+            for (int s = 0; s < MAX_SEEDS && found < 0; s++) {
+                if (isPerfect(keys, capacity - 1, s)) {
+                    found = s;
+                }
+            }
+            if (found < 0) {
+                capacity <<= 1;
+            }
+        }
+        if (found < 0) {
+            capacity = minCapacity;
+        }
+        this.mask = capacity - 1;
+        this.seed = Math.max(found, 0);
+        this.slots = new int[capacity];
+        for (i = 0; i < keys.length; i++) {
+            int slot = hash(keys[i], seed) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Get the index of a code
+     *
+     * @param key the code
+     * @return index of the code, -1 when it is not in the table
+     */
+    public int getIndexOf(String key) {
+        if (key == null) {
+            return -1;
+        }
+        for (int slot = hash(key, seed) & mask;; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (index < 0 || keys[index].equals(key)) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Get the value at index
+     *
+     * @param i
+     * @return value
+     * @throws IndexOutOfBoundsException when there is no such index
+     */
+    @SuppressWarnings("unchecked")
+    public V getValueAtIndex(int i) {
+        return (V) values[Objects.checkIndex(i, values.length)];
+    }
+
+    /**
+     * Get the code at index
+     *
+     * @param i
+     * @return code
+     * @throws IndexOutOfBoundsException when there is no such index
+     */
+    public String getKeyAtIndex(int i) {
+        return keys[Objects.checkIndex(i, keys.length)];
+    }
+
+    /**
+     * Get the value of a code
+     *
+     * @param key the code
+     * @return value
+     * @throws IndexOutOfBoundsException when the code is not in the table
+     */
+    public V getValue(String key) {
+        return getValueAtIndex(getIndexOf(key));
+    }
+
+    /**
+     * Get the number of items
+     *
+     * @return size
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private static boolean isPerfect(String[] keys, int mask, int seed) {
+        boolean[] used = new boolean[mask + 1];
+        for (String key : keys) {
+            int slot = hash(key, seed) & mask;
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    private static int hash(String key, int seed) {
+        int h = (key.hashCode() + seed) * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+}
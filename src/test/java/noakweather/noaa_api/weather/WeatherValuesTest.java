@@ -0,0 +1,147 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.weather;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.utils.Configs;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the primitive getters of the weather values: NaN where the boxed
+ * getters return null, the boxed value otherwise.
+ *
+ * @author quark95cos
+ */
+public class WeatherValuesTest {
+
+    private static final String METAR
+            = "2021/12/28 09:45 KMSP 280945Z 31018G27KT 2SM -SN BLSN VV010 M17/M21 A3036 "
+            + "RMK AO2 SLP327 T11721206";
+
+    public WeatherValuesTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    /**
+     * Test the values not known are NaN, null when boxed.
+     */
+    @Test
+    public void testNotKnown() {
+        Temperature temperature = new Temperature();
+        assertTrue(Double.isNaN(temperature.getTemperatureAsDouble()));
+        assertTrue(Double.isNaN(temperature.getTemperatureInFahrenheitAsDouble()));
+        assertNull(temperature.getTemperature());
+        assertNull(temperature.getTemperatureInFahrenheit());
+
+        Pressure pressure = new Pressure();
+        assertTrue(Double.isNaN(pressure.getPressureAsDouble()));
+        assertTrue(Double.isNaN(pressure.getSLPressureInHectoPascalsAsDouble()));
+        assertNull(pressure.getPressure());
+        assertNull(pressure.getSLPressure());
+
+        Wind wind = new Wind();
+        wind.setWindGusts(null);
+        assertTrue(Double.isNaN(wind.getWindGustsInMPHAsDouble()));
+        assertNull(wind.getWindGustsInMPH());
+        assertEquals(0.0, wind.getWindSpeedInKnotsAsDouble());
+    }
+
+    /**
+     * Test the primitive getters match the boxed getters on a report.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testReport() throws UtilsException {
+        Metar metar = new Metar();
+        metar.parse(METAR);
+
+        Temperature temperature = metar.getTemperature();
+        assertEquals(-17.0, temperature.getTemperatureAsDouble());
+        assertEquals(-21.0, temperature.getDewpointAsDouble());
+        assertEquals(-17.2, temperature.getHourlyTemperatureAsDouble());
+        assertEquals(temperature.getTemperatureInFahrenheit(),
+                temperature.getTemperatureInFahrenheitAsDouble());
+
+        Wind wind = metar.getWind();
+        assertEquals(18.0, wind.getWindSpeedInKnotsAsDouble());
+        assertEquals(27.0, wind.getWindGustsInKnotsAsDouble());
+        assertEquals(wind.getWindSpeedInMPH(), wind.getWindSpeedInMPHAsDouble());
+
+        Visibility visibility = metar.getVisibility();
+        assertEquals(2.0, visibility.getVisibilityMilesAsDouble());
+        assertEquals(visibility.getVisibilityKilometers(),
+                visibility.getVisibilityKilometersAsDouble());
+
+        Pressure pressure = metar.getPressure();
+        assertEquals(30.36, pressure.getPressureAsDouble());
+        assertEquals(pressure.getPressureInHectoPascals(),
+                pressure.getPressureInHectoPascalsAsDouble());
+    }
+
+    /**
+     * Test the items are set from the matcher of a pattern, as by a caller
+     * outside of the parser plans.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testMatcherItems() throws UtilsException {
+        Wind wind = new Wind();
+        wind.setMainWindItems(match(RegExprConst.WIND_PATTERN, "31018G27KT "), 'M');
+        assertEquals(18.0, wind.getWindSpeedInKnotsAsDouble());
+        assertEquals(27.0, wind.getWindGustsInKnotsAsDouble());
+
+        Visibility visibility = new Visibility();
+        visibility.setVisibilityItems(match(RegExprConst.VISIBILITY_PATTERN, "2SM "));
+        assertEquals(2.0, visibility.getVisibilityMilesAsDouble());
+
+        Temperature temperature = new Temperature();
+        temperature.setTemperatureItems(match(RegExprConst.TEMP_DEWPOINT_PATTERN, "M17/M21 "));
+        assertEquals(-17.0, temperature.getTemperatureAsDouble());
+        assertEquals(-21.0, temperature.getDewpointAsDouble());
+
+        Pressure pressure = new Pressure();
+        pressure.setPressureItems(match(RegExprConst.ALTIMETER_PATTERN, "A3036 "));
+        assertEquals(30.36, pressure.getPressureAsDouble());
+
+        // A matcher with no match is refused
+        assertThrows(IllegalStateException.class, () -> new Wind()
+                .setMainWindItems(RegExprConst.WIND_PATTERN.matcher("31018G27KT "), 'M'));
+    }
+
+    private static Matcher match(Pattern pattern, String token) {
+        Matcher matcher = pattern.matcher(token);
+        assertTrue(matcher.lookingAt(), token);
+        return matcher;
+    }
+}
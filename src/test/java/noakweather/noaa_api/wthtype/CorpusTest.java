@@ -0,0 +1,482 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.wthtype;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import noakweather.utils.Configs;
+import noakweather.utils.ParserMode;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Decodes the METAR and TAF corpus in src/test/resources/corpus and compares
+ * the printed reports with the golden output recorded from the original
+ * parser. Any change to the parse engine must keep the output byte for byte
+ * identical.
+ *
+ * @author quark95cos
+ */
+public class CorpusTest {
+
+    private static TimeZone defaultTimeZone;
+
+    public CorpusTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        // The printed dates depend on the default time zone
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    /**
+     * Test the METAR corpus against the golden output.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testMetarCorpus() throws IOException {
+        assertEquals(read("metar.golden"), decode(read("metar.txt"), 'm'));
+    }
+
+    /**
+     * Test the TAF corpus against the golden output.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testTafCorpus() throws IOException {
+        assertEquals(read("taf.golden"), decode(read("taf.txt"), 't'));
+    }
+
+    /**
+     * Test the METAR corpus decoded with the fast lexer against the golden
+     * output.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testMetarCorpusFast() throws IOException {
+        assertEquals(read("metar.golden"),
+                decode(read("metar.txt"), 'm', ParserMode.FAST));
+    }
+
+    /**
+     * Test the TAF corpus decoded with the fast lexer against the golden
+     * output.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testTafCorpusFast() throws IOException {
+        assertEquals(read("taf.golden"),
+                decode(read("taf.txt"), 't', ParserMode.FAST));
+    }
+
+    /**
+     * Test the METAR corpus decoded lazily against the golden output. The
+     * reports the original parser could not decode are left out, a lazy
+     * report only fails when a field is read (see
+     * testMetarCorpusLazyFailures).
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testMetarCorpusLazy() throws IOException {
+        String golden = withoutExceptions(read("metar.golden"));
+        assertEquals(golden, decode(lines(golden), 'm', ParserMode.REGEX, metar -> {
+        }));
+    }
+
+    /**
+     * Test the METAR corpus decoded lazily, with the fields that the remarks
+     * add to read before the rest, against the golden output.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testMetarCorpusLazyAccess() throws IOException {
+        String golden = withoutExceptions(read("metar.golden"));
+        assertEquals(golden, decode(lines(golden), 'm', ParserMode.FAST, metar -> {
+            metar.getPressure();
+            metar.getParseString();
+            metar.getTemperature();
+            metar.getSkyConditions();
+            metar.getWind();
+            metar.getRemarks();
+        }));
+    }
+
+    /**
+     * Test the reports the original parser could not decode fail lazily too,
+     * when their fields are read.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testMetarCorpusLazyFailures() throws IOException {
+        StringBuilder failures = new StringBuilder();
+        for (String block : read("metar.golden").split("(?m)^(?=### )")) {
+            if (block.contains("\nEXCEPTION ")) {
+                failures.append(block);
+            }
+        }
+        String output = decode(lines(failures.toString()), 'm', ParserMode.REGEX, metar -> {
+            metar.getStationID();
+            metar.getWind();
+            metar.getVisibility();
+            metar.getTemperature();
+            metar.getPressure();
+            metar.getSkyConditions();
+            metar.getWeatherConditions();
+            metar.getRunwayVisualRanges();
+            metar.getRemarks();
+            metar.getParseString();
+        });
+        for (String block : output.split("(?m)^(?=### )")) {
+            assertTrue(block.contains("\nEXCEPTION "), block);
+        }
+    }
+
+    /**
+     * Test a group that fails to decode surfaces when a field of a lazy
+     * report is read, and on every read after it.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testLazyDecodeError() throws UtilsException {
+        String report = "2021/12/28 20:00 KXYZ 282000Z /////KT //// // ////// A////";
+        assertThrows(UtilsException.class, () -> new Metar().parse(report));
+
+        Metar metar = new Metar();
+        metar.setLazy(true);
+        metar.parse(report);
+        // The wind group decodes, the present weather group does not
+        assertNotNull(metar.getWind());
+        assertNull(metar.getDecodeError());
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                metar::getWeatherConditions);
+        assertNotNull(metar.getDecodeError());
+        assertSame(metar.getDecodeError(), e.getCause());
+        assertThrows(IllegalStateException.class, metar::getWeatherConditions);
+        assertThrows(IllegalStateException.class, metar::getWind);
+    }
+
+    /**
+     * Test a lazy report only decodes the fields that are read.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testLazyDecodesOnAccess() throws UtilsException {
+        Metar metar = new Metar();
+        metar.setLazy(true);
+        metar.parse("2021/12/28 01:53 KSEG 280153Z AUTO VRB03KT 7SM OVC014 01/00 A2983 "
+                + "RMK AO2 RAB35E50UPB50E53 SLP104 P0002 T00110000");
+        assertNotNull(metar.getWind());
+        assertEquals("KSEG", metar.getStationID());
+        assertNull(metar.skyCondition);
+        assertNull(metar.remarks);
+        // The sea level pressure remark adds to the pressure, the rest of
+        // the remarks stay to be decoded
+        assertNotNull(metar.getPressure().getSLPressure());
+        assertNull(metar.remarks);
+        assertNotNull(metar.getRemarks());
+        assertEquals(1, metar.getSkyConditions().size());
+    }
+
+    /**
+     * Test the parse only keeps the decoded groups, their natural language is
+     * rendered once when it is read.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testRenderOnRead() throws UtilsException {
+        Metar metar = new Metar();
+        metar.parse("2021/12/28 15:00 KSEA 281500Z 17008KT 4SM R16L/2600V4000FT -RA BR "
+                + "FEW005 BKN009 OVC020 09/08 A2985 RMK AO2 T00890078");
+        assertEquals(3, metar.getSkyConditionList().size());
+        assertEquals(2, metar.getWeatherConditionList().size());
+        assertEquals(1, metar.getRunwayVisualRangeList().size());
+
+        assertEquals(Arrays.asList("1 Few clouds at 500 feet", "2 Broken clouds at 900 feet",
+                "3 Overcast at 2000 feet"), List.copyOf(metar.getSkyConditions().values()));
+        assertEquals(metar.getSkyConditionList(), List.copyOf(metar.getSkyConditions().keySet()));
+        assertEquals(Arrays.asList("Light Rain", "Moderate Mist"),
+                List.copyOf(metar.getWeatherConditions().values()));
+        assertEquals(metar.getRunwayVisualRangeList().get(0).getNaturalLanguageString(),
+                metar.getRunwayVisualRanges().getValueAtIndex(0));
+        assertSame(metar.getSkyConditions(), metar.getSkyConditions());
+        assertNull(new Metar().getSkyConditions());
+    }
+
+    /**
+     * Test a projection only decodes its fields, and skips the remarks
+     * section unless it asks for the remarks.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testProjection() throws UtilsException {
+        String report = "2021/12/28 01:53 KSEG 280153Z AUTO VRB03KT 7SM OVC014 01/00 A2983 "
+                + "RMK AO2 RAB35E50UPB50E53 SLP104 P0002 T00110000";
+        Metar eager = new Metar();
+        eager.parse(report);
+
+        Metar metar = new Metar();
+        metar.parse(report, EnumSet.of(MetarField.WIND, MetarField.ALTIMETER,
+                MetarField.TEMPERATURE));
+        assertEquals("KSEG", metar.getStationID());
+        assertEquals(eager.getWind().getWindSpeedInKnots(), metar.getWind().getWindSpeedInKnots());
+        assertEquals(eager.getPressure().getPressure(), metar.getPressure().getPressure());
+        assertEquals(eager.getTemperature().getTemperatureInCelsius(),
+                metar.getTemperature().getTemperatureInCelsius());
+        assertNull(metar.getVisibility());
+        assertNull(metar.getSkyConditions());
+        // The remarks section is skipped, so the remark additions are too
+        assertNull(metar.getRemarks());
+        assertNull(metar.getParseString());
+
+        metar = new Metar();
+        metar.parse(report, EnumSet.of(MetarField.REMARKS));
+        assertEquals(eager.getRemarks().getDecodedRemarksString().toString(),
+                metar.getRemarks().getDecodedRemarksString().toString());
+        assertEquals(eager.getPressure().getSLPressure(), metar.getPressure().getSLPressure());
+        assertNull(metar.getSkyConditions());
+    }
+
+    /**
+     * Test the METAR corpus decoded in parallel with explicit configurations
+     * of two locales gives the reports of the default configuration.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testExplicitConfigs() throws IOException {
+        List<String> reports = Arrays.asList(lines(withoutExceptions(read("metar.golden"))).split("\n"));
+        List<String> expected = reports.stream()
+                .map(line -> summary(new Metar(), line))
+                .collect(Collectors.toList());
+        for (Locale locale : new Locale[]{Locale.ENGLISH, Locale.UK}) {
+            Configs configs = Configs.forLocale(locale);
+            List<String> actual = reports.parallelStream()
+                    .map(line -> summary(new Metar(configs), line))
+                    .collect(Collectors.toList());
+            assertEquals(expected, actual, locale.toString());
+        }
+        assertEquals(Locale.ENGLISH, Configs.getInstance().getLocale());
+    }
+
+    /**
+     * Test the METAR corpus parsed in batches on several threads gives the
+     * reports of a sequential parse, in the same order.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testParseAll() throws IOException {
+        List<String> reports = Arrays.asList(lines(withoutExceptions(read("metar.golden"))).split("\n"));
+        List<String> repeated = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            repeated.addAll(reports);
+        }
+        List<String> expected = repeated.stream()
+                .map(line -> summary(new Metar(), line))
+                .collect(Collectors.toList());
+        List<String> corpus = Arrays.asList(lines(read("metar.golden")).split("\n"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Metar> metars = Metar.parseAll(repeated, executor);
+            assertEquals(expected, metars.stream()
+                    .map(CorpusTest::summary)
+                    .collect(Collectors.toList()));
+
+            // The reports that fail to parse are left null
+            List<Metar> all = Metar.parseAll(corpus, executor);
+            assertEquals(corpus.size(), all.size());
+            for (int i = 0; i < corpus.size(); i++) {
+                boolean failed;
+                try {
+                    Metar.parseOne(corpus.get(i));
+                    failed = false;
+                } catch (UtilsException | RuntimeException e) {
+                    failed = true;
+                }
+                assertEquals(failed, all.get(i) == null, corpus.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(expected, repeated.parallelStream()
+                .map(line -> {
+                    try {
+                        return summary(Metar.parseOne(line));
+                    } catch (UtilsException e) {
+                        return "EXCEPTION " + e.getClass().getName();
+                    }
+                })
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Parse the report and summarize the fields rendered with the
+     * configuration of the report
+     */
+    private static String summary(Metar metar, String line) {
+        try {
+            metar.parse(line);
+        } catch (UtilsException e) {
+            return "EXCEPTION " + e.getClass().getName();
+        }
+        return summary(metar);
+    }
+
+    /**
+     * Summarize the fields of a parsed report
+     */
+    private static String summary(Metar metar) {
+        return metar.getStationID()
+                + " " + (metar.getWind() == null ? null : metar.getWind().getWindDirectionCompass())
+                + " " + (metar.getWeatherConditions() == null ? null
+                        : metar.getWeatherConditions().values())
+                + " " + (metar.getSkyConditions() == null ? null
+                        : metar.getSkyConditions().values())
+                + " " + (metar.getRemarks() == null ? null
+                        : metar.getRemarks().getDecodedRemarksString().toString());
+    }
+
+    /**
+     * Decode every line of the corpus and capture the printed report. The
+     * output is "### " followed by the line, then the print() output or the
+     * exception class name when the report cannot be decoded.
+     */
+    static String decode(String corpus, char type) {
+        return decode(corpus, type, ParserMode.REGEX);
+    }
+
+    static String decode(String corpus, char type, ParserMode mode) {
+        return decode(corpus, type, mode, null);
+    }
+
+    /**
+     * Decode every line of the corpus. When lazyAccess is set the METAR
+     * reports are lazy and lazyAccess reads them before they are printed.
+     */
+    static String decode(String corpus, char type, ParserMode mode, Consumer<Metar> lazyAccess) {
+        StringBuilder out = new StringBuilder();
+        PrintStream stdout = System.out;
+        try {
+            for (String line : corpus.split("\n", -1)) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                out.append("### ").append(line).append('\n');
+                ByteArrayOutputStream buf = new ByteArrayOutputStream();
+                System.setOut(new PrintStream(buf, true, StandardCharsets.UTF_8));
+                try {
+                    if (type == 'm') {
+                        Metar metar = new Metar();
+                        metar.setParserMode(mode);
+                        metar.setLazy(lazyAccess != null);
+                        metar.parse(line);
+                        if (lazyAccess != null) {
+                            lazyAccess.accept(metar);
+                        }
+                        metar.print();
+                    } else {
+                        Taf taf = new Taf();
+                        taf.setParserMode(mode);
+                        taf.parse(line);
+                        taf.print();
+                    }
+                } catch (Exception e) {
+                    System.out.println("EXCEPTION " + e.getClass().getName());
+                } finally {
+                    System.setOut(stdout);
+                }
+                out.append(buf.toString(StandardCharsets.UTF_8));
+            }
+        } finally {
+            System.setOut(stdout);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Remove the reports that could not be decoded from the output
+     */
+    static String withoutExceptions(String output) {
+        StringBuilder out = new StringBuilder();
+        for (String block : output.split("(?m)^(?=### )")) {
+            if (!block.contains("\nEXCEPTION ")) {
+                out.append(block);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Get the corpus lines of the output
+     */
+    static String lines(String output) {
+        StringBuilder out = new StringBuilder();
+        for (String line : output.split("\n")) {
+            if (line.startsWith("### ")) {
+                out.append(line.substring(4)).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    static String read(String name) throws IOException {
+        try (InputStream in = CorpusTest.class.getResourceAsStream("/corpus/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.wthtype;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import noakweather.utils.Configs;
+import noakweather.utils.StationIds;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the compact metar records and their conversion to and from the
+ * metars.
+ *
+ * @author quark95cos
+ */
+public class MetarRecordTest {
+
+    private static final String METAR
+            = "2021/12/28 15:00 KSEA 281500Z 17008G18KT 4SM -RA BR BKN009 OVC020CB 09/08 A2985 "
+            + "RMK AO2 T00890078";
+
+    public MetarRecordTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    /**
+     * Test the fields of a record parsed from a report.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testParse() throws UtilsException {
+        MetarRecord record = MetarRecord.parse(METAR);
+        assertEquals("KSEA", record.getStation());
+        assertEquals(1640703600000L, record.getEpochMinutes() * 60000L);
+        assertEquals(89, record.getTemperature());
+        assertEquals(78, record.getDewPoint());
+        assertEquals(170, record.getWindDirection());
+        assertEquals(8, record.getWindSpeed());
+        assertEquals(18, record.getWindGust());
+        assertEquals(6437, record.getVisibility());
+        assertTrue(record.hasFlag(MetarRecord.FLAG_VIS_STATUTE));
+        assertEquals(2985, record.getAltimeter());
+        assertEquals(2, record.getSkyLayerCount());
+        assertEquals("BKN", MetarRecord.skyCoverString(record.getSkyLayer(0)));
+        assertEquals(900, MetarRecord.skyHeight(record.getSkyLayer(0)));
+        assertEquals(2000, MetarRecord.skyHeight(record.getSkyLayer(1)));
+        assertEquals(1, MetarRecord.skyCloud(record.getSkyLayer(1)));
+        assertTrue(record.hasWeather("-"));
+        assertTrue(record.hasWeather("RA"));
+        assertTrue(record.hasWeather("BR"));
+        assertFalse(record.hasWeather("SN"));
+        assertEquals(MetarRecord.of(parseMetar(METAR)), record);
+    }
+
+    /**
+     * Test the packing of the stations and of the weather groups.
+     */
+    @Test
+    public void testPacking() {
+        assertEquals("K2J3", StationIds.decode(StationIds.encode("K2J3")));
+        assertEquals(StationIds.NONE, StationIds.encodeOrNone(null));
+        assertEquals(MetarRecord.weatherBit("+") | MetarRecord.weatherBit("TS")
+                | MetarRecord.weatherBit("RA") | MetarRecord.weatherBit("GR"),
+                MetarRecord.weatherBits("+TSRAGR"));
+        assertEquals(MetarRecord.weatherBit("VC") | MetarRecord.weatherBit("SH"),
+                MetarRecord.weatherBits("VCSH"));
+        assertEquals(MetarRecord.weatherBit("NSW"), MetarRecord.weatherBits("NSW"));
+        int layer = MetarRecord.packSkyLayer(9, 0, 2);
+        assertEquals("VV", MetarRecord.skyCoverString(layer));
+        assertEquals(200, MetarRecord.skyHeight(layer));
+    }
+
+    /**
+     * Test the records of the corpus are kept by a conversion to a metar and
+     * back.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testCorpusRoundTrip() throws IOException {
+        int checked = 0;
+        for (String line : read("metar.txt").split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            MetarRecord record;
+            try {
+                record = MetarRecord.parse(line.trim());
+            } catch (UtilsException | RuntimeException e) {
+                // The reports the parser fails on have no record
+                continue;
+            }
+            if (record.getEpochMinutes() == MetarRecord.MISSING_TIME) {
+                // Without the NOAA header the date is not known, and the
+                // report string of the record has no day and time to parse
+                continue;
+            }
+            try {
+                assertEquals(record, MetarRecord.of(record.toMetar()), record.toReportString());
+            } catch (UtilsException e) {
+                throw new AssertionError(record.toReportString(), e);
+            }
+            checked++;
+        }
+        assertTrue(checked > 30);
+    }
+
+    private static Metar parseMetar(String report) throws UtilsException {
+        Metar metar = new Metar();
+        metar.parse(report);
+        return metar;
+    }
+
+    private static String read(String name) throws IOException {
+        try (InputStream in = MetarRecordTest.class.getResourceAsStream("/corpus/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
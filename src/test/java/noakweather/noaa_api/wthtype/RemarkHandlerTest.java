@@ -0,0 +1,102 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.noaa_api.wthtype;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+import noakweather.utils.Configs;
+import noakweather.utils.RegExprConst;
+import noakweather.utils.RegExprTable;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of custom remark handlers registered with RegExprTable.withHandler.
+ *
+ * @author quark95cos
+ */
+public class RemarkHandlerTest {
+
+    // Military airfield color state, for example BLU or AMB+
+    private static final Pattern COLOR_STATE_PATTERN
+            = Pattern.compile("^(?<color>BLU|WHT|GRN|YLO|AMB|RED)\\+?\\s+");
+
+    private static final String METAR
+            = "2021/12/28 01:53 ETAR 280150Z 24008KT 9999 FEW030 05/02 Q1013 RMK GRN";
+
+    public RemarkHandlerTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    /**
+     * Test a remark group without a custom handler is unparsed.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testWithoutHandler() throws UtilsException {
+        Metar metar = new Metar();
+        metar.parse(METAR);
+        assertNull(metar.getCustomRemarks());
+        assertTrue(metar.getParseString().contains("GRN"));
+    }
+
+    /**
+     * Test a custom remark handler decodes its group.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testWithHandler() throws UtilsException {
+        RegExprTable<AviaWeath> remarks = AviaWeath.REMARKS_TABLE
+                .withHandler(COLOR_STATE_PATTERN, "colorstate", false,
+                        (target, match) -> target.putCustomRemark("colorstate", match.group("color")));
+        Metar metar = new Metar();
+        metar.setAviaRemarkWeathHandlers(remarks);
+        metar.parse(METAR);
+        assertEquals("GRN", metar.getCustomRemarks().get("colorstate"));
+        assertTrue(metar.getParseString() == null || !metar.getParseString().contains("GRN"));
+
+        // The custom handler is tried before the unparsed fallback and the
+        // shared table is left as is
+        int size = remarks.getPlan().size();
+        assertEquals("colorstate", remarks.getPlan().getName(size - 2));
+        assertEquals(size - 1, AviaWeath.REMARKS_TABLE.getPlan().size());
+        assertFalse(AviaWeath.REMARKS_TABLE.getPlan().getName(size - 2).equals("colorstate"));
+    }
+
+    /**
+     * Test a pattern the table already has is rejected.
+     */
+    @Test
+    public void testDuplicatePattern() {
+        assertThrows(IllegalArgumentException.class, ()
+                -> AviaWeath.REMARKS_TABLE.withHandler(RegExprConst.AUTO_PATTERN,
+                        "auto2", false, (target, match) -> {
+                        }));
+    }
+}
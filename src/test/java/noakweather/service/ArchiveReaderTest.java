@@ -0,0 +1,170 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.Taf;
+import noakweather.utils.Configs;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of the parallel reading of the raw report archives.
+ *
+ * @author quark95cos
+ */
+public class ArchiveReaderTest {
+
+    private static final Configs CONFIGS = Configs.forLocale(Locale.ENGLISH);
+    private static final String TAF = "2021/12/28 02:52\n"
+            + "TAF AMD KCLT 280150Z 2802/2906 21006KT P6SM SCT040 BKN150\n"
+            + "      FM281100 22005KT P6SM SCT008 BKN015\n"
+            + "      FM281500 22007KT P6SM BKN020\n";
+
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path dir;
+
+    public ArchiveReaderTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+        pool.shutdown();
+    }
+
+    /**
+     * Test an archive read in small chunks has the reports of a sequential
+     * load, each one once.
+     *
+     * @throws java.io.IOException
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testSameReportsAsSequential() throws IOException, UtilsException {
+        StringBuilder archive = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            for (String line : read("metar.txt").split("\n")) {
+                if (line.trim().matches("\\d{4}/\\d{2}/\\d{2} \\d{2}:\\d{2} .*")) {
+                    archive.append(line.trim()).append('\n');
+                }
+            }
+        }
+        Path file = dir.resolve("metar.txt");
+        Files.writeString(file, archive, StandardCharsets.ISO_8859_1);
+
+        List<String> expected = new ArrayList<>();
+        CycleFileLoader.Summary sequential = CycleFileLoader.metars(CONFIGS)
+                .load(file, report -> expected.add(report.getReportString()));
+
+        ArchiveReader<Metar> reader = new ArchiveReader<>(CycleFileLoader.metars(CONFIGS), pool, 1024);
+        ConcurrentLinkedQueue<String> loaded = new ConcurrentLinkedQueue<>();
+        CycleFileLoader.Summary summary = reader.read(file, report -> loaded.add(report.getReportString()));
+
+        assertEquals(1, summary.getFiles());
+        assertEquals(sequential.getReports(), summary.getReports());
+        assertEquals(sequential.getFailures(), summary.getFailures());
+        assertEquals(sorted(expected), sorted(loaded));
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            long[] bounds = reader.split(channel);
+            assertTrue(bounds.length > 10);
+            assertEquals(0, bounds[0]);
+            assertEquals(Files.size(file), bounds[bounds.length - 1]);
+            // Every chunk starts on a header line
+            for (int i = 1; i < bounds.length - 1; i++) {
+                assertEquals('\n', archive.charAt((int) bounds[i] - 1));
+                assertTrue(archive.substring((int) bounds[i]).matches("(?s)\\d{4}/\\d{2}/\\d{2} .*"));
+            }
+        }
+    }
+
+    /**
+     * Test the continuation lines of a TAF stay with their header across the
+     * chunks.
+     *
+     * @throws java.io.IOException
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testTafChunks() throws IOException, UtilsException {
+        Path file = dir.resolve("taf.txt");
+        Files.writeString(file, "TAF archive\n" + String.join("\n", Collections.nCopies(50, TAF)));
+
+        ConcurrentLinkedQueue<String> loaded = new ConcurrentLinkedQueue<>();
+        for (int chunkSize : new int[]{1, 100, 1 << 20}) {
+            loaded.clear();
+            CycleFileLoader.Summary summary = new ArchiveReader<Taf>(CycleFileLoader.tafs(CONFIGS),
+                    pool, chunkSize).read(file, report -> loaded.add(report.getReportString()));
+            assertEquals(50, summary.getReports());
+            assertEquals(0, summary.getFailures());
+            for (String report : loaded) {
+                assertEquals("2021/12/28 02:52 TAF AMD KCLT 280150Z 2802/2906 21006KT P6SM SCT040 "
+                        + "BKN150 FM281100 22005KT P6SM SCT008 BKN015 FM281500 22007KT P6SM BKN020",
+                        report);
+            }
+        }
+
+        Path empty = Files.createFile(dir.resolve("empty.txt"));
+        assertEquals(0, new ArchiveReader<>(CycleFileLoader.tafs(CONFIGS))
+                .read(empty, report -> {
+                }).getReports());
+        assertThrows(UtilsException.class, () -> new ArchiveReader<>(CycleFileLoader.tafs(CONFIGS))
+                .read(dir.resolve("missing.txt"), report -> {
+                }));
+    }
+
+    private static List<String> sorted(Iterable<String> reports) {
+        List<String> list = new ArrayList<>();
+        reports.forEach(list::add);
+        Collections.sort(list);
+        return list;
+    }
+
+    private static String read(String name) throws IOException {
+        try (InputStream in = ArchiveReaderTest.class.getResourceAsStream("/corpus/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.Taf;
+import noakweather.utils.Configs;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of the bulk loading of the NOAA cycle files.
+ *
+ * @author quark95cos
+ */
+public class CycleFileLoaderTest {
+
+    private static final Configs CONFIGS = Configs.forLocale(Locale.ENGLISH);
+
+    @TempDir
+    Path dir;
+
+    public CycleFileLoaderTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+    }
+
+    /**
+     * Test the METAR corpus written as cycle files, header lines apart, is
+     * loaded report by report.
+     *
+     * @throws java.io.IOException
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testMetarDirectory() throws IOException, UtilsException {
+        List<String> reports = new ArrayList<>();
+        for (String line : read("metar.txt").split("\n")) {
+            // A cycle file has a header for each report
+            if (line.trim().matches("\\d{4}/\\d{2}/\\d{2} \\d{2}:\\d{2} .*")) {
+                reports.add(line.trim());
+            }
+        }
+        int half = reports.size() / 2;
+        Files.writeString(dir.resolve("00Z.TXT"), cycleFile(reports.subList(0, half)));
+        Files.writeString(dir.resolve("01Z.TXT"), cycleFile(reports.subList(half, reports.size())));
+
+        List<String> loaded = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        CycleFileLoader.Summary summary = CycleFileLoader.metars(CONFIGS).load(dir,
+                new CycleFileLoader.Listener<Metar>() {
+            @Override
+            public void onReport(Metar report) {
+                loaded.add(report.getReportString());
+            }
+
+            @Override
+            public void onFailure(String report, Exception error) {
+                failed.add(report);
+            }
+        });
+
+        assertEquals(2, summary.getFiles());
+        assertEquals(reports.size(), summary.getReports() + summary.getFailures());
+        assertEquals(loaded.size(), summary.getReports());
+        assertEquals(failed.size(), summary.getFailures());
+        assertTrue(loaded.size() > 30);
+        // Every report is handed over once, in the order of the files
+        List<String> all = new ArrayList<>(loaded);
+        all.addAll(failed);
+        assertEquals(reports.size(), all.size());
+        assertTrue(reports.containsAll(all));
+        assertEquals(reports.get(0), loaded.get(0));
+    }
+
+    /**
+     * Test a TAF split over indented lines is joined back, and the lines
+     * before the first header are skipped.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testTafContinuationLines() throws IOException {
+        String file = "TAF cycle 00Z\n"
+                + "2021/12/28 02:52\n"
+                + "TAF AMD KCLT 280150Z 2802/2906 21006KT P6SM SCT040 BKN150\n"
+                + "      FM281100 22005KT P6SM SCT008 BKN015\n"
+                + "      FM281500 22007KT P6SM BKN020\n"
+                + "\n"
+                + "2021/12/28 00:00\n"
+                + "TAF KDOV 280000Z 2800/2906 08006KT 9999 OVC030 QNH2979INS\n"
+                + "      TEMPO 2800/2804 8000 -SHRA\n";
+        List<Taf> tafs = new ArrayList<>();
+        CycleFileLoader.Summary summary = CycleFileLoader.tafs(CONFIGS)
+                .load(new StringReader(file), tafs::add);
+        assertEquals(2, summary.getReports());
+        assertEquals(0, summary.getFailures());
+        assertEquals("2021/12/28 02:52 TAF AMD KCLT 280150Z 2802/2906 21006KT P6SM SCT040 BKN150 "
+                + "FM281100 22005KT P6SM SCT008 BKN015 FM281500 22007KT P6SM BKN020",
+                tafs.get(0).getReportString());
+        assertEquals("KCLT", tafs.get(0).getStationID());
+        assertNotNull(tafs.get(0).getFromGroups());
+        assertEquals("KDOV", tafs.get(1).getStationID());
+    }
+
+    /**
+     * Test a missing file fails the load.
+     */
+    @Test
+    public void testMissingFile() {
+        assertThrows(UtilsException.class, () -> CycleFileLoader.metars(CONFIGS)
+                .load(dir.resolve("missing.TXT"), report -> {
+                }));
+    }
+
+    private static String cycleFile(List<String> reports) {
+        StringBuilder sb = new StringBuilder();
+        for (String report : reports) {
+            // yyyy/MM/dd HH:mm on its own line, then the report
+            sb.append(report, 0, 16).append('\n')
+                    .append(report.substring(17)).append("\n\n");
+        }
+        return sb.toString();
+    }
+
+    private static String read(String name) throws IOException {
+        try (InputStream in = CycleFileLoaderTest.class.getResourceAsStream("/corpus/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.Taf;
+import noakweather.utils.Configs;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of the asynchronous fetching of the station files, against a local
+ * server of files laid out like tgftp.nws.noaa.gov.
+ *
+ * @author quark95cos
+ */
+public class StationFetcherTest {
+
+    private static final Configs CONFIGS = Configs.forLocale(Locale.ENGLISH);
+    private static final String METAR_DIR = "data/observations/metar/stations/";
+    private static final String TAF_DIR = "data/forecasts/taf/stations/";
+
+    @TempDir
+    Path root;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger bodies = new AtomicInteger();
+    private volatile boolean etags = true;
+
+    public StationFetcherTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::serve);
+        executor = Executors.newFixedThreadPool(8);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test the METAR of many stations are fetched with at most
+     * maxConcurrency requests in flight.
+     *
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testFetchMetars() throws Exception {
+        List<String> stations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String station = String.format("K%03d", i);
+            stations.add(station);
+            write(METAR_DIR + station + ".TXT", "2021/12/28 01:52\n"
+                    + station + " 280152Z 22006KT 10SM BKN240 17/13 A2989 RMK AO2 SLP116 T01720133\n");
+        }
+        stations.add("KXXX");
+
+        StationFetcher fetcher = fetcher(2);
+        Map<String, CompletableFuture<Metar>> metars = fetcher.fetchMetars(stations);
+        assertEquals(stations, new ArrayList<>(metars.keySet()));
+        for (String station : stations.subList(0, 10)) {
+            Metar metar = metars.get(station).get();
+            assertEquals(station, metar.getStationID());
+            assertEquals("2021/12/28 01:52 " + station
+                    + " 280152Z 22006KT 10SM BKN240 17/13 A2989 RMK AO2 SLP116 T01720133",
+                    metar.getReportString());
+            assertNotNull(metar.getWind());
+        }
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> metars.get("KXXX").get());
+        assertTrue(e.getCause() instanceof UtilsException, String.valueOf(e.getCause()));
+        assertTrue(maxInFlight.get() <= 2, "in flight: " + maxInFlight.get());
+    }
+
+    /**
+     * Test a TAF split over indented lines is fetched and parsed, and a bad
+     * station is refused.
+     *
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testFetchTaf() throws Exception {
+        write(TAF_DIR + "KCLT.TXT", "2021/12/28 02:52\n"
+                + "TAF AMD KCLT 280150Z 2802/2906 21006KT P6SM SCT040 BKN150\n"
+                + "      FM281100 22005KT P6SM SCT008 BKN015\n"
+                + "      FM281500 22007KT P6SM BKN020\n");
+        write(TAF_DIR + "KDOV.TXT", "");
+
+        StationFetcher fetcher = fetcher(StationFetcher.DEFAULT_MAX_CONCURRENCY);
+        Taf taf = fetcher.fetchTaf("KCLT").get();
+        assertEquals("KCLT", taf.getStationID());
+        assertNotNull(taf.getFromGroups());
+
+        ExecutionException empty = assertThrows(ExecutionException.class,
+                () -> fetcher.fetchTaf("KDOV").get());
+        assertTrue(empty.getCause() instanceof UtilsException, String.valueOf(empty.getCause()));
+        ExecutionException bad = assertThrows(ExecutionException.class,
+                () -> fetcher.fetchTaf("kclt").get());
+        assertTrue(bad.getCause() instanceof IllegalArgumentException, String.valueOf(bad.getCause()));
+    }
+
+    /**
+     * Test an unchanged station file is answered from the cache, with the
+     * ETag or with the Last-Modified date, and a changed one is read again.
+     *
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testConditionalGet() throws Exception {
+        Path file = write(METAR_DIR + "KCLT.TXT", "2021/12/28 01:52\n"
+                + "KCLT 280152Z 22006KT 10SM BKN240 17/13 A2989 RMK AO2 SLP116 T01720133\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2021-12-28T01:55:00Z")));
+        write(TAF_DIR + "KCLT.TXT", "2021/12/28 02:52\n"
+                + "TAF AMD KCLT 280150Z 2802/2906 21006KT P6SM SCT040 BKN150\n");
+
+        StationFetcher fetcher = fetcher(2);
+        Metar first = fetcher.fetchMetar("KCLT").get();
+        assertSame(first, fetcher.fetchMetar("KCLT").get());
+        assertEquals(1, fetcher.getCacheHits());
+        assertEquals(1, fetcher.getCacheMisses());
+        assertEquals(1, bodies.get());
+
+        // The TAF of the station is not answered by the METAR
+        assertEquals("KCLT", fetcher.fetchTaf("KCLT").get().getStationID());
+        assertEquals(2, fetcher.getCacheMisses());
+
+        // A new report
+        Files.writeString(file, "2021/12/28 02:52\n"
+                + "KCLT 280252Z 21005KT 10SM FEW250 16/13 A2990 RMK AO2 SLP119 T01610133\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2021-12-28T02:55:00Z")));
+        Metar second = fetcher.fetchMetar("KCLT").get();
+        assertNotSame(first, second);
+        assertEquals("2021/12/28 02:52 KCLT 280252Z 21005KT 10SM FEW250 16/13 A2990 RMK AO2 SLP119 "
+                + "T01610133", second.getReportString());
+        assertEquals(3, fetcher.getCacheMisses());
+
+        // Only the Last-Modified date
+        etags = false;
+        fetcher.clearCache();
+        Metar third = fetcher.fetchMetar("KCLT").get();
+        assertSame(third, fetcher.fetchMetar("KCLT").get());
+        assertEquals(2, fetcher.getCacheHits());
+        assertEquals(4, fetcher.getCacheMisses());
+        assertEquals(4, bodies.get());
+    }
+
+    private StationFetcher fetcher(int maxConcurrency) {
+        URI base = URI.create("http://" + server.getAddress().getHostString() + ":"
+                + server.getAddress().getPort() + "/");
+        return new StationFetcher(StationFetcher.sharedClient(), base.resolve(METAR_DIR),
+                base.resolve(TAF_DIR), maxConcurrency, Duration.ofSeconds(10), CONFIGS);
+    }
+
+    private Path write(String path, String content) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            // Keep the request in flight long enough to overlap the others
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Out of flight before the client sees the response
+            inFlight.decrementAndGet();
+        }
+        try (exchange) {
+            Path file = root.resolve(exchange.getRequestURI().getPath().substring(1));
+            if (!Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = Files.readAllBytes(file);
+            Instant modified = Files.getLastModifiedTime(file).toInstant();
+            String etag = "\"" + Integer.toHexString(new String(body).hashCode()) + "\"";
+            String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+            if (etags && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))
+                    || !etags && ifModifiedSince != null && !modified.isAfter(
+                            ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME)
+                                    .toInstant())) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            if (etags) {
+                exchange.getResponseHeaders().set("ETag", etag);
+            }
+            exchange.getResponseHeaders().set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME
+                    .format(ZonedDateTime.ofInstant(modified, ZoneOffset.UTC)));
+            bodies.incrementAndGet();
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.store;
+
+import java.util.BitSet;
+import java.util.Locale;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.MetarRecord;
+import noakweather.store.ObservationStore.Column;
+import noakweather.utils.Configs;
+import noakweather.utils.StationIds;
+import noakweather.utils.UtilsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the columnar observation store.
+ *
+ * @author quark95cos
+ */
+public class ObservationStoreTest {
+
+    private static final String[] METARS = {
+        "2021/12/28 15:00 KSEA 281500Z 17008KT 4SM -RA BR BKN009 OVC020 09/08 A2985 RMK AO2 T00890078",
+        "2021/12/28 09:45 KMSP 280945Z 31018G27KT 2SM -SN BLSN VV010 M17/M21 A3036",
+        "2021/12/28 12:00 KABQ 281200Z 06010KT 50SM FEW150 M01/M12 A3020 RMK AO2 T10061122"
+    };
+
+    public ObservationStoreTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    /**
+     * Test the columns of the appended metars.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testAppend() throws UtilsException {
+        ObservationStore store = new ObservationStore();
+        ObservationStore.Appender appender = store.appender();
+        for (String report : METARS) {
+            Metar metar = new Metar();
+            metar.parse(report);
+            appender.accept(metar);
+        }
+        assertEquals(3, store.size());
+        assertEquals(StationIds.encode("KMSP"), store.get(Column.STATION, 1));
+        assertEquals(89, store.get(Column.TEMPERATURE, 0));
+        assertEquals(-6, store.get(Column.TEMPERATURE, 2));
+        assertEquals(27, store.get(Column.WIND_GUST, 1));
+        assertEquals(MetarRecord.MISSING, store.get(Column.WIND_GUST, 0));
+        assertEquals(2985, store.get(Column.ALTIMETER, 0));
+        assertEquals(900, store.get(Column.CEILING, 0));
+        assertEquals(1000, store.get(Column.CEILING, 1));
+        assertEquals(MetarRecord.MISSING, store.get(Column.CEILING, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(Column.TIME, 3));
+    }
+
+    /**
+     * Test the range filters across several chunks.
+     */
+    @Test
+    public void testFilters() {
+        ObservationStore store = new ObservationStore();
+        ObservationStore.Appender appender = store.appender();
+        int rows = ObservationStore.CHUNK_ROWS * 2 + 100;
+        for (int row = 0; row < rows; row++) {
+            appender.append(new MetarRecord(StationIds.encode("K" + (row % 7) + "AB"),
+                    row, (short) (row % 400 - 200), MetarRecord.MISSING, (short) 0,
+                    (short) (row % 50), MetarRecord.MISSING, row % 10000, (short) 3000, 0,
+                    new int[0], 0));
+        }
+        assertEquals(rows, store.size());
+        assertEquals(rows - 1, store.get(Column.TIME, rows - 1));
+
+        int expected = 0;
+        for (int row = 0; row < rows; row++) {
+            int temperature = row % 400 - 200;
+            expected += temperature >= -50 && temperature <= 50 ? 1 : 0;
+        }
+        assertEquals(expected, store.count(Column.TEMPERATURE, -50, 50));
+        assertEquals(expected, store.select(Column.TEMPERATURE, -50, 50).cardinality());
+
+        BitSet selected = store.select(Column.WIND_SPEED, 40, 49);
+        store.retain(selected, Column.STATION, StationIds.encode("K3AB"),
+                StationIds.encode("K3AB"));
+        for (int row = selected.nextSetBit(0); row >= 0; row = selected.nextSetBit(row + 1)) {
+            assertEquals(3, row % 7);
+            assertTrue(row % 50 >= 40);
+        }
+        int[] count = new int[1];
+        store.scan(Column.TIME, ObservationStore.CHUNK_ROWS - 5,
+                ObservationStore.CHUNK_ROWS + 4, row -> count[0]++);
+        assertEquals(10, count[0]);
+        assertEquals(3L * ObservationStore.CHUNK_ROWS * 28, store.getOffHeapBytes());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the per-locale snapshot of the configuration information: the
+ * keys must be the keys of configs.properties and a key must give the
+ * translation of the bundle.
+ *
+ * @author quark95cos
+ */
+public class ConfigsTest {
+
+    public ConfigsTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    /**
+     * Test every key of the bundle has a ConfigKey and gives the same
+     * translation by key and by name.
+     */
+    @Test
+    public void testKeys() {
+        ResourceBundle bundle = ResourceBundle.getBundle("configs", Locale.ENGLISH);
+        int count = 0;
+        for (String name : bundle.keySet()) {
+            if (!name.matches("[A-Z][A-Za-z0-9_]*")) {
+                continue;
+            }
+            ConfigKey key = ConfigKey.valueOf(name);
+            assertEquals(bundle.getString(name), Configs.getInstance().getString(key), name);
+            assertEquals(bundle.getString(name), Configs.getInstance().getString(name), name);
+            count++;
+        }
+        assertEquals(ConfigKey.values().length, count);
+    }
+
+    /**
+     * Test the configuration of a locale is built once and does not change
+     * the default configuration.
+     */
+    @Test
+    public void testForLocale() {
+        Configs uk = Configs.forLocale(Locale.UK);
+        assertSame(uk, Configs.forLocale(Locale.UK));
+        assertEquals(Locale.UK, uk.getLocale());
+        assertEquals(Locale.ENGLISH, Configs.getInstance().getLocale());
+        assertEquals(Locale.ENGLISH, Locale.getDefault());
+        assertEquals(Configs.getInstance().getString(ConfigKey.WIND_DIR_NORTH),
+                uk.getString(ConfigKey.WIND_DIR_NORTH));
+    }
+
+    /**
+     * Test an unknown key is still a missing resource.
+     */
+    @Test
+    public void testMissingKey() {
+        assertThrows(MissingResourceException.class,
+                () -> Configs.getInstance().getString("NO_SUCH_CONFIG_KEY"));
+    }
+
+    /**
+     * Test the cached message format fills the arguments as MessageFormat.
+     */
+    @Test
+    public void testArguments() {
+        for (ConfigKey key : new ConfigKey[]{ConfigKey.WIND_DIR_NORTH, ConfigKey.MISC_STATION}) {
+            String expected = MessageFormat.format(Configs.getInstance().getString(key), "x", 1);
+            for (int n = 0; n < 2; n++) {
+                assertEquals(expected, Configs.getInstance().getString(key, "x", 1));
+                assertEquals(expected, Configs.getInstance().getString(key.name(), "x", 1));
+            }
+        }
+        assertTrue(Configs.getInstance().getString(ConfigKey.WIND_DIR_NORTH).length() > 0);
+    }
+}
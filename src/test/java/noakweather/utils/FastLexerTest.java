@@ -0,0 +1,312 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Equivalence tests of the fast lexer against the regular expressions it
+ * stands in for. Whenever a scanner is sure of its answer, the regular
+ * expression must give the same answer: the same group end and the same
+ * named groups, or no match at all.
+ *
+ * @author quark95cos
+ */
+public class FastLexerTest {
+
+    private static final long SEED = 20221228L;
+    private static final int FUZZ_COUNT = 200000;
+
+    // Pieces the fuzzer glues together, so that it often comes close to a
+    // real group
+    private static final String[] FRAGMENTS = {
+        "KCLT", "K", "1", "12", "280", "2801", "280152Z", "Z", "2802/2906",
+        "/", "//", "VRB", "P", "G", "KT", "MPS", "KMH", "V", "SM", "M",
+        "1/2", "1 1/2", "9999", "NDV", "N", "NE", "SW", "VV", "CLR", "SKC",
+        "BKN", "SCT", "FEW", "OVC", "CB", "TCU", "///", "A", "Q", "INS",
+        "2992", "1013", "-", "M0", "00", " ", " ", "  ", "\t", "ABC", "0",
+        "R", "R06", "R28L", "/M", "/P", "CLRD", "0600", "1600", "FT", "U",
+        "D", "+", "VC", "SH", "TS", "FZ", "RA", "SN", "DZ", "BR", "FG", "HZ",
+        "PO", "SQ", "NSW", "RVRNO"};
+    private static final String ALPHABET
+            = "0123456789/ MPSKTGVRBNEWCAOQHIXLZDUF-+";
+
+    private static final String[] STATION_GROUPS = {
+        "station", "zday", "zhour", "zmin", "bvaltime", "evaltime"};
+    private static final String[] WIND_GROUPS = {
+        "dir", "speed", "inden", "gust", "units", "varfrom", "varto"};
+    private static final String[] VISIBILITY_GROUPS = {
+        "vis", "dist", "dir", "distu", "units"};
+    private static final String[] RUNWAY_GROUPS = {
+        "name", "inden", "low", "lvalue", "high", "unit"};
+    private static final String[] PRESENT_WEATHER_GROUPS = {
+        "int", "desc", "prec", "obsc", "other", "int2"};
+    private static final String[] SKY_CONDITION_GROUPS = {
+        "cover", "height", "cloud"};
+    private static final String[] TEMP_DEWPOINT_GROUPS = {
+        "signt", "temp", "signd", "dewpt"};
+    private static final String[] ALTIMETER_GROUPS = {
+        "unit", "press", "unit2"};
+
+    public FastLexerTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+    }
+
+    /**
+     * Test the station, day and time scanner.
+     */
+    @Test
+    public void testStation() {
+        Pattern pattern = RegExprConst.STATION_DAY_TIME_VALTMPER_PATTERN;
+        assertScanned(pattern, STATION_GROUPS, "KCLT 280152Z AUTO ");
+        assertScanned(pattern, STATION_GROUPS, "KCLT 280150Z 2802/2906 ");
+        assertScanned(pattern, STATION_GROUPS, "KSEG 280153Z ");
+        assertSame(pattern, STATION_GROUPS, "KCLT ", "K1LT 280152Z ",
+                "kclt 280152Z ", "KCLT 28015Z ");
+        fuzz(pattern, STATION_GROUPS);
+    }
+
+    /**
+     * Test the wind scanner.
+     */
+    @Test
+    public void testWind() {
+        Pattern pattern = RegExprConst.WIND_PATTERN;
+        assertScanned(pattern, WIND_GROUPS, "VRB03KT 7SM ");
+        assertScanned(pattern, WIND_GROUPS, "27015G25KT ");
+        assertScanned(pattern, WIND_GROUPS, "18005MPS ");
+        assertScanned(pattern, WIND_GROUPS, "23012KT 200V260 ");
+        assertSame(pattern, WIND_GROUPS, "P99KT ", "/////KT ", "2701KT ",
+                "27015G KT ", "00000KT ", "270150KT ", "VRB03 ");
+        fuzz(pattern, WIND_GROUPS);
+    }
+
+    /**
+     * Test the visibility scanner.
+     */
+    @Test
+    public void testVisibility() {
+        Pattern pattern = RegExprConst.VISIBILITY_PATTERN;
+        assertScanned(pattern, VISIBILITY_GROUPS, "10SM ");
+        assertScanned(pattern, VISIBILITY_GROUPS, "7SM OVC014 ");
+        assertScanned(pattern, VISIBILITY_GROUPS, "3SM BR ");
+        assertScanned(pattern, VISIBILITY_GROUPS, "9999 ");
+        assertScanned(pattern, VISIBILITY_GROUPS, "1 1/2SM ");
+        assertScanned(pattern, VISIBILITY_GROUPS, "M2  3/4SM ");
+        assertSame(pattern, VISIBILITY_GROUPS, "1/2SM ", "M1/4SM ", "P6SM ",
+                "0800NDV ", "4000NE ", "CAVOK ", "123 ", "1234 1/2SM ", "1 1/2KM ");
+        fuzz(pattern, VISIBILITY_GROUPS);
+    }
+
+    /**
+     * Test the runway visual range scanner.
+     */
+    @Test
+    public void testRunway() {
+        Pattern pattern = RegExprConst.RUNWAY_PATTERN;
+        assertScanned(pattern, RUNWAY_GROUPS, "R28L/2600FT ");
+        assertScanned(pattern, RUNWAY_GROUPS, "R06/M0600N ");
+        assertScanned(pattern, RUNWAY_GROUPS, "R09/1000V1600FT 10SM ");
+        assertScanned(pattern, RUNWAY_GROUPS, "R24/P6000FT ");
+        assertScanned(pattern, RUNWAY_GROUPS, "R15C/CLRDU ");
+        assertSame(pattern, RUNWAY_GROUPS, "RVRNO ", "R06/123 ", "R06/080045 ",
+                "R06/1200//FT ", "R064/1200FT ", "R06R1200FT ", "R06/1200V12FT ",
+                "R06/1200F ", "R06/MFT ");
+        fuzz(pattern, RUNWAY_GROUPS);
+    }
+
+    /**
+     * Test the present weather scanner.
+     */
+    @Test
+    public void testPresentWeather() {
+        Pattern pattern = RegExprConst.PRESENT_WEATHER_PATTERN;
+        assertScanned(pattern, PRESENT_WEATHER_GROUPS, "-RA BR ");
+        assertScanned(pattern, PRESENT_WEATHER_GROUPS, "+TSRAGR ");
+        assertScanned(pattern, PRESENT_WEATHER_GROUPS, "VCSH ");
+        assertScanned(pattern, PRESENT_WEATHER_GROUPS, "FZFG ");
+        assertScanned(pattern, PRESENT_WEATHER_GROUPS, "NSW ");
+        assertScanned(pattern, PRESENT_WEATHER_GROUPS, "RA/ ");
+        assertScanned(pattern, PRESENT_WEATHER_GROUPS, "SHRA- ");
+        assertSame(pattern, PRESENT_WEATHER_GROUPS, "RAX ", "SHX ", "// ", "-",
+                "VC- ", "DZRASN ", "BRFG ", "POSQ ", "-+ ", "KCLT ");
+        fuzz(pattern, PRESENT_WEATHER_GROUPS);
+    }
+
+    /**
+     * Test the sky condition scanner.
+     */
+    @Test
+    public void testSkyCondition() {
+        Pattern pattern = RegExprConst.SKY_CONDITION_PATTERN;
+        assertScanned(pattern, SKY_CONDITION_GROUPS, "OVC014 ");
+        assertScanned(pattern, SKY_CONDITION_GROUPS, "FEW030 BKN250 ");
+        assertScanned(pattern, SKY_CONDITION_GROUPS, "CLR ");
+        assertScanned(pattern, SKY_CONDITION_GROUPS, "SCT025CB ");
+        assertSame(pattern, SKY_CONDITION_GROUPS, "VV002 ", "BKN/// ",
+                "SCT025TCU ", "OVC01 ", "NSC ", "SKC ", "FEW///CB ");
+        fuzz(pattern, SKY_CONDITION_GROUPS);
+    }
+
+    /**
+     * Test the temperature and dew point scanner.
+     */
+    @Test
+    public void testTempDewPoint() {
+        Pattern pattern = RegExprConst.TEMP_DEWPOINT_PATTERN;
+        assertScanned(pattern, TEMP_DEWPOINT_GROUPS, "01/00 A2983 ");
+        assertScanned(pattern, TEMP_DEWPOINT_GROUPS, "M05/M12 ");
+        assertScanned(pattern, TEMP_DEWPOINT_GROUPS, "22/ ");
+        assertSame(pattern, TEMP_DEWPOINT_GROUPS, "-05/-12 ", "//// ",
+                "1/2 ", "M5/M2 ", "123/12 ");
+        fuzz(pattern, TEMP_DEWPOINT_GROUPS);
+    }
+
+    /**
+     * Test the altimeter scanner.
+     */
+    @Test
+    public void testAltimeter() {
+        Pattern pattern = RegExprConst.ALTIMETER_PATTERN;
+        assertScanned(pattern, ALTIMETER_GROUPS, "A2983 RMK AO2 ");
+        assertScanned(pattern, ALTIMETER_GROUPS, "Q1013 ");
+        assertSame(pattern, ALTIMETER_GROUPS, "A2992INS ", "Q//// ",
+                "A298 ", "QNH2992 ");
+        fuzz(pattern, ALTIMETER_GROUPS);
+    }
+
+    /**
+     * Assert the scanner is sure about the usual form of the group, and that
+     * it agrees with the regular expression.
+     */
+    private static void assertScanned(Pattern pattern, String[] names, String input) {
+        FastLexer.Scanner scanner = FastLexer.scannerFor(pattern);
+        assertNotNull(scanner);
+        RegExprMatch fast = new RegExprMatch(input);
+        int end = scanner.scan(input, 0, input.length(), fast);
+        assertNotEquals(FastLexer.UNSURE, end, input);
+        assertNotEquals(FastLexer.NO_MATCH, end, input);
+        assertSame(pattern, names, input);
+    }
+
+    /**
+     * Assert the scanner agrees with the regular expression on every input
+     */
+    private static void assertSame(Pattern pattern, String[] names, String... inputs) {
+        FastLexer.Scanner scanner = FastLexer.scannerFor(pattern);
+        for (String input : inputs) {
+            for (int pos = 0; pos < input.length(); pos++) {
+                RegExprMatch fast = new RegExprMatch(input);
+                int fastEnd = scanner.scan(input, pos, input.length(), fast);
+                String where = "#" + input + "# at " + pos;
+                if (scanner instanceof DfaMatcher) {
+                    // The generated matchers always answer
+                    assertNotEquals(FastLexer.UNSURE, fastEnd, where);
+                }
+                if (fastEnd == FastLexer.UNSURE) {
+                    continue;
+                }
+                RegExprMatch regex = new RegExprMatch(input);
+                int regexEnd = regex.lookingAt(pattern, pos, input.length());
+                assertEquals(regexEnd, fastEnd, where);
+                if (fastEnd == FastLexer.NO_MATCH) {
+                    continue;
+                }
+                assertEquals(regex.group(), fast.group(), where);
+                for (String name : names) {
+                    assertEquals(regex.group(name), fast.group(name), where + " " + name);
+                    int number = RegExprGroups.indexOf(pattern, name);
+                    assertEquals(regex.start(number), fast.start(number), where + " " + name);
+                    assertEquals(regex.end(number), fast.end(number), where + " " + name);
+                    assertEquals(regex.group(number), fast.group(number), where + " " + name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compare the scanner with the regular expression on random inputs
+     */
+    private static void fuzz(Pattern pattern, String[] names) {
+        Random random = new Random(SEED);
+        String[] inputs = new String[FUZZ_COUNT];
+        StringBuilder sb = new StringBuilder();
+        for (int n = 0; n < FUZZ_COUNT; n++) {
+            sb.setLength(0);
+            int pieces = 1 + random.nextInt(6);
+            for (int p = 0; p < pieces; p++) {
+                if (random.nextInt(4) == 0) {
+                    sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                } else {
+                    sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                }
+            }
+            inputs[n] = sb.append(' ').toString();
+        }
+        assertSame(pattern, names, inputs);
+    }
+
+    /**
+     * Test the generated matchers on characters out of the ASCII range and
+     * inputs cut short by the end of the region.
+     */
+    @Test
+    public void testGeneratedMatchers() {
+        assertTrue(FastLexer.scannerFor(RegExprConst.VISIBILITY_PATTERN) instanceof DfaMatcher);
+        assertTrue(FastLexer.scannerFor(RegExprConst.RUNWAY_PATTERN) instanceof DfaMatcher);
+        assertTrue(FastLexer.scannerFor(RegExprConst.PRESENT_WEATHER_PATTERN) instanceof DfaMatcher);
+        assertSame(RegExprConst.VISIBILITY_PATTERN, VISIBILITY_GROUPS,
+                "1\u00a01/2SM ", "1 1/2SM\u00a0 ", "CAVOK\u2003 ", "10SM");
+        assertSame(RegExprConst.RUNWAY_PATTERN, RUNWAY_GROUPS,
+                "R28L\u00e9/2600FT ", "R28L/2600FT\u00a0 ", "R06/M0600N");
+        assertSame(RegExprConst.PRESENT_WEATHER_PATTERN, PRESENT_WEATHER_GROUPS,
+                "-SHRA\u00c9 ", "+TSRA\u00a0 ", "VCSH");
+
+        String input = "R28L/2600FT R09/1000V1600FT ";
+        RegExprMatch fast = new RegExprMatch(input);
+        FastLexer.Scanner scanner = FastLexer.scannerFor(RegExprConst.RUNWAY_PATTERN);
+        assertEquals(FastLexer.NO_MATCH, scanner.scan(input, 0, 11, fast));
+        assertEquals(12, scanner.scan(input, 0, 12, fast));
+        assertEquals("28L", fast.group("name"));
+        assertNull(fast.group("high"));
+    }
+
+    /**
+     * Test a named group the scanned group does not have.
+     */
+    @Test
+    public void testUnknownGroup() {
+        String input = "A2983 ";
+        RegExprMatch fast = new RegExprMatch(input);
+        FastLexer.scanAltimeter(input, 0, input.length(), fast);
+        assertNull(fast.getMatcher());
+        assertThrows(IllegalArgumentException.class, () -> fast.group("dir"));
+    }
+}
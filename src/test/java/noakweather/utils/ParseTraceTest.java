@@ -0,0 +1,145 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.List;
+import java.util.Locale;
+import noakweather.noaa_api.wthtype.Metar;
+import noakweather.noaa_api.wthtype.Taf;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the parse traces: only the reports with unparsed groups keep
+ * their trace, within the bounds of the recorder.
+ *
+ * @author quark95cos
+ */
+public class ParseTraceTest {
+
+    private static final String UNPARSED
+            = "2021/12/28 13:00 ETAR 281300Z 24004KT 8000 -RA BKN008 OVC015 07/06 Q1009 RMK BLU";
+    private static final String PARSED
+            = "2021/12/28 01:53 KCLT 280152Z 23012G22KT 10SM -RA FEW030 BKN250 M01/M08 A2983";
+
+    public ParseTraceTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ParseTrace.clear();
+        ParseTrace.setEnabled(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ParseTrace.setEnabled(false);
+        ParseTrace.clear();
+    }
+
+    /**
+     * Test a report with unparsed groups keeps its trace and a report
+     * without any does not.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testRetainUnparsed() throws UtilsException {
+        new Metar().parse(PARSED);
+        assertEquals(0, ParseTrace.getTraces().size());
+
+        Metar metar = new Metar();
+        metar.parse(UNPARSED);
+        assertTrue(metar.getParseString() != null && !metar.getParseString().isEmpty());
+        List<ParseTrace.Trace> traces = ParseTrace.getTraces();
+        assertEquals(1, traces.size());
+        assertEquals(UNPARSED, traces.get(0).getReport());
+        assertTrue(traces.get(0).getLines().stream().anyMatch(l -> l.startsWith("unparsed @")
+                && !l.endsWith(" -")), traces.get(0).getLines().toString());
+        assertTrue(traces.get(0).getLines().stream().anyMatch(l -> l.endsWith(" -")));
+    }
+
+    /**
+     * Test the traces of the TAF groups are recorded too.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testTaf() throws UtilsException {
+        new Taf().parse("2021/12/28 02:05 TAF KCLT 280204Z 2802/2906 23010KT P6SM SCT040 BKN250 "
+                + "FM281400 25012G20KT P6SM BKN035 XYZZY");
+        assertEquals(1, ParseTrace.getTraces().size());
+    }
+
+    /**
+     * Test an offset past the bits of a position is clamped and keeps the
+     * handler of the attempt.
+     */
+    @Test
+    public void testLongInput() {
+        RegExprPlan plan = new RegExprPlan(RegExprHandlers.setRemarksHandlers());
+        int unparsed = 0;
+        while (plan.getPattern(unparsed) != RegExprConst.UNPARSED_PATTERN) {
+            unparsed++;
+        }
+        int pos = 3 << 21;
+        String input = "A".repeat(pos + 8);
+        ParseTrace.begin();
+        ParseTrace.recorder().record(plan, 0, input, pos, pos + 4);
+        ParseTrace.recorder().record(plan, unparsed, input, 0, 4);
+        ParseTrace.end("long");
+
+        List<String> lines = ParseTrace.getTraces().get(0).getLines();
+        assertEquals(plan.getName(0) + " @" + ((1 << 21) - 1) + " -", lines.get(1));
+        assertEquals(plan.getName(unparsed) + " @0 #AAAA#", lines.get(2));
+    }
+
+    /**
+     * Test the number of retained traces is bounded and the last ones are
+     * kept, and nothing is recorded when the recording is disabled.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testBounds() throws UtilsException {
+        for (int n = 0; n < ParseTrace.TRACES + 3; n++) {
+            new Metar().parse(UNPARSED.replace("BLU", "BLU" + n));
+        }
+        List<ParseTrace.Trace> traces = ParseTrace.getTraces();
+        assertEquals(ParseTrace.TRACES, traces.size());
+        assertTrue(traces.get(traces.size() - 1).getReport().endsWith("BLU" + (ParseTrace.TRACES + 2)));
+        assertTrue(traces.get(0).getReport().endsWith("BLU3"));
+        for (ParseTrace.Trace trace : traces) {
+            assertTrue(trace.getLines().size() <= 2 * ParseTrace.EVENTS);
+        }
+
+        ParseTrace.clear();
+        ParseTrace.setEnabled(false);
+        new Metar().parse(UNPARSED);
+        assertEquals(0, ParseTrace.getTraces().size());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the group numbers resolved from the group names: on every group
+ * of the corpus a named group and its number must capture the same text at
+ * the same offsets.
+ *
+ * @author quark95cos
+ */
+public class RegExprGroupsTest {
+
+    private static final Pattern GROUP_NAME = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
+
+    public RegExprGroupsTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+    }
+
+    /**
+     * Test the group numbers of simple patterns.
+     */
+    @Test
+    public void testIndexOf() {
+        assertEquals(2, RegExprGroups.indexOf(Pattern.compile("(a)(?<b>b)"), "b"));
+        assertEquals(1, RegExprGroups.indexOf(Pattern.compile("(?:a)(?=x)(?<b>b)"), "b"));
+        assertEquals(2, RegExprGroups.indexOf(Pattern.compile("\\((a)[(](?<b>b)"), "b"));
+        assertEquals(2, RegExprGroups.indexOf(Pattern.compile("\\Q(\\E(a)(?<=a)(?<bc>b)"), "bc"));
+        assertThrows(IllegalArgumentException.class,
+                () -> RegExprGroups.indexOf(Pattern.compile("(?<bc>b)"), "b"));
+    }
+
+    /**
+     * Test the begin/end weather groups keep the numbers of the present
+     * weather groups, both are decoded by setWeatherConditionItems.
+     */
+    @Test
+    public void testWeatherGroups() {
+        for (String name : new String[]{"int", "desc", "prec", "obsc", "other", "int2"}) {
+            assertEquals(RegExprGroups.indexOf(RegExprConst.PRESENT_WEATHER_PATTERN, name),
+                    RegExprGroups.indexOf(RegExprConst.BEGIN_END_WEATHER_PATTERN, name), name);
+        }
+    }
+
+    /**
+     * Test the group number constants of RegExprConst on the corpus.
+     *
+     * @throws java.io.IOException
+     * @throws java.lang.IllegalAccessException
+     */
+    @Test
+    public void testCorpusGroups() throws IOException, IllegalAccessException {
+        String corpus = read("metar.txt") + read("taf.txt");
+        int checked = 0;
+        for (Field field : RegExprConst.class.getFields()) {
+            if (field.getType() != Pattern.class) {
+                continue;
+            }
+            Pattern pattern = (Pattern) field.get(null);
+            for (String line : corpus.split("\n")) {
+                String token = line.trim() + " ";
+                Matcher matcher = pattern.matcher(token);
+                for (int pos = 0; pos < token.length(); pos++) {
+                    if (token.charAt(pos) == ' ' || !matcher.region(pos, token.length()).lookingAt()) {
+                        continue;
+                    }
+                    Matcher names = GROUP_NAME.matcher(pattern.pattern());
+                    while (names.find()) {
+                        String name = names.group(1);
+                        int number = RegExprGroups.indexOf(pattern, name);
+                        String where = field.getName() + " #" + token + "# at " + pos + " " + name;
+                        assertEquals(matcher.start(name), matcher.start(number), where);
+                        assertEquals(matcher.end(name), matcher.end(number), where);
+                        checked++;
+                    }
+                }
+            }
+        }
+        assertTrue(checked > 0);
+    }
+
+    private static String read(String name) throws IOException {
+        try (InputStream in = RegExprGroupsTest.class.getResourceAsStream("/corpus/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
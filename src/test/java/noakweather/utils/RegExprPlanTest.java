@@ -0,0 +1,144 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the dispatch trie of the plans. The trie may only leave out the
+ * handlers that cannot recognize a group at the offset: every handler that
+ * matches must be one of the candidates.
+ *
+ * @author quark95cos
+ */
+public class RegExprPlanTest {
+
+    private static final long SEED = 20221229L;
+    private static final int FUZZ_COUNT = 20000;
+    private static final String ALPHABET
+            = "0123456789/ $+-ABCDEFGHIKLMNOPQRSTUVWXZ";
+
+    public RegExprPlanTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+    }
+
+    /**
+     * Test the remarks trie picks the handler of the usual remark groups.
+     */
+    @Test
+    public void testRemarksDispatch() {
+        RegExprPlan plan = RegExprHandlers.REMARKS_PLAN;
+        int unparsed = plan.size() - 1;
+        assertCandidates(plan, "SLP104 ", "sealvlpress", unparsed);
+        assertCandidates(plan, "AO2 ", "auto", unparsed);
+        assertCandidates(plan, "PK WND 24028/0115 ", "peakwind", unparsed);
+        assertCandidates(plan, "WSHFT 30 ", "windshift", unparsed);
+        assertCandidates(plan, "T10111078 ", "temp1hr", unparsed);
+        assertCandidates(plan, "XYZ ", null, unparsed);
+    }
+
+    /**
+     * Test the trie keeps every handler that matches the corpus reports.
+     *
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testCorpusDispatch() throws IOException {
+        for (String name : new String[]{"metar.txt", "taf.txt"}) {
+            for (String line : read(name).split("\n")) {
+                String token = line.trim() + " ";
+                assertDispatch(RegExprHandlers.METAR_MAIN_PLAN, token);
+                assertDispatch(RegExprHandlers.TAF_MAIN_PLAN, token);
+                assertDispatch(RegExprHandlers.REMARKS_PLAN, token);
+                assertDispatch(RegExprHandlers.GROUP_PLAN, token);
+            }
+        }
+    }
+
+    /**
+     * Test the trie keeps every handler that matches random tokens.
+     */
+    @Test
+    public void testFuzzDispatch() {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder();
+        for (int n = 0; n < FUZZ_COUNT; n++) {
+            sb.setLength(0);
+            int length = 1 + random.nextInt(12);
+            for (int c = 0; c < length; c++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String token = sb.append(' ').toString();
+            assertDispatch(RegExprHandlers.METAR_MAIN_PLAN, token);
+            assertDispatch(RegExprHandlers.REMARKS_PLAN, token);
+        }
+    }
+
+    /**
+     * Assert the candidates of the token are the named handler and the
+     * fallback
+     */
+    private static void assertCandidates(RegExprPlan plan, String token, String name,
+            int unparsed) {
+        int[] candidates = plan.candidatesAt(token, 0, token.length());
+        if (name == null) {
+            assertArrayEquals(new int[]{unparsed}, candidates, token);
+            return;
+        }
+        assertTrue(candidates.length >= 2, token);
+        assertTrue(Arrays.stream(candidates).anyMatch(i -> name.equals(plan.getName(i))), token);
+        assertTrue(candidates.length < plan.size(), token);
+    }
+
+    /**
+     * Assert every handler that matches at an offset of the token is one of
+     * the candidates at that offset
+     */
+    private static void assertDispatch(RegExprPlan plan, String token) {
+        for (int pos = 0; pos < token.length(); pos++) {
+            int[] candidates = plan.candidatesAt(token, pos, token.length());
+            for (int i = 0; i < plan.size(); i++) {
+                RegExprMatch match = new RegExprMatch(token);
+                if (match.lookingAt(plan.getPattern(i), pos, token.length()) > pos) {
+                    int handler = i;
+                    assertTrue(Arrays.stream(candidates).anyMatch(k -> k == handler),
+                            "#" + token + "# at " + pos + " " + plan.getName(i));
+                }
+            }
+        }
+    }
+
+    private static String read(String name) throws IOException {
+        try (InputStream in = RegExprPlanTest.class.getResourceAsStream("/corpus/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import noakweather.noaa_api.wthtype.Metar;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the station id dictionary and of the station maps.
+ *
+ * @author quark95cos
+ */
+public class StationIdsTest {
+
+    public StationIdsTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+        Configs.getInstance().setLocale(Locale.ENGLISH);
+    }
+
+    /**
+     * Test the encoding and decoding of the station identifiers.
+     */
+    @Test
+    public void testEncode() {
+        for (String station : new String[]{"KCLT", "EGLL", "K2J3", "Z999", "AAAA"}) {
+            int id = StationIds.encode(station);
+            assertTrue(id > 0, station);
+            assertEquals(station, StationIds.decode(id));
+        }
+        assertTrue(StationIds.encode("KCLT") != StationIds.encode("KCLU"));
+        assertNull(StationIds.decode(StationIds.NONE));
+        for (String station : new String[]{null, "", "KCL", "KCLTX", "kclt", "1ABC", "K-LT"}) {
+            assertFalse(StationIds.isValid(station), station);
+            assertEquals(StationIds.NONE, StationIds.encodeOrNone(station));
+        }
+        assertThrows(IllegalArgumentException.class, () -> StationIds.encode("kclt"));
+        assertThrows(IllegalArgumentException.class, () -> StationIds.decode(-1));
+
+        // Ids encode does not produce, even once the station is cached
+        int kclt = StationIds.encode("KCLT");
+        assertEquals("KCLT", StationIds.decode(kclt));
+        assertThrows(IllegalArgumentException.class, () -> StationIds.decode(kclt | 1 << 30));
+        assertThrows(IllegalArgumentException.class, () -> StationIds.decode(kclt | 1 << 24));
+        assertThrows(IllegalArgumentException.class, () -> StationIds.decode(Integer.MIN_VALUE));
+        // 1ABC: the code of A (11) lowered to the code of 1 (2)
+        int digitFirst = StationIds.encode("AABC") - (9 << 18);
+        assertThrows(IllegalArgumentException.class, () -> StationIds.decode(digitFirst));
+        assertThrows(IllegalArgumentException.class, () -> StationIds.decode(1));
+        assertThrows(IllegalArgumentException.class, () -> StationIds.decode(10 << 18 | 0x3FFFF));
+        assertEquals("AAAA", StationIds.decode(StationIds.encode("AAAA")));
+        assertEquals("Z999", StationIds.decode(StationIds.encode("Z999")));
+    }
+
+    /**
+     * Test the reports of a station share its identifier.
+     *
+     * @throws noakweather.utils.UtilsException
+     */
+    @Test
+    public void testIntern() throws UtilsException {
+        String station = new String(new char[]{'K', 'S', 'E', 'A'});
+        assertSame(StationIds.intern("KSEA"), StationIds.intern(station));
+        assertEquals("KSEA", StationIds.intern(station));
+        assertEquals("kSEA", StationIds.intern("kSEA"));
+
+        Metar first = new Metar();
+        first.parse("2021/12/28 15:00 KSEA 281500Z 17008KT 4SM -RA BR BKN009 OVC020 09/08 A2985");
+        Metar second = new Metar();
+        second.parse("2021/12/28 16:00 KSEA 281600Z 18010KT 5SM -RA BKN011 OVC022 09/08 A2984");
+        assertSame(first.getStationID(), second.getStationID());
+        assertEquals(StationIds.encode("KSEA"), first.getStationCode());
+    }
+
+    /**
+     * Test the map keyed by station ids.
+     */
+    @Test
+    public void testStationMap() {
+        StationMap<String> map = new StationMap<>();
+        int stations = 1000;
+        for (int i = 0; i < stations; i++) {
+            String station = String.format("K%03d", i);
+            assertNull(map.put(StationIds.encode(station), station));
+        }
+        assertEquals(stations, map.size());
+        assertEquals("K042", map.put(StationIds.encode("K042"), "KATL"));
+        assertEquals("KATL", map.get(StationIds.encode("K042")));
+        assertNull(map.get(StationIds.encode("EGLL")));
+
+        for (int i = 0; i < stations; i += 2) {
+            assertEquals(i == 42 ? "KATL" : String.format("K%03d", i),
+                    map.remove(StationIds.encode(String.format("K%03d", i))));
+        }
+        assertEquals(stations / 2, map.size());
+        for (int i = 0; i < stations; i++) {
+            int id = StationIds.encode(String.format("K%03d", i));
+            assertEquals(i % 2 == 1, map.containsKey(id));
+        }
+        assertEquals("EGLL", map.computeIfAbsent(StationIds.encode("EGLL"), StationIds::decode));
+        assertEquals(stations / 2 + 1, map.size());
+
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertEquals(map.size(), keys.length);
+        assertTrue(Arrays.binarySearch(keys, StationIds.encode("EGLL")) >= 0);
+        assertThrows(IllegalArgumentException.class, () -> map.put(StationIds.NONE, ""));
+        assertFalse(map.containsKey(StationIds.NONE));
+        assertFalse(new StationMap<String>().containsKey(StationIds.NONE));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(0, map.keys().length);
+        assertNull(map.get(StationIds.encode("EGLL")));
+        assertFalse(map.containsKey(StationIds.encode("K001")));
+        assertNull(map.put(StationIds.encode("K001"), "K001"));
+        assertEquals("K001", map.get(StationIds.encode("K001")));
+        assertEquals(1, map.size());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * noakweather(TM) is a Java library for parsing weather data
+ * Copyright (C) 2022 quark95cos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package noakweather.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the shared weather item tables.
+ *
+ * @author quark95cos
+ */
+public class WthItemTableTest {
+
+    public WthItemTableTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+        System.out.println("Setup class");
+    }
+
+    /**
+     * Test the tables have the items of the maps, in the same order.
+     */
+    @Test
+    public void testSameItems() {
+        Configs configs = Configs.forLocale(Locale.ENGLISH);
+        assertSameItems(WthItemHandlers.setRVRWthItemsHandlers(configs),
+                WthItemHandlers.getRVRWthItems(configs));
+        assertSameItems(WthItemHandlers.setSkyCondWthItemsHandlers(configs),
+                WthItemHandlers.getSkyCondWthItems(configs));
+        assertSameItems(WthItemHandlers.setWeathCondWthItemsHandlers(configs),
+                WthItemHandlers.getWeathCondWthItems(configs));
+        assertSameItems(WthItemHandlers.setRemarksWthItemsHandlers(configs),
+                WthItemHandlers.getRemarksWthItems(configs));
+        assertSameItems(WthItemHandlers.setRemarksWthAltItemsHandlers(configs),
+                WthItemHandlers.getRemarksWthAltItems(configs));
+        assertSame(WthItemHandlers.getSkyCondWthItems(configs),
+                WthItemHandlers.getSkyCondWthItems(Configs.forLocale(Locale.ENGLISH)));
+    }
+
+    /**
+     * Test a code missing from a table fails as it did with the maps.
+     */
+    @Test
+    public void testMissing() {
+        Map<String, String> items = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            items.put("C" + i, "decoded " + i);
+        }
+        WthItemTable<String> table = new WthItemTable<>(items);
+        assertEquals(100, table.size());
+        assertEquals("decoded 42", table.getValue("C42"));
+        assertEquals(-1, table.getIndexOf("C100"));
+        assertEquals(-1, table.getIndexOf(null));
+        IndexOutOfBoundsException e = assertThrows(IndexOutOfBoundsException.class,
+                () -> table.getValue("C100"));
+        assertEquals("Index -1 out of bounds for length 100", e.getMessage());
+
+        // Equal hash codes can not be separated by a seed
+        Map<String, String> colliding = new LinkedHashMap<>();
+        colliding.put("Aa", "first");
+        colliding.put("BB", "second");
+        WthItemTable<String> probed = new WthItemTable<>(colliding);
+        assertEquals("first", probed.getValue("Aa"));
+        assertEquals("second", probed.getValue("BB"));
+        assertEquals(-1, probed.getIndexOf("CC"));
+    }
+
+    private static <V> void assertSameItems(IndexedLinkedHashMap<String, V> map,
+            WthItemTable<V> table) {
+        assertEquals(map.size(), table.size());
+        for (int i = 0; i < map.size(); i++) {
+            String key = map.getKeyAtIndex(i);
+            assertEquals(key, table.getKeyAtIndex(i));
+            assertEquals(i, table.getIndexOf(key));
+            assertEquals(map.getValueAtIndex(i), table.getValue(key));
+        }
+    }
+}